@@ -0,0 +1,423 @@
+package org.folio.inventory.dataimport;
+
+import static api.ApiTestSuite.TENANT_ID;
+import static api.ApiTestSuite.TOKEN;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.folio.DataImportEventPayload;
+import org.folio.DataImportEventTypes;
+import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.handlers.matching.util.EventHandlingUtil;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.InstanceCollection;
+import org.folio.inventory.resources.EventHandlers;
+import org.folio.inventory.storage.Storage;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+import org.folio.processing.events.EventManager;
+import org.folio.rest.jaxrs.model.EntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import support.fakes.FakeOkapi;
+
+/**
+ * Replays sequences of data-import events through the event manager, with
+ * every handler registered as inventory registers them, against the fake
+ * storage modules running in the same JVM on a Vert.x instance of their
+ * own.
+ *
+ * Each operation replays as many sequences at once as the concurrency,
+ * each event being handled on the event loop, as when it is delivered.
+ * Besides events per second, at the end of the measurement iterations it
+ * reports per event:
+ *
+ * - the calls made to storage, in total and by endpoint
+ * - the CPU time used and bytes allocated by all threads but those of the
+ * storage stand-in, which includes decoding the event
+ * - the CPU time used by each handler, on the thread it ran on
+ *
+ * The report is printed and, when data-import.replay.result names a
+ * directory, written to it as JSON. The calls to storage and bytes
+ * allocated per event are checked against the baseline (see
+ * {@link ReplayBaseline}). Any event that fails fails the benchmark, as
+ * the measurements would be of handling failures.
+ *
+ * Recorded sequences are replayed with -p scenario=recorded and the
+ * recording given by data-import.replay.recording
+ * (see {@link DataImportSequences}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataImportReplayBenchmark {
+  static final String RESULT_PROPERTY = "data-import.replay.result";
+
+  private static final int INSTANCES_TO_MATCH = 200;
+  private static final long TIMEOUT_SECONDS = 60;
+
+  @Param({
+    DataImportSequences.CREATE_INSTANCE,
+    DataImportSequences.CREATE_INSTANCE_HOLDINGS_ITEM,
+    DataImportSequences.MATCH_AND_REPLACE_INSTANCE})
+  public String scenario;
+
+  @Param({"1", "16"})
+  public int concurrency;
+
+  private Vertx storageVertx;
+  private Vertx vertx;
+  private io.vertx.core.Context eventLoop;
+  private EventHandlers eventHandlers;
+  private DataImportSequences sequences;
+  private Set<Long> storageThreads;
+
+  private final AtomicLong handledEvents = new AtomicLong();
+  private final AtomicLong failedEvents = new AtomicLong();
+  private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+  private boolean measuring;
+  private long iterationStartedNanos;
+  private long eventsAtIterationStart;
+  private ThreadUsage threadsAtIterationStart;
+  private HandlerCpuTime handlersAtIterationStart;
+  private Map<String, Long> callsAtIterationStart;
+
+  private long measuredNanos;
+  private long measuredEvents;
+  private ThreadUsage measuredThreads = ThreadUsage.NONE;
+  private HandlerCpuTime measuredHandlers = HandlerCpuTime.NONE;
+  private final Map<String, Long> measuredCalls = new TreeMap<>();
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    //Read when the classes are first used, so need to be set before then
+    System.setProperty(FakeOkapi.QUIET_PROPERTY, "true");
+    System.setProperty(EventLoopMonitor.CPU_TIME_PROPERTY, "true");
+
+    //A single event loop, so that its thread can be left out of what is measured
+    storageVertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+
+    CompletableFuture<String> deployed = new CompletableFuture<>();
+
+    storageVertx.deployVerticle(new FakeOkapi(), result -> {
+      if (result.succeeded()) {
+        deployed.complete(result.result());
+      } else {
+        deployed.completeExceptionally(result.cause());
+      }
+    });
+
+    deployed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    CompletableFuture<Long> storageThread = new CompletableFuture<>();
+
+    storageVertx.runOnContext(v -> storageThread.complete(Thread.currentThread().getId()));
+
+    storageThreads = Collections.singleton(
+      storageThread.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    vertx = Vertx.vertx();
+    eventLoop = vertx.getOrCreateContext();
+
+    HttpClient client = vertx.createHttpClient();
+    Storage storage = Storage.basedUpon(vertx,
+      new JsonObject().put("storage.type", "okapi"), client);
+
+    //Registered on the event loop, as the verticle does, so that events handled there use its storage and client
+    eventHandlers = onEventLoop(() -> new EventHandlers(storage, client, vertx))
+      .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    sequences = DataImportSequences.RECORDED.equals(scenario)
+      ? DataImportSequences.recorded(System.getProperty(DataImportSequences.RECORDING_PROPERTY),
+          FakeOkapi.getAddress(), TENANT_ID, TOKEN)
+      : DataImportSequences.synthetic(scenario, FakeOkapi.getAddress(), TENANT_ID, TOKEN,
+          DataImportSequences.MATCH_AND_REPLACE_INSTANCE.equals(scenario)
+            ? instancesToMatch(storage)
+            : Collections.emptyList());
+
+    //Every sequence is replayed once, so that any that fail are found before measuring
+    for (int index = 0; index < sequences.size(); index++) {
+      replaySequence(sequences.next()).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    checkNoEventsFailed();
+  }
+
+  @Setup(Level.Iteration)
+  public void startIteration(IterationParams iteration) {
+    measuring = iteration.getType() == IterationType.MEASUREMENT;
+
+    eventsAtIterationStart = handledEvents.get();
+    callsAtIterationStart = FakeOkapi.getStorageCalls().snapshot();
+    handlersAtIterationStart = HandlerCpuTime.now();
+    threadsAtIterationStart = ThreadUsage.now(storageThreads);
+    iterationStartedNanos = System.nanoTime();
+  }
+
+  @Benchmark
+  public void replay(EventCounter counter) throws Exception {
+    List<List<DataImportEventPayload>> batch = new ArrayList<>(concurrency);
+
+    for (int index = 0; index < concurrency; index++) {
+      batch.add(sequences.next());
+    }
+
+    long handledBefore = handledEvents.get();
+
+    CompletableFuture<?>[] replayed = batch.stream()
+      .map(this::replaySequence)
+      .toArray(CompletableFuture<?>[]::new);
+
+    CompletableFuture.allOf(replayed).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    counter.events += handledEvents.get() - handledBefore;
+  }
+
+  @TearDown(Level.Iteration)
+  public void endIteration() {
+    long durationNanos = System.nanoTime() - iterationStartedNanos;
+    ThreadUsage threads = ThreadUsage.now(storageThreads).since(threadsAtIterationStart);
+    HandlerCpuTime handlers = HandlerCpuTime.now().since(handlersAtIterationStart);
+
+    checkNoEventsFailed();
+
+    if (!measuring) {
+      return;
+    }
+
+    measuredNanos += durationNanos;
+    measuredEvents += handledEvents.get() - eventsAtIterationStart;
+    measuredThreads = measuredThreads.plus(threads);
+    measuredHandlers = measuredHandlers.plus(handlers);
+
+    FakeOkapi.getStorageCalls().snapshot().forEach((endpoint, calls) ->
+      measuredCalls.merge(endpoint, calls - callsAtIterationStart.getOrDefault(endpoint, 0L),
+        Long::sum));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    eventHandlers.unregister();
+    vertx.close();
+    storageVertx.close();
+
+    if (measuredEvents == 0) {
+      return;
+    }
+
+    JsonObject report = report();
+
+    System.out.println();
+    System.out.println(report.encodePrettily());
+
+    String resultDirectory = System.getProperty(RESULT_PROPERTY);
+
+    if (resultDirectory != null && !resultDirectory.isEmpty()) {
+      File result = new File(resultDirectory, key() + ".json");
+
+      result.getParentFile().mkdirs();
+
+      Files.write(result.toPath(), report.encodePrettily().getBytes(StandardCharsets.UTF_8));
+    }
+
+    Map<String, Double> measurements = new LinkedHashMap<>();
+
+    measurements.put("storage-calls-per-event", report.getDouble("storageCallsPerEvent"));
+    measurements.put("bytes-allocated-per-event", report.getDouble("bytesAllocatedPerEvent"));
+
+    ReplayBaseline.check(key(), measurements);
+  }
+
+  private JsonObject report() {
+    JsonObject callsByEndpoint = new JsonObject();
+    long totalCalls = 0;
+
+    for (Map.Entry<String, Long> endpoint : measuredCalls.entrySet()) {
+      if (endpoint.getValue() > 0) {
+        callsByEndpoint.put(endpoint.getKey(), perEvent(endpoint.getValue()));
+        totalCalls += endpoint.getValue();
+      }
+    }
+
+    return new JsonObject()
+      .put("scenario", scenario)
+      .put("concurrency", concurrency)
+      .put("events", measuredEvents)
+      .put("eventsPerSecond", measuredEvents / (measuredNanos / 1_000_000_000.0))
+      .put("storageCallsPerEvent", perEvent(totalCalls))
+      .put("storageCallsPerEventByEndpoint", callsByEndpoint)
+      .put("cpuMicrosecondsPerEvent", perEvent(measuredThreads.cpuNanos) / 1000)
+      .put("bytesAllocatedPerEvent", perEvent(measuredThreads.allocatedBytes))
+      .put("handlers", measuredHandlers.toJson(measuredEvents));
+  }
+
+  private double perEvent(long total) {
+    return (double) total / measuredEvents;
+  }
+
+  private String key() {
+    return scenario + "." + concurrency;
+  }
+
+  /**
+   * Handles the events of a sequence in order, each once the one before
+   * has been handled, with the records it created or matched
+   *
+   * @return completes when the sequence has been handled, or an event in
+   * it has failed
+   */
+  private CompletableFuture<DataImportEventPayload> replaySequence(
+    List<DataImportEventPayload> sequence) {
+
+    CompletableFuture<DataImportEventPayload> replayed = CompletableFuture.completedFuture(null);
+
+    for (DataImportEventPayload event : sequence) {
+      replayed = replayed.thenCompose(previous -> handle(event, previous));
+    }
+
+    return replayed.exceptionally(error -> null);
+  }
+
+  private CompletableFuture<DataImportEventPayload> handle(
+    DataImportEventPayload event, DataImportEventPayload previous) {
+
+    if (previous != null) {
+      carryRecords(previous, event);
+    }
+
+    CompletableFuture<DataImportEventPayload> handled = new CompletableFuture<>();
+
+    eventLoop.runOnContext(v -> {
+      try {
+        EventManager.handleEvent(event).whenComplete((result, error) -> {
+          if (error == null && !DataImportEventTypes.DI_ERROR.value().equals(event.getEventType())) {
+            handledEvents.incrementAndGet();
+            handled.complete(event);
+          } else {
+            failed(event, error, handled);
+          }
+        });
+      } catch (RuntimeException e) {
+        failed(event, e, handled);
+      }
+    });
+
+    return handled;
+  }
+
+  private void failed(DataImportEventPayload event, Throwable error,
+    CompletableFuture<DataImportEventPayload> handled) {
+
+    Throwable failure = error != null
+      ? error
+      : new IllegalStateException(String.format("%s event failed: %s",
+          event.getEventsChain(), event.getContext().get("ERROR")));
+
+    failedEvents.incrementAndGet();
+    firstFailure.compareAndSet(null, failure);
+    handled.completeExceptionally(failure);
+  }
+
+  private void checkNoEventsFailed() {
+    if (failedEvents.get() > 0) {
+      throw new IllegalStateException(String.format(
+        "%d events of scenario %s failed", failedEvents.get(), scenario),
+        firstFailure.get());
+    }
+  }
+
+  private static void carryRecords(DataImportEventPayload from, DataImportEventPayload to) {
+    for (EntityType record : new EntityType[] {
+      EntityType.INSTANCE, EntityType.HOLDINGS, EntityType.ITEM }) {
+
+      String handled = from.getContext().get(record.value());
+
+      if (handled != null) {
+        to.getContext().put(record.value(), handled);
+      }
+    }
+  }
+
+  /**
+   * Creates the instances matched by the match scenario
+   *
+   * @return their human readable identifiers
+   */
+  private List<String> instancesToMatch(Storage storage) throws Exception {
+    Context context = EventHandlingUtil.constructContext(TENANT_ID, TOKEN,
+      FakeOkapi.getAddress());
+
+    InstanceCollection instances = storage.getInstanceCollection(context);
+    List<String> hrids = new ArrayList<>();
+    List<CompletableFuture<Void>> created = new ArrayList<>();
+
+    for (int index = 1; index <= INSTANCES_TO_MATCH; index++) {
+      String hrid = String.format("rp%08d", index);
+      CompletableFuture<Void> added = new CompletableFuture<>();
+
+      instances.add(new Instance(UUID.randomUUID().toString(), hrid, "MARC",
+          "Replayed instance " + index, DataImportSequences.INSTANCE_TYPE_ID),
+        success -> added.complete(null),
+        failure -> added.completeExceptionally(new IllegalStateException(
+          "Could not create instance to match: " + failure.getReason())));
+
+      hrids.add(hrid);
+      created.add(added);
+    }
+
+    CompletableFuture.allOf(created.toArray(new CompletableFuture<?>[0]))
+      .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    return hrids;
+  }
+
+  private <T> CompletableFuture<T> onEventLoop(Supplier<T> work) {
+    CompletableFuture<T> done = new CompletableFuture<>();
+
+    eventLoop.runOnContext(v -> {
+      try {
+        done.complete(work.get());
+      } catch (RuntimeException e) {
+        done.completeExceptionally(e);
+      }
+    });
+
+    return done;
+  }
+}
@@ -0,0 +1,383 @@
+package org.folio.inventory.dataimport;
+
+import static org.folio.DataImportEventTypes.DI_INVENTORY_HOLDING_CREATED;
+import static org.folio.DataImportEventTypes.DI_INVENTORY_INSTANCE_CREATED;
+import static org.folio.DataImportEventTypes.DI_INVENTORY_INSTANCE_MATCHED;
+import static org.folio.DataImportEventTypes.DI_SRS_MARC_BIB_RECORD_CREATED;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.ActionProfile;
+import org.folio.DataImportEventPayload;
+import org.folio.JobProfile;
+import org.folio.MappingProfile;
+import org.folio.MatchDetail;
+import org.folio.MatchProfile;
+import org.folio.inventory.TestUtil;
+import org.folio.inventory.dataimport.util.CompressedPayloadDecoder;
+import org.folio.processing.events.utils.ZIPArchiver;
+import org.folio.rest.jaxrs.model.EntityType;
+import org.folio.rest.jaxrs.model.Field;
+import org.folio.rest.jaxrs.model.MappingDetail;
+import org.folio.rest.jaxrs.model.MappingRule;
+import org.folio.rest.jaxrs.model.MatchExpression;
+import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Sequences of data-import events for a record, each event compressed as
+ * it is in the body of a delivery to inventory, so that replaying one
+ * includes decoding it.
+ *
+ * The synthetic sequences are the events of a job which creates an
+ * instance, one which creates an instance, holdings and an item, and one
+ * which matches an instance by the 001 field of the record and replaces
+ * it. The events after the first are those that would be delivered once
+ * the previous one has been handled, the records created or matched by it
+ * are added to their context when replayed.
+ *
+ * Recorded sequences are read from a file with a line for each sequence,
+ * either a single event or an array of the events in order. They are
+ * delivered to the storage stand-in, whatever Okapi they were recorded
+ * from, so any records they match must be present in it.
+ *
+ * Every replay of a sequence is given a job of its own, so nothing cached
+ * for one replay is used by another.
+ */
+final class DataImportSequences {
+  static final String CREATE_INSTANCE = "create-instance";
+  static final String CREATE_INSTANCE_HOLDINGS_ITEM = "create-instance-holdings-item";
+  static final String MATCH_AND_REPLACE_INSTANCE = "match-and-replace-instance";
+  static final String RECORDED = "recorded";
+
+  static final String RECORDING_PROPERTY = "data-import.replay.recording";
+
+  static final String INSTANCE_TYPE_ID = "30fffe0e-e985-4144-b2e2-1e8179bdb41f";
+
+  private static final String RECORD_PATH = "src/test/resources/handlers/record.json";
+  private static final String MAPPING_RULES_PATH = "src/test/resources/handlers/rules.json";
+
+  private static final String LOCATION_ID = "fcd64ce1-6995-48f0-840e-89ffa2288371";
+  private static final String MATERIAL_TYPE_ID = "1a54b431-2e4f-452d-9cae-9cee66c9a892";
+  private static final String LOAN_TYPE_ID = "2b94c631-fca9-4892-a730-03ee529ffe27";
+
+  private final List<List<Buffer>> sequences;
+  private int next;
+
+  private DataImportSequences(List<List<Buffer>> sequences) {
+    if (sequences.isEmpty()) {
+      throw new IllegalArgumentException("There are no sequences to replay");
+    }
+
+    this.sequences = sequences;
+  }
+
+  /**
+   * @param instanceHrids the human readable identifiers of the instances
+   * in storage to match, a sequence is made for each
+   */
+  static DataImportSequences synthetic(String scenario, String okapiUrl,
+    String tenant, String token, List<String> instanceHrids) throws IOException {
+
+    JsonObject record = new JsonObject(TestUtil.readFileFromPath(RECORD_PATH));
+    String mappingRules = TestUtil.readFileFromPath(MAPPING_RULES_PATH);
+
+    List<List<Buffer>> sequences = new ArrayList<>();
+
+    switch (scenario) {
+      case CREATE_INSTANCE: {
+        List<ProfileSnapshotWrapper> actions = Collections.singletonList(
+          createAction(ActionProfile.FolioRecord.INSTANCE, EntityType.INSTANCE,
+            rule("instance.instanceTypeId", INSTANCE_TYPE_ID)));
+
+        ProfileSnapshotWrapper job = job(scenario, actions);
+
+        sequences.add(Collections.singletonList(compress(event(
+          DI_SRS_MARC_BIB_RECORD_CREATED.value(), job, actions.get(0),
+          recordContext(record, null, mappingRules), okapiUrl, tenant, token))));
+        break;
+      }
+      case CREATE_INSTANCE_HOLDINGS_ITEM: {
+        List<ProfileSnapshotWrapper> actions = Arrays.asList(
+          createAction(ActionProfile.FolioRecord.INSTANCE, EntityType.INSTANCE,
+            rule("instance.instanceTypeId", INSTANCE_TYPE_ID)),
+          createAction(ActionProfile.FolioRecord.HOLDINGS, EntityType.HOLDINGS,
+            rule("holdings.permanentLocationId", LOCATION_ID)),
+          createAction(ActionProfile.FolioRecord.ITEM, EntityType.ITEM,
+            rule("item.status.name", "Available"),
+            rule("item.materialType.id", MATERIAL_TYPE_ID),
+            rule("item.permanentLoanType.id", LOAN_TYPE_ID)));
+
+        ProfileSnapshotWrapper job = job(scenario, actions);
+        HashMap<String, String> context = recordContext(record, null, mappingRules);
+
+        sequences.add(Arrays.asList(
+          compress(event(DI_SRS_MARC_BIB_RECORD_CREATED.value(), job, actions.get(0),
+            context, okapiUrl, tenant, token)),
+          compress(event(DI_INVENTORY_INSTANCE_CREATED.value(), job, actions.get(1),
+            context, okapiUrl, tenant, token)),
+          compress(event(DI_INVENTORY_HOLDING_CREATED.value(), job, actions.get(2),
+            context, okapiUrl, tenant, token))));
+        break;
+      }
+      case MATCH_AND_REPLACE_INSTANCE: {
+        ProfileSnapshotWrapper replace = action(ActionProfile.Action.UPDATE,
+          ActionProfile.FolioRecord.INSTANCE, EntityType.INSTANCE,
+          rule("instance.instanceTypeId", INSTANCE_TYPE_ID))
+          .withReactTo(ProfileSnapshotWrapper.ReactTo.MATCH);
+
+        ProfileSnapshotWrapper match = matchInstanceBy001()
+          .withChildSnapshotWrappers(Collections.singletonList(replace));
+
+        ProfileSnapshotWrapper job = job(scenario, Collections.singletonList(match));
+
+        for (String hrid : instanceHrids) {
+          HashMap<String, String> context = recordContext(record, hrid, mappingRules);
+
+          sequences.add(Arrays.asList(
+            compress(event(DI_SRS_MARC_BIB_RECORD_CREATED.value(), job, match,
+              context, okapiUrl, tenant, token)),
+            compress(event(DI_INVENTORY_INSTANCE_MATCHED.value(), job, replace,
+              context, okapiUrl, tenant, token))));
+        }
+        break;
+      }
+      default:
+        throw new IllegalArgumentException(String.format(
+          "Scenario must be one of [%s, %s, %s, %s]", CREATE_INSTANCE,
+          CREATE_INSTANCE_HOLDINGS_ITEM, MATCH_AND_REPLACE_INSTANCE, RECORDED));
+    }
+
+    return new DataImportSequences(sequences);
+  }
+
+  /**
+   * @param path file with a line for each sequence, either an event or an
+   * array of events
+   */
+  static DataImportSequences recorded(String path, String okapiUrl,
+    String tenant, String token) throws IOException {
+
+    if (path == null || path.isEmpty()) {
+      throw new IllegalArgumentException(String.format(
+        "The recording to replay must be given by the %s property", RECORDING_PROPERTY));
+    }
+
+    List<List<Buffer>> sequences = new ArrayList<>();
+
+    for (String line : Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8)) {
+      String trimmed = line.trim();
+
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+
+      JsonArray events = trimmed.startsWith("[")
+        ? new JsonArray(trimmed)
+        : new JsonArray().add(new JsonObject(trimmed));
+
+      List<Buffer> sequence = new ArrayList<>();
+
+      for (int index = 0; index < events.size(); index++) {
+        sequence.add(compress(events.getJsonObject(index).copy()
+          .put("okapiUrl", okapiUrl)
+          .put("tenant", tenant)
+          .put("token", token)
+          .encode()));
+      }
+
+      sequences.add(sequence);
+    }
+
+    return new DataImportSequences(sequences);
+  }
+
+  /**
+   * @return the events of the next sequence, decoded as they are when
+   * delivered, all of them in a job of their own
+   */
+  synchronized List<DataImportEventPayload> next() throws IOException {
+    List<Buffer> sequence = sequences.get(next);
+
+    next = (next + 1) % sequences.size();
+
+    String jobExecutionId = UUID.randomUUID().toString();
+    List<DataImportEventPayload> events = new ArrayList<>(sequence.size());
+
+    for (Buffer compressed : sequence) {
+      events.add(CompressedPayloadDecoder.decode(compressed, DataImportEventPayload.class)
+        .withJobExecutionId(jobExecutionId));
+    }
+
+    return events;
+  }
+
+  int size() {
+    return sequences.size();
+  }
+
+  private static String event(String eventType, ProfileSnapshotWrapper job,
+    ProfileSnapshotWrapper currentNode, HashMap<String, String> context,
+    String okapiUrl, String tenant, String token) {
+
+    return JsonObject.mapFrom(new DataImportEventPayload()
+      .withEventType(eventType)
+      .withJobExecutionId(UUID.randomUUID().toString())
+      .withProfileSnapshot(job)
+      .withCurrentNode(currentNode)
+      .withEventsChain(new ArrayList<>())
+      .withContext(context)
+      .withOkapiUrl(okapiUrl)
+      .withTenant(tenant)
+      .withToken(token))
+      .encode();
+  }
+
+  /**
+   * @param hrid the value for the 001 field of the record, or null to
+   * leave it as it is
+   */
+  private static HashMap<String, String> recordContext(JsonObject record,
+    String hrid, String mappingRules) {
+
+    JsonObject eventRecord = record.copy()
+      .put("id", UUID.randomUUID().toString())
+      .put("matchedId", UUID.randomUUID().toString());
+
+    JsonObject parsedRecord = eventRecord.getJsonObject("parsedRecord");
+    JsonObject content = parsedRecord.getJsonObject("content");
+
+    if (hrid != null) {
+      JsonArray fields = content.getJsonArray("fields");
+
+      for (int index = 0; index < fields.size(); index++) {
+        if (fields.getJsonObject(index).containsKey("001")) {
+          fields.getJsonObject(index).put("001", hrid);
+        }
+      }
+    }
+
+    parsedRecord.put("content", content.encode());
+
+    HashMap<String, String> context = new HashMap<>();
+
+    context.put(EntityType.MARC_BIBLIOGRAPHIC.value(), eventRecord.encode());
+    context.put("MAPPING_RULES", mappingRules);
+    context.put("MAPPING_PARAMS", "{}");
+
+    return context;
+  }
+
+  private static Buffer compress(String event) {
+    try {
+      return Buffer.buffer(ZIPArchiver.zip(event));
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not compress data-import event", e);
+    }
+  }
+
+  private static ProfileSnapshotWrapper job(String name,
+    List<ProfileSnapshotWrapper> children) {
+
+    String jobProfileId = UUID.randomUUID().toString();
+
+    return new ProfileSnapshotWrapper()
+      .withId(UUID.randomUUID().toString())
+      .withProfileId(jobProfileId)
+      .withContentType(ProfileSnapshotWrapper.ContentType.JOB_PROFILE)
+      .withContent(new JobProfile()
+        .withId(jobProfileId)
+        .withName("Replay: " + name)
+        .withDataType(JobProfile.DataType.MARC))
+      .withChildSnapshotWrappers(children);
+  }
+
+  private static ProfileSnapshotWrapper createAction(ActionProfile.FolioRecord folioRecord,
+    EntityType entityType, MappingRule... rules) {
+
+    return action(ActionProfile.Action.CREATE, folioRecord, entityType, rules);
+  }
+
+  private static ProfileSnapshotWrapper action(ActionProfile.Action action,
+    ActionProfile.FolioRecord folioRecord, EntityType entityType, MappingRule... rules) {
+
+    String actionProfileId = UUID.randomUUID().toString();
+    String mappingProfileId = UUID.randomUUID().toString();
+    String name = action.value() + " " + entityType.value();
+
+    return new ProfileSnapshotWrapper()
+      .withId(UUID.randomUUID().toString())
+      .withProfileId(actionProfileId)
+      .withContentType(ProfileSnapshotWrapper.ContentType.ACTION_PROFILE)
+      .withOrder(0)
+      .withContent(new ActionProfile()
+        .withId(actionProfileId)
+        .withName(name)
+        .withAction(action)
+        .withFolioRecord(folioRecord))
+      .withChildSnapshotWrappers(Collections.singletonList(new ProfileSnapshotWrapper()
+        .withId(UUID.randomUUID().toString())
+        .withProfileId(mappingProfileId)
+        .withContentType(ProfileSnapshotWrapper.ContentType.MAPPING_PROFILE)
+        .withOrder(0)
+        .withContent(new MappingProfile()
+          .withId(mappingProfileId)
+          .withName(name + " from MARC")
+          .withIncomingRecordType(EntityType.MARC_BIBLIOGRAPHIC)
+          .withExistingRecordType(entityType)
+          .withMappingDetails(new MappingDetail()
+            .withName(entityType.value())
+            .withRecordType(entityType)
+            .withMappingFields(Arrays.asList(rules))))));
+  }
+
+  private static ProfileSnapshotWrapper matchInstanceBy001() {
+    String matchProfileId = UUID.randomUUID().toString();
+
+    return new ProfileSnapshotWrapper()
+      .withId(UUID.randomUUID().toString())
+      .withProfileId(matchProfileId)
+      .withContentType(ProfileSnapshotWrapper.ContentType.MATCH_PROFILE)
+      .withOrder(0)
+      .withContent(new MatchProfile()
+        .withId(matchProfileId)
+        .withName("Instance by 001")
+        .withIncomingRecordType(EntityType.MARC_BIBLIOGRAPHIC)
+        .withExistingRecordType(EntityType.INSTANCE)
+        .withMatchDetails(Collections.singletonList(new MatchDetail()
+          .withIncomingRecordType(EntityType.MARC_BIBLIOGRAPHIC)
+          .withExistingRecordType(EntityType.INSTANCE)
+          .withMatchCriterion(MatchDetail.MatchCriterion.EXACTLY_MATCHES)
+          .withIncomingMatchExpression(new MatchExpression()
+            .withDataValueType(MatchExpression.DataValueType.VALUE_FROM_RECORD)
+            .withFields(Arrays.asList(
+              new Field().withLabel("field").withValue("001"),
+              new Field().withLabel("indicator1").withValue(""),
+              new Field().withLabel("indicator2").withValue(""),
+              new Field().withLabel("recordSubfield").withValue(""))))
+          .withExistingMatchExpression(new MatchExpression()
+            .withDataValueType(MatchExpression.DataValueType.VALUE_FROM_RECORD)
+            .withFields(Collections.singletonList(
+              new Field().withLabel("field").withValue("instance.hrid")))))));
+  }
+
+  private static MappingRule rule(String path, String value) {
+    return new MappingRule()
+      .withName(path)
+      .withPath(path)
+      .withEnabled("true")
+      .withValue("\"" + value + "\"");
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.inventory.dataimport;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the events handled, so that the replay benchmark reports events
+ * per second alongside the sequences replayed per second
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class EventCounter {
+  public long events;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    events = 0;
+  }
+}
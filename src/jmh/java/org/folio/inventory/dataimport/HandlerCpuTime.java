@@ -0,0 +1,112 @@
+package org.folio.inventory.dataimport;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * CPU time used by each handler, taken from the histogram the event loop
+ * monitor records when CPU time is enabled, for the data-import handlers
+ * and the handlers of the storage responses they wait for
+ */
+final class HandlerCpuTime {
+  private static final Pattern SAMPLE = Pattern.compile(
+    "^" + EventLoopMonitor.CPU + "_(sum|count)\\{kind=\"([^\"]*)\",name=\"([^\"]*)\"\\} (\\S+)$",
+    Pattern.MULTILINE);
+
+  static final HandlerCpuTime NONE = new HandlerCpuTime(new TreeMap<>());
+
+  private final Map<String, Handler> handlers;
+
+  private HandlerCpuTime(Map<String, Handler> handlers) {
+    this.handlers = handlers;
+  }
+
+  static HandlerCpuTime now() {
+    Map<String, Handler> handlers = new TreeMap<>();
+    Matcher matcher = SAMPLE.matcher(MetricsRegistry.getDefault().scrape());
+
+    while (matcher.find()) {
+      Handler handler = handlers.computeIfAbsent(matcher.group(2) + " " + matcher.group(3),
+        key -> new Handler(matcher.group(2), matcher.group(3), 0, 0));
+
+      double value = Double.parseDouble(matcher.group(4));
+
+      if ("sum".equals(matcher.group(1))) {
+        handler.seconds = value;
+      } else {
+        handler.invocations = (long) value;
+      }
+    }
+
+    return new HandlerCpuTime(handlers);
+  }
+
+  HandlerCpuTime since(HandlerCpuTime earlier) {
+    return combine(earlier, -1);
+  }
+
+  HandlerCpuTime plus(HandlerCpuTime other) {
+    return combine(other, 1);
+  }
+
+  /**
+   * @param events the number of events handled while the CPU time was used
+   */
+  JsonArray toJson(long events) {
+    JsonArray json = new JsonArray();
+
+    handlers.values().stream()
+      .filter(handler -> handler.invocations > 0)
+      .sorted((first, second) -> Double.compare(second.seconds, first.seconds))
+      .forEach(handler -> json.add(new JsonObject()
+        .put("kind", handler.kind)
+        .put("name", handler.name)
+        .put("invocations", handler.invocations)
+        .put("cpuMicrosecondsPerInvocation", handler.seconds * 1_000_000 / handler.invocations)
+        .put("cpuMicrosecondsPerEvent", events > 0 ? handler.seconds * 1_000_000 / events : 0)));
+
+    return json;
+  }
+
+  private HandlerCpuTime combine(HandlerCpuTime other, int sign) {
+    Map<String, Handler> combined = new TreeMap<>();
+
+    handlers.forEach((key, handler) -> combined.put(key, handler.copy()));
+
+    other.handlers.forEach((key, handler) -> {
+      Handler total = combined.computeIfAbsent(key,
+        notUsed -> new Handler(handler.kind, handler.name, 0, 0));
+
+      total.seconds += sign * handler.seconds;
+      total.invocations += sign * handler.invocations;
+    });
+
+    return new HandlerCpuTime(combined);
+  }
+
+  private static final class Handler {
+    private final String kind;
+    private final String name;
+    private double seconds;
+    private long invocations;
+
+    private Handler(String kind, String name, double seconds, long invocations) {
+      this.kind = kind;
+      this.name = name;
+      this.seconds = seconds;
+      this.invocations = invocations;
+    }
+
+    private Handler copy() {
+      return new Handler(kind, name, seconds, invocations);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.inventory.dataimport;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The overhead of handling an event recorded before a change, given by the
+ * data-import.replay.baseline system property, which the replay benchmark
+ * checks its measurements against.
+ *
+ * The baseline is kept in src/jmh/resources, and a run fails when a
+ * change makes an event cost more than the tolerance, given by
+ * data-import.replay.tolerance, over it. Measurements missing from the
+ * baseline are only reported, until they are recorded by a run with
+ * data-import.replay.baseline.record set to true. Recording is meant for
+ * new scenarios, run on the code before the change being measured.
+ */
+final class ReplayBaseline {
+  static final String BASELINE_PROPERTY = "data-import.replay.baseline";
+  static final String RECORD_PROPERTY = "data-import.replay.baseline.record";
+  static final String TOLERANCE_PROPERTY = "data-import.replay.tolerance";
+
+  private static final double DEFAULT_TOLERANCE = 0.1;
+
+  private ReplayBaseline() { }
+
+  /**
+   * Checks each measurement against the baseline for the key and its name,
+   * or adds it to the baseline when there is none and recording is enabled
+   *
+   * @throws IllegalStateException when any measurement is over the
+   * baseline by more than the tolerance
+   */
+  static synchronized void check(String key, Map<String, Double> measurements)
+    throws IOException {
+
+    String path = System.getProperty(BASELINE_PROPERTY);
+
+    if (path == null || path.isEmpty()) {
+      return;
+    }
+
+    double tolerance = Double.parseDouble(System.getProperty(TOLERANCE_PROPERTY,
+      String.valueOf(DEFAULT_TOLERANCE)));
+
+    File file = new File(path);
+    Properties baseline = new Properties();
+
+    if (file.exists()) {
+      try (InputStream input = new FileInputStream(file)) {
+        baseline.load(input);
+      }
+    }
+
+    boolean record = Boolean.getBoolean(RECORD_PROPERTY);
+    List<String> regressions = new ArrayList<>();
+    List<String> missing = new ArrayList<>();
+    boolean added = false;
+
+    for (Map.Entry<String, Double> measurement : measurements.entrySet()) {
+      String name = key + "." + measurement.getKey();
+      String expected = baseline.getProperty(name);
+
+      if (expected == null && !record) {
+        missing.add(name);
+      } else if (expected == null) {
+        baseline.setProperty(name, String.valueOf(measurement.getValue()));
+        added = true;
+      } else if (measurement.getValue() > Double.parseDouble(expected) * (1 + tolerance)) {
+        regressions.add(String.format("%s was %.2f, the baseline is %s",
+          name, measurement.getValue(), expected));
+      }
+    }
+
+    if (added) {
+      if (file.getParentFile() != null) {
+        file.getParentFile().mkdirs();
+      }
+
+      try (OutputStream output = new FileOutputStream(file)) {
+        baseline.store(output, "Overhead of handling a data-import event");
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      System.out.println(String.format(
+        "No baseline for %s in %s, so not checked, it can be recorded with -D%s=true",
+        String.join(", ", missing), path, RECORD_PROPERTY));
+    }
+
+    if (!regressions.isEmpty()) {
+      throw new IllegalStateException(String.format(
+        "Handling an event costs more than %.0f%% over the baseline in %s: %s",
+        tolerance * 100, path, String.join("; ", regressions)));
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.inventory.dataimport;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * CPU time used and bytes allocated by the live threads of the JVM, apart
+ * from those excluded, so that the work of the storage stand-in is not
+ * counted as work of inventory.
+ *
+ * The difference between two snapshots misses what was used by threads
+ * which ended in between, which for the long lived event loop threads
+ * that handle data-import events is nothing.
+ */
+final class ThreadUsage {
+  private static final com.sun.management.ThreadMXBean THREADS =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  static final ThreadUsage NONE = new ThreadUsage(0, 0);
+
+  final long cpuNanos;
+  final long allocatedBytes;
+
+  private ThreadUsage(long cpuNanos, long allocatedBytes) {
+    this.cpuNanos = cpuNanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  static ThreadUsage now(Set<Long> excludedThreadIds) {
+    long[] threadIds = Arrays.stream(THREADS.getAllThreadIds())
+      .filter(threadId -> !excludedThreadIds.contains(threadId))
+      .toArray();
+
+    return new ThreadUsage(
+      sumOfKnown(THREADS.getThreadCpuTime(threadIds)),
+      sumOfKnown(THREADS.getThreadAllocatedBytes(threadIds)));
+  }
+
+  ThreadUsage since(ThreadUsage earlier) {
+    return new ThreadUsage(cpuNanos - earlier.cpuNanos,
+      allocatedBytes - earlier.allocatedBytes);
+  }
+
+  ThreadUsage plus(ThreadUsage other) {
+    return new ThreadUsage(cpuNanos + other.cpuNanos,
+      allocatedBytes + other.allocatedBytes);
+  }
+
+  /**
+   * Threads which ended since their ids were taken are reported as -1
+   */
+  private static long sumOfKnown(long[] values) {
+    return Arrays.stream(values).filter(value -> value > 0).sum();
+  }
+}
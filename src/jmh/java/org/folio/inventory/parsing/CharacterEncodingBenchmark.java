@@ -0,0 +1,58 @@
+package org.folio.inventory.parsing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass decoding of UTF-8 literal escapes with the
+ * chain of replacements it superseded, for a title with no escapes and
+ * one with several
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CharacterEncodingBenchmark {
+
+  @Param({"plain", "escaped"})
+  public String title;
+
+  private final UTF8LiteralCharacterEncoding encoding = new UTF8LiteralCharacterEncoding();
+
+  private String input;
+
+  @Setup
+  public void setUp() {
+    input = "plain".equals(title)
+      ? "Grammaire comparee du grec et du latin. Phonetique et morphologie"
+      : "Grammaire compar\\xC3\\xA9e du grec et du latin. Phon\\xC3\\xA9tique"
+        + " [Dell\\xE2\\x80\\x99Emulazione] Nikitovic\\xCC\\x81";
+  }
+
+  @Benchmark
+  public String singlePass() {
+    return encoding.decode(input);
+  }
+
+  @Benchmark
+  public String chainedReplacements() {
+    return input
+      .replace("\\xE2\\x80\\x99", "\u2019")
+      .replace("\\xC3\\xA9", "\u00E9")
+      .replace("\\xCC\\x81", "\u0301")
+      .replace("\\xCC\\x8C", "\u030C");
+  }
+}
@@ -0,0 +1,74 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.support.JsonHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many MARC JSON records are converted to instances per second,
+ * one at a time and in parallel
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MarcParserBenchmark {
+  private static final int RECORDS = 10000;
+
+  private static final String[] EXAMPLES = {
+    "/marc/test-input_01a.json",
+    "/marc/test-entry_01.json",
+    "/marc/test-entry_02.json",
+    "/marc/test-entry_03.json",
+    "/marc/test-entry_04.json",
+    "/marc/test-entry_05.json",
+    "/marc/test-entry_06.json"
+  };
+
+  private MarcParser parser;
+  private List<JsonObject> records;
+
+  @Setup
+  public void setUp() throws Exception {
+    parser = new MarcParser();
+
+    JsonHelper jsonHelper = new JsonHelper();
+    records = new ArrayList<>(RECORDS);
+
+    for (int index = 0; index < RECORDS; index++) {
+      records.add(jsonHelper.getJsonFileAsJsonObject(
+        EXAMPLES[index % EXAMPLES.length]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public void convertEach(Blackhole blackhole) throws Exception {
+    for (JsonObject record : records) {
+      blackhole.consume(parser.marcJson2FolioJson(record));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public List<JsonObject> convertInParallel() throws Exception {
+    return parser.marcJson2FolioJson(records);
+  }
+}
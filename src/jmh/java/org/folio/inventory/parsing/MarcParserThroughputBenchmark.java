@@ -0,0 +1,119 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many generated MARC JSON records of a thousand to a million
+ * are converted to instances per second, one at a time and in parallel
+ * batches.
+ *
+ * To bound the memory used, at most ten thousand different records are
+ * generated, and repeated to make up larger sizes.
+ *
+ * Before measuring, checks that both ways of converting give the same
+ * instances, and that they are the same as the baseline (see
+ * {@link ParserOutputDigest}).
+ *
+ * Other sizes can be given with -p records=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MarcParserThroughputBenchmark {
+  private static final int DIFFERENT_RECORDS = 10000;
+  private static final int BATCH_SIZE = 1000;
+  private static final long SEED = 1;
+
+  @Param({"1000", "100000", "1000000"})
+  public int records;
+
+  private MarcParser parser;
+  private List<JsonObject> different;
+  private List<List<JsonObject>> batches;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    parser = new MarcParser();
+
+    different = new ArrayList<>();
+
+    for (int index = 0; index < Math.min(records, DIFFERENT_RECORDS); index++) {
+      different.add(SyntheticRecords.marcRecord(index, SEED));
+    }
+
+    batches = new ArrayList<>();
+
+    for (int start = 0; start < records; start += BATCH_SIZE) {
+      List<JsonObject> batch = new ArrayList<>(BATCH_SIZE);
+
+      for (int index = start; index < Math.min(records, start + BATCH_SIZE); index++) {
+        batch.add(record(index));
+      }
+
+      batches.add(batch);
+    }
+
+    ParserOutputDigest each = new ParserOutputDigest();
+    ParserOutputDigest inParallel = new ParserOutputDigest();
+
+    for (int index = 0; index < records; index++) {
+      each.add(parser.marcJson2FolioJson(record(index)));
+    }
+
+    for (List<JsonObject> batch : batches) {
+      parser.marcJson2FolioJson(batch).forEach(inParallel::add);
+    }
+
+    if (!each.value().equals(inParallel.value())) {
+      throw new IllegalStateException(
+        "Records converted in parallel differ from those converted one at a time");
+    }
+
+    ParserOutputDigest.checkAgainstBaseline(
+      String.format("marc.%d.%d", records, SEED), each.value());
+  }
+
+  @Benchmark
+  public void convertEach(RecordCounter counter, Blackhole blackhole) throws Exception {
+    for (int index = 0; index < records; index++) {
+      blackhole.consume(parser.marcJson2FolioJson(record(index)));
+    }
+
+    counter.records += records;
+  }
+
+  @Benchmark
+  public void convertInParallelBatches(RecordCounter counter, Blackhole blackhole)
+    throws Exception {
+
+    for (List<JsonObject> batch : batches) {
+      blackhole.consume(parser.marcJson2FolioJson(batch));
+    }
+
+    counter.records += records;
+  }
+
+  private JsonObject record(int index) {
+    return different.get(index % different.size());
+  }
+}
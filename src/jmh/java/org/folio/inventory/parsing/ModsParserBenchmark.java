@@ -0,0 +1,86 @@
+package org.folio.inventory.parsing;
+
+import com.google.common.io.CharStreams;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares parsing a MODS document into a tree and evaluating XPath
+ * expressions against it with reading it as a stream of records
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModsParserBenchmark {
+  private static final Pattern RECORD = Pattern.compile(
+    "<mods_ns:mods .*?</mods_ns:mods>", Pattern.DOTALL);
+
+  @Param({"1000", "10000"})
+  public int records;
+
+  private ModsParser parser;
+  private String document;
+  private byte[] documentBytes;
+
+  @Setup
+  public void setUp() throws Exception {
+    parser = new ModsParser(new UTF8LiteralCharacterEncoding());
+
+    String example;
+
+    try (Reader reader = new InputStreamReader(getClass()
+      .getResourceAsStream("/mods/multiple-example-mods-records.xml"), "UTF-8")) {
+      example = CharStreams.toString(reader);
+    }
+
+    List<String> exampleRecords = new ArrayList<>();
+    Matcher matcher = RECORD.matcher(example);
+
+    while (matcher.find()) {
+      exampleRecords.add(matcher.group());
+    }
+
+    StringBuilder builder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<mods_records>\n");
+
+    for (int index = 0; index < records; index++) {
+      builder.append(exampleRecords.get(index % exampleRecords.size())).append('\n');
+    }
+
+    document = builder.append("</mods_records>\n").toString();
+    documentBytes = document.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<JsonObject> parseDocument() throws Exception {
+    return parser.parseRecords(document);
+  }
+
+  @Benchmark
+  public int streamRecords(Blackhole blackhole) throws Exception {
+    return parser.parseRecords(new ByteArrayInputStream(documentBytes), blackhole::consume);
+  }
+}
@@ -0,0 +1,112 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures how many records per second are read from generated MODS
+ * documents of a thousand to a million records, streamed from a file.
+ *
+ * Before measuring, checks that the records read are the same as those
+ * parsed from the document tree, for documents small enough to parse
+ * that way, and as the baseline (see {@link ParserOutputDigest}).
+ *
+ * Other sizes can be given with -p records=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModsParserThroughputBenchmark {
+  private static final int TREE_PARSING_LIMIT = 10000;
+  private static final long SEED = 1;
+
+  @Param({"1000", "100000", "1000000"})
+  public int records;
+
+  private ModsParser parser;
+  private File document;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    parser = new ModsParser(new UTF8LiteralCharacterEncoding());
+
+    document = File.createTempFile("mods-benchmark-", ".xml");
+    document.deleteOnExit();
+
+    try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+      new FileOutputStream(document), UTF_8))) {
+
+      SyntheticRecords.writeModsDocument(writer, records, SEED);
+    }
+
+    ParserOutputDigest streamed = new ParserOutputDigest();
+
+    try (InputStream input = openDocument()) {
+      parser.parseRecords(input, streamed::add);
+    }
+
+    if (records <= TREE_PARSING_LIMIT) {
+      ParserOutputDigest parsed = new ParserOutputDigest();
+      List<JsonObject> parsedRecords = parser.parseRecords(
+        new String(Files.readAllBytes(document.toPath()), UTF_8));
+
+      parsedRecords.forEach(parsed::add);
+
+      if (!parsed.value().equals(streamed.value())) {
+        throw new IllegalStateException(
+          "Records read from the stream differ from those parsed from the document");
+      }
+    }
+
+    ParserOutputDigest.checkAgainstBaseline(
+      String.format("mods.%d.%d", records, SEED), streamed.value());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (document != null) {
+      document.delete();
+    }
+  }
+
+  @Benchmark
+  public void streamRecords(RecordCounter counter, Blackhole blackhole) throws Exception {
+    try (InputStream input = openDocument()) {
+      counter.records += parser.parseRecords(input, blackhole::consume);
+    }
+  }
+
+  private InputStream openDocument() throws Exception {
+    return new BufferedInputStream(new FileInputStream(document));
+  }
+}
@@ -0,0 +1,121 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * Digest of the records output by a parser, used by the parser benchmarks
+ * to check that an optimisation does not change the output.
+ *
+ * The digest of each benchmark's records can be checked against a
+ * baseline file, given by the parser.output.baseline system property.
+ * The baseline in src/jmh/resources holds the output of the parsers
+ * before they were optimised, so any benchmark whose output differs from
+ * it fails, as does one with no digest in the baseline.
+ *
+ * Digests are only added to the baseline, for new benchmarks or sizes,
+ * when parser.output.baseline.record is true.
+ */
+final class ParserOutputDigest {
+  static final String BASELINE_PROPERTY = "parser.output.baseline";
+  static final String RECORD_PROPERTY = "parser.output.baseline.record";
+
+  private final MessageDigest digest;
+  private int records;
+  private String value;
+
+  ParserOutputDigest() {
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  void add(JsonObject record) {
+    if (value != null) {
+      throw new IllegalStateException("Digest has already been taken");
+    }
+
+    digest.update(record.encode().getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) '\n');
+    records++;
+  }
+
+  /**
+   * @return the number of records and hexadecimal digest of them, no
+   * more records can be added once this has been taken
+   */
+  String value() {
+    if (value == null) {
+      StringBuilder hex = new StringBuilder().append(records).append(':');
+
+      for (byte b : digest.digest()) {
+        hex.append(String.format("%02x", b));
+      }
+
+      value = hex.toString();
+    }
+
+    return value;
+  }
+
+  /**
+   * Checks the digest of the output for the key against the baseline,
+   * or adds it to the baseline when there is none for the key and
+   * recording is enabled
+   *
+   * @throws IllegalStateException when the digest differs, or there is
+   * none for the key and recording is not enabled
+   */
+  static synchronized void checkAgainstBaseline(String key, String value)
+    throws IOException {
+
+    String path = System.getProperty(BASELINE_PROPERTY);
+
+    if (path == null || path.isEmpty()) {
+      return;
+    }
+
+    File file = new File(path);
+    Properties baseline = new Properties();
+
+    if (file.exists()) {
+      try (InputStream input = new FileInputStream(file)) {
+        baseline.load(input);
+      }
+    }
+
+    String expected = baseline.getProperty(key);
+
+    if (expected == null && !Boolean.getBoolean(RECORD_PROPERTY)) {
+      throw new IllegalStateException(String.format(
+        "No digest of the output of %s in the baseline in %s, it can be recorded with -D%s=true",
+        key, path, RECORD_PROPERTY));
+    } else if (expected == null) {
+      baseline.setProperty(key, value);
+
+      if (file.getParentFile() != null) {
+        file.getParentFile().mkdirs();
+      }
+
+      try (OutputStream output = new FileOutputStream(file)) {
+        baseline.store(output, "Digests of parser output");
+      }
+    } else if (!expected.equals(value)) {
+      throw new IllegalStateException(String.format(
+        "Output of %s differs from the baseline in %s: expected %s but was %s",
+        key, path, expected, value));
+    }
+  }
+}
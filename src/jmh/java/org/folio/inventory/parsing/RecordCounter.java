@@ -0,0 +1,22 @@
+package org.folio.inventory.parsing;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the records parsed, so that the parser benchmarks report records
+ * per second alongside the time for a whole document or set of records
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class RecordCounter {
+  public long records;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    records = 0;
+  }
+}
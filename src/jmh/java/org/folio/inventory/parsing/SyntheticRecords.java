@@ -0,0 +1,234 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Generates MODS documents and MARC JSON records of any number of records
+ * for the parser benchmarks.
+ *
+ * Every record is different, with a varying number of identifiers, names,
+ * subjects and fields, and some titles and names containing UTF-8 literal
+ * escapes. Each record depends only on the seed and its position, so the
+ * same records are generated for the same seed on every run.
+ */
+final class SyntheticRecords {
+  private static final String[] SURNAMES = {
+    "Huntley", "Montgomery", "Okonkwo", "Nikitovi\\xC4\\x87", "Andersson",
+    "Garc\\xC3\\xADa", "Tanaka", "O'Brien", "M\\xC3\\xBCller", "Dubois"
+  };
+
+  private static final String[] GIVEN_NAMES = {
+    "Henry Veel", "Lucy Maud", "Chinua", "Pavle", "Astrid", "Gabriel",
+    "Haruki", "Flann", "Herta", "Simone"
+  };
+
+  private static final String[] WORDS = {
+    "California", "gold", "inhabitants", "history", "environmental",
+    "nightmares", "compar\\xC3\\xA9e", "literature", "century", "studies",
+    "letters", "journey", "coast", "Africa", "annals", "Dell\\xE2\\x80\\x99Emulazione",
+    "phon\\xC3\\xA9tique", "collected", "essays", "survey"
+  };
+
+  private static final String[] SUBJECTS = {
+    "English literature--19th century--History and criticism",
+    "Gold mines and mining--California",
+    "Environmental literature",
+    "Voyages and travels",
+    "Ecocriticism"
+  };
+
+  private SyntheticRecords() { }
+
+  /**
+   * Writes a document of MODS records, in the form of the records
+   * exported by Copac
+   */
+  static void writeModsDocument(Writer writer, int records, long seed)
+    throws IOException {
+
+    writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<mods_records>\n");
+
+    for (int index = 0; index < records; index++) {
+      writeModsRecord(writer, index, random(seed, index));
+    }
+
+    writer.write("</mods_records>\n");
+  }
+
+  /**
+   * @return a MARC JSON record, with fields both mapped and not mapped
+   * to instances
+   */
+  static JsonObject marcRecord(int index, long seed) {
+    Random random = random(seed, index);
+    JsonArray fields = new JsonArray();
+
+    fields.add(new JsonObject().put("001", String.format("in%011d", index)));
+    fields.add(new JsonObject().put("003", "OCoLC"));
+    fields.add(new JsonObject().put("005", String.format("2019%04d064447.6", 101 + random.nextInt(1130))));
+    fields.add(new JsonObject().put("008", "190517s2019    sz a     b    001 0 eng d"));
+
+    for (int count = random.nextInt(4); count >= 0; count--) {
+      fields.add(dataField("020", "a", isbn(random) + " hardback", "q", "print"));
+    }
+
+    fields.add(dataField("035", "a", String.format("(OCoLC)%09d", index)));
+    fields.add(dataField("100", "a", name(random) + ",", "e", "author."));
+    fields.add(dataField("245", "a", title(random) + " /", "b", title(random),
+      "c", "edited by " + name(random) + "."));
+
+    if (random.nextBoolean()) {
+      fields.add(dataField("246", "a", title(random)));
+    }
+
+    if (random.nextInt(4) == 0) {
+      fields.add(dataField("250", "a", (2 + random.nextInt(9)) + "th edition."));
+    }
+
+    fields.add(dataField("264", "a", "Cham, Switzerland :", "b", "Palgrave Macmillan,",
+      "c", String.valueOf(1850 + random.nextInt(170))));
+    fields.add(dataField("300", "a", (100 + random.nextInt(900)) + " pages ;", "c", "22 cm"));
+
+    if (random.nextBoolean()) {
+      fields.add(dataField("490", "a", "Studies in " + word(random), "v", String.valueOf(random.nextInt(100))));
+    }
+
+    for (int count = random.nextInt(5); count >= 0; count--) {
+      fields.add(dataField("650", "a", SUBJECTS[random.nextInt(SUBJECTS.length)]));
+    }
+
+    for (int count = random.nextInt(6); count >= 0; count--) {
+      fields.add(dataField("700", "a", name(random) + ",", "e", "editor."));
+    }
+
+    if (random.nextInt(3) == 0) {
+      fields.add(dataField("710", "a", word(random) + " Society."));
+    }
+
+    fields.add(dataField("856", "u", "https://example.org/" + index, "z", "Full text"));
+
+    return new JsonObject()
+      .put("leader", "01750cam a2200409Ii 4500")
+      .put("fields", fields);
+  }
+
+  private static void writeModsRecord(Writer writer, int index, Random random)
+    throws IOException {
+
+    writer.write("  <mods_ns:mods xmlns:mods_ns=\"http://www.loc.gov/mods/v3\" version=\"3.5\">\n");
+    writer.write("    <mods_ns:recordInfo>\n");
+    writer.write(String.format(
+      "      <mods_ns:recordIdentifier source=\"UkMaC\">%d</mods_ns:recordIdentifier>%n", 10000000 + index));
+    writer.write(String.format(
+      "      <mods_ns:recordCreationDate encoding=\"iso8601\">2014%02d%02d</mods_ns:recordCreationDate>%n",
+      1 + random.nextInt(12), 1 + random.nextInt(28)));
+    writer.write("    </mods_ns:recordInfo>\n");
+    writer.write("    <mods_ns:typeOfResource>text</mods_ns:typeOfResource>\n");
+
+    for (int count = random.nextInt(3); count > 0; count--) {
+      writer.write(random.nextInt(4) == 0
+        ? String.format("    <mods_ns:identifier>%s</mods_ns:identifier>%n", isbn(random))
+        : String.format("    <mods_ns:identifier type=\"isbn\">%s</mods_ns:identifier>%n", isbn(random)));
+    }
+
+    for (int count = random.nextInt(4); count >= 0; count--) {
+      writer.write("    <mods_ns:name type=\"personal\">\n");
+      writer.write(String.format("      <mods_ns:namePart>%s</mods_ns:namePart>%n", escape(name(random))));
+
+      if (random.nextBoolean()) {
+        writer.write(String.format("      <mods_ns:namePart type=\"date\">%d-%d</mods_ns:namePart>%n",
+          1800 + random.nextInt(100), 1900 + random.nextInt(100)));
+      }
+
+      writer.write("      <mods_ns:role>\n");
+      writer.write("        <mods_ns:roleTerm type=\"text\">contributor</mods_ns:roleTerm>\n");
+      writer.write("      </mods_ns:role>\n");
+      writer.write("    </mods_ns:name>\n");
+    }
+
+    writer.write("    <mods_ns:titleInfo>\n");
+    writer.write(String.format("      <mods_ns:title>%s</mods_ns:title>%n", escape(title(random))));
+    writer.write("    </mods_ns:titleInfo>\n");
+    writer.write("    <mods_ns:originInfo eventType=\"publisher\">\n");
+    writer.write("      <mods_ns:place>\n");
+    writer.write("        <mods_ns:placeTerm type=\"text\">Lond.</mods_ns:placeTerm>\n");
+    writer.write("      </mods_ns:place>\n");
+    writer.write(String.format("      <mods_ns:dateIssued>%d</mods_ns:dateIssued>%n", 1800 + random.nextInt(200)));
+    writer.write("    </mods_ns:originInfo>\n");
+    writer.write("    <mods_ns:physicalDescription>\n");
+    writer.write(String.format("      <mods_ns:extent>%d p. ; cm.19.</mods_ns:extent>%n", 50 + random.nextInt(900)));
+    writer.write("    </mods_ns:physicalDescription>\n");
+
+    for (int count = random.nextInt(3); count > 0; count--) {
+      writer.write("    <mods_ns:subject>\n");
+      writer.write(String.format("      <mods_ns:topic>%s</mods_ns:topic>%n",
+        SUBJECTS[random.nextInt(SUBJECTS.length)]));
+      writer.write("    </mods_ns:subject>\n");
+    }
+
+    writer.write("    <mods_ns:location>\n");
+    writer.write("      <mods_ns:holdingExternal>\n");
+    writer.write("        <h:localHolds xmlns:h=\"http://copac.ac.uk/schemas/holdings/v1\">\n");
+    writer.write("          <h:org displayName=\"University of Oxford Libraries\" copacCode=\"oxf\">UkOxU</h:org>\n");
+    writer.write(String.format("          <h:objId>%d</h:objId>%n", 60000000 + index));
+    writer.write("        </h:localHolds>\n");
+    writer.write("      </mods_ns:holdingExternal>\n");
+    writer.write("    </mods_ns:location>\n");
+    writer.write("    <mods_ns:extension>\n");
+    writer.write("      <cpc:flags xmlns:cpc=\"http://copac.ac.uk/schemas/mods-copac/v1\">\n");
+    writer.write("        <cpc:flag>copbok</cpc:flag>\n");
+    writer.write("        <cpc:flag>m21bk</cpc:flag>\n");
+    writer.write("      </cpc:flags>\n");
+    writer.write("    </mods_ns:extension>\n");
+    writer.write("  </mods_ns:mods>\n");
+  }
+
+  private static JsonObject dataField(String tag, String... codesAndValues) {
+    JsonArray subfields = new JsonArray();
+
+    for (int index = 0; index + 1 < codesAndValues.length; index += 2) {
+      subfields.add(new JsonObject().put(codesAndValues[index], codesAndValues[index + 1]));
+    }
+
+    return new JsonObject().put(tag, new JsonObject()
+      .put("ind1", " ")
+      .put("ind2", " ")
+      .put("subfields", subfields));
+  }
+
+  private static String title(Random random) {
+    StringBuilder title = new StringBuilder(word(random));
+
+    for (int count = 2 + random.nextInt(10); count > 0; count--) {
+      title.append(' ').append(word(random));
+    }
+
+    return title.toString();
+  }
+
+  private static String name(Random random) {
+    return SURNAMES[random.nextInt(SURNAMES.length)] + ", "
+      + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+  }
+
+  private static String word(Random random) {
+    return WORDS[random.nextInt(WORDS.length)];
+  }
+
+  private static String isbn(Random random) {
+    return String.format("978%010d", (long) (random.nextDouble() * 1e10));
+  }
+
+  private static String escape(String text) {
+    return text.replace("&", "&amp;").replace("<", "&lt;").replace("'", "&apos;");
+  }
+
+  private static Random random(long seed, int index) {
+    return new Random(seed * 1_000_003L + index);
+  }
+}
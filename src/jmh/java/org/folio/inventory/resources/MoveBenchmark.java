@@ -0,0 +1,106 @@
+package org.folio.inventory.resources;
+
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.folio.HoldingsRecord;
+import org.folio.inventory.support.ItemUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares preparing the request to move a stored item or holdings record
+ * by patching its foreign key with decoding it into a domain object,
+ * changing the foreign key and encoding it again. The patch copies the
+ * record first, as the fixture is shared between invocations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MoveBenchmark {
+  private final String targetId = UUID.randomUUID().toString();
+
+  private final JsonObject storedItem = new JsonObject()
+    .put("id", UUID.randomUUID().toString())
+    .put("holdingsRecordId", UUID.randomUUID().toString())
+    .put("barcode", "645398607547")
+    .put("hrid", "it00000001")
+    .put("status", new JsonObject().put("name", "Available"))
+    .put("materialTypeId", UUID.randomUUID().toString())
+    .put("permanentLoanTypeId", UUID.randomUUID().toString())
+    .put("permanentLocationId", UUID.randomUUID().toString())
+    .put("enumeration", "v.70:no.7-12")
+    .put("chronology", "1984:July-Dec.")
+    .put("copyNumbers", new JsonArray().add("1"))
+    .put("formerIds", new JsonArray().add("a-former-id"))
+    .put("yearCaption", new JsonArray().add("1984"))
+    .put("notes", new JsonArray().add(new JsonObject()
+      .put("itemNoteTypeId", UUID.randomUUID().toString())
+      .put("note", "Bound with the index volume")
+      .put("staffOnly", false)))
+    .put("statisticalCodeIds", new JsonArray().add(UUID.randomUUID().toString()))
+    .put("metadata", new JsonObject()
+      .put("createdDate", "2020-03-01T12:00:00.000+0000")
+      .put("createdByUserId", UUID.randomUUID().toString())
+      .put("updatedDate", "2020-03-01T12:00:00.000+0000")
+      .put("updatedByUserId", UUID.randomUUID().toString()));
+
+  private final JsonObject storedHoldings = new JsonObject()
+    .put("id", UUID.randomUUID().toString())
+    .put("instanceId", UUID.randomUUID().toString())
+    .put("hrid", "ho00000001")
+    .put("permanentLocationId", UUID.randomUUID().toString())
+    .put("callNumber", "K1 .M44")
+    .put("callNumberPrefix", "A")
+    .put("formerIds", new JsonArray().add("a-former-id"))
+    .put("holdingsStatements", new JsonArray().add(new JsonObject()
+      .put("statement", "v.1-v.70")
+      .put("note", "Some volumes missing")))
+    .put("notes", new JsonArray().add(new JsonObject()
+      .put("holdingsNoteTypeId", UUID.randomUUID().toString())
+      .put("note", "Shelved with the reference collection")
+      .put("staffOnly", false)))
+    .put("metadata", new JsonObject()
+      .put("createdDate", "2020-03-01T12:00:00.000+0000")
+      .put("updatedDate", "2020-03-01T12:00:00.000+0000"));
+
+  @Benchmark
+  public String itemRoundTrip() {
+    return Json.encodePrettily(ItemUtil.toStoredItemRepresentation(
+      ItemUtil.fromStoredItemRepresentation(storedItem).withHoldingId(targetId)));
+  }
+
+  @Benchmark
+  public String itemForeignKeyPatch() {
+    return Json.encodePrettily(storedItem.copy().put("holdingsRecordId", targetId));
+  }
+
+  @Benchmark
+  public String holdingsRoundTrip() throws IOException {
+    HoldingsRecord holdingsRecord = storedHoldings.mapTo(HoldingsRecord.class)
+      .withInstanceId(targetId);
+
+    return Json.encodePrettily(new JsonObject(new ObjectMapper().writer()
+      .withDefaultPrettyPrinter().writeValueAsString(holdingsRecord)));
+  }
+
+  @Benchmark
+  public String holdingsForeignKeyPatch() {
+    return Json.encodePrettily(storedHoldings.copy().put("instanceId", targetId));
+  }
+}
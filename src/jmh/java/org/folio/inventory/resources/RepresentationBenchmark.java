@@ -0,0 +1,126 @@
+package org.folio.inventory.resources;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.common.WebContext;
+import org.folio.inventory.common.domain.MultipleRecords;
+import org.folio.inventory.common.domain.Success;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.items.Item;
+import org.folio.inventory.support.BenchmarkFixtures;
+import org.folio.inventory.support.InstanceUtil;
+import org.folio.inventory.support.ItemUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the representations returned for a page of items and
+ * a page of instances, from records already fetched from storage
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RepresentationBenchmark {
+  private static final int PAGE_SIZE = 10;
+
+  @Param({BenchmarkFixtures.TYPICAL, BenchmarkFixtures.LARGE})
+  public String size;
+
+  private final ItemRepresentation itemRepresentation = new ItemRepresentation("/inventory/items");
+  private final Instances instances = new Instances(null, null);
+  private final WebContext context = new FixedWebContext();
+
+  private MultipleRecords<Item> items;
+  private List<JsonObject> holdings;
+  private List<JsonObject> itemInstances;
+  private Map<String, JsonObject> materialTypes;
+  private Map<String, JsonObject> loanTypes;
+  private Map<String, JsonObject> locations;
+
+  private InstancesResponse instancesResponse;
+
+  @Setup
+  public void setUp() throws IOException {
+    JsonObject instance = BenchmarkFixtures.storedInstance(size);
+    JsonObject holding = BenchmarkFixtures.storedHoldings(instance.getString("id"));
+
+    List<Item> pageOfItems = new ArrayList<>();
+    List<Instance> pageOfInstances = new ArrayList<>();
+
+    for (int index = 0; index < PAGE_SIZE; index++) {
+      pageOfItems.add(ItemUtil.fromStoredItemRepresentation(
+        BenchmarkFixtures.storedItem(holding.getString("id"))));
+
+      pageOfInstances.add(InstanceUtil.jsonToInstance(
+        instance.copy().put("id", UUID.randomUUID().toString())));
+    }
+
+    items = new MultipleRecords<>(pageOfItems, 1000);
+    holdings = Collections.singletonList(holding);
+    itemInstances = Collections.singletonList(instance);
+
+    materialTypes = byId(BenchmarkFixtures.materialType());
+    loanTypes = byId(BenchmarkFixtures.loanType());
+    locations = byId(BenchmarkFixtures.location());
+
+    instancesResponse = new InstancesResponse()
+      .setSuccess(new Success<>(new MultipleRecords<>(pageOfInstances, 1000)));
+  }
+
+  @Benchmark
+  public JsonObject pageOfItems() {
+    return itemRepresentation.toJson(items, holdings, itemInstances,
+      materialTypes, loanTypes, locations, context);
+  }
+
+  @Benchmark
+  public JsonObject pageOfInstances() {
+    return instances.toRepresentation(instancesResponse, context);
+  }
+
+  private static Map<String, JsonObject> byId(JsonObject record) {
+    return Collections.singletonMap(record.getString("id"), record);
+  }
+
+  /**
+   * Context of a request to a fixed address, without a request behind it
+   */
+  private static class FixedWebContext extends WebContext {
+    private static final String ADDRESS = "http://localhost:9403";
+
+    FixedWebContext() {
+      super(null);
+    }
+
+    @Override
+    public String getOkapiLocation() {
+      return "http://localhost:9130";
+    }
+
+    @Override
+    public URL absoluteUrl(String path) throws MalformedURLException {
+      return new URL(ADDRESS + path);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package org.folio.inventory.storage.external;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.support.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping an instance as stored to the domain object and back,
+ * for an instance from a typical MARC record and a large one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InstanceStorageMappingBenchmark {
+
+  @Param({BenchmarkFixtures.TYPICAL, BenchmarkFixtures.LARGE})
+  public String size;
+
+  private ExternalStorageModuleInstanceCollection collection;
+  private JsonObject storedInstance;
+  private Instance instance;
+
+  @Setup
+  public void setUp() throws IOException {
+    collection = new ExternalStorageModuleInstanceCollection(null,
+      "http://localhost:9130", "benchmark_tenant", "token", null);
+
+    storedInstance = BenchmarkFixtures.storedInstance(size);
+    instance = collection.mapFromJson(storedInstance);
+  }
+
+  @Benchmark
+  public Instance mapFromJson() {
+    return collection.mapFromJson(storedInstance);
+  }
+
+  @Benchmark
+  public JsonObject mapToRequest() {
+    return collection.mapToRequest(instance);
+  }
+}
@@ -0,0 +1,196 @@
+package org.folio.inventory.support;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Records shared by the benchmarks, modelled on what storage holds for an
+ * instance created from a MARC record and an item of it.
+ *
+ * The large instance has the repeated fields of a MARC record for a long
+ * running serial or a collected edition, with hundreds of identifiers,
+ * contributors, subjects, notes and links.
+ */
+public final class BenchmarkFixtures {
+  public static final String TYPICAL = "typical";
+  public static final String LARGE = "large";
+
+  private static final int LARGE_REPETITIONS = 100;
+
+  private static final String INSTANCE_FROM_MARC = "/handlers/instance.json";
+
+  private static final String MATERIAL_TYPE_ID = "1a54b431-2e4f-452d-9cae-9cee66c9a892";
+  private static final String LOAN_TYPE_ID = "2b94c631-fca9-4892-a730-03ee529ffe27";
+  private static final String LOCATION_ID = "fcd64ce1-6995-48f0-840e-89ffa2288371";
+  private static final String NOTE_TYPE_ID = "8d0a5eca-25de-4391-81a9-236eeefdd20b";
+
+  private BenchmarkFixtures() { }
+
+  /**
+   * @param size either {@link #TYPICAL} or {@link #LARGE}
+   * @return an instance as stored, created from a MARC record
+   */
+  public static JsonObject storedInstance(String size) throws IOException {
+    JsonObject instance = new JsonHelper().getJsonFileAsJsonObject(INSTANCE_FROM_MARC);
+
+    return LARGE.equals(size) ? enlarge(instance) : instance;
+  }
+
+  public static JsonObject storedHoldings(String instanceId) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("instanceId", instanceId)
+      .put("hrid", "ho00000000001")
+      .put("permanentLocationId", LOCATION_ID)
+      .put("callNumber", "PR468.E34 V53 2019")
+      .put("callNumberTypeId", "95467209-6d7b-468b-94df-0f5d7ad2747d");
+  }
+
+  /**
+   * @return an item as stored, with the properties usually present for a
+   * circulating copy of a book
+   */
+  public static JsonObject storedItem(String holdingsRecordId) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("holdingsRecordId", holdingsRecordId)
+      .put("hrid", "it00000000001")
+      .put("barcode", "645398607547")
+      .put("status", new JsonObject()
+        .put("name", "Available")
+        .put("date", "2020-05-18T11:54:22.864+0000"))
+      .put("materialTypeId", MATERIAL_TYPE_ID)
+      .put("permanentLoanTypeId", LOAN_TYPE_ID)
+      .put("permanentLocationId", LOCATION_ID)
+      .put("effectiveLocationId", LOCATION_ID)
+      .put("effectiveCallNumberComponents", new JsonObject()
+        .put("callNumber", "PR468.E34 V53 2019"))
+      .put("enumeration", "v.70:no.7-12")
+      .put("chronology", "1984:July-Dec.")
+      .put("copyNumber", "c.1")
+      .put("numberOfPieces", "1")
+      .put("formerIds", new JsonArray().add("1103977579-1"))
+      .put("yearCaption", new JsonArray().add("1984"))
+      .put("notes", new JsonArray()
+        .add(new JsonObject()
+          .put("itemNoteTypeId", NOTE_TYPE_ID)
+          .put("note", "Bound with the index volume")
+          .put("staffOnly", false))
+        .add(new JsonObject()
+          .put("itemNoteTypeId", NOTE_TYPE_ID)
+          .put("note", "Spine label replaced")
+          .put("staffOnly", true)))
+      .put("circulationNotes", new JsonArray().add(new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("noteType", "Check in")
+        .put("note", "Check for the supplement")
+        .put("staffOnly", true)))
+      .put("electronicAccess", new JsonArray().add(new JsonObject()
+        .put("uri", "https://example.org/supplement.pdf")
+        .put("linkText", "Supplement")))
+      .put("statisticalCodeIds", new JsonArray().add(UUID.randomUUID().toString()))
+      .put("tags", new JsonObject().put("tagList", new JsonArray().add("important")))
+      .put("metadata", new JsonObject()
+        .put("createdDate", "2020-05-18T11:54:22.864+0000")
+        .put("createdByUserId", UUID.randomUUID().toString())
+        .put("updatedDate", "2020-05-18T11:54:22.864+0000")
+        .put("updatedByUserId", UUID.randomUUID().toString()));
+  }
+
+  /**
+   * @return an item as sent by a client, with the referenced records as
+   * objects like the representation returned by inventory
+   */
+  public static JsonObject itemRequest(String holdingsRecordId) {
+    JsonObject request = storedItem(holdingsRecordId);
+
+    request.remove("materialTypeId");
+    request.remove("permanentLoanTypeId");
+    request.remove("permanentLocationId");
+    request.remove("effectiveLocationId");
+
+    return request
+      .put("materialType", referenceRecord(MATERIAL_TYPE_ID, "book"))
+      .put("permanentLoanType", referenceRecord(LOAN_TYPE_ID, "Can circulate"))
+      .put("permanentLocation", referenceRecord(LOCATION_ID, "Main Library"));
+  }
+
+  public static JsonObject materialType() {
+    return referenceRecord(MATERIAL_TYPE_ID, "book");
+  }
+
+  public static JsonObject loanType() {
+    return referenceRecord(LOAN_TYPE_ID, "Can circulate");
+  }
+
+  public static JsonObject location() {
+    return referenceRecord(LOCATION_ID, "Main Library");
+  }
+
+  private static JsonObject referenceRecord(String id, String name) {
+    return new JsonObject()
+      .put("id", id)
+      .put("name", name);
+  }
+
+  private static JsonObject enlarge(JsonObject instance) {
+    JsonArray identifiers = new JsonArray();
+    JsonArray contributors = new JsonArray();
+    JsonArray subjects = new JsonArray();
+    JsonArray notes = new JsonArray();
+    JsonArray alternativeTitles = new JsonArray();
+    JsonArray series = new JsonArray();
+    JsonArray electronicAccess = new JsonArray();
+    JsonArray publication = new JsonArray();
+
+    for (int index = 1; index <= LARGE_REPETITIONS; index++) {
+      identifiers.add(new JsonObject()
+        .put("value", String.format("97830301%05d hardback", index))
+        .put("identifierTypeId", "8261054f-be78-422d-bd51-4ed9f33c3422"));
+
+      contributors.add(new JsonObject()
+        .put("name", String.format("Contributor %d, Laurence W.,", index))
+        .put("primary", false)
+        .put("contributorTypeText", "editor.")
+        .put("contributorNameTypeId", "2b94c631-fca9-4892-a730-03ee529ffe2a"));
+
+      subjects.add(String.format(
+        "English literature--19th century--History and criticism--Volume %d", index));
+
+      notes.add(new JsonObject()
+        .put("note", String.format("Volume %d includes bibliographical references and index", index))
+        .put("staffOnly", false)
+        .putNull("instanceNoteTypeId"));
+
+      alternativeTitles.add(new JsonObject()
+        .put("alternativeTitleTypeId", "09964ad1-7aed-49b8-8223-a4c105e3ef87")
+        .put("alternativeTitle", String.format("Victorian environmental nightmares, part %d", index)));
+
+      series.add(String.format("Palgrave studies in literature and the environment ; %d", index));
+
+      electronicAccess.add(new JsonObject()
+        .put("uri", String.format("https://example.org/nightmares/volume-%d", index))
+        .put("linkText", String.format("Volume %d", index))
+        .put("relationshipId", "f5d0068e-6272-458e-8a81-b85e7b9a14aa"));
+
+      publication.add(new JsonObject()
+        .put("role", "Publication")
+        .put("place", "Cham, Switzerland")
+        .put("publisher", "Palgrave Macmillan")
+        .put("dateOfPublication", String.valueOf(1900 + index)));
+    }
+
+    return instance.copy()
+      .put("identifiers", identifiers)
+      .put("contributors", contributors)
+      .put("subjects", subjects)
+      .put("notes", notes)
+      .put("alternativeTitles", alternativeTitles)
+      .put("series", series)
+      .put("electronicAccess", electronicAccess)
+      .put("publication", publication);
+  }
+}
@@ -0,0 +1,47 @@
+package org.folio.inventory.support;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.domain.instances.Instance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping an instance request to the domain object, for an
+ * instance from a typical MARC record and a large one (a request has the
+ * same shape as the stored instance)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InstanceMappingBenchmark {
+
+  @Param({BenchmarkFixtures.TYPICAL, BenchmarkFixtures.LARGE})
+  public String size;
+
+  private JsonObject instanceRequest;
+
+  @Setup
+  public void setUp() throws IOException {
+    instanceRequest = BenchmarkFixtures.storedInstance(size);
+  }
+
+  @Benchmark
+  public Instance jsonToInstance() {
+    return InstanceUtil.jsonToInstance(instanceRequest);
+  }
+}
@@ -0,0 +1,51 @@
+package org.folio.inventory.support;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.domain.items.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping an item from storage and from a request to the domain
+ * object
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemMappingBenchmark {
+
+  private JsonObject storedItem;
+  private JsonObject itemRequest;
+
+  @Setup
+  public void setUp() {
+    String holdingsRecordId = UUID.randomUUID().toString();
+
+    storedItem = BenchmarkFixtures.storedItem(holdingsRecordId);
+    itemRequest = BenchmarkFixtures.itemRequest(holdingsRecordId);
+  }
+
+  @Benchmark
+  public Item fromStoredItemRepresentation() {
+    return ItemUtil.fromStoredItemRepresentation(storedItem);
+  }
+
+  @Benchmark
+  public Item jsonToItem() {
+    return ItemUtil.jsonToItem(itemRequest);
+  }
+}
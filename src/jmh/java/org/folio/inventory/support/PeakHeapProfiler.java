@@ -0,0 +1,61 @@
+package org.folio.inventory.support;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Reports the peak heap used during each iteration, as the sum of the peak
+ * usage of each heap memory pool. As the pools may peak at different
+ * times, this can be more than was ever used at once.
+ *
+ * Used with -prof org.folio.inventory.support.PeakHeapProfiler
+ */
+public class PeakHeapProfiler implements InternalProfiler {
+  private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  @Override
+  public String getDescription() {
+    return "Peak heap used during each iteration";
+  }
+
+  @Override
+  public void beforeIteration(
+    BenchmarkParams benchmarkParams,
+    IterationParams iterationParams) {
+
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+      }
+    }
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(
+    BenchmarkParams benchmarkParams,
+    IterationParams iterationParams,
+    IterationResult result) {
+
+    long peak = 0;
+
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+
+    return Collections.singletonList(new ScalarResult("heap.peak",
+      peak / BYTES_PER_MEGABYTE, "MB", AggregationPolicy.MAX));
+  }
+}
@@ -10,22 +10,29 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
-import org.folio.inventory.common.WebRequestDiagnostics;
+import org.folio.inventory.common.WebRequestAccessLog;
+import org.folio.inventory.common.WebRequestMetrics;
+import org.folio.inventory.common.WebRequestTimings;
 import org.folio.inventory.domain.ingest.IngestMessageProcessor;
 import org.folio.inventory.resources.EventHandlers;
+import org.folio.inventory.resources.EventLoopApi;
 import org.folio.inventory.resources.Instances;
 import org.folio.inventory.resources.InstancesBatch;
 import org.folio.inventory.resources.IsbnUtilsApi;
 import org.folio.inventory.resources.Items;
+import org.folio.inventory.resources.MetricsApi;
 import org.folio.inventory.resources.MoveApi;
 import org.folio.inventory.resources.TenantApi;
-import org.folio.inventory.resources.ingest.ModsIngestion;
+import org.folio.inventory.resources.ingest.FileIngestion;
 import org.folio.inventory.storage.Storage;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+import org.folio.inventory.support.metrics.MetricsRegistry;
 
 import java.lang.invoke.MethodHandles;
 
 public class InventoryVerticle extends AbstractVerticle {
   private HttpServer server;
+  private EventHandlers eventHandlers;
 
   @Override
   public void start(Future<Void> started) {
@@ -50,16 +57,21 @@ public class InventoryVerticle extends AbstractVerticle {
 
     new IngestMessageProcessor(storage).register(vertx.eventBus());
 
-    router.route().handler(WebRequestDiagnostics::outputDiagnostics);
+    router.route().handler(WebRequestMetrics::recordMetrics);
+    router.route().handler(WebRequestTimings::recordTimings);
+    router.route().handler(WebRequestAccessLog::logAccess);
 
-    new ModsIngestion(storage, client).register(router);
+    new FileIngestion(storage, client).register(router);
     new Items(storage, client).register(router);
     new MoveApi(storage, client).register(router);
     new Instances(storage, client).register(router);
     new InstancesBatch(storage, client).register(router);
     new IsbnUtilsApi().register(router);
     new TenantApi().register(router);
-    new EventHandlers(storage, client).register(router);
+    eventHandlers = new EventHandlers(storage, client, vertx);
+    eventHandlers.register(router);
+    new MetricsApi(MetricsRegistry.getDefault()).register(router);
+    new EventLoopApi(EventLoopMonitor.getDefault()).register(router);
 
     Handler<AsyncResult<HttpServer>> onHttpServerStart = result -> {
       if (result.succeeded()) {
@@ -79,6 +91,11 @@ public class InventoryVerticle extends AbstractVerticle {
     final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     log.info("Stopping inventory module");
+
+    if (eventHandlers != null) {
+      eventHandlers.unregister();
+    }
+
     server.close(result -> {
       if (result.succeeded()) {
         log.info("Inventory module stopped");
@@ -27,6 +27,9 @@ public class Launcher {
 
     Integer port = Integer.getInteger("port", 9403);
 
+    Integer instances = Integer.getInteger("verticle.instances",
+      Runtime.getRuntime().availableProcessors());
+
     String storageType = System.getProperty(
       "org.folio.metadata.inventory.storage.type", null);
 
@@ -37,10 +40,10 @@ public class Launcher {
     putNonNullConfig("storage.location", storageLocation, config);
     putNonNullConfig("port", port, config);
 
-    start(config);
+    start(config, instances);
   }
 
-  private static void start(Map<String, Object> config)
+  private static void start(Map<String, Object> config, int instances)
     throws InterruptedException, ExecutionException, TimeoutException {
 
     final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -52,7 +55,7 @@ public class Launcher {
     CompletableFuture<String> deployed = new CompletableFuture<>();
 
     vertxAssistant.deployVerticle(InventoryVerticle.class.getName(),
-      config, deployed);
+      config, instances, deployed);
 
     deployed.thenAccept(v -> log.info("Server Started"));
 
@@ -0,0 +1,108 @@
+package org.folio.inventory.common;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Writes access log entries from a single background thread, so that
+ * formatting and writing them is not done on the event loop.
+ *
+ * Entries are held in a bounded queue. When it is full, entries are
+ * dropped rather than holding up requests, and the number dropped is
+ * written once there is room again.
+ */
+class AccessLogWriter {
+  private final BlockingQueue<Entry> queue;
+  private final Consumer<String> output;
+  private final AtomicLong dropped = new AtomicLong();
+
+  AccessLogWriter(int capacity, Consumer<String> output) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.output = output;
+
+    Thread writer = new Thread(this::writeEntries, "inventory-access-log");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Queues an entry to be written, without waiting
+   *
+   * @return false when the entry is dropped because the queue is full
+   */
+  boolean write(Entry entry) {
+    if (queue.offer(entry)) {
+      return true;
+    }
+
+    dropped.incrementAndGet();
+    return false;
+  }
+
+  private void writeEntries() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        Entry entry = queue.take();
+
+        long droppedSinceLastWritten = dropped.getAndSet(0);
+
+        if (droppedSinceLastWritten > 0) {
+          output.accept(String.format("access log full, %d entries dropped",
+            droppedSinceLastWritten));
+        }
+
+        output.accept(entry.format());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException e) {
+        //Keep writing, a failure to write one entry should not stop the log
+      }
+    }
+  }
+
+  static final class Entry {
+    private final String method;
+    private final String path;
+    private final int status;
+    private final long durationNanos;
+    private final String tenant;
+    private final String requestId;
+    private final long bytesReceived;
+    private final long bytesSent;
+
+    Entry(String method, String path, int status, long durationNanos,
+      String tenant, String requestId, long bytesReceived, long bytesSent) {
+
+      this.method = method;
+      this.path = path;
+      this.status = status;
+      this.durationNanos = durationNanos;
+      this.tenant = tenant;
+      this.requestId = requestId;
+      this.bytesReceived = bytesReceived;
+      this.bytesSent = bytesSent;
+    }
+
+    /**
+     * @return the entry as space separated key=value pairs, with "-" for
+     * values which are not known
+     */
+    String format() {
+      return String.format(Locale.ROOT,
+        "method=%s path=%s status=%d duration_ms=%.1f tenant=%s request_id=%s bytes_received=%s bytes_sent=%d",
+        method, path, status,
+        durationNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+        orDash(tenant), orDash(requestId),
+        bytesReceived < 0 ? "-" : String.valueOf(bytesReceived),
+        bytesSent);
+    }
+
+    private static String orDash(String value) {
+      return value == null || value.isEmpty() ? "-" : value;
+    }
+  }
+}
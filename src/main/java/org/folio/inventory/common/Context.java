@@ -5,4 +5,12 @@ public interface Context {
   String getToken();
   String getOkapiLocation();
   String getUserId();
+
+  /**
+   * @return the recorder for the timings of the request being handled, by
+   * default one which discards everything
+   */
+  default RequestTimings getTimings() {
+    return RequestTimings.disabled();
+  }
 }
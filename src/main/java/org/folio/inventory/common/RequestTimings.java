@@ -0,0 +1,241 @@
+package org.folio.inventory.common;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.support.flightrecorder.FlightRecorderEvents;
+import org.folio.inventory.support.metrics.UpstreamMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records when the stages of handling a single request, and the requests
+ * made to other modules along the way, start and end. The recorded timings
+ * are reported in a Server-Timing response header, so the time spent on
+ * each part of fanning out to storage can be seen by the client.
+ *
+ * Timings can be recorded from any thread. The recorder used outside of a
+ * request (or when timing is turned off) discards everything.
+ *
+ * Stages are also recorded as flight recorder events, when those are
+ * enabled, whether or not timing is turned off.
+ */
+public class RequestTimings {
+  public static final String UPSTREAM = "upstream";
+
+  private static final RequestTimings DISABLED = new RequestTimings(false);
+
+  private final boolean enabled;
+  private final long startedNanos = System.nanoTime();
+  private final ConcurrentLinkedQueue<Timing> timings = new ConcurrentLinkedQueue<>();
+
+  private RequestTimings(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public static RequestTimings start() {
+    return new RequestTimings(true);
+  }
+
+  /**
+   * @return a recorder which discards every timing
+   */
+  public static RequestTimings disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts timing a stage, which is recorded when the returned stopwatch
+   * is stopped
+   */
+  public Stopwatch stage(String name) {
+    Stopwatch stopwatch = startStopwatch(name, null);
+    FlightRecorderEvents.Span event = FlightRecorderEvents.stage(name);
+
+    if (event == FlightRecorderEvents.Span.NONE) {
+      return stopwatch;
+    }
+
+    return () -> {
+      stopwatch.stop();
+      event.end();
+    };
+  }
+
+  /**
+   * Times a stage from now until the future completes, either way
+   *
+   * @return the same future
+   */
+  public <T> CompletableFuture<T> stage(String name, CompletableFuture<T> future) {
+    Stopwatch stopwatch = stage(name);
+
+    if (stopwatch != Stopwatch.NONE) {
+      future.whenComplete((result, error) -> stopwatch.stop());
+    }
+
+    return future;
+  }
+
+  /**
+   * @return a handler which records a request made to another module, from
+   * now until the response arrives, before passing the response on
+   */
+  public Handler<HttpClientResponse> upstream(
+    HttpMethod method,
+    String url,
+    Handler<HttpClientResponse> responseHandler) {
+
+    if (!enabled) {
+      return responseHandler;
+    }
+
+    Stopwatch stopwatch = startStopwatch(UPSTREAM,
+      method.name() + " " + UpstreamMetrics.pathTemplate(url));
+
+    return response -> {
+      stopwatch.stop();
+      responseHandler.handle(response);
+    };
+  }
+
+  /**
+   * Requests to other modules with the same method and path template are
+   * reported as one entry, with the number of them and their total
+   * duration, so that the header stays small however many records a
+   * request fans out to
+   *
+   * @return the recorded timings in the format of a Server-Timing header,
+   * in the order they (or the first of the requests reported together)
+   * ended, followed by the time taken so far as "total"
+   */
+  public String toServerTiming() {
+    Map<Object, ServerTimingEntry> entries = new LinkedHashMap<>();
+
+    for (Timing timing : timings) {
+      Object key = UPSTREAM.equals(timing.name) && timing.description != null
+        ? timing.description
+        : timing;
+
+      entries.computeIfAbsent(key, notUsed -> new ServerTimingEntry(timing))
+        .add(timing);
+    }
+
+    StringBuilder header = new StringBuilder();
+
+    for (ServerTimingEntry entry : entries.values()) {
+      header.append(entry.name);
+
+      if (entry.description != null) {
+        header.append(";desc=\"").append(entry.description.replace("\"", "'"));
+
+        if (entry.count > 1) {
+          header.append(" (").append(entry.count).append(" calls)");
+        }
+
+        header.append('"');
+      }
+
+      header.append(";dur=").append(milliseconds(entry.durationNanos)).append(", ");
+    }
+
+    return header.append("total;dur=")
+      .append(milliseconds(System.nanoTime() - startedNanos))
+      .toString();
+  }
+
+  /**
+   * @return the recorded timings, with the start of each relative to the
+   * start of the request, in milliseconds
+   */
+  public JsonObject toJson() {
+    JsonArray stages = new JsonArray();
+
+    for (Timing timing : timings) {
+      JsonObject stage = new JsonObject()
+        .put("name", timing.name)
+        .put("start", milliseconds(timing.startedNanos - startedNanos))
+        .put("duration", milliseconds(timing.durationNanos()));
+
+      if (timing.description != null) {
+        stage.put("description", timing.description);
+      }
+
+      stages.add(stage);
+    }
+
+    return new JsonObject()
+      .put("total", milliseconds(System.nanoTime() - startedNanos))
+      .put("stages", stages);
+  }
+
+  private Stopwatch startStopwatch(String name, String description) {
+    if (!enabled) {
+      return Stopwatch.NONE;
+    }
+
+    long stageStartedNanos = System.nanoTime();
+
+    return () -> timings.add(new Timing(name, description,
+      stageStartedNanos, System.nanoTime()));
+  }
+
+  /**
+   * @return the duration in milliseconds, to a tenth of a millisecond
+   */
+  private static double milliseconds(long nanos) {
+    return Math.round(nanos / (TimeUnit.MILLISECONDS.toNanos(1) / 10.0)) / 10.0;
+  }
+
+  @FunctionalInterface
+  public interface Stopwatch {
+    Stopwatch NONE = () -> { };
+
+    void stop();
+  }
+
+  private static final class ServerTimingEntry {
+    private final String name;
+    private final String description;
+    private int count;
+    private long durationNanos;
+
+    private ServerTimingEntry(Timing first) {
+      this.name = first.name;
+      this.description = first.description;
+    }
+
+    private void add(Timing timing) {
+      count++;
+      durationNanos += timing.durationNanos();
+    }
+  }
+
+  private static final class Timing {
+    private final String name;
+    private final String description;
+    private final long startedNanos;
+    private final long endedNanos;
+
+    private Timing(String name, String description, long startedNanos, long endedNanos) {
+      this.name = name;
+      this.description = description;
+      this.startedNanos = startedNanos;
+      this.endedNanos = endedNanos;
+    }
+
+    private long durationNanos() {
+      return endedNanos - startedNanos;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package org.folio.inventory.common;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether an occurrence of something (a request to log, for
+ * example) is sampled, at a rate between 0 (never) and 1 (always) taken
+ * from a system property
+ */
+public class Sampling {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private Sampling() {
+
+  }
+
+  public static boolean isSampled(String rateProperty, double defaultRate) {
+    double rate = rate(rateProperty, defaultRate);
+
+    if (rate <= 0) {
+      return false;
+    }
+
+    return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  private static double rate(String rateProperty, double defaultRate) {
+    String rate = System.getProperty(rateProperty);
+
+    if (rate == null) {
+      return defaultRate;
+    }
+
+    try {
+      return Double.parseDouble(rate);
+    } catch (NumberFormatException e) {
+      log.warn(String.format("Invalid sample rate for %s: %s", rateProperty, rate));
+      return defaultRate;
+    }
+  }
+}
@@ -52,19 +52,29 @@ public class VertxAssistant {
                              Map<String, Object> config,
                              CompletableFuture<String> deployed) {
 
+    deployVerticle(verticleClass, config, 1, deployed);
+  }
+
+  public void deployVerticle(String verticleClass,
+                             Map<String, Object> config,
+                             int instances,
+                             CompletableFuture<String> deployed) {
+
     long startTime = System.currentTimeMillis();
 
     DeploymentOptions options = new DeploymentOptions();
 
     options.setConfig(new JsonObject(config));
     options.setWorker(true);
+    options.setInstances(instances);
 
     vertx.deployVerticle(verticleClass, options, result -> {
       if (result.succeeded()) {
         long elapsedTime = System.currentTimeMillis() - startTime;
 
         log.info(String.format(
-          "%s deployed in %s milliseconds", verticleClass, elapsedTime));
+          "%s instances of %s deployed in %s milliseconds", instances,
+          verticleClass, elapsedTime));
 
         deployed.complete(result.result());
       } else {
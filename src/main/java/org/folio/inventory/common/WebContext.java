@@ -53,6 +53,11 @@ public class WebContext implements Context {
     return routingContext.request().headers().contains(header);
   }
 
+  @Override
+  public RequestTimings getTimings() {
+    return WebRequestTimings.timingsOf(routingContext);
+  }
+
   public URL absoluteUrl(String path) throws MalformedURLException {
     URL currentRequestUrl = new URL(routingContext.request().absoluteURI());
 
@@ -0,0 +1,74 @@
+package org.folio.inventory.common;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Writes a line to the access log for each request, once the response has
+ * been sent, with the time taken, status, tenant, request id and the
+ * number of bytes received and sent.
+ *
+ * Lines are written asynchronously by {@link AccessLogWriter}. A fraction
+ * of requests can be logged by setting the sample rate, responses with
+ * server errors are always logged.
+ */
+public class WebRequestAccessLog {
+  public static final String SAMPLE_RATE_PROPERTY = "org.folio.inventory.access-log.sample-rate";
+  public static final String QUEUE_SIZE_PROPERTY = "org.folio.inventory.access-log.queue-size";
+
+  private static final int DEFAULT_QUEUE_SIZE = 10000;
+
+  private static final Logger log = LoggerFactory.getLogger("org.folio.inventory.access");
+
+  private static final AccessLogWriter writer = new AccessLogWriter(
+    Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE), log::info);
+
+  private WebRequestAccessLog() {
+
+  }
+
+  public static void logAccess(RoutingContext routingContext) {
+    final long started = System.nanoTime();
+    final boolean sampled = Sampling.isSampled(SAMPLE_RATE_PROPERTY, 1);
+
+    routingContext.addBodyEndHandler(v -> {
+      int status = routingContext.response().getStatusCode();
+
+      if (sampled || status >= 500) {
+        writer.write(entry(routingContext, status, System.nanoTime() - started));
+      }
+    });
+
+    routingContext.next();
+  }
+
+  private static AccessLogWriter.Entry entry(
+    RoutingContext routingContext,
+    int status,
+    long durationNanos) {
+
+    WebContext context = new WebContext(routingContext);
+
+    return new AccessLogWriter.Entry(
+      routingContext.request().rawMethod(),
+      routingContext.normalisedPath(),
+      status,
+      durationNanos,
+      context.getTenantId(),
+      context.getRequestId(),
+      contentLength(routingContext),
+      routingContext.response().bytesWritten());
+  }
+
+  private static long contentLength(RoutingContext routingContext) {
+    String contentLength = routingContext.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+
+    try {
+      return contentLength == null ? -1 : Long.parseLong(contentLength);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
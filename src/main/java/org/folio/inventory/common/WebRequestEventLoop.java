@@ -0,0 +1,27 @@
+package org.folio.inventory.common;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+
+/**
+ * Measures how long each route handler holds the event loop, labelled by
+ * the method and template of the route (for example
+ * "GET /inventory/items/:id").
+ *
+ * Handlers are measured individually, rather than by a catch all route, as
+ * the handlers of routes which read the body run once the body has been
+ * read, after the catch all routes have returned.
+ */
+public class WebRequestEventLoop {
+  private WebRequestEventLoop() {
+
+  }
+
+  public static Handler<RoutingContext> measured(Handler<RoutingContext> handler) {
+    return routingContext -> EventLoopMonitor.getDefault().measure(EventLoopMonitor.ROUTE,
+      routingContext.request().rawMethod() + " "
+        + WebRequestMetrics.routeTemplate(routingContext.currentRoute()),
+      () -> handler.handle(routingContext));
+  }
+}
@@ -0,0 +1,72 @@
+package org.folio.inventory.common;
+
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Records the latency and status code of every request handled, labelled
+ * by the template of the route which responded (for example
+ * "/inventory/items/:id") rather than the path, and the tenant
+ */
+public class WebRequestMetrics {
+  public static final String REQUESTS = "inventory_http_server_requests_seconds";
+  public static final String RESPONSES = "inventory_http_server_responses_total";
+
+  private static final String UNMATCHED_ROUTE = "unmatched";
+  private static final String NO_TENANT = "none";
+
+  private static final List<String> LATENCY_LABELS = Arrays.asList("method", "route", "tenant");
+  private static final List<String> RESPONSE_LABELS = Arrays.asList("method", "route", "tenant", "status");
+
+  private WebRequestMetrics() {
+
+  }
+
+  public static void recordMetrics(RoutingContext routingContext) {
+    final long started = System.nanoTime();
+
+    routingContext.addBodyEndHandler(v -> record(routingContext,
+      System.nanoTime() - started));
+
+    routingContext.next();
+  }
+
+  private static void record(RoutingContext routingContext, long durationNanos) {
+    MetricsRegistry registry = MetricsRegistry.getDefault();
+
+    String method = routingContext.request().rawMethod();
+    String route = routeTemplate(routingContext.currentRoute());
+    String tenant = new WebContext(routingContext).getTenantId();
+
+    registry.histogram(REQUESTS, "Time taken to respond to requests",
+      LATENCY_LABELS, method, route, tenantLabel(tenant))
+      .observe(durationNanos);
+
+    registry.counter(RESPONSES, "Responses by status code",
+      RESPONSE_LABELS, method, route, tenantLabel(tenant),
+      String.valueOf(routingContext.response().getStatusCode()))
+      .increment();
+  }
+
+  /**
+   * The route which responded is the current one when the response ends,
+   * its path is the template it was registered with. The catch all routes
+   * (like this one) have no path, so a request which is not matched by any
+   * other route is not labelled with its path
+   */
+  static String routeTemplate(Route route) {
+    if (route == null || route.getPath() == null) {
+      return UNMATCHED_ROUTE;
+    }
+
+    return route.getPath();
+  }
+
+  private static String tenantLabel(String tenant) {
+    return tenant.isEmpty() ? NO_TENANT : tenant;
+  }
+}
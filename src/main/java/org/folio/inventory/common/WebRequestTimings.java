@@ -0,0 +1,69 @@
+package org.folio.inventory.common;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Attaches a timing recorder to each request, which is then available from
+ * the {@link WebContext}, and reports what was recorded in a Server-Timing
+ * header. The timings can also be returned as JSON in a debug header, and
+ * a sample of them written to the log once the response has been sent.
+ */
+public class WebRequestTimings {
+  public static final String ENABLED_PROPERTY = "org.folio.inventory.server-timing.enabled";
+  public static final String DEBUG_PROPERTY = "org.folio.inventory.server-timing.debug";
+  public static final String LOG_SAMPLE_RATE_PROPERTY = "org.folio.inventory.server-timing.log.sample-rate";
+
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+  public static final String DEBUG_HEADER = "X-Inventory-Timings";
+
+  static final String TIMINGS_KEY = RequestTimings.class.getName();
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private WebRequestTimings() {
+
+  }
+
+  public static void recordTimings(RoutingContext routingContext) {
+    if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+      routingContext.next();
+      return;
+    }
+
+    RequestTimings timings = RequestTimings.start();
+    boolean debug = Boolean.getBoolean(DEBUG_PROPERTY);
+    boolean logged = Sampling.isSampled(LOG_SAMPLE_RATE_PROPERTY, 0);
+
+    routingContext.put(TIMINGS_KEY, timings);
+
+    routingContext.addHeadersEndHandler(v -> {
+      routingContext.response().putHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+
+      if (debug) {
+        routingContext.response().putHeader(DEBUG_HEADER, timings.toJson().encode());
+      }
+    });
+
+    if (logged) {
+      routingContext.addBodyEndHandler(v -> log.info(String.format("Timings for %s %s: %s",
+        routingContext.request().rawMethod(), routingContext.normalisedPath(),
+        timings.toJson().encode())));
+    }
+
+    routingContext.next();
+  }
+
+  /**
+   * @return the timings recorded for the request, or a recorder which
+   * discards everything when timing is turned off
+   */
+  static RequestTimings timingsOf(RoutingContext routingContext) {
+    RequestTimings timings = routingContext.get(TIMINGS_KEY);
+
+    return timings != null ? timings : RequestTimings.disabled();
+  }
+}
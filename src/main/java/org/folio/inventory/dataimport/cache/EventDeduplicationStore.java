@@ -0,0 +1,71 @@
+package org.folio.inventory.dataimport.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, time-windowed record of the data-import events already accepted
+ * by this module instance, used to acknowledge redelivered events without
+ * mapping or writing anything for them again.
+ *
+ * The event payload does not carry an event id of its own, so an event is
+ * identified by the tenant and a digest of the compressed payload as
+ * delivered. The payload includes the job execution id, the incoming record
+ * and the chain of events already processed, so a redelivery produces the
+ * same identity while the next event for the same record does not.
+ */
+public class EventDeduplicationStore {
+  public static final String MAXIMUM_SIZE_PROPERTY = "org.folio.inventory.event-deduplication.size";
+  public static final String WINDOW_SECONDS_PROPERTY = "org.folio.inventory.event-deduplication.window.seconds";
+
+  private static final int DEFAULT_MAXIMUM_SIZE = 100000;
+  private static final long DEFAULT_WINDOW_SECONDS = 600;
+
+  private final Cache<String, Boolean> acceptedEvents;
+
+  public EventDeduplicationStore(long maximumSize, long windowSeconds) {
+    this.acceptedEvents = CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(windowSeconds, TimeUnit.SECONDS)
+      .build();
+  }
+
+  public static EventDeduplicationStore fromSystemProperties() {
+    return new EventDeduplicationStore(
+      Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE),
+      Long.getLong(WINDOW_SECONDS_PROPERTY, DEFAULT_WINDOW_SECONDS));
+  }
+
+  public static String eventKey(String tenantId, Buffer compressedPayload) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+
+    if (compressedPayload != null) {
+      hasher.putBytes(compressedPayload.getByteBuf().nioBuffer());
+    }
+
+    return tenantId + ":" + hasher.hash();
+  }
+
+  /**
+   * Records the event as accepted
+   *
+   * @return true when the event has not been seen within the window,
+   * false when it is a redelivery
+   */
+  public boolean accept(String eventKey) {
+    return acceptedEvents.asMap().putIfAbsent(eventKey, Boolean.TRUE) == null;
+  }
+
+  /**
+   * Forgets an event that could not be processed, so that a redelivery
+   * of it is processed again
+   */
+  public void release(String eventKey) {
+    acceptedEvents.invalidate(eventKey);
+  }
+}
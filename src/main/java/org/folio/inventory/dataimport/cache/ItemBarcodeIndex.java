@@ -0,0 +1,250 @@
+package org.folio.inventory.dataimport.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.folio.DataImportEventPayload;
+import org.folio.inventory.common.api.request.PagingParameters;
+import org.folio.inventory.common.domain.MultipleRecords;
+import org.folio.inventory.domain.items.Item;
+import org.folio.inventory.domain.items.ItemCollection;
+import org.folio.inventory.support.CqlHelper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Job-scoped index of the item barcodes already in use, used to check the
+ * uniqueness of the barcodes of items created by a data-import job without
+ * querying storage for every single item.
+ *
+ * The index for a job is seeded lazily: barcodes not yet known are looked
+ * up in storage, and lookups requested while another lookup for the same
+ * job is in flight are combined into a single barcode==(...) query. A
+ * barcode that is free is reserved for the item that asked first, so
+ * duplicates within the job are rejected locally, and it stays in the index
+ * once the item is created.
+ *
+ * Barcodes are compared ignoring case, as storage does for barcode==, so
+ * the index holds them in lower case.
+ */
+public class ItemBarcodeIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(ItemBarcodeIndex.class);
+
+  public static final String LOOKUP_BATCH_SIZE_PROPERTY = "org.folio.inventory.barcode-index.batch.size";
+  public static final String EXPIRATION_SECONDS_PROPERTY = "org.folio.inventory.barcode-index.expiration.seconds";
+
+  private static final int DEFAULT_LOOKUP_BATCH_SIZE = 50;
+  private static final long DEFAULT_EXPIRATION_SECONDS = 600;
+  private static final int MAXIMUM_JOBS = 1000;
+
+  private final int lookupBatchSize;
+  private final Cache<String, JobBarcodes> jobs;
+
+  public ItemBarcodeIndex(int lookupBatchSize, long expirationSeconds) {
+    this.lookupBatchSize = lookupBatchSize;
+    this.jobs = CacheBuilder.newBuilder()
+      .maximumSize(MAXIMUM_JOBS)
+      .expireAfterAccess(expirationSeconds, TimeUnit.SECONDS)
+      .build();
+  }
+
+  public static ItemBarcodeIndex fromSystemProperties() {
+    return new ItemBarcodeIndex(
+      Integer.getInteger(LOOKUP_BATCH_SIZE_PROPERTY, DEFAULT_LOOKUP_BATCH_SIZE),
+      Long.getLong(EXPIRATION_SECONDS_PROPERTY, DEFAULT_EXPIRATION_SECONDS));
+  }
+
+  /**
+   * Reserves the barcode for an item about to be created by the job of the event
+   *
+   * @return future completed with true when the barcode is neither used in
+   * storage nor reserved by another item of the job, false otherwise
+   */
+  public Future<Boolean> reserve(DataImportEventPayload eventPayload, String barcode,
+    ItemCollection itemCollection) {
+
+    if (isBlank(barcode)) {
+      return Future.succeededFuture(true);
+    }
+
+    return jobBarcodes(eventPayload).reserve(barcode, itemCollection);
+  }
+
+  /**
+   * Releases the barcode reserved for an item that could not be created
+   */
+  public void release(DataImportEventPayload eventPayload, String barcode) {
+    if (isBlank(barcode) || isBlank(eventPayload.getJobExecutionId())) {
+      return;
+    }
+
+    JobBarcodes jobBarcodes = jobs.getIfPresent(jobKey(eventPayload));
+
+    if (jobBarcodes != null) {
+      jobBarcodes.release(barcode);
+    }
+  }
+
+  private JobBarcodes jobBarcodes(DataImportEventPayload eventPayload) {
+    if (isBlank(eventPayload.getJobExecutionId())) {
+      return new JobBarcodes();
+    }
+
+    try {
+      return jobs.get(jobKey(eventPayload), JobBarcodes::new);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static String jobKey(DataImportEventPayload eventPayload) {
+    return eventPayload.getTenant() + ":" + eventPayload.getJobExecutionId();
+  }
+
+  private class JobBarcodes {
+    private final Set<String> used = new HashSet<>();
+    private final Map<String, List<Future<Boolean>>> waiting = new LinkedHashMap<>();
+    private final Map<String, List<Future<Boolean>>> inFlight = new LinkedHashMap<>();
+
+    Future<Boolean> reserve(String barcode, ItemCollection itemCollection) {
+      String key = normalise(barcode);
+      Future<Boolean> reserved = Future.future();
+      boolean startLookup;
+
+      synchronized (this) {
+        if (used.contains(key)) {
+          return Future.succeededFuture(false);
+        }
+
+        if (inFlight.containsKey(key)) {
+          inFlight.get(key).add(reserved);
+          return reserved;
+        }
+
+        waiting.computeIfAbsent(key, unused -> new ArrayList<>()).add(reserved);
+        startLookup = inFlight.isEmpty();
+      }
+
+      if (startLookup) {
+        lookUpWaitingBarcodes(itemCollection);
+      }
+
+      return reserved;
+    }
+
+    synchronized void release(String barcode) {
+      used.remove(normalise(barcode));
+    }
+
+    private void lookUpWaitingBarcodes(ItemCollection itemCollection) {
+      List<String> batch = new ArrayList<>();
+
+      synchronized (this) {
+        if (!inFlight.isEmpty() || waiting.isEmpty()) {
+          return;
+        }
+
+        Iterator<Map.Entry<String, List<Future<Boolean>>>> entries = waiting.entrySet().iterator();
+
+        while (entries.hasNext() && batch.size() < lookupBatchSize) {
+          Map.Entry<String, List<Future<Boolean>>> entry = entries.next();
+          inFlight.put(entry.getKey(), entry.getValue());
+          batch.add(entry.getKey());
+          entries.remove();
+        }
+      }
+
+      findItems(batch, batch.size(), itemCollection);
+    }
+
+    /**
+     * Several items in storage can share a barcode, so a page as large as
+     * the batch may not include an item for every barcode used. When storage
+     * reports more items than were returned, the batch is looked up once
+     * more for all of them, rather than reporting missing barcodes as free.
+     */
+    private void findItems(List<String> batch, int limit, ItemCollection itemCollection) {
+      try {
+        itemCollection.findByCql(CqlHelper.barcodeIsAnyOf(batch),
+          new PagingParameters(limit, 0),
+          success -> {
+            MultipleRecords<Item> found = success.getResult();
+            int totalRecords = found.totalRecords != null ? found.totalRecords : 0;
+
+            if (totalRecords > found.records.size() && limit < totalRecords) {
+              findItems(batch, totalRecords, itemCollection);
+            } else if (totalRecords > found.records.size()) {
+              LOG.error(String.format(
+                "Failed to look up item barcodes: %s of %s items returned",
+                found.records.size(), totalRecords));
+              completeLookup(batch, null, "Not all items with the barcodes were returned");
+              lookUpWaitingBarcodes(itemCollection);
+            } else {
+              completeLookup(batch, found.records, null);
+              lookUpWaitingBarcodes(itemCollection);
+            }
+          },
+          failure -> {
+            LOG.error(String.format("Failed to look up item barcodes: %s", failure.getReason()));
+            completeLookup(batch, null, failure.getReason());
+            lookUpWaitingBarcodes(itemCollection);
+          });
+      } catch (Exception e) {
+        LOG.error("Failed to look up item barcodes", e);
+        completeLookup(batch, null, e.getMessage());
+        lookUpWaitingBarcodes(itemCollection);
+      }
+    }
+
+    private void completeLookup(List<String> batch, List<Item> foundItems, String failureReason) {
+      Map<String, List<Future<Boolean>>> completed = new LinkedHashMap<>();
+      Set<String> taken = new HashSet<>();
+
+      synchronized (this) {
+        for (String barcode : batch) {
+          completed.put(barcode, inFlight.remove(barcode));
+
+          if (foundItems != null && isUsedBy(barcode, foundItems)) {
+            taken.add(barcode);
+          }
+        }
+
+        if (failureReason == null) {
+          used.addAll(batch);
+        }
+      }
+
+      completed.forEach((barcode, reservations) -> {
+        for (int index = 0; index < reservations.size(); index++) {
+          if (failureReason != null) {
+            reservations.get(index).fail(failureReason);
+          } else {
+            reservations.get(index).complete(index == 0 && !taken.contains(barcode));
+          }
+        }
+      });
+    }
+
+    private boolean isUsedBy(String barcode, List<Item> foundItems) {
+      return foundItems.stream()
+        .anyMatch(item -> barcode.equalsIgnoreCase(item.getBarcode()));
+    }
+
+    private String normalise(String barcode) {
+      return barcode.toLowerCase(Locale.ROOT);
+    }
+  }
+}
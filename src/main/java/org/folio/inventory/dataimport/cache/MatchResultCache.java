@@ -0,0 +1,294 @@
+package org.folio.inventory.dataimport.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.folio.DataImportEventPayload;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+import org.folio.processing.matching.loader.LoadResult;
+import org.folio.rest.jaxrs.model.EntityType;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Short-lived cache of match results, scoped to a single data-import job.
+ *
+ * Import profiles often match holdings and items against the same instance
+ * over and over again, so the same CQL query is issued many times within one
+ * job. Results are keyed by job execution id, tenant, entity type and the
+ * canonical form of the CQL query. Entries for an entity type are dropped as
+ * soon as the same job creates or updates a record of that type, so a cached
+ * result never hides a record written by the job itself.
+ *
+ * Dropping them must not cost more as the cache fills, as it happens for
+ * every record a job writes, so each job, tenant and entity type has a
+ * generation which is part of the key. Invalidating moves it on to a new
+ * generation, leaving the entries of the old one to be evicted.
+ *
+ * Events without a job execution id are never cached.
+ */
+public class MatchResultCache {
+  private static final Logger LOG = LoggerFactory.getLogger(MatchResultCache.class);
+
+  public static final String MAXIMUM_SIZE_PROPERTY = "org.folio.inventory.match-cache.size";
+  public static final String EXPIRATION_SECONDS_PROPERTY = "org.folio.inventory.match-cache.expiration.seconds";
+
+  private static final int DEFAULT_MAXIMUM_SIZE = 10000;
+  private static final long DEFAULT_EXPIRATION_SECONDS = 300;
+
+  private final Cache<Key, Optional<String>> cache;
+  private final Cache<Scope, Long> generations;
+  /**
+   * Generations are never reused, so an entry cannot become visible again
+   * when the generation of its scope is evicted and started afresh
+   */
+  private final AtomicLong lastGeneration = new AtomicLong();
+
+  public MatchResultCache(long maximumSize, long expirationSeconds) {
+    this.cache = CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .recordStats()
+      .build();
+
+    this.generations = CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterAccess(expirationSeconds, TimeUnit.SECONDS)
+      .build();
+  }
+
+  public static MatchResultCache fromSystemProperties() {
+    return new MatchResultCache(
+      Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE),
+      Long.getLong(EXPIRATION_SECONDS_PROPERTY, DEFAULT_EXPIRATION_SECONDS));
+  }
+
+  /**
+   * Starts looking up the result of a query, to be taken before the query
+   * is sent to storage, so that its result is stored for the generation it
+   * was sent in, and is never seen once the entity type has been
+   * invalidated while the query was in flight
+   */
+  public Lookup lookUp(DataImportEventPayload eventPayload, EntityType entityType, String cql) {
+    if (isBlank(eventPayload.getJobExecutionId())) {
+      return new Lookup(entityType, cql, null);
+    }
+
+    return new Lookup(entityType, cql, keyFor(eventPayload, entityType, cql));
+  }
+
+  /**
+   * @return a copy of the cached result, or null when nothing is cached
+   * for this query within the job of the event
+   */
+  public LoadResult get(DataImportEventPayload eventPayload, EntityType entityType, String cql) {
+    return lookUp(eventPayload, entityType, cql).cachedResult();
+  }
+
+  /**
+   * Drops every cached result for the entity type within the job of the event,
+   * to be called whenever the job creates or updates a record of that type
+   */
+  public void invalidate(DataImportEventPayload eventPayload, EntityType entityType) {
+    if (isBlank(eventPayload.getJobExecutionId())) {
+      return;
+    }
+
+    generations.put(scopeOf(eventPayload, entityType), lastGeneration.incrementAndGet());
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Exposes the statistics of the cache as metrics, read each time the
+   * registry is scraped
+   */
+  public void registerMetrics(MetricsRegistry registry) {
+    registry.counter("inventory_match_result_cache_hits_total",
+      "Match queries answered from the cache", () -> cache.stats().hitCount());
+
+    registry.counter("inventory_match_result_cache_misses_total",
+      "Match queries not found in the cache", () -> cache.stats().missCount());
+
+    registry.counter("inventory_match_result_cache_evictions_total",
+      "Match results evicted because of the size limit or expiry",
+      () -> cache.stats().evictionCount());
+
+    registry.gauge("inventory_match_result_cache_size",
+      "Match results currently cached", cache::size);
+  }
+
+  /**
+   * Reduces a CQL query to a canonical form, so that queries which only differ
+   * in white space outside of quoted terms share a cache entry
+   */
+  static String canonicalCql(String cql) {
+    StringBuilder canonical = new StringBuilder(cql.length());
+    boolean quoted = false;
+    boolean pendingSpace = false;
+
+    for (int index = 0; index < cql.length(); index++) {
+      char current = cql.charAt(index);
+
+      if (!quoted && Character.isWhitespace(current)) {
+        pendingSpace = canonical.length() > 0;
+        continue;
+      }
+
+      if (pendingSpace) {
+        canonical.append(' ');
+        pendingSpace = false;
+      }
+
+      if (current == '"' && (index == 0 || cql.charAt(index - 1) != '\\')) {
+        quoted = !quoted;
+      }
+
+      canonical.append(current);
+    }
+
+    return canonical.toString();
+  }
+
+  /**
+   * The cached result of a query, as of the generation it was looked up in
+   */
+  public final class Lookup {
+    private final EntityType entityType;
+    private final String cql;
+    private final Key key;
+
+    private Lookup(EntityType entityType, String cql, Key key) {
+      this.entityType = entityType;
+      this.cql = cql;
+      this.key = key;
+    }
+
+    /**
+     * @return a copy of the cached result, or null when nothing is cached
+     */
+    public LoadResult cachedResult() {
+      if (key == null) {
+        return null;
+      }
+
+      Optional<String> cached = cache.getIfPresent(key);
+
+      if (cached == null) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug(String.format("Match cache miss for %s: %s", entityType.value(), cql));
+        }
+        return null;
+      }
+
+      if (LOG.isDebugEnabled()) {
+        LOG.debug(String.format("Match cache hit for %s: %s", entityType.value(), cql));
+      }
+
+      LoadResult loadResult = new LoadResult();
+      loadResult.setEntityType(entityType.value());
+      loadResult.setValue(cached.orElse(null));
+      return loadResult;
+    }
+
+    /**
+     * Caches the result of the query, which is not seen by later lookups
+     * when the entity type was invalidated since this lookup was started
+     */
+    public void put(LoadResult loadResult) {
+      if (key != null) {
+        cache.put(key, Optional.ofNullable(loadResult.getValue()));
+      }
+    }
+  }
+
+  private Key keyFor(DataImportEventPayload eventPayload, EntityType entityType, String cql) {
+    Scope scope = scopeOf(eventPayload, entityType);
+    long generation = generations.asMap()
+      .computeIfAbsent(scope, notUsed -> lastGeneration.incrementAndGet());
+
+    return new Key(scope, generation, canonicalCql(cql));
+  }
+
+  private static Scope scopeOf(DataImportEventPayload eventPayload, EntityType entityType) {
+    return new Scope(eventPayload.getJobExecutionId(), eventPayload.getTenant(), entityType);
+  }
+
+  /**
+   * The results invalidated together, those of an entity type within a job
+   */
+  private static final class Scope {
+    private final String jobExecutionId;
+    private final String tenantId;
+    private final EntityType entityType;
+
+    private Scope(String jobExecutionId, String tenantId, EntityType entityType) {
+      this.jobExecutionId = jobExecutionId;
+      this.tenantId = tenantId;
+      this.entityType = entityType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Scope)) {
+        return false;
+      }
+      Scope scope = (Scope) other;
+      return jobExecutionId.equals(scope.jobExecutionId)
+        && Objects.equals(tenantId, scope.tenantId)
+        && entityType == scope.entityType;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(jobExecutionId, tenantId, entityType);
+    }
+  }
+
+  private static final class Key {
+    private final Scope scope;
+    private final long generation;
+    private final String cql;
+
+    private Key(Scope scope, long generation, String cql) {
+      this.scope = scope;
+      this.generation = generation;
+      this.cql = cql;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return generation == key.generation
+        && scope.equals(key.scope)
+        && cql.equals(key.cql);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(scope, generation, cql);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.inventory.dataimport.handlers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.folio.DataImportEventPayload;
+import org.folio.inventory.support.flightrecorder.FlightRecorderEvents;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+import org.folio.processing.events.services.handler.EventHandler;
+
+/**
+ * Measures how long a data-import handler holds the event loop for each
+ * event it handles, and records each event handled as a flight recorder
+ * event, from the handler being called until the future it returns
+ * completes. Everything else is passed on to the handler.
+ */
+public class InstrumentedEventHandler implements EventHandler {
+  private final EventHandler handler;
+  private final String handlerName;
+  private final EventLoopMonitor eventLoopMonitor;
+
+  InstrumentedEventHandler(EventHandler handler, EventLoopMonitor eventLoopMonitor) {
+    this.handler = handler;
+    this.handlerName = handler.getClass().getName();
+    this.eventLoopMonitor = eventLoopMonitor;
+  }
+
+  public static EventHandler instrumented(EventHandler handler) {
+    return new InstrumentedEventHandler(handler, EventLoopMonitor.getDefault());
+  }
+
+  @Override
+  public CompletableFuture<DataImportEventPayload> handle(DataImportEventPayload dataImportEventPayload) {
+    FlightRecorderEvents.HandlerExecution execution = FlightRecorderEvents.dataImportHandler(
+      handlerName, dataImportEventPayload.getEventType());
+
+    AtomicReference<CompletableFuture<DataImportEventPayload>> handled = new AtomicReference<>();
+
+    try {
+      eventLoopMonitor.measure(EventLoopMonitor.DATA_IMPORT_HANDLER, handlerName,
+        () -> handled.set(handler.handle(dataImportEventPayload)));
+    } catch (RuntimeException e) {
+      execution.end(false);
+      throw e;
+    }
+
+    if (execution != FlightRecorderEvents.HandlerExecution.NONE) {
+      handled.get().whenComplete((payload, error) -> execution.end(error == null));
+    }
+
+    return handled.get();
+  }
+
+  @Override
+  public boolean isEligible(DataImportEventPayload dataImportEventPayload) {
+    return handler.isEligible(dataImportEventPayload);
+  }
+
+  @Override
+  public boolean isPostProcessingNeeded() {
+    return handler.isPostProcessingNeeded();
+  }
+
+  @Override
+  public String getPostProcessingInitializationEventType() {
+    return handler.getPostProcessingInitializationEventType();
+  }
+}
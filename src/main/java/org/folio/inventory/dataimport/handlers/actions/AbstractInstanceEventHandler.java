@@ -8,6 +8,7 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.domain.instances.Instance;
 import org.folio.inventory.domain.instances.InstanceCollection;
 import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
@@ -20,6 +21,7 @@ import org.folio.processing.events.services.handler.EventHandler;
 import org.folio.processing.exceptions.EventProcessingException;
 import org.folio.processing.mapping.defaultmapper.RecordToInstanceMapperBuilder;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
+import org.folio.rest.jaxrs.model.EntityType;
 import org.folio.rest.jaxrs.model.Record;
 
 import java.net.MalformedURLException;
@@ -31,6 +33,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static org.folio.ActionProfile.FolioRecord.INSTANCE;
 import static org.folio.ActionProfile.FolioRecord.MARC_BIBLIOGRAPHIC;
@@ -44,7 +47,8 @@ public abstract class AbstractInstanceEventHandler implements EventHandler {
   protected final List<String> requiredFields = Arrays.asList("source", "title", "instanceTypeId");
 
   protected Storage storage;
-  protected HttpClient client;
+  protected Supplier<HttpClient> client;
+  protected MatchResultCache matchResultCache;
 
   protected Future<Void> createPrecedingSucceedingTitles(Instance instance, CollectionResourceRepository precedingSucceedingTitlesRepository) {
     Future<Void> future = Future.future();
@@ -121,7 +125,7 @@ public abstract class AbstractInstanceEventHandler implements EventHandler {
   }
 
   protected OkapiHttpClient createHttpClient(Context context) throws MalformedURLException {
-    return new OkapiHttpClient(client, new URL(context.getOkapiLocation()), context.getTenantId(),
+    return new OkapiHttpClient(client.get(), new URL(context.getOkapiLocation()), context.getTenantId(),
       context.getToken(), null, null, null);
   }
 
@@ -146,6 +150,12 @@ public abstract class AbstractInstanceEventHandler implements EventHandler {
     }
   }
 
+  protected void invalidateMatchedInstances(DataImportEventPayload dataImportEventPayload) {
+    if (matchResultCache != null) {
+      matchResultCache.invalidate(dataImportEventPayload, EntityType.INSTANCE);
+    }
+  }
+
   protected Future<Void> updateInstance(Instance instance, InstanceCollection instanceCollection) {
     Future<Void> future = Future.future();
     instanceCollection.update(instance, success -> future.complete(),
@@ -11,6 +11,7 @@ import org.folio.DataImportEventPayload;
 import org.folio.HoldingsRecord;
 import org.folio.inventory.common.Context;
 import org.folio.inventory.common.domain.Success;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.dataimport.util.ParsedRecordUtil;
 import org.folio.inventory.domain.HoldingsRecordCollection;
 import org.folio.inventory.storage.Storage;
@@ -47,9 +48,15 @@ public class CreateHoldingEventHandler implements EventHandler {
 
 
   private Storage storage;
+  private MatchResultCache matchResultCache;
 
   public CreateHoldingEventHandler(Storage storage) {
+    this(storage, null);
+  }
+
+  public CreateHoldingEventHandler(Storage storage, MatchResultCache matchResultCache) {
     this.storage = storage;
+    this.matchResultCache = matchResultCache;
   }
 
   @Override
@@ -129,6 +136,9 @@ public class CreateHoldingEventHandler implements EventHandler {
 
   private void constructDataImportEventPayload(CompletableFuture<DataImportEventPayload> future, DataImportEventPayload dataImportEventPayload, Success<HoldingsRecord> holdingSuccess) {
     HoldingsRecord createdHolding = holdingSuccess.getResult();
+    if (matchResultCache != null) {
+      matchResultCache.invalidate(dataImportEventPayload, EntityType.HOLDINGS);
+    }
     dataImportEventPayload.getContext().put(HOLDINGS.value(), Json.encodePrettily(createdHolding));
     dataImportEventPayload.setEventType(DI_INVENTORY_HOLDING_CREATED.value());
     future.complete(dataImportEventPayload);
@@ -7,6 +7,7 @@ import io.vertx.core.json.JsonObject;
 import org.folio.ActionProfile;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.dataimport.handlers.matching.util.EventHandlingUtil;
 import org.folio.inventory.domain.instances.Instance;
 import org.folio.inventory.domain.instances.InstanceCollection;
@@ -21,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.ActionProfile.Action.CREATE;
@@ -37,8 +39,21 @@ public class CreateInstanceEventHandler extends AbstractInstanceEventHandler {
   private static final String PAYLOAD_HAS_NO_DATA_MSG = "Failed to handle event payload, cause event payload context does not contain MARC_BIBLIOGRAPHIC data";
 
   public CreateInstanceEventHandler(Storage storage, HttpClient client) {
+    this(storage, client, null);
+  }
+
+  public CreateInstanceEventHandler(Storage storage, HttpClient client, MatchResultCache matchResultCache) {
+    this(storage, () -> client, matchResultCache);
+  }
+
+  /**
+   * @param client supplies the client for each event, e.g. that of the
+   * verticle instance handling it
+   */
+  public CreateInstanceEventHandler(Storage storage, Supplier<HttpClient> client, MatchResultCache matchResultCache) {
     this.storage = storage;
     this.client = client;
+    this.matchResultCache = matchResultCache;
   }
 
   @Override
@@ -77,6 +92,7 @@ public class CreateInstanceEventHandler extends AbstractInstanceEventHandler {
           .compose(createdInstance -> createPrecedingSucceedingTitles(mappedInstance, precedingSucceedingTitlesRepository).map(createdInstance))
           .setHandler(ar -> {
             if (ar.succeeded()) {
+              invalidateMatchedInstances(dataImportEventPayload);
               dataImportEventPayload.getContext().put(INSTANCE.value(), Json.encode(ar.result()));
               dataImportEventPayload.setEventType(DI_INVENTORY_INSTANCE_CREATED.value());
               future.complete(dataImportEventPayload);
@@ -10,6 +10,8 @@ import org.folio.ActionProfile;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
 import org.folio.inventory.common.api.request.PagingParameters;
+import org.folio.inventory.dataimport.cache.ItemBarcodeIndex;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.dataimport.handlers.matching.util.EventHandlingUtil;
 import org.folio.inventory.dataimport.util.ParsedRecordUtil;
 import org.folio.inventory.domain.items.CirculationNote;
@@ -63,9 +65,23 @@ public class CreateItemEventHandler implements EventHandler {
   private final List<String> requiredFields = Arrays.asList("status.name", "materialType.id", "permanentLoanType.id", "holdingsRecordId");
 
   private Storage storage;
+  private MatchResultCache matchResultCache;
+  private ItemBarcodeIndex itemBarcodeIndex;
 
   public CreateItemEventHandler(Storage storage) {
+    this(storage, null, null);
+  }
+
+  public CreateItemEventHandler(Storage storage, MatchResultCache matchResultCache) {
+    this(storage, matchResultCache, null);
+  }
+
+  public CreateItemEventHandler(Storage storage, MatchResultCache matchResultCache,
+    ItemBarcodeIndex itemBarcodeIndex) {
+
     this.storage = storage;
+    this.matchResultCache = matchResultCache;
+    this.itemBarcodeIndex = itemBarcodeIndex;
   }
 
   @Override
@@ -97,12 +113,15 @@ public class CreateItemEventHandler implements EventHandler {
       if (errors.isEmpty()) {
         Item mappedItem = ItemUtil.jsonToItem(itemAsJson);
         JsonObject finalItemAsJson = itemAsJson;
-        isItemBarcodeUnique(itemAsJson.getString("barcode"), itemCollection)
+        isItemBarcodeUnique(dataImportEventPayload, itemAsJson.getString("barcode"), itemCollection)
           .compose(isUnique -> isUnique
-            ? addItem(mappedItem, itemCollection)
+            ? addItem(dataImportEventPayload, mappedItem, itemCollection)
             : Future.failedFuture(String.format("Barcode must be unique, %s is already assigned to another item", finalItemAsJson.getString("barcode"))))
           .setHandler(ar -> {
             if (ar.succeeded()) {
+              if (matchResultCache != null) {
+                matchResultCache.invalidate(dataImportEventPayload, EntityType.ITEM);
+              }
               dataImportEventPayload.getContext().put(ITEM.value(), Json.encode(ar.result()));
               dataImportEventPayload.setEventType(DI_INVENTORY_ITEM_CREATED.value());
               future.complete(dataImportEventPayload);
@@ -167,7 +186,10 @@ public class CreateItemEventHandler implements EventHandler {
     return errors;
   }
 
-  private Future<Boolean> isItemBarcodeUnique(String barcode, ItemCollection itemCollection) throws UnsupportedEncodingException {
+  private Future<Boolean> isItemBarcodeUnique(DataImportEventPayload dataImportEventPayload, String barcode, ItemCollection itemCollection) throws UnsupportedEncodingException {
+    if (itemBarcodeIndex != null) {
+      return itemBarcodeIndex.reserve(dataImportEventPayload, barcode, itemCollection);
+    }
     Future<Boolean> future = Future.future();
     itemCollection.findByCql(CqlHelper.barcodeIs(barcode), PagingParameters.defaults(),
       findResult -> future.complete(findResult.getResult().records.isEmpty()),
@@ -175,7 +197,7 @@ public class CreateItemEventHandler implements EventHandler {
     return future;
   }
 
-  private Future<Item> addItem(Item item, ItemCollection itemCollection) {
+  private Future<Item> addItem(DataImportEventPayload dataImportEventPayload, Item item, ItemCollection itemCollection) {
     Future<Item> future = Future.future();
     List<CirculationNote> notes = item.getCirculationNotes()
       .stream()
@@ -187,6 +209,9 @@ public class CreateItemEventHandler implements EventHandler {
     itemCollection.add(item.withCirculationNotes(notes), success -> future.complete(success.getResult()),
       failure -> {
         LOG.error("Error posting Item cause {0}, status code {1}", failure.getReason(), failure.getStatusCode());
+        if (itemBarcodeIndex != null) {
+          itemBarcodeIndex.release(dataImportEventPayload, item.getBarcode());
+        }
         future.fail(failure.getReason());
       });
     return future;
@@ -5,6 +5,7 @@ import io.vertx.core.json.JsonObject;
 import org.folio.ActionProfile;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.dataimport.handlers.matching.util.EventHandlingUtil;
 import org.folio.inventory.domain.instances.Instance;
 import org.folio.inventory.domain.instances.InstanceCollection;
@@ -20,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -39,8 +41,21 @@ public class ReplaceInstanceEventHandler extends AbstractInstanceEventHandler {
   private static final String PAYLOAD_HAS_NO_DATA_MSG = "Failed to handle event payload, cause event payload context does not contain MARC_BIBLIOGRAPHIC or INSTANCE data";
 
   public ReplaceInstanceEventHandler(Storage storage, HttpClient client) {
+    this(storage, client, null);
+  }
+
+  public ReplaceInstanceEventHandler(Storage storage, HttpClient client, MatchResultCache matchResultCache) {
+    this(storage, () -> client, matchResultCache);
+  }
+
+  /**
+   * @param client supplies the client for each event, e.g. that of the
+   * verticle instance handling it
+   */
+  public ReplaceInstanceEventHandler(Storage storage, Supplier<HttpClient> client, MatchResultCache matchResultCache) {
     this.storage = storage;
     this.client = client;
+    this.matchResultCache = matchResultCache;
   }
 
   @Override
@@ -99,6 +114,7 @@ public class ReplaceInstanceEventHandler extends AbstractInstanceEventHandler {
           .compose(ar -> createPrecedingSucceedingTitles(mappedInstance, precedingSucceedingTitlesRepository))
           .setHandler(ar -> {
             if (ar.succeeded()) {
+              invalidateMatchedInstances(dataImportEventPayload);
               dataImportEventPayload.getContext().put(INSTANCE.value(), finalInstanceAsJson.encode());
               dataImportEventPayload.setEventType(DI_INVENTORY_INSTANCE_UPDATED.value());
               future.complete(dataImportEventPayload);
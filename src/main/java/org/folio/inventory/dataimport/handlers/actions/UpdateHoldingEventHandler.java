@@ -9,11 +9,13 @@ import org.folio.ActionProfile;
 import org.folio.DataImportEventPayload;
 import org.folio.HoldingsRecord;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.domain.HoldingsRecordCollection;
 import org.folio.inventory.storage.Storage;
 import org.folio.processing.events.services.handler.EventHandler;
 import org.folio.processing.exceptions.EventProcessingException;
 import org.folio.processing.mapping.MappingManager;
+import org.folio.rest.jaxrs.model.EntityType;
 import org.folio.rest.tools.utils.ObjectMapperTool;
 
 import java.io.IOException;
@@ -39,9 +41,15 @@ public class UpdateHoldingEventHandler implements EventHandler {
   private static final String HOLDINGS_PATH_FIELD = "holdings";
 
   private final Storage storage;
+  private final MatchResultCache matchResultCache;
 
   public UpdateHoldingEventHandler(Storage storage) {
+    this(storage, null);
+  }
+
+  public UpdateHoldingEventHandler(Storage storage, MatchResultCache matchResultCache) {
     this.storage = storage;
+    this.matchResultCache = matchResultCache;
   }
 
   @Override
@@ -105,6 +113,9 @@ public class UpdateHoldingEventHandler implements EventHandler {
   }
 
   private void constructDataImportEventPayload(CompletableFuture<DataImportEventPayload> future, DataImportEventPayload dataImportEventPayload, HoldingsRecord holding) {
+    if (matchResultCache != null) {
+      matchResultCache.invalidate(dataImportEventPayload, EntityType.HOLDINGS);
+    }
     dataImportEventPayload.getContext().put(HOLDINGS.value(), Json.encodePrettily(holding));
     dataImportEventPayload.setEventType(DI_INVENTORY_HOLDING_UPDATED.value());
     future.complete(dataImportEventPayload);
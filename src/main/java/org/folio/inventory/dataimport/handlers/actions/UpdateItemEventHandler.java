@@ -9,6 +9,7 @@ import org.folio.ActionProfile;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
 import org.folio.inventory.common.api.request.PagingParameters;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.dataimport.handlers.matching.util.EventHandlingUtil;
 import org.folio.inventory.domain.items.Item;
 import org.folio.inventory.domain.items.ItemCollection;
@@ -51,9 +52,15 @@ public class UpdateItemEventHandler implements EventHandler {
   private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.UTC);
 
   private Storage storage;
+  private MatchResultCache matchResultCache;
 
   public UpdateItemEventHandler(Storage storage) {
+    this(storage, null);
+  }
+
+  public UpdateItemEventHandler(Storage storage, MatchResultCache matchResultCache) {
     this.storage = storage;
+    this.matchResultCache = matchResultCache;
   }
 
   @Override
@@ -88,6 +95,9 @@ public class UpdateItemEventHandler implements EventHandler {
         .compose(v -> updateItem(itemToUpdate, itemCollection))
         .setHandler(updateAr -> {
           if (updateAr.succeeded()) {
+            if (matchResultCache != null) {
+              matchResultCache.invalidate(dataImportEventPayload, ITEM);
+            }
             dataImportEventPayload.getContext().put(ITEM.value(), ItemUtil.mapToJson(updateAr.result()).encode());
             dataImportEventPayload.setEventType(DI_INVENTORY_ITEM_UPDATED.value());
             future.complete(dataImportEventPayload);
@@ -7,6 +7,7 @@ import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
 import org.folio.inventory.common.api.request.PagingParameters;
 import org.folio.inventory.common.domain.MultipleRecords;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.domain.SearchableCollection;
 import org.folio.processing.exceptions.MatchingException;
 import org.folio.processing.matching.loader.LoadResult;
@@ -24,9 +25,20 @@ public abstract class AbstractLoader<T> implements MatchValueLoader {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractLoader.class);
 
   private Vertx vertx;
+  private MatchResultCache matchResultCache;
 
   public AbstractLoader(Vertx vertx) {
+    this(vertx, null);
+  }
+
+  /**
+   * Loads on the Vert.x context the load is requested on, which is that of
+   * the verticle instance handling the event, rather than the one the loader
+   * is created on
+   */
+  public AbstractLoader(Vertx vertx, MatchResultCache matchResultCache) {
     this.vertx = vertx;
+    this.matchResultCache = matchResultCache;
   }
 
   @Override
@@ -42,6 +54,14 @@ public abstract class AbstractLoader<T> implements MatchValueLoader {
     vertx.runOnContext(v -> {
       try {
         String cql = loadQuery.getCql() + addCqlSubMatchCondition(eventPayload);
+        MatchResultCache.Lookup lookup = matchResultCache != null
+          ? matchResultCache.lookUp(eventPayload, getEntityType(), cql)
+          : null;
+        LoadResult cachedResult = lookup != null ? lookup.cachedResult() : null;
+        if (cachedResult != null) {
+          future.complete(cachedResult);
+          return;
+        }
         getSearchableCollection(context).findByCql(cql, PagingParameters.defaults(),
           success -> {
             MultipleRecords<T> collection = success.getResult();
@@ -51,6 +71,10 @@ public abstract class AbstractLoader<T> implements MatchValueLoader {
               String errorMessage = "Found multiple records matching specified conditions";
               LOG.error(errorMessage);
               future.completeExceptionally(new MatchingException(errorMessage));
+              return;
+            }
+            if (lookup != null) {
+              lookup.put(loadResult);
             }
             future.complete(loadResult);
           },
@@ -6,6 +6,7 @@ import io.vertx.core.json.JsonObject;
 import org.folio.DataImportEventPayload;
 import org.folio.HoldingsRecord;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.domain.SearchableCollection;
 import org.folio.inventory.storage.Storage;
 import org.folio.rest.jaxrs.model.EntityType;
@@ -21,7 +22,11 @@ public class HoldingLoader extends AbstractLoader<HoldingsRecord> {
   private Storage storage;
 
   public HoldingLoader(Storage storage, Vertx vertx) {
-    super(vertx);
+    this(storage, vertx, null);
+  }
+
+  public HoldingLoader(Storage storage, Vertx vertx, MatchResultCache matchResultCache) {
+    super(vertx, matchResultCache);
     this.storage = storage;
   }
 
@@ -5,6 +5,7 @@ import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.domain.SearchableCollection;
 import org.folio.inventory.domain.instances.Instance;
 import org.folio.inventory.storage.Storage;
@@ -19,7 +20,11 @@ public class InstanceLoader extends AbstractLoader<Instance> {
   private Storage storage;
 
   public InstanceLoader(Storage storage, Vertx vertx) {
-    super(vertx);
+    this(storage, vertx, null);
+  }
+
+  public InstanceLoader(Storage storage, Vertx vertx, MatchResultCache matchResultCache) {
+    super(vertx, matchResultCache);
     this.storage = storage;
   }
 
@@ -4,6 +4,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import org.folio.DataImportEventPayload;
 import org.folio.inventory.common.Context;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
 import org.folio.inventory.domain.SearchableCollection;
 import org.folio.inventory.domain.items.Item;
 import org.folio.inventory.storage.Storage;
@@ -21,7 +22,11 @@ public class ItemLoader extends AbstractLoader<Item> {
   private Storage storage;
 
   public ItemLoader(Storage storage, Vertx vertx) {
-    super(vertx);
+    this(storage, vertx, null);
+  }
+
+  public ItemLoader(Storage storage, Vertx vertx, MatchResultCache matchResultCache) {
+    super(vertx, matchResultCache);
     this.storage = storage;
   }
 
@@ -0,0 +1,51 @@
+package org.folio.inventory.dataimport.util;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import org.folio.rest.tools.utils.ObjectMapperTool;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes event payloads compressed by {@link org.folio.processing.events.utils.ZIPArchiver}
+ * straight from the received request body into the target type.
+ *
+ * The body is base64 decoded, decompressed and parsed as one stream, so
+ * neither the compressed nor the decompressed text is ever held as a String
+ * and no intermediate JsonObject is built.
+ */
+public final class CompressedPayloadDecoder {
+  private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+  private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
+  private CompressedPayloadDecoder() {
+  }
+
+  public static <T> T decode(Buffer compressedPayload, Class<T> type) throws IOException {
+    try (InputStream decompressed = decompress(compressedPayload)) {
+      return ObjectMapperTool.getMapper().readValue(decompressed, type);
+    }
+  }
+
+  private static InputStream decompress(Buffer compressedPayload) throws IOException {
+    InputStream compressed = new BufferedInputStream(Base64.getDecoder()
+      .wrap(new ByteBufInputStream(compressedPayload.getByteBuf())));
+
+    return isGzip(compressed)
+      ? new GZIPInputStream(compressed)
+      : new InflaterInputStream(compressed);
+  }
+
+  private static boolean isGzip(InputStream compressed) throws IOException {
+    compressed.mark(2);
+    boolean gzip = compressed.read() == GZIP_MAGIC_FIRST_BYTE
+      && compressed.read() == GZIP_MAGIC_SECOND_BYTE;
+    compressed.reset();
+    return gzip;
+  }
+}
@@ -0,0 +1,182 @@
+package org.folio.inventory.domain.ingest;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.folio.inventory.common.Context;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the records of an ingest job to the ingest processor in fixed size
+ * chunks, reading the next chunk from the source only while fewer than the
+ * maximum number of chunks are waiting to be processed.
+ *
+ * Records are read on a worker thread, all other state is only touched on
+ * the context the sending was started from.
+ *
+ * A chunk the processor fails, or does not reply to in time, is not sent
+ * again, its records are counted as not processed.
+ */
+public class ChunkedIngestSender {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String CHUNK_SIZE_PROPERTY = "org.folio.inventory.ingest.chunk.size";
+  public static final String CHUNKS_IN_FLIGHT_PROPERTY = "org.folio.inventory.ingest.chunks.in-flight";
+  public static final String CHUNK_TIMEOUT_SECONDS_PROPERTY = "org.folio.inventory.ingest.chunk.timeout.seconds";
+
+  private static final int DEFAULT_CHUNK_SIZE = 500;
+  private static final int DEFAULT_CHUNKS_IN_FLIGHT = 2;
+  private static final long DEFAULT_CHUNK_TIMEOUT_SECONDS = 300;
+
+  private final Vertx vertx;
+  private final int chunkSize;
+  private final int maximumChunksInFlight;
+  private final long chunkTimeoutMilliseconds;
+
+  public ChunkedIngestSender(
+    Vertx vertx,
+    int chunkSize,
+    int maximumChunksInFlight,
+    long chunkTimeoutMilliseconds) {
+
+    this.vertx = vertx;
+    this.chunkSize = chunkSize;
+    this.maximumChunksInFlight = maximumChunksInFlight;
+    this.chunkTimeoutMilliseconds = chunkTimeoutMilliseconds;
+  }
+
+  public static ChunkedIngestSender fromSystemProperties(Vertx vertx) {
+    return new ChunkedIngestSender(vertx,
+      Integer.getInteger(CHUNK_SIZE_PROPERTY, DEFAULT_CHUNK_SIZE),
+      Integer.getInteger(CHUNKS_IN_FLIGHT_PROPERTY, DEFAULT_CHUNKS_IN_FLIGHT),
+      TimeUnit.SECONDS.toMillis(
+        Long.getLong(CHUNK_TIMEOUT_SECONDS_PROPERTY, DEFAULT_CHUNK_TIMEOUT_SECONDS)));
+  }
+
+  /**
+   * Sends all of the records from the source
+   *
+   * @return future completed with the number of records not processed once
+   * every chunk has been replied to, failed when the source could not be read
+   */
+  public Future<Integer> send(
+    IngestRecordSource source,
+    JsonObject referenceData,
+    String jobId,
+    Context context) {
+
+    Future<Integer> sent = Future.future();
+
+    new Transfer(source, referenceData, jobId, context, sent).readNextChunk();
+
+    return sent;
+  }
+
+  private class Transfer {
+    private final IngestRecordSource source;
+    private final JsonObject referenceData;
+    private final String jobId;
+    private final Context context;
+    private final Future<Integer> sent;
+
+    private int chunksInFlight = 0;
+    private int recordsNotProcessed = 0;
+    private boolean reading = false;
+    private boolean sourceExhausted = false;
+    private Throwable readFailure;
+
+    Transfer(
+      IngestRecordSource source,
+      JsonObject referenceData,
+      String jobId,
+      Context context,
+      Future<Integer> sent) {
+
+      this.source = source;
+      this.referenceData = referenceData;
+      this.jobId = jobId;
+      this.context = context;
+      this.sent = sent;
+    }
+
+    void readNextChunk() {
+      if (reading || sourceExhausted || chunksInFlight >= maximumChunksInFlight) {
+        return;
+      }
+
+      reading = true;
+
+      vertx.<List<JsonObject>>executeBlocking(
+        read -> {
+          try {
+            read.complete(source.read(chunkSize));
+          } catch (Exception e) {
+            read.fail(e);
+          }
+        },
+        true,
+        read -> {
+          reading = false;
+
+          if (read.failed()) {
+            log.error(String.format("Reading records for ingest job %s failed", jobId),
+              read.cause());
+
+            readFailure = read.cause();
+            sourceExhausted = true;
+          }
+          else if (read.result().isEmpty()) {
+            sourceExhausted = true;
+          }
+          else {
+            sendChunk(read.result());
+            readNextChunk();
+          }
+
+          completeWhenAllChunksProcessed();
+        });
+    }
+
+    private void sendChunk(List<JsonObject> records) {
+      chunksInFlight++;
+
+      IngestMessages.start(records, referenceData, jobId, context)
+        .send(vertx.eventBus(), chunkTimeoutMilliseconds,
+          reply -> chunkProcessed(records.size(), reply));
+    }
+
+    private void chunkProcessed(int records, AsyncResult<Message<JsonObject>> reply) {
+      chunksInFlight--;
+
+      if (reply.failed()) {
+        log.error(String.format("Processing %s records for ingest job %s failed: %s",
+          records, jobId, reply.cause().getMessage()));
+
+        recordsNotProcessed += records;
+      }
+
+      readNextChunk();
+      completeWhenAllChunksProcessed();
+    }
+
+    private void completeWhenAllChunksProcessed() {
+      if (!sourceExhausted || reading || chunksInFlight > 0 || sent.isComplete()) {
+        return;
+      }
+
+      if (readFailure != null) {
+        sent.fail(readFailure);
+      }
+      else {
+        sent.complete(recordsNotProcessed);
+      }
+    }
+  }
+}
@@ -1,9 +1,22 @@
 package org.folio.inventory.domain.ingest;
 
+import org.folio.inventory.common.domain.Failure;
+import org.folio.inventory.common.domain.Success;
 import org.folio.inventory.domain.AsynchronousCollection;
 import org.folio.inventory.resources.ingest.IngestJob;
 
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
 public interface IngestJobCollection
   extends AsynchronousCollection<IngestJob> {
 
+  /**
+   * Replaces the job with the result of applying the change to it, without
+   * losing changes made to the same job at the same time
+   */
+  void change(String id,
+              UnaryOperator<IngestJob> change,
+              Consumer<Success<IngestJob>> resultCallback,
+              Consumer<Failure> failureCallback);
 }
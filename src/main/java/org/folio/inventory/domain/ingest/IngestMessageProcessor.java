@@ -2,10 +2,11 @@ package org.folio.inventory.domain.ingest;
 
 import java.lang.invoke.MethodHandles;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.StringUtils;
-import org.folio.inventory.common.CollectAll;
 import org.folio.inventory.common.MessagingContext;
 import org.folio.inventory.domain.*;
 import org.folio.inventory.domain.instances.Contributor;
@@ -17,11 +18,9 @@ import org.folio.inventory.domain.items.ItemCollection;
 import org.folio.inventory.domain.items.ItemStatusName;
 import org.folio.inventory.domain.items.Status;
 import org.folio.inventory.resources.ingest.IngestJob;
-import org.folio.inventory.resources.ingest.IngestJobState;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.support.JsonArrayHelper;
 
-import io.vertx.core.Handler;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
@@ -31,33 +30,57 @@ import io.vertx.core.logging.LoggerFactory;
 public class IngestMessageProcessor {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+  public static final String BATCH_SIZE_PROPERTY = "org.folio.inventory.ingest.batch.size";
+  public static final String BATCHES_IN_FLIGHT_PROPERTY = "org.folio.inventory.ingest.batches.in-flight";
+
+  private static final int DEFAULT_BATCH_SIZE = 100;
+  private static final int DEFAULT_BATCHES_IN_FLIGHT = 4;
+
   private static final String TITLE_PROPERTY = "title";
+  private static final String SOURCE_PROPERTY = "source";
+  private static final String DEFAULT_SOURCE = "Local: MODS";
   private final Storage storage;
+  private final int batchSize;
+  private final int maximumBatchesInFlight;
 
   public IngestMessageProcessor(final Storage storage) {
+    this(storage,
+      Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE),
+      Integer.getInteger(BATCHES_IN_FLIGHT_PROPERTY, DEFAULT_BATCHES_IN_FLIGHT));
+  }
+
+  public IngestMessageProcessor(
+    final Storage storage,
+    int batchSize,
+    int maximumBatchesInFlight) {
+
     this.storage = storage;
+    this.batchSize = batchSize;
+    this.maximumBatchesInFlight = maximumBatchesInFlight;
   }
 
   public void register(EventBus eventBus) {
-    eventBus.consumer(Messages.START_INGEST.Address, recordsMessageHandler(eventBus));
+    eventBus.consumer(Messages.START_INGEST.Address, this::processRecordsMessage);
     eventBus.consumer(Messages.INGEST_COMPLETED.Address, this::markIngestCompleted);
+    eventBus.consumer(Messages.INGEST_FAILED.Address, this::markIngestFailed);
   }
 
-  private Handler<Message<JsonObject>> recordsMessageHandler(EventBus eventBus) {
-    return message -> processRecordsMessage(message, eventBus);
-  }
-
-  private void processRecordsMessage(Message<JsonObject> message, final EventBus eventBus) {
-    final CollectAll<Item> allItems = new CollectAll<>();
-    final CollectAll<Instance> allInstances = new CollectAll<>();
-    final CollectAll<Holding> allHoldings = new CollectAll<>();
-
+  private void processRecordsMessage(Message<JsonObject> message) {
     final MessagingContext context = new MessagingContext(message.headers());
     final JsonObject body = message.body();
 
-    IngestMessages.completed(context.getJobId(), context).send(eventBus);
+    final List<IngestRecord> records = JsonArrayHelper.toList(body.getJsonArray("records"))
+      .stream()
+      .map(IngestRecord::new)
+      .collect(Collectors.toList());
+
+    final Map<String, IngestRecord> recordsByInstanceId = new HashMap<>();
+    final Map<String, IngestRecord> recordsByHoldingId = new HashMap<>();
 
-    final List<JsonObject> records = JsonArrayHelper.toList(body.getJsonArray("records"));
+    records.forEach(record -> {
+      recordsByInstanceId.put(record.instanceId, record);
+      recordsByHoldingId.put(record.holdingId, record);
+    });
 
     final JsonObject materialTypes = body.getJsonObject("materialTypes");
     final JsonObject loanTypes = body.getJsonObject("loanTypes");
@@ -70,100 +93,210 @@ public class IngestMessageProcessor {
     final ItemCollection itemCollection = storage.getItemCollection(context);
     final HoldingCollection holdingCollection = storage.getHoldingCollection(context);
 
-    records.stream()
-      .map(record -> {
+    final List<Instance> instances = records.stream()
+      .map(record -> toInstance(record, instanceTypes, identifierTypes, contributorNameTypes))
+      .collect(Collectors.toList());
+
+    final JsonObject summary = new JsonObject()
+      .put("records", records.size());
 
-        List<JsonObject> identifiersJson = JsonArrayHelper.toList(
-          record.getJsonArray("identifiers"));
+    changeJob(context, job -> job.inProgress().recordsReceived(records.size()),
+      job -> { });
 
-        List<Identifier> identifiers = identifiersJson.stream()
-          .map(identifier -> new Identifier(
-            identifierTypes.getString("ISBN"),
-            identifier.getString("value")))
+    new IngestStage<Instance>("instances", batchSize, maximumBatchesInFlight)
+      .run(instances, batch -> addInstances(instanceCollection, batch))
+      .thenCompose(createdInstances -> {
+        summarise(summary, "instances", createdInstances);
+
+        List<Holding> holdings = createdInstances.created.stream()
+          .map(instance -> recordsByInstanceId.get(instance.getId()))
+          .filter(Objects::nonNull)
+          .map(record -> new Holding(record.holdingId, record.instanceId,
+            locations.getString("Main Library")))
           .collect(Collectors.toList());
 
-        List<JsonObject> contributorsJson = JsonArrayHelper.toList(
-          record.getJsonArray("contributors"));
+        return new IngestStage<Holding>("holdings", batchSize, maximumBatchesInFlight)
+          .run(holdings, batch -> addEach(holdingCollection, batch, "Holding"));
+      })
+      .thenCompose(createdHoldings -> {
+        summarise(summary, "holdings", createdHoldings);
 
-        List<Contributor> contributors = contributorsJson.stream()
-          .map(contributor -> new Contributor(
-            contributorNameTypes.getString("Personal name"),
-            contributor.getString("name"), "", "", null))
+        List<Item> items = createdHoldings.created.stream()
+          .map(holding -> recordsByHoldingId.get(holding.id))
+          .filter(Objects::nonNull)
+          .map(record -> toItem(record, materialTypes, loanTypes))
           .collect(Collectors.toList());
 
-        if(contributors.isEmpty()) {
-          contributors.add(new Contributor(
-            contributorNameTypes.getString("Personal name"),
-            "Unknown contributor", "", "", null));
-        }
+        return new IngestStage<Item>("items", batchSize, maximumBatchesInFlight)
+          .run(items, batch -> addEach(itemCollection, batch, "Item"));
+      })
+      .thenAccept(createdItems -> {
+        summarise(summary, "items", createdItems);
+
+        log.info(String.format("Ingest job %s: processed %s",
+          context.getJobId(), summary.encode()));
 
-        return new Instance(
-                UUID.randomUUID().toString(),
-                null,
-                "Local: MODS",
-                record.getString(TITLE_PROPERTY),
-                instanceTypes.getString("text"))
-                .setIdentifiers(identifiers)
-                .setContributors(contributors);
+        changeJob(context, job -> job.recordsProcessed(
+          summary.getInteger("instances"), summary.getInteger("holdings"),
+          summary.getInteger("items"), summary.getInteger("failures")),
+          job -> { });
+
+        message.reply(summary);
       })
-      .forEach(instance -> instanceCollection.add(instance, allInstances.receive(),
-        failure -> log.error("Instance processing failed: " + failure.getReason())));
+      .exceptionally(e -> {
+        log.error(String.format("Ingest job %s: processing records failed",
+          context.getJobId()), e);
 
-      allInstances.collect(instances -> {
-        instances.stream().map(instance ->
-          new Holding(UUID.randomUUID().toString(), instance.getId(),
-            locations.getString("Main Library")))
-          .forEach(holding -> holdingCollection.add(holding, allHoldings.receive(),
-            failure -> log.error("Holding processing failed: " + failure.getReason())));
-
-        allHoldings.collect(holdings ->
-          records.stream().map(record -> {
-            //Will fail if have multiple instances with exactly the same title
-            Optional<Instance> possibleInstance = instances.stream()
-              .filter(instance ->
-                StringUtils.equals(instance.getTitle(), record.getString(TITLE_PROPERTY)))
-              .findFirst();
-
-            String instanceId = possibleInstance.isPresent()
-              ? possibleInstance.get().getId()
-              : null;
-
-            Optional<Holding> possibleHolding = holdings.stream()
-              .filter(holding ->
-                StringUtils.equals(instanceId, holding.instanceId))
-              .findFirst();
-
-            String holdingId = possibleHolding.isPresent()
-              ? possibleHolding.get().id
-              : null;
-
-            return new Item(null,
-              holdingId,
-              new Status(ItemStatusName.AVAILABLE),
-              materialTypes.getString("Book") != null
-                ? materialTypes.getString("Book")
-                : materialTypes.getString("book"),
-              loanTypes.getString("Can Circulate") != null
-                ? loanTypes.getString("Can Circulate")
-                : loanTypes.getString("Can circulate"),
-               null)
-                    .withBarcode(record.getString("barcode"));
-        })
-        .forEach(item -> itemCollection.add(item, allItems.receive(),
-          failure -> log.error("Item processing failed: " + failure.getReason()))));
+        // The sender counts the records of a failed chunk as not processed
+        message.fail(500, e.getMessage());
+        return null;
+      });
+  }
+
+  private CompletableFuture<List<Instance>> addInstances(
+    InstanceCollection instanceCollection,
+    List<Instance> batch) {
+
+    CompletableFuture<List<Instance>> added = new CompletableFuture<>();
+
+    instanceCollection.addBatch(batch,
+      success -> {
+        BatchResult<Instance> result = success.getResult();
+
+        if (result.getErrorMessages() != null) {
+          result.getErrorMessages().forEach(error ->
+            log.error(String.format("Instance processing failed: %s", error)));
+        }
+
+        added.complete(result.getBatchItems());
+      },
+      failure -> {
+        log.error(String.format("Instance processing failed: %s", failure.getReason()));
+        added.complete(Collections.emptyList());
       });
 
+    return added;
+  }
+
+  /**
+   * Adds each record of the batch individually, as storage only offers
+   * batch creation for instances
+   */
+  private <T> CompletableFuture<List<T>> addEach(
+    AsynchronousCollection<T> collection,
+    List<T> batch,
+    String recordType) {
+
+    List<CompletableFuture<T>> adds = batch.stream()
+      .map(record -> collection.add(record)
+        .exceptionally(e -> {
+          log.error(String.format("%s processing failed: %s", recordType, e.getMessage()));
+          return null;
+        }))
+      .collect(Collectors.toList());
+
+    return CompletableFuture.allOf(adds.toArray(new CompletableFuture<?>[] { }))
+      .thenApply(v -> adds.stream()
+        .map(CompletableFuture::join)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList()));
+  }
+
+  private static void summarise(
+    JsonObject summary,
+    String recordType,
+    IngestStage.Result<?> result) {
 
-    allItems.collect(items ->
-      IngestMessages.completed(context.getJobId(), context).send(eventBus));
+    summary.put(recordType, result.created.size());
+    summary.put("failures", summary.getInteger("failures", 0) + result.failed);
+    summary.put(recordType + "PerSecond", result.perSecond());
+  }
+
+  private Instance toInstance(
+    IngestRecord record,
+    JsonObject instanceTypes,
+    JsonObject identifierTypes,
+    JsonObject contributorNameTypes) {
+
+    List<JsonObject> identifiersJson = JsonArrayHelper.toList(
+      record.parsedRecord.getJsonArray("identifiers"));
+
+    List<Identifier> identifiers = identifiersJson.stream()
+      .map(identifier -> new Identifier(
+        identifierTypes.getString("ISBN"),
+        identifier.getString("value")))
+      .collect(Collectors.toList());
+
+    List<JsonObject> contributorsJson = JsonArrayHelper.toList(
+      record.parsedRecord.getJsonArray("contributors"));
+
+    List<Contributor> contributors = contributorsJson.stream()
+      .map(contributor -> new Contributor(
+        contributorNameTypes.getString("Personal name"),
+        contributor.getString("name"), "", "", null))
+      .collect(Collectors.toList());
+
+    if(contributors.isEmpty()) {
+      contributors.add(new Contributor(
+        contributorNameTypes.getString("Personal name"),
+        "Unknown contributor", "", "", null));
+    }
+
+    return new Instance(
+            record.instanceId,
+            null,
+            record.parsedRecord.getString(SOURCE_PROPERTY, DEFAULT_SOURCE),
+            record.parsedRecord.getString(TITLE_PROPERTY),
+            instanceTypes.getString("text"))
+            .setIdentifiers(identifiers)
+            .setContributors(contributors);
+  }
+
+  private Item toItem(
+    IngestRecord record,
+    JsonObject materialTypes,
+    JsonObject loanTypes) {
+
+    return new Item(null,
+      record.holdingId,
+      new Status(ItemStatusName.AVAILABLE),
+      materialTypes.getString("Book") != null
+        ? materialTypes.getString("Book")
+        : materialTypes.getString("book"),
+      loanTypes.getString("Can Circulate") != null
+        ? loanTypes.getString("Can Circulate")
+        : loanTypes.getString("Can circulate"),
+       null)
+            .withBarcode(record.parsedRecord.getString("barcode"));
   }
 
   private void markIngestCompleted(Message<JsonObject> message) {
     final MessagingContext context = new MessagingContext(message.headers());
+    final int recordsNotProcessed = message.body().getInteger("recordsNotProcessed", 0);
+
+    changeJob(context, job -> job.recordsProcessed(0, 0, 0, recordsNotProcessed).complete(),
+      job -> log.info(String.format(
+        "Ingest job %s completed: %d records received, %d instances, %d holdings and %d items created, %d failures in %d ms",
+        job.id, job.recordsReceived, job.instancesCreated, job.holdingsCreated,
+        job.itemsCreated, job.failures, job.elapsedMilliseconds())));
+  }
+
+  private void markIngestFailed(Message<JsonObject> message) {
+    final MessagingContext context = new MessagingContext(message.headers());
+
+    changeJob(context, IngestJob::fail, job -> log.error(String.format(
+      "Ingest job %s failed after %d records received, %d instances, %d holdings and %d items created, %d failures: %s",
+      job.id, job.recordsReceived, job.instancesCreated, job.holdingsCreated,
+      job.itemsCreated, job.failures, message.body().getString("reason"))));
+  }
+
+  private void changeJob(
+    MessagingContext context,
+    UnaryOperator<IngestJob> change,
+    Consumer<IngestJob> onChanged) {
 
-    storage.getIngestJobCollection(context).update(
-      new IngestJob(context.getJobId(), IngestJobState.COMPLETED),
-      v -> log.info(String.format("Ingest job %s completed", context.getJobId())),
+    storage.getIngestJobCollection(context).change(context.getJobId(), change,
+      success -> onChanged.accept(success.getResult()),
       failure -> log.error(
         String.format("Updating ingest job failed: %s", failure.getReason())));
   }
@@ -11,31 +11,48 @@ import java.util.List;
 import java.util.Map;
 
 public class IngestMessages {
-  public static JsonMessage start(
-    List<JsonObject> records,
+  public static JsonObject referenceData(
     Map materialTypes,
     Map loanTypes,
     Map locations,
     Map identifierTypes,
     Map instanceTypes,
-    Map contributorNameTypes,
+    Map contributorNameTypes) {
+
+    return new JsonObject()
+      .put("materialTypes", materialTypes)
+      .put("loanTypes", loanTypes)
+      .put("locations", locations)
+      .put("identifierTypes", identifierTypes)
+      .put("instanceTypes", instanceTypes)
+      .put("contributorNameTypes", contributorNameTypes);
+  }
+
+  public static JsonMessage start(
+    List<JsonObject> records,
+    JsonObject referenceData,
     String jobId,
     Context context) {
 
     return new JsonMessage(Messages.START_INGEST.Address, headers(jobId, context),
-      new JsonObject()
-        .put("records", records)
-        .put("materialTypes", materialTypes)
-        .put("loanTypes", loanTypes)
-        .put("locations", locations)
-        .put("identifierTypes", identifierTypes)
-        .put("instanceTypes", instanceTypes)
-        .put("contributorNameTypes", contributorNameTypes));
+      referenceData.copy()
+        .put("records", records));
   }
 
-  public static JsonMessage completed(String jobId, Context context) {
+  public static JsonMessage completed(
+    String jobId,
+    int recordsNotProcessed,
+    Context context) {
+
     return new JsonMessage(Messages.INGEST_COMPLETED.Address,
-      headers(jobId, context), new JsonObject());
+      headers(jobId, context), new JsonObject()
+        .put("recordsNotProcessed", recordsNotProcessed));
+  }
+
+  public static JsonMessage failed(String jobId, String reason, Context context) {
+    return new JsonMessage(Messages.INGEST_FAILED.Address,
+      headers(jobId, context), new JsonObject()
+        .put("reason", reason));
   }
 
   private static Map<String, String> headers(String jobId, Context context) {
@@ -0,0 +1,24 @@
+package org.folio.inventory.domain.ingest;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.UUID;
+
+/**
+ * A parsed record being ingested, together with the ids of the instance and
+ * holding created from it.
+ *
+ * The ids are assigned before anything is created, so that what is created
+ * in each stage can be related back to the record it came from by id.
+ */
+class IngestRecord {
+  final JsonObject parsedRecord;
+  final String instanceId;
+  final String holdingId;
+
+  IngestRecord(JsonObject parsedRecord) {
+    this.parsedRecord = parsedRecord;
+    this.instanceId = UUID.randomUUID().toString();
+    this.holdingId = UUID.randomUUID().toString();
+  }
+}
@@ -0,0 +1,18 @@
+package org.folio.inventory.domain.ingest;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+
+/**
+ * Source of the records to be ingested, read a chunk at a time
+ */
+@FunctionalInterface
+public interface IngestRecordSource {
+  /**
+   * Reads the next records, may block
+   *
+   * @return up to maximumRecords records, an empty list once all records have been read
+   */
+  List<JsonObject> read(int maximumRecords) throws Exception;
+}
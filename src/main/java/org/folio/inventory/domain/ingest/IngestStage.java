@@ -0,0 +1,164 @@
+package org.folio.inventory.domain.ingest;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.folio.inventory.support.flightrecorder.FlightRecorderEvents;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * One stage of the ingest pipeline, writing records to storage in batches
+ * of a fixed size with no more than a fixed number of batches being written
+ * at the same time.
+ *
+ * A batch that cannot be written is not retried, the records missing from
+ * the result of a batch are counted as failed.
+ */
+class IngestStage<T> {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String name;
+  private final int batchSize;
+  private final int maximumBatchesInFlight;
+
+  IngestStage(String name, int batchSize, int maximumBatchesInFlight) {
+    this.name = name;
+    this.batchSize = batchSize;
+    this.maximumBatchesInFlight = maximumBatchesInFlight;
+  }
+
+  /**
+   * Writes all of the records
+   *
+   * @param writeBatch writes a batch of records, completing with the records created
+   * @return future completed once every batch has been written
+   */
+  CompletableFuture<Result<T>> run(
+    List<T> records,
+    Function<List<T>, CompletableFuture<List<T>>> writeBatch) {
+
+    return new Run(records, writeBatch).start();
+  }
+
+  static class Result<T> {
+    final List<T> created;
+    final int failed;
+    final long elapsedMilliseconds;
+
+    Result(List<T> created, int failed, long elapsedMilliseconds) {
+      this.created = created;
+      this.failed = failed;
+      this.elapsedMilliseconds = elapsedMilliseconds;
+    }
+
+    double perSecond() {
+      return elapsedMilliseconds > 0
+        ? created.size() * 1000.0 / elapsedMilliseconds
+        : created.size();
+    }
+  }
+
+  private class Run {
+    private final List<T> records;
+    private final Function<List<T>, CompletableFuture<List<T>>> writeBatch;
+    private final CompletableFuture<Result<T>> completed = new CompletableFuture<>();
+    private final List<T> created = new ArrayList<>();
+    private final long startedAt = System.currentTimeMillis();
+
+    private int nextBatchStart = 0;
+    private int batchesInFlight = 0;
+    private int failed = 0;
+    private boolean finished = false;
+
+    Run(List<T> records, Function<List<T>, CompletableFuture<List<T>>> writeBatch) {
+      this.records = records;
+      this.writeBatch = writeBatch;
+    }
+
+    CompletableFuture<Result<T>> start() {
+      writeNextBatches();
+
+      return completed;
+    }
+
+    private void writeNextBatches() {
+      List<List<T>> batchesToWrite = new ArrayList<>();
+      boolean allWritten;
+
+      synchronized (this) {
+        while (batchesInFlight < maximumBatchesInFlight && nextBatchStart < records.size()) {
+          int batchEnd = Math.min(nextBatchStart + batchSize, records.size());
+
+          batchesToWrite.add(records.subList(nextBatchStart, batchEnd));
+          nextBatchStart = batchEnd;
+          batchesInFlight++;
+        }
+
+        allWritten = !finished && batchesInFlight == 0 && nextBatchStart >= records.size();
+
+        if (allWritten) {
+          finished = true;
+        }
+      }
+
+      if (allWritten) {
+        complete();
+        return;
+      }
+
+      batchesToWrite.forEach(this::write);
+    }
+
+    private void write(List<T> batch) {
+      FlightRecorderEvents.IngestBatch event = FlightRecorderEvents.ingestBatch(name, batch.size());
+      CompletableFuture<List<T>> written;
+
+      try {
+        written = writeBatch.apply(batch);
+      } catch (Exception e) {
+        written = new CompletableFuture<>();
+        written.completeExceptionally(e);
+      }
+
+      written.whenComplete((createdInBatch, error) -> {
+        if (error != null) {
+          log.error(String.format("Writing a batch of %s failed", name), error);
+        }
+
+        int createdCount = createdInBatch != null ? createdInBatch.size() : 0;
+
+        event.end(createdCount);
+
+        synchronized (this) {
+          if (createdInBatch != null) {
+            created.addAll(createdInBatch);
+          }
+
+          failed += batch.size() - createdCount;
+          batchesInFlight--;
+        }
+
+        writeNextBatches();
+      });
+    }
+
+    private void complete() {
+      Result<T> result;
+
+      synchronized (this) {
+        result = new Result<>(new ArrayList<>(created), failed,
+          System.currentTimeMillis() - startedAt);
+      }
+
+      log.info(String.format("Created %d %s (%d failed) in %d ms, %.1f per second",
+        result.created.size(), name, result.failed, result.elapsedMilliseconds,
+        result.perSecond()));
+
+      completed.complete(result);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package org.folio.inventory.exceptions;
+
+public class InvalidMarcRecordException extends Exception {
+
+  public InvalidMarcRecordException() {
+    super();
+  }
+
+  public InvalidMarcRecordException(String message) {
+    super(message);
+  }
+}
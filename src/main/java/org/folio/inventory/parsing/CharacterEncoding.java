@@ -1,5 +1,11 @@
 package org.folio.inventory.parsing;
 
 public interface CharacterEncoding {
+  /**
+   * Decodes any encoded characters in the input
+   *
+   * @return the decoded text, which may be the input itself when it
+   * contains nothing to decode
+   */
   String decode(String input);
 }
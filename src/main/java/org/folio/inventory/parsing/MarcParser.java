@@ -6,12 +6,19 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.folio.inventory.exceptions.InvalidMarcJsonException;
+import org.folio.inventory.exceptions.InvalidMarcRecordException;
+import org.folio.inventory.parsing.config.CompiledMarcConfig;
+import org.folio.inventory.parsing.config.CompiledMarcConfig.FieldMapping;
+import org.folio.inventory.parsing.config.CompiledMarcConfig.InstanceField;
 import org.folio.inventory.parsing.config.MarcConfig;
 import org.folio.inventory.exceptions.InvalidMarcConfigException;
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class MarcParser {
 
@@ -19,143 +26,155 @@ public class MarcParser {
   private static final String SUBFIELDS = "subfields";
   private static final String VALUE = "value";
   private static final String TYPE = "type";
-  private static final String NAME = "name";
-  private static final String MARC_FIELDS = "marc-fields";
-  private static final String INSTANCE_FIELDS = "instance-fields";
-  private static final String IDENTIFIER_TYPES = "identifier-types";
-  private static final String SUBFIELD_NAME = "subfield-name";
-  private static final String REQUIRED = "required";
-  private static final String REPEATABLE = "repeatable";
   private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
-  private MarcConfig marcConfig;
+  private final CompiledMarcConfig marcConfig;
 
   public MarcParser() throws IOException, InvalidMarcConfigException {
-    marcConfig = new MarcConfig();
+    marcConfig = new MarcConfig().getCompiled();
   }
 
   public MarcParser(String configPath) throws IOException, InvalidMarcConfigException {
-    marcConfig = new MarcConfig(configPath);
+    marcConfig = new MarcConfig(configPath).getCompiled();
   }
 
   public JsonObject marcJson2FolioJson(JsonObject inputMarc) throws InvalidMarcJsonException {
     validate(inputMarc);
-    Map<String,JsonObject> instanceMap = extractFolioEntriesFromMarcFields(inputMarc.getJsonArray(FIELDS));
-    return parse(instanceMap);
+    return convert(inputMarc.getJsonArray(FIELDS));
   }
 
-  private Map<String,JsonObject> extractFolioEntriesFromMarcFields(JsonArray marcFieldsInput) {
-    Map<String, JsonObject> instanceMap = createConfiguredInitializedInstanceMap();
-    return mapMarcFieldsToInstanceMap(marcFieldsInput, instanceMap);
+  /**
+   * Converts many records at once, in parallel using the common fork join pool
+   *
+   * As this occupies the calling thread until every record is converted,
+   * it should not be called on an event loop thread
+   *
+   * @return converted records, in the same order as the input records
+   * @throws InvalidMarcJsonException if any of the records is invalid, in
+   * which case none are converted
+   */
+  public List<JsonObject> marcJson2FolioJson(List<JsonObject> inputMarcs)
+    throws InvalidMarcJsonException {
+
+    for (JsonObject inputMarc : inputMarcs) {
+      validate(inputMarc);
+    }
+
+    return inputMarcs.parallelStream()
+      .map(inputMarc -> convert(inputMarc.getJsonArray(FIELDS)))
+      .collect(Collectors.toList());
   }
 
-  private Map<String,JsonObject> createConfiguredInitializedInstanceMap() {
-    Map<String, JsonObject> instanceMap = new LinkedHashMap<>();
-    JsonArray configuredInstanceFields = marcConfig.getConfig().getJsonArray(INSTANCE_FIELDS);
-    for (Object o : configuredInstanceFields) {
-      if (!(o instanceof JsonObject)) {
-        continue;
-      }
-      JsonObject instanceFieldConfig = (JsonObject) o;
-      JsonObject data = new JsonObject();
-      data.put(REQUIRED, instanceFieldConfig.getBoolean(REQUIRED));
-      data.put(REPEATABLE, instanceFieldConfig.getBoolean(REPEATABLE));
-      if (instanceFieldConfig.containsKey(SUBFIELD_NAME)) {
-        data.put(SUBFIELD_NAME, instanceFieldConfig.getString(SUBFIELD_NAME));
+  /**
+   * Converts binary MARC 21 records as they are read, in batches which are
+   * each converted in parallel
+   *
+   * @param batches receives each batch of converted records, in the order
+   *                they were read
+   * @return number of records converted
+   */
+  public int marc21ToFolioJson(
+    MarcRecordReader reader,
+    int batchSize,
+    Consumer<List<JsonObject>> batches)
+    throws IOException, InvalidMarcRecordException, InvalidMarcJsonException {
+
+    int converted = 0;
+    List<JsonObject> batch = new ArrayList<>(batchSize);
+    JsonObject inputMarc;
+
+    while ((inputMarc = reader.next()) != null) {
+      batch.add(inputMarc);
+
+      if (batch.size() >= batchSize) {
+        batches.accept(marcJson2FolioJson(batch));
+        converted += batch.size();
+        batch = new ArrayList<>(batchSize);
       }
-      data.put(FIELDS, new JsonArray());
-      instanceMap.put(instanceFieldConfig.getString(NAME), data);
     }
-    return instanceMap;
+
+    if (!batch.isEmpty()) {
+      batches.accept(marcJson2FolioJson(batch));
+      converted += batch.size();
+    }
+    return converted;
   }
 
-  private Map<String,JsonObject> mapMarcFieldsToInstanceMap(JsonArray marcFieldsInput,
-                                                            Map<String,JsonObject> instanceMap) {
-    JsonObject marcFieldMapping = marcConfig.getConfig().getJsonObject(MARC_FIELDS);
+  private JsonObject convert(JsonArray marcFieldsInput) {
+    List<InstanceField> instanceFields = marcConfig.getInstanceFields();
+
+    JsonObject output = new JsonObject();
+    JsonArray[] repeatableValues = new JsonArray[instanceFields.size()];
+    boolean[] nonRepeatableFound = new boolean[instanceFields.size()];
+
+    for (InstanceField instanceField : instanceFields) {
+      if (instanceField.isRepeatable()) {
+        repeatableValues[instanceField.getIndex()] = new JsonArray();
+        output.put(instanceField.getName(), repeatableValues[instanceField.getIndex()]);
+      } else {
+        output.put(instanceField.getName(), "");
+      }
+    }
+
     for (Object o : marcFieldsInput) {
       if (!(o instanceof JsonObject)) {
         continue;
       }
-      JsonObject jo = (JsonObject) o;
-      String marcNum = jo.fieldNames().iterator().next();
-      if (marcFieldMapping.getString(marcNum) == null) {
-        LOGGER.debug(String.format("MARC field %s not found in config and ignored...", marcNum));
-      } else {
-        instanceMap.get(marcFieldMapping.getString(marcNum)).getJsonArray(FIELDS).add(jo);
+      JsonObject field = (JsonObject) o;
+      String marcNum = field.fieldNames().iterator().next();
+      FieldMapping mapping = marcConfig.mappingFor(marcNum);
+
+      if (mapping == null) {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(String.format("MARC field %s not found in config and ignored...", marcNum));
+        }
+        continue;
       }
-    }
-    return instanceMap;
-  }
 
-  private JsonObject parse(Map<String,JsonObject> instanceMap) {
-    JsonObject output = new JsonObject();
-    for (Map.Entry<String,JsonObject> entry : instanceMap.entrySet()) {
-      if (entry.getValue().getBoolean(REPEATABLE)) {
-        parseRepeatable(entry, output);
-      } else {
-        parseNonRepeatable(entry, output);
+      InstanceField instanceField = mapping.getInstanceField();
+
+      if (instanceField.isRepeatable()) {
+        repeatableValues[instanceField.getIndex()].add(
+          toRepeatableValue(marcNum, field, mapping));
+      } else if (!nonRepeatableFound[instanceField.getIndex()]) {
+        nonRepeatableFound[instanceField.getIndex()] = true;
+        output.put(instanceField.getName(), joinSubfields(field.getJsonObject(marcNum)));
       }
     }
     return output;
   }
 
-  private void parseRepeatable(Map.Entry<String, JsonObject> entry, JsonObject output) {
-    JsonArray fields = entry.getValue().getJsonArray(FIELDS);
-    JsonArray outputArray = new JsonArray();
-    for (Object obj : fields) {
-      if (obj instanceof JsonObject) {
-        JsonObject outputObject = new JsonObject();
-        List<String> subfields = new ArrayList<>();
-        JsonObject field = (JsonObject) obj;
-        String fieldName = field.fieldNames().iterator().next();
-        if (isControlNumber(fieldName, field)) {
-          outputObject.put(VALUE, field.getString(fieldName));
-          putTypeIfConfiguredAsIdentifierType(fieldName, outputObject);
-          outputArray.add(outputObject);
-          continue;
-        }
-        for (Object o : field.getJsonObject(fieldName).getJsonArray(SUBFIELDS)) {
-          if (!(o instanceof JsonObject)) {
-            continue;
-          }
-          JsonObject subfield = (JsonObject) o;
-          String subfieldName = subfield.fieldNames().iterator().next();
-          subfields.add(subfield.getString(subfieldName));
-        }
-        outputObject.put(VALUE, String.join(" ", subfields));
-        putTypeIfConfiguredAsIdentifierType(fieldName, outputObject);
-        outputArray.add(outputObject);
-      }
+  private JsonObject toRepeatableValue(String marcNum, JsonObject field, FieldMapping mapping) {
+    JsonObject outputObject = new JsonObject();
+
+    if (mapping.isControlField() && field.getValue(marcNum) instanceof String) {
+      outputObject.put(VALUE, field.getString(marcNum));
+    } else {
+      outputObject.put(VALUE, joinSubfields(field.getJsonObject(marcNum)));
     }
-    output.put(entry.getKey(), outputArray);
-  }
 
-  private void putTypeIfConfiguredAsIdentifierType(String fieldName, JsonObject outputObject) {
-    if (marcConfig.getConfig().getJsonObject(IDENTIFIER_TYPES).containsKey(fieldName)) {
-      outputObject.put(TYPE, marcConfig.getConfig().getJsonObject(IDENTIFIER_TYPES).getString(fieldName));
+    if (mapping.getIdentifierType() != null) {
+      outputObject.put(TYPE, mapping.getIdentifierType());
     }
+    return outputObject;
   }
 
-  private void parseNonRepeatable(Map.Entry<String, JsonObject> entry, JsonObject output) {
-    List<String> subfields = new ArrayList<>();
-    JsonArray fields = entry.getValue().getJsonArray(FIELDS);
-    if (!fields.isEmpty()) {
-      String fieldName = fields.getJsonObject(0).fieldNames().iterator().next();
-      for (Object o : fields.getJsonObject(0).getJsonObject(fieldName).getJsonArray(
-        (SUBFIELDS))) {
-        if (!(o instanceof JsonObject)) {
-          continue;
-        }
-        JsonObject subfield = (JsonObject) o;
-        String subfieldName = subfield.fieldNames().iterator().next();
-        subfields.add(subfield.getString(subfieldName));
+  private String joinSubfields(JsonObject field) {
+    StringBuilder joined = new StringBuilder();
+    boolean first = true;
+
+    for (Object o : field.getJsonArray(SUBFIELDS)) {
+      if (!(o instanceof JsonObject)) {
+        continue;
+      }
+      JsonObject subfield = (JsonObject) o;
+      String subfieldName = subfield.fieldNames().iterator().next();
+      if (!first) {
+        joined.append(' ');
       }
+      first = false;
+      joined.append(subfield.getString(subfieldName));
     }
-    output.put(entry.getKey(), String.join(" ", subfields));
-  }
-
-  private boolean isControlNumber(String marcNum, JsonObject jo) {
-    return (jo.getValue(marcNum).getClass() == String.class) &&
-      Integer.parseInt(marcNum) < 10;
+    return joined.toString();
   }
 
   private void validate(JsonObject marc) throws InvalidMarcJsonException {
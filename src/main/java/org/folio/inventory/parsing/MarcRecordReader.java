@@ -0,0 +1,331 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.exceptions.InvalidMarcRecordException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pull based reader of binary MARC 21 (ISO 2709) records, producing the
+ * MARC JSON representation that {@link MarcParser} converts.
+ *
+ * Records are decoded straight from a buffer, each record's directory is
+ * used to locate its fields rather than scanning for terminators. A file is
+ * memory mapped in windows, so only the part of the file around the record
+ * being read needs to be resident.
+ *
+ * Records with a character coding scheme of 'a' in the leader are decoded
+ * as UTF-8, MARC-8 is not supported and other records are decoded using
+ * the fallback character set.
+ */
+public class MarcRecordReader implements AutoCloseable {
+  private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+  private static final int LEADER_LENGTH = 24;
+  private static final int RECORD_LENGTH_DIGITS = 5;
+  private static final int MAXIMUM_RECORD_LENGTH = 99999;
+
+  private static final byte FIELD_TERMINATOR = 0x1E;
+  private static final byte RECORD_TERMINATOR = 0x1D;
+  private static final byte SUBFIELD_DELIMITER = 0x1F;
+
+  private static final String LEADER = "leader";
+  private static final String FIELDS = "fields";
+  private static final String SUBFIELDS = "subfields";
+  private static final String FIRST_INDICATOR = "ind1";
+  private static final String SECOND_INDICATOR = "ind2";
+
+  private final FileChannel channel;
+  private final long size;
+  private final int windowSize;
+  private final Charset fallbackCharset;
+
+  private ByteBuffer buffer;
+  private long bufferStart = 0;
+  private long position = 0;
+
+  //Reused for each record, as the length of a record is limited to 99999 bytes
+  private final byte[] record = new byte[MAXIMUM_RECORD_LENGTH];
+
+  /**
+   * Reads records from the remaining bytes of a buffer, leaving its
+   * position unchanged
+   */
+  public MarcRecordReader(ByteBuffer buffer, Charset fallbackCharset) {
+    this(null, buffer.slice(), buffer.remaining(), 0, fallbackCharset);
+  }
+
+  public MarcRecordReader(ByteBuffer buffer) {
+    this(buffer, StandardCharsets.ISO_8859_1);
+  }
+
+  MarcRecordReader(
+    FileChannel channel,
+    ByteBuffer buffer,
+    long size,
+    int windowSize,
+    Charset fallbackCharset) {
+
+    this.channel = channel;
+    this.buffer = buffer;
+    this.size = size;
+    this.windowSize = windowSize;
+    this.fallbackCharset = fallbackCharset;
+  }
+
+  /**
+   * Opens a file of records, which is memory mapped as it is read
+   */
+  public static MarcRecordReader open(Path path) throws IOException {
+    return open(path, DEFAULT_WINDOW_SIZE, StandardCharsets.ISO_8859_1);
+  }
+
+  static MarcRecordReader open(Path path, int windowSize, Charset fallbackCharset)
+    throws IOException {
+
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+    return new MarcRecordReader(channel, null, channel.size(),
+      Math.max(windowSize, MAXIMUM_RECORD_LENGTH), fallbackCharset);
+  }
+
+  /**
+   * Reads the next record
+   *
+   * @return the record as MARC JSON, or null when there are no more records
+   * @throws InvalidMarcRecordException when the record is malformed or
+   * truncated, reading cannot continue past it
+   */
+  public JsonObject next() throws IOException, InvalidMarcRecordException {
+    skipLineBreaks();
+
+    if (position >= size) {
+      return null;
+    }
+
+    if (size - position < LEADER_LENGTH) {
+      throw invalid("record is shorter than its leader");
+    }
+
+    ensureAvailable(RECORD_LENGTH_DIGITS);
+
+    int recordLength = parseNumber(relativePosition(), RECORD_LENGTH_DIGITS);
+
+    if (recordLength < LEADER_LENGTH) {
+      throw invalid("record length in leader is not valid");
+    }
+
+    if (recordLength > size - position) {
+      throw invalid("record is truncated");
+    }
+
+    ensureAvailable(recordLength);
+
+    ByteBuffer source = buffer.duplicate();
+    source.position(relativePosition());
+    source.get(record, 0, recordLength);
+
+    JsonObject parsed = parseRecord(recordLength);
+
+    position += recordLength;
+
+    return parsed;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+    }
+  }
+
+  private JsonObject parseRecord(int recordLength) throws InvalidMarcRecordException {
+    String leader = new String(record, 0, LEADER_LENGTH, StandardCharsets.US_ASCII);
+
+    Charset charset = record[9] == 'a' ? StandardCharsets.UTF_8 : fallbackCharset;
+
+    int indicatorCount = digitOrDefault(record[10], 2);
+    int baseAddress = parseNumber(record, 12, 5);
+    int lengthOfFieldLength = digitOrDefault(record[20], 4);
+    int lengthOfStartingPosition = digitOrDefault(record[21], 5);
+    int entryLength = 3 + lengthOfFieldLength + lengthOfStartingPosition;
+
+    if (baseAddress <= LEADER_LENGTH || baseAddress > recordLength) {
+      throw invalid("base address of data is not valid");
+    }
+
+    JsonArray fields = new JsonArray();
+
+    for (int entry = LEADER_LENGTH;
+         entry + entryLength <= baseAddress && record[entry] != FIELD_TERMINATOR;
+         entry += entryLength) {
+
+      String tag = new String(record, entry, 3, StandardCharsets.US_ASCII);
+
+      int fieldLength = parseNumber(record, entry + 3, lengthOfFieldLength);
+      int fieldStart = baseAddress + parseNumber(record,
+        entry + 3 + lengthOfFieldLength, lengthOfStartingPosition);
+
+      int fieldEnd = fieldStart + fieldLength;
+
+      if (fieldLength < 1 || fieldEnd > recordLength) {
+        throw invalid(String.format("field %s lies outside of the record", tag));
+      }
+
+      if (record[fieldEnd - 1] == FIELD_TERMINATOR) {
+        fieldEnd--;
+      }
+
+      fields.add(isControlField(tag)
+        ? new JsonObject().put(tag, new String(record, fieldStart, fieldEnd - fieldStart, charset))
+        : new JsonObject().put(tag, parseDataField(fieldStart, fieldEnd, indicatorCount, charset)));
+    }
+
+    return new JsonObject()
+      .put(LEADER, leader)
+      .put(FIELDS, fields);
+  }
+
+  private JsonObject parseDataField(
+    int start,
+    int end,
+    int indicatorCount,
+    Charset charset) {
+
+    JsonObject field = new JsonObject();
+
+    if (indicatorCount >= 1 && start < end) {
+      field.put(FIRST_INDICATOR, indicator(record[start]));
+    }
+
+    if (indicatorCount >= 2 && start + 1 < end) {
+      field.put(SECOND_INDICATOR, indicator(record[start + 1]));
+    }
+
+    JsonArray subfields = new JsonArray();
+
+    int index = start + indicatorCount;
+
+    while (index < end && record[index] != SUBFIELD_DELIMITER) {
+      index++;
+    }
+
+    while (index < end) {
+      int codeIndex = index + 1;
+      int valueStart = codeIndex + 1;
+      int valueEnd = valueStart;
+
+      while (valueEnd < end && record[valueEnd] != SUBFIELD_DELIMITER) {
+        valueEnd++;
+      }
+
+      if (codeIndex < end) {
+        subfields.add(new JsonObject().put(
+          String.valueOf((char) (record[codeIndex] & 0xFF)),
+          valueStart < valueEnd
+            ? new String(record, valueStart, valueEnd - valueStart, charset)
+            : ""));
+      }
+
+      index = valueEnd;
+    }
+
+    return field.put(SUBFIELDS, subfields);
+  }
+
+  private void skipLineBreaks() throws IOException {
+    while (position < size) {
+      ensureAvailable(1);
+
+      byte next = buffer.get(relativePosition());
+
+      if (next != '\n' && next != '\r' && next != RECORD_TERMINATOR) {
+        return;
+      }
+
+      position++;
+    }
+  }
+
+  /**
+   * Makes sure the buffer holds the given number of bytes from the current
+   * position, mapping the next window of the file when it does not
+   */
+  private void ensureAvailable(int length) throws IOException {
+    if (buffer != null
+      && position >= bufferStart
+      && position + length <= bufferStart + buffer.limit()) {
+
+      return;
+    }
+
+    if (channel == null) {
+      throw new IOException("Buffer does not contain the requested bytes");
+    }
+
+    long mappedSize = Math.min(Math.max(windowSize, length), size - position);
+
+    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+    bufferStart = position;
+  }
+
+  private int relativePosition() {
+    return (int) (position - bufferStart);
+  }
+
+  private int parseNumber(int index, int digits) throws InvalidMarcRecordException {
+    int number = 0;
+
+    for (int offset = 0; offset < digits; offset++) {
+      number = number * 10 + digit(buffer.get(index + offset));
+    }
+
+    return number;
+  }
+
+  private int parseNumber(byte[] bytes, int index, int digits)
+    throws InvalidMarcRecordException {
+
+    int number = 0;
+
+    for (int offset = 0; offset < digits; offset++) {
+      number = number * 10 + digit(bytes[index + offset]);
+    }
+
+    return number;
+  }
+
+  private int digit(byte character) throws InvalidMarcRecordException {
+    if (character < '0' || character > '9') {
+      throw invalid("expected a number in the leader or directory");
+    }
+
+    return character - '0';
+  }
+
+  private static int digitOrDefault(byte character, int defaultValue) {
+    return character >= '0' && character <= '9'
+      ? character - '0'
+      : defaultValue;
+  }
+
+  private static String indicator(byte character) {
+    return String.valueOf((char) (character & 0xFF));
+  }
+
+  private static boolean isControlField(String tag) {
+    return tag.startsWith("00");
+  }
+
+  private InvalidMarcRecordException invalid(String reason) {
+    return new InvalidMarcRecordException(
+      String.format("Invalid MARC record at byte %d: %s", position, reason));
+  }
+}
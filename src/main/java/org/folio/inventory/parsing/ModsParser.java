@@ -11,13 +11,16 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class ModsParser {
 
@@ -115,4 +118,27 @@ public class ModsParser {
 
     return parsedRecords;
   }
+
+  /**
+   * Parses the records of the document as it is read, handing each record to
+   * the consumer before the next one is read
+   *
+   * @return the number of records parsed
+   */
+  public int parseRecords(InputStream xml, Consumer<JsonObject> recordConsumer)
+    throws XMLStreamException {
+
+    int parsedRecords = 0;
+
+    try (ModsRecordReader reader = new ModsRecordReader(xml, characterEncoding)) {
+      JsonObject record;
+
+      while ((record = reader.next()) != null) {
+        recordConsumer.accept(record);
+        parsedRecords++;
+      }
+    }
+
+    return parsedRecords;
+  }
 }
@@ -0,0 +1,274 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Pull based reader of the records in a MODS document, producing the same
+ * representation as {@link ModsParser} one record at a time.
+ *
+ * The document is read as a stream of StAX events, so only the record
+ * being read is held in memory and no document tree or XPath expressions
+ * are built. Elements are matched on their local name, as the prefixes
+ * used in MODS exports vary.
+ */
+public class ModsRecordReader implements AutoCloseable {
+  private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+  private static final int RECORDS_DEPTH = 1;
+  private static final int RECORD_DEPTH = 2;
+
+  private final XMLStreamReader reader;
+  private final CharacterEncoding characterEncoding;
+
+  //Local names of the elements from the record element down to the current one
+  private final List<String> path = new ArrayList<>();
+
+  private int depth = 0;
+  private boolean outsideRecords = false;
+
+  public ModsRecordReader(InputStream xml, CharacterEncoding characterEncoding)
+    throws XMLStreamException {
+
+    this.reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+    this.characterEncoding = characterEncoding;
+  }
+
+  /**
+   * Reads the next record from the document
+   *
+   * @return the parsed record, or null when there are no more records
+   */
+  public JsonObject next() throws XMLStreamException {
+    while (reader.hasNext()) {
+      int event = reader.next();
+
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+
+        if (depth == RECORDS_DEPTH) {
+          outsideRecords = !"mods_records".equals(reader.getLocalName());
+        }
+        else if (depth == RECORD_DEPTH && !outsideRecords
+          && "mods".equals(reader.getLocalName())) {
+
+          return readRecord();
+        }
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  public void close() throws XMLStreamException {
+    reader.close();
+  }
+
+  private JsonObject readRecord() throws XMLStreamException {
+    RecordBuilder record = new RecordBuilder();
+
+    path.clear();
+
+    Capture capture = null;
+
+    while (reader.hasNext()) {
+      int event = reader.next();
+
+      switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+          path.add(reader.getLocalName());
+
+          if (capture != null) {
+            capture.childStarted();
+          }
+          else {
+            capture = record.startCapture(path, reader);
+          }
+          break;
+
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (capture != null) {
+            capture.append(reader.getTextCharacters(),
+              reader.getTextStart(), reader.getTextLength(), path.size());
+          }
+          break;
+
+        case XMLStreamConstants.END_ELEMENT:
+          if (path.isEmpty()) {
+            depth--;
+            return record.build(characterEncoding);
+          }
+
+          if (capture != null && capture.depth == path.size()) {
+            capture.complete();
+            capture = null;
+          }
+
+          path.remove(path.size() - 1);
+          break;
+
+        default:
+          break;
+      }
+    }
+
+    throw new XMLStreamException("MODS record is not closed");
+  }
+
+  private static boolean pathIs(List<String> path, String... expected) {
+    if (path.size() != expected.length) {
+      return false;
+    }
+
+    for (int index = expected.length - 1; index >= 0; index--) {
+      if (!expected[index].equals(path.get(index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static String attribute(XMLStreamReader reader, String name) {
+    String value = reader.getAttributeValue(null, name);
+
+    return value != null ? value : "";
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+    return factory;
+  }
+
+  private static class RecordBuilder {
+    private String title;
+    private String barcode;
+    private final JsonArray recordIdentifiers = new JsonArray();
+    private final JsonArray identifiers = new JsonArray();
+    private final List<String> contributorNames = new ArrayList<>();
+
+    /**
+     * Starts capturing the text of the element just opened, when it is one
+     * of the elements the record is built from
+     */
+    Capture startCapture(List<String> path, XMLStreamReader reader) {
+      int depth = path.size();
+
+      if (title == null && pathIs(path, "titleInfo", "title")) {
+        return new Capture(depth, false, text -> {
+          if (!text.isEmpty()) {
+            title = text;
+          }
+        });
+      }
+
+      if (barcode == null
+        && pathIs(path, "location", "holdingExternal", "localHolds", "objId")) {
+
+        return new Capture(depth, false, text -> {
+          if (!text.isEmpty()) {
+            barcode = text;
+          }
+        });
+      }
+
+      if (pathIs(path, "recordInfo", "recordIdentifier")) {
+        String type = attribute(reader, "source");
+
+        return new Capture(depth, true, text ->
+          recordIdentifiers.add(new JsonObject()
+            .put("type", type)
+            .put("value", text)));
+      }
+
+      if (pathIs(path, "identifier")) {
+        String type = attribute(reader, "type");
+
+        return new Capture(depth, true, text ->
+          identifiers.add(new JsonObject()
+            .put("type", type)
+            .put("value", text)));
+      }
+
+      if (pathIs(path, "name", "namePart")
+        && reader.getAttributeValue(null, "type") == null) {
+
+        return new Capture(depth, true, contributorNames::add);
+      }
+
+      return null;
+    }
+
+    JsonObject build(CharacterEncoding characterEncoding) {
+      JsonArray contributors = new JsonArray();
+
+      contributorNames.forEach(name -> contributors.add(new JsonObject()
+        .put("name", characterEncoding.decode(name))));
+
+      JsonArray allIdentifiers = new JsonArray();
+      recordIdentifiers.forEach(allIdentifiers::add);
+      identifiers.forEach(allIdentifiers::add);
+
+      return new JsonObject()
+        .put("title", characterEncoding.decode(title != null ? title : ""))
+        .put("barcode", characterEncoding.decode(barcode != null ? barcode : ""))
+        .put("identifiers", allIdentifiers)
+        .put("contributors", contributors);
+    }
+  }
+
+  /**
+   * Collects the text of an element, either all of it (like the text content
+   * of a node) or only its first run of text (like its first text() node)
+   */
+  private static class Capture {
+    private final int depth;
+    private final boolean allText;
+    private final Consumer<String> onComplete;
+    private final StringBuilder text = new StringBuilder();
+    private boolean firstRunEnded = false;
+
+    Capture(int depth, boolean allText, Consumer<String> onComplete) {
+      this.depth = depth;
+      this.allText = allText;
+      this.onComplete = onComplete;
+    }
+
+    void childStarted() {
+      if (text.length() > 0) {
+        firstRunEnded = true;
+      }
+    }
+
+    void append(char[] characters, int start, int length, int currentDepth) {
+      if (allText || (currentDepth == depth && !firstRunEnded)) {
+        text.append(characters, start, length);
+      }
+    }
+
+    void complete() {
+      onComplete.accept(text.toString());
+    }
+  }
+}
@@ -1,12 +1,130 @@
 package org.folio.inventory.parsing;
 
+/**
+ * Decodes UTF-8 byte sequences written as literal escapes, e.g. "\xC3\xA9"
+ * for an e with an acute accent, as found in some MODS exports.
+ *
+ * The input is scanned once, any sequence of escapes which is not a well
+ * formed UTF-8 encoding of a non-ASCII character is left as it is. When
+ * there are no escapes, the input itself is returned.
+ */
 public class UTF8LiteralCharacterEncoding implements CharacterEncoding {
+  private static final String ESCAPE = "\\x";
+  private static final int ESCAPE_LENGTH = 4;
+
   @Override
   public String decode(String input) {
-    return input
-      .replace("\\xE2\\x80\\x99", "\u2019")
-      .replace("\\xC3\\xA9", "\u00E9")
-      .replace("\\xCC\\x81", "\u0301")
-      .replace("\\xCC\\x8C", "\u030C");
+    int escape = input.indexOf(ESCAPE);
+
+    if (escape < 0) {
+      return input;
+    }
+
+    StringBuilder decoded = null;
+    int copiedUpTo = 0;
+
+    while (escape >= 0) {
+      int sequenceLength = sequenceLength(escapedByte(input, escape));
+      int codePoint = sequenceLength > 0
+        ? decodeSequence(input, escape, sequenceLength)
+        : -1;
+
+      if (codePoint < 0) {
+        escape = input.indexOf(ESCAPE, escape + 1);
+        continue;
+      }
+
+      if (decoded == null) {
+        decoded = new StringBuilder(input.length());
+      }
+
+      decoded.append(input, copiedUpTo, escape).appendCodePoint(codePoint);
+
+      copiedUpTo = escape + sequenceLength * ESCAPE_LENGTH;
+      escape = input.indexOf(ESCAPE, copiedUpTo);
+    }
+
+    if (decoded == null) {
+      return input;
+    }
+
+    return decoded.append(input, copiedUpTo, input.length()).toString();
+  }
+
+  /**
+   * @return the number of bytes in the sequence started by this lead byte,
+   * or zero when it cannot start a sequence for a non-ASCII character
+   */
+  private static int sequenceLength(int leadByte) {
+    if (leadByte >= 0xC2 && leadByte <= 0xDF) {
+      return 2;
+    }
+    if (leadByte >= 0xE0 && leadByte <= 0xEF) {
+      return 3;
+    }
+    if (leadByte >= 0xF0 && leadByte <= 0xF4) {
+      return 4;
+    }
+    return 0;
+  }
+
+  /**
+   * @return the code point encoded by the escapes starting at the index,
+   * or -1 when they are not a well formed (shortest form, non surrogate)
+   * UTF-8 sequence of the given length
+   */
+  private static int decodeSequence(String input, int start, int length) {
+    int codePoint = escapedByte(input, start) & (0xFF >> (length + 1));
+
+    for (int position = 1; position < length; position++) {
+      int continuation = escapedByte(input, start + position * ESCAPE_LENGTH);
+
+      if ((continuation & 0xC0) != 0x80) {
+        return -1;
+      }
+
+      codePoint = (codePoint << 6) | (continuation & 0x3F);
+    }
+
+    if (length == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint))) {
+      return -1;
+    }
+
+    if (length == 4 && (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT)) {
+      return -1;
+    }
+
+    return codePoint;
+  }
+
+  /**
+   * @return the value of the "\xNN" escape at the index, or -1 when there
+   * is not one
+   */
+  private static int escapedByte(String input, int index) {
+    if (index + ESCAPE_LENGTH > input.length()
+      || input.charAt(index) != '\\'
+      || input.charAt(index + 1) != 'x') {
+
+      return -1;
+    }
+
+    int high = hexDigit(input.charAt(index + 2));
+    int low = hexDigit(input.charAt(index + 3));
+
+    return high < 0 || low < 0 ? -1 : high << 4 | low;
+  }
+
+  private static int hexDigit(char character) {
+    if (character >= '0' && character <= '9') {
+      return character - '0';
+    }
+    if (character >= 'A' && character <= 'F') {
+      return character - 'A' + 10;
+    }
+    if (character >= 'a' && character <= 'f') {
+      return character - 'a' + 10;
+    }
+    return -1;
   }
 }
@@ -0,0 +1,194 @@
+package org.folio.inventory.parsing.config;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable lookup tables built once from a MARC configuration, so that
+ * converting a record does not need to traverse the configuration
+ *
+ * Mappings for three digit tags are held in an array indexed by the tag,
+ * any other tags present in the configuration are looked up by name.
+ */
+public class CompiledMarcConfig {
+
+  private static final String MARC_FIELDS = "marc-fields";
+  private static final String INSTANCE_FIELDS = "instance-fields";
+  private static final String IDENTIFIER_TYPES = "identifier-types";
+  private static final String NAME = "name";
+  private static final String REPEATABLE = "repeatable";
+
+  private static final int TAG_COUNT = 1000;
+  private static final int CONTROL_FIELD_TAG_LIMIT = 10;
+
+  private final List<InstanceField> instanceFields;
+  private final FieldMapping[] mappingsByTag;
+  private final Map<String, FieldMapping> otherMappings;
+
+  CompiledMarcConfig(JsonObject config) {
+    Map<String, InstanceField> instanceFieldsByName = compileInstanceFields(
+      config.getJsonArray(INSTANCE_FIELDS));
+
+    JsonObject identifierTypes = config.getJsonObject(IDENTIFIER_TYPES, new JsonObject());
+
+    FieldMapping[] byTag = new FieldMapping[TAG_COUNT];
+    Map<String, FieldMapping> others = new HashMap<>();
+
+    for (Map.Entry<String, Object> marcField : config.getJsonObject(MARC_FIELDS)) {
+      String tag = marcField.getKey();
+      InstanceField instanceField = instanceFieldsByName.get(marcField.getValue());
+
+      if (instanceField == null) {
+        continue;
+      }
+
+      FieldMapping mapping = new FieldMapping(instanceField,
+        isControlFieldTag(tag), identifierTypes.getString(tag));
+
+      int index = tagIndex(tag);
+
+      if (index >= 0) {
+        byTag[index] = mapping;
+      } else {
+        others.put(tag, mapping);
+      }
+    }
+
+    this.instanceFields = Collections.unmodifiableList(
+      new ArrayList<>(instanceFieldsByName.values()));
+    this.mappingsByTag = byTag;
+    this.otherMappings = Collections.unmodifiableMap(others);
+  }
+
+  /**
+   * @return instance fields in the order they are configured, each field's
+   * index is its position in this list
+   */
+  public List<InstanceField> getInstanceFields() {
+    return instanceFields;
+  }
+
+  /**
+   * @return how a MARC field with this tag is mapped, or null when it is
+   * not configured
+   */
+  public FieldMapping mappingFor(String tag) {
+    int index = tagIndex(tag);
+
+    return index >= 0 ? mappingsByTag[index] : otherMappings.get(tag);
+  }
+
+  private static Map<String, InstanceField> compileInstanceFields(
+    JsonArray configuredInstanceFields) {
+
+    Map<String, JsonObject> configByName = new LinkedHashMap<>();
+
+    for (Object o : configuredInstanceFields) {
+      if (o instanceof JsonObject) {
+        JsonObject instanceFieldConfig = (JsonObject) o;
+        configByName.put(instanceFieldConfig.getString(NAME), instanceFieldConfig);
+      }
+    }
+
+    Map<String, InstanceField> instanceFields = new LinkedHashMap<>();
+
+    for (Map.Entry<String, JsonObject> entry : configByName.entrySet()) {
+      instanceFields.put(entry.getKey(), new InstanceField(
+        instanceFields.size(),
+        entry.getKey(),
+        entry.getValue().getBoolean(REPEATABLE, false)));
+    }
+
+    return instanceFields;
+  }
+
+  private static int tagIndex(String tag) {
+    if (tag == null || tag.length() != 3) {
+      return -1;
+    }
+
+    int index = 0;
+
+    for (int position = 0; position < 3; position++) {
+      char digit = tag.charAt(position);
+
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+
+      index = index * 10 + (digit - '0');
+    }
+
+    return index;
+  }
+
+  private static boolean isControlFieldTag(String tag) {
+    try {
+      return Integer.parseInt(tag) < CONTROL_FIELD_TAG_LIMIT;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  public static class InstanceField {
+    private final int index;
+    private final String name;
+    private final boolean repeatable;
+
+    InstanceField(int index, String name, boolean repeatable) {
+      this.index = index;
+      this.name = name;
+      this.repeatable = repeatable;
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isRepeatable() {
+      return repeatable;
+    }
+  }
+
+  public static class FieldMapping {
+    private final InstanceField instanceField;
+    private final boolean controlField;
+    private final String identifierType;
+
+    FieldMapping(InstanceField instanceField, boolean controlField, String identifierType) {
+      this.instanceField = instanceField;
+      this.controlField = controlField;
+      this.identifierType = identifierType;
+    }
+
+    public InstanceField getInstanceField() {
+      return instanceField;
+    }
+
+    /**
+     * @return whether the tag is below 010, where the field may hold a
+     * value rather than subfields
+     */
+    public boolean isControlField() {
+      return controlField;
+    }
+
+    /**
+     * @return the configured identifier type for this tag, or null
+     */
+    public String getIdentifierType() {
+      return identifierType;
+    }
+  }
+}
@@ -13,6 +13,7 @@ public class MarcConfig {
   private static final String INSTANCE_FIELDS = "instance-fields";
 
   private final JsonObject config;
+  private final CompiledMarcConfig compiled;
   private static final String STD_CONFIG_FILE = "/config/marc-config.json";
 
   public MarcConfig() throws InvalidMarcConfigException, IOException {
@@ -23,12 +24,17 @@ public class MarcConfig {
     JsonHelper jh = new JsonHelper();
     config = jh.getJsonFileAsJsonObject(configPath);
     this.validate();
+    compiled = new CompiledMarcConfig(config);
   }
 
   public JsonObject getConfig() {
     return config;
   }
 
+  public CompiledMarcConfig getCompiled() {
+    return compiled;
+  }
+
   private void validate() throws InvalidMarcConfigException {
     if (!(config.getValue(MARC_FIELDS) instanceof JsonObject)) {
       throw new InvalidMarcConfigException("Key 'marc-fields' does not contain JsonObject..");
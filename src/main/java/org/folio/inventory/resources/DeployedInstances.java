@@ -0,0 +1,75 @@
+package org.folio.inventory.resources;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.folio.inventory.storage.Storage;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+
+/**
+ * The storage and HTTP client of each deployed verticle instance, by the
+ * Vert.x context of the instance.
+ *
+ * The data-import handlers and loaders are registered once for the whole
+ * JVM, so they look up those of the instance whose event loop they are
+ * called on, rather than keeping those of the instance that registered them.
+ */
+class DeployedInstances {
+  private static final Map<Context, Resources> INSTANCES = new ConcurrentHashMap<>();
+
+  private DeployedInstances() { }
+
+  static void add(Context context, Storage storage, HttpClient client) {
+    INSTANCES.put(context, new Resources(storage, client));
+  }
+
+  static void remove(Context context) {
+    INSTANCES.remove(context);
+  }
+
+  /**
+   * @return storage which uses that of the instance the call is made on
+   */
+  static Storage storage() {
+    return Storage.delegatingTo(() -> current().storage);
+  }
+
+  static HttpClient client() {
+    return current().client;
+  }
+
+  /**
+   * Calls made off the event loop of any instance, e.g. completing a future
+   * on another thread, use any deployed instance
+   */
+  private static Resources current() {
+    Context context = Vertx.currentContext();
+    Resources resources = context != null ? INSTANCES.get(context) : null;
+
+    if (resources != null) {
+      return resources;
+    }
+
+    Iterator<Resources> deployed = INSTANCES.values().iterator();
+
+    if (!deployed.hasNext()) {
+      throw new IllegalStateException("No inventory verticle instance is deployed");
+    }
+
+    return deployed.next();
+  }
+
+  private static final class Resources {
+    private final Storage storage;
+    private final HttpClient client;
+
+    private Resources(Storage storage, HttpClient client) {
+      this.storage = storage;
+      this.client = client;
+    }
+  }
+}
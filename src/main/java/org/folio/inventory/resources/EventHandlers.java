@@ -1,8 +1,12 @@
 package org.folio.inventory.resources;
 
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
+
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -11,6 +15,10 @@ import org.folio.inventory.common.WebContext;
 import org.folio.inventory.dataimport.HoldingWriterFactory;
 import org.folio.inventory.dataimport.InstanceWriterFactory;
 import org.folio.inventory.dataimport.ItemWriterFactory;
+import org.folio.inventory.dataimport.cache.EventDeduplicationStore;
+import org.folio.inventory.dataimport.cache.ItemBarcodeIndex;
+import org.folio.inventory.dataimport.cache.MatchResultCache;
+import org.folio.inventory.dataimport.handlers.InstrumentedEventHandler;
 import org.folio.inventory.dataimport.handlers.actions.CreateHoldingEventHandler;
 import org.folio.inventory.dataimport.handlers.actions.CreateInstanceEventHandler;
 import org.folio.inventory.dataimport.handlers.actions.CreateItemEventHandler;
@@ -26,37 +34,77 @@ import org.folio.inventory.dataimport.handlers.matching.MatchItemEventHandler;
 import org.folio.inventory.dataimport.handlers.matching.loaders.HoldingLoader;
 import org.folio.inventory.dataimport.handlers.matching.loaders.InstanceLoader;
 import org.folio.inventory.dataimport.handlers.matching.loaders.ItemLoader;
+import org.folio.inventory.dataimport.util.CompressedPayloadDecoder;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
 import org.folio.inventory.support.http.server.SuccessResponse;
+import org.folio.inventory.support.metrics.MetricsRegistry;
 import org.folio.processing.events.EventManager;
-import org.folio.processing.events.utils.ZIPArchiver;
+import org.folio.processing.events.services.handler.EventHandler;
 import org.folio.processing.mapping.MappingManager;
 import org.folio.processing.mapping.mapper.reader.record.MarcBibReaderFactory;
 import org.folio.processing.matching.loader.MatchValueLoaderFactory;
 import org.folio.processing.matching.reader.MarcValueReaderImpl;
 import org.folio.processing.matching.reader.MatchValueReaderFactory;
 import org.folio.processing.matching.reader.StaticValueReaderImpl;
-import org.folio.rest.tools.utils.ObjectMapperTool;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public class EventHandlers {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(EventHandlers.class);
+
   private static final String DATA_IMPORT_EVENT_HANDLER_PATH = "/inventory/handlers/data-import";
   private static final String INSTANCES_EVENT_HANDLER_PATH = "/inventory/handlers/instances";
 
+  public static final String BODY_LIMIT_PROPERTY = "org.folio.inventory.handlers.body-limit.bytes";
+  private static final long DEFAULT_BODY_LIMIT = 20L * 1024 * 1024;
+
+  private static final AtomicBoolean HANDLERS_REGISTERED = new AtomicBoolean(false);
+  private static final EventDeduplicationStore EVENT_DEDUPLICATION_STORE = EventDeduplicationStore.fromSystemProperties();
+
   private Storage storage;
-  private HttpClient client;
+  private io.vertx.core.Context vertxContext;
+  private long bodyLimit = Long.getLong(BODY_LIMIT_PROPERTY, DEFAULT_BODY_LIMIT);
 
-  public EventHandlers(final Storage storage, final HttpClient client) {
-    Vertx vertx = Vertx.vertx();
+  public EventHandlers(final Storage storage, final HttpClient client, final Vertx vertx) {
     this.storage = storage;
-    this.client = client;
-    MatchValueLoaderFactory.register(new InstanceLoader(storage, vertx));
-    MatchValueLoaderFactory.register(new ItemLoader(storage, vertx));
-    MatchValueLoaderFactory.register(new HoldingLoader(storage, vertx));
+    this.vertxContext = vertx.getOrCreateContext();
+    DeployedInstances.add(vertxContext, storage, client);
+    registerEventHandlers(vertx);
+  }
+
+  /**
+   * Stops handing events to the storage and client of this verticle
+   * instance, which is expected to be called when the instance is stopped
+   */
+  public void unregister() {
+    DeployedInstances.remove(vertxContext);
+  }
+
+  /**
+   * The matching, mapping and event handling factories are static, so the
+   * handlers are registered only once, however many instances share this
+   * class loader. They use the storage and client of the instance whose
+   * event loop handles each event, and so outlive the instance that
+   * registered them.
+   */
+  private static void registerEventHandlers(Vertx vertx) {
+    if (!HANDLERS_REGISTERED.compareAndSet(false, true)) {
+      return;
+    }
+
+    Storage storage = DeployedInstances.storage();
+    Supplier<HttpClient> client = DeployedInstances::client;
+
+    MatchResultCache matchResultCache = MatchResultCache.fromSystemProperties();
+    matchResultCache.registerMetrics(MetricsRegistry.getDefault());
+    MatchValueLoaderFactory.register(new InstanceLoader(storage, vertx, matchResultCache));
+    MatchValueLoaderFactory.register(new ItemLoader(storage, vertx, matchResultCache));
+    MatchValueLoaderFactory.register(new HoldingLoader(storage, vertx, matchResultCache));
 
     MatchValueReaderFactory.register(new MarcValueReaderImpl());
     MatchValueReaderFactory.register(new StaticValueReaderImpl());
@@ -66,42 +114,66 @@ public class EventHandlers {
     MappingManager.registerWriterFactory(new HoldingWriterFactory());
     MappingManager.registerWriterFactory(new InstanceWriterFactory());
 
-    EventManager.registerEventHandler(new MatchInstanceEventHandler());
-    EventManager.registerEventHandler(new MatchItemEventHandler());
-    EventManager.registerEventHandler(new MatchHoldingEventHandler());
-    EventManager.registerEventHandler(new CreateItemEventHandler(storage));
-    EventManager.registerEventHandler(new CreateHoldingEventHandler(storage));
-    EventManager.registerEventHandler(new CreateInstanceEventHandler(storage, client));
-    EventManager.registerEventHandler(new UpdateItemEventHandler(storage));
-    EventManager.registerEventHandler(new UpdateHoldingEventHandler(storage));
-    EventManager.registerEventHandler(new ReplaceInstanceEventHandler(storage, client));
-    EventManager.registerEventHandler(new MarcBibModifiedPostProcessingEventHandler(new InstanceUpdateDelegate(storage)));
+    registerEventHandler(new MatchInstanceEventHandler());
+    registerEventHandler(new MatchItemEventHandler());
+    registerEventHandler(new MatchHoldingEventHandler());
+    registerEventHandler(new CreateItemEventHandler(storage, matchResultCache, ItemBarcodeIndex.fromSystemProperties()));
+    registerEventHandler(new CreateHoldingEventHandler(storage, matchResultCache));
+    registerEventHandler(new CreateInstanceEventHandler(storage, client, matchResultCache));
+    registerEventHandler(new UpdateItemEventHandler(storage, matchResultCache));
+    registerEventHandler(new UpdateHoldingEventHandler(storage, matchResultCache));
+    registerEventHandler(new ReplaceInstanceEventHandler(storage, client, matchResultCache));
+    registerEventHandler(new MarcBibModifiedPostProcessingEventHandler(new InstanceUpdateDelegate(storage)));
+  }
+
+  /**
+   * Registers a data-import handler, measuring how long it holds the event
+   * loop and recording a flight recorder event each time it handles an event
+   */
+  private static void registerEventHandler(EventHandler handler) {
+    EventManager.registerEventHandler(InstrumentedEventHandler.instrumented(handler));
   }
 
   public void register(Router router) {
     router
       .post(DATA_IMPORT_EVENT_HANDLER_PATH)
-      .handler(BodyHandler.create())
-      .handler(this::handleDataImportEvent);
+      .handler(BodyHandler.create().setBodyLimit(bodyLimit))
+      .handler(measured(this::handleDataImportEvent));
     router
       .post(INSTANCES_EVENT_HANDLER_PATH)
-      .handler(BodyHandler.create())
-      .handler(this::handleInstanceUpdate);
+      .handler(BodyHandler.create().setBodyLimit(bodyLimit))
+      .handler(measured(this::handleInstanceUpdate));
   }
 
   private void handleDataImportEvent(RoutingContext routingContext) {
+    Buffer compressedPayload = routingContext.getBody();
+    String eventKey = EventDeduplicationStore.eventKey(
+      new WebContext(routingContext).getTenantId(), compressedPayload);
+
+    if (!EVENT_DEDUPLICATION_STORE.accept(eventKey)) {
+      LOGGER.info("Skipping redelivered data-import event " + eventKey);
+      SuccessResponse.noContent(routingContext.response());
+      return;
+    }
+
     try {
-      DataImportEventPayload eventPayload = new JsonObject(ZIPArchiver.unzip(routingContext.getBodyAsString())).mapTo(DataImportEventPayload.class);
-      EventManager.handleEvent(eventPayload);
+      DataImportEventPayload eventPayload = CompressedPayloadDecoder.decode(compressedPayload, DataImportEventPayload.class);
+      EventManager.handleEvent(eventPayload).whenComplete((result, error) -> {
+        if (error != null) {
+          // A handler failed after the event was acknowledged, so that a redelivery is processed again
+          EVENT_DEDUPLICATION_STORE.release(eventKey);
+        }
+      });
       SuccessResponse.noContent(routingContext.response());
     } catch (Exception e) {
+      EVENT_DEDUPLICATION_STORE.release(eventKey);
       ServerErrorResponse.internalError(routingContext.response(), e);
     }
   }
 
   private void handleInstanceUpdate(RoutingContext routingContext) {
     try {
-      HashMap<String, String> eventPayload = ObjectMapperTool.getMapper().readValue(ZIPArchiver.unzip(routingContext.getBodyAsString()), HashMap.class);
+      HashMap<String, String> eventPayload = CompressedPayloadDecoder.decode(routingContext.getBody(), HashMap.class);
       InstanceUpdateDelegate updateInstanceDelegate = new InstanceUpdateDelegate(storage);
       new UpdateInstanceEventHandler(updateInstanceDelegate, new WebContext(routingContext)).handle(eventPayload, getOkapiHeaders(routingContext), routingContext.vertx());
       SuccessResponse.noContent(routingContext.response());
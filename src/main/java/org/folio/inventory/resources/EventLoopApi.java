@@ -0,0 +1,30 @@
+package org.folio.inventory.resources;
+
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.folio.inventory.support.http.server.JsonResponse;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+
+/**
+ * Reports the invocations of handlers which held an event loop thread for
+ * longest, with stack samples taken while they ran. Like the metrics, it is
+ * meant to be called directly rather than via Okapi, so does not require a
+ * tenant.
+ */
+public class EventLoopApi {
+  public static final String EVENT_LOOP_PATH = "/admin/event-loop";
+
+  private final EventLoopMonitor monitor;
+
+  public EventLoopApi(EventLoopMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  public void register(Router router) {
+    router.get(EVENT_LOOP_PATH).handler(this::slowest);
+  }
+
+  private void slowest(RoutingContext routingContext) {
+    JsonResponse.success(routingContext.response(), monitor.toJson());
+  }
+}
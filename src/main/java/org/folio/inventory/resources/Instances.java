@@ -3,6 +3,7 @@ package org.folio.inventory.resources;
 import static io.netty.util.internal.StringUtil.COMMA;
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
 import static org.folio.inventory.support.CompletableFutures.failedFuture;
 import static org.folio.inventory.support.EndpointFailureHandler.doExceptionally;
 import static org.folio.inventory.support.EndpointFailureHandler.getKnownException;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.HttpStatus;
+import org.folio.inventory.common.RequestTimings;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.common.api.request.PagingParameters;
 import org.folio.inventory.common.domain.MultipleRecords;
@@ -74,16 +76,16 @@ public class Instances extends AbstractInstances {
     router.post(INSTANCES_PATH + "*").handler(BodyHandler.create());
     router.put(INSTANCES_PATH + "*").handler(BodyHandler.create());
 
-    router.get(INSTANCES_CONTEXT_PATH).handler(this::getMetadataContext);
-    router.get(BLOCKED_FIELDS_CONFIG_PATH).handler(this::getBlockedFieldsConfig);
+    router.get(INSTANCES_CONTEXT_PATH).handler(measured(this::getMetadataContext));
+    router.get(BLOCKED_FIELDS_CONFIG_PATH).handler(measured(this::getBlockedFieldsConfig));
 
-    router.get(INSTANCES_PATH).handler(this::getAll);
-    router.post(INSTANCES_PATH).handler(this::create);
-    router.delete(INSTANCES_PATH).handler(this::deleteAll);
+    router.get(INSTANCES_PATH).handler(measured(this::getAll));
+    router.post(INSTANCES_PATH).handler(measured(this::create));
+    router.delete(INSTANCES_PATH).handler(measured(this::deleteAll));
 
-    router.get(INSTANCES_PATH + "/:id").handler(this::getById);
-    router.put(INSTANCES_PATH + "/:id").handler(this::update);
-    router.delete(INSTANCES_PATH + "/:id").handler(this::deleteById);
+    router.get(INSTANCES_PATH + "/:id").handler(measured(this::getById));
+    router.put(INSTANCES_PATH + "/:id").handler(measured(this::update));
+    router.delete(INSTANCES_PATH + "/:id").handler(measured(this::deleteById));
   }
 
   private void getMetadataContext(RoutingContext routingContext) {
@@ -144,13 +146,20 @@ public class Instances extends AbstractInstances {
     InstancesResponse instancesResponse = new InstancesResponse();
     instancesResponse.setSuccess(success);
 
+    RequestTimings timings = context.getTimings();
+
     completedFuture(instancesResponse)
-      .thenCompose(response -> fetchRelationships(response, routingContext))
-      .thenCompose(response -> fetchPrecedingSucceedingTitles(response, routingContext, context))
+      .thenCompose(response -> timings.stage("relationships",
+        fetchRelationships(response, routingContext)))
+      .thenCompose(response -> timings.stage("preceding-succeeding-titles",
+        fetchPrecedingSucceedingTitles(response, routingContext, context)))
       .whenComplete((result, ex) -> {
         if (ex == null) {
-          JsonResponse.success(routingContext.response(),
-            toRepresentation(result, context));
+          RequestTimings.Stopwatch representation = timings.stage("representation");
+          JsonObject representationJson = toRepresentation(result, context);
+          representation.stop();
+
+          JsonResponse.success(routingContext.response(), representationJson);
         } else {
           log.warn("Exception occurred", ex);
           handleFailure(getKnownException(ex), routingContext);
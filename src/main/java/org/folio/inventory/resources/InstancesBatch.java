@@ -2,6 +2,7 @@ package org.folio.inventory.resources;
 
 import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
 import static org.folio.inventory.support.EndpointFailureHandler.getKnownException;
 import static org.folio.inventory.support.EndpointFailureHandler.handleFailure;
 import static org.folio.inventory.support.JsonArrayHelper.toList;
@@ -47,7 +48,7 @@ public class InstancesBatch extends AbstractInstances {
     router.post(INSTANCES_PATH + "*").handler(BodyHandler.create());
     router.put(INSTANCES_PATH + "*").handler(BodyHandler.create());
 
-    router.post(INSTANCES_BATCH_PATH).handler(this::createBatch);
+    router.post(INSTANCES_BATCH_PATH).handler(measured(this::createBatch));
   }
 
   /**
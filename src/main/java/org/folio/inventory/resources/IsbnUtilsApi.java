@@ -3,6 +3,7 @@ package org.folio.inventory.resources;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
 import static org.folio.inventory.support.http.server.ClientErrorResponse.badRequest;
 
 import java.lang.invoke.MethodHandles;
@@ -39,9 +40,9 @@ public class IsbnUtilsApi {
 
 
   public void register(Router router) {
-    router.get(ISBN_VALIDATOR_PATH).handler(this::validate);
-    router.get(ISBN_CONVERT_TO_ISBN10_PATH).handler(this::convertToIsbn10);
-    router.get(ISBN_CONVERT_TO_ISBN13_PATH).handler(this::convertToIsbn13);
+    router.get(ISBN_VALIDATOR_PATH).handler(measured(this::validate));
+    router.get(ISBN_CONVERT_TO_ISBN10_PATH).handler(measured(this::convertToIsbn10));
+    router.get(ISBN_CONVERT_TO_ISBN13_PATH).handler(measured(this::convertToIsbn13));
   }
 
   private void convertToIsbn13(RoutingContext routingContext) {
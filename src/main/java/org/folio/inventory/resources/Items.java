@@ -2,6 +2,7 @@ package org.folio.inventory.resources;
 
 import static org.folio.HttpStatus.HTTP_CREATED;
 import static org.folio.inventory.common.FutureAssistance.allOf;
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
 import static org.folio.inventory.support.CqlHelper.multipleRecordsCqlQuery;
 import static org.folio.inventory.support.EndpointFailureHandler.doExceptionally;
 import static org.folio.inventory.support.http.server.JsonResponse.unprocessableEntity;
@@ -27,6 +28,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.folio.inventory.common.RequestTimings;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.common.api.request.PagingParameters;
 import org.folio.inventory.common.domain.MultipleRecords;
@@ -82,18 +84,18 @@ public class Items extends AbstractInventoryResource {
     router.post(RELATIVE_ITEMS_PATH + "*").handler(BodyHandler.create());
     router.put(RELATIVE_ITEMS_PATH + "*").handler(BodyHandler.create());
 
-    router.get(RELATIVE_ITEMS_PATH).handler(this::getAll);
-    router.post(RELATIVE_ITEMS_PATH).handler(this::create);
-    router.delete(RELATIVE_ITEMS_PATH).handler(this::deleteAll);
+    router.get(RELATIVE_ITEMS_PATH).handler(measured(this::getAll));
+    router.post(RELATIVE_ITEMS_PATH).handler(measured(this::create));
+    router.delete(RELATIVE_ITEMS_PATH).handler(measured(this::deleteAll));
 
-    router.get(RELATIVE_ITEMS_PATH + "/:id").handler(this::getById);
-    router.put(RELATIVE_ITEMS_PATH + "/:id").handler(this::update);
-    router.delete(RELATIVE_ITEMS_PATH + "/:id").handler(this::deleteById);
+    router.get(RELATIVE_ITEMS_PATH + "/:id").handler(measured(this::getById));
+    router.put(RELATIVE_ITEMS_PATH + "/:id").handler(measured(this::update));
+    router.delete(RELATIVE_ITEMS_PATH + "/:id").handler(measured(this::deleteById));
 
     router.post(RELATIVE_ITEMS_PATH + "/:id/mark-withdrawn")
-      .handler(handle(this::markAsWithdrawn));
+      .handler(measured(handle(this::markAsWithdrawn)));
     router.post(RELATIVE_ITEMS_PATH + "/:id/mark-missing")
-      .handler(handle(this::markAsMissing));
+      .handler(measured(handle(this::markAsMissing)));
   }
 
   private CompletableFuture<Void> markAsWithdrawn(
@@ -321,10 +323,12 @@ public class Items extends AbstractInventoryResource {
 
     String holdingsQuery = multipleRecordsCqlQuery(holdingsIds);
 
+    RequestTimings timings = context.getTimings();
+
     holdingsClient.getMany(holdingsQuery, holdingsIds.size(), 0,
       holdingsFetched::complete);
 
-    holdingsFetched.thenAccept(holdingsResponse -> {
+    timings.stage("holdings", holdingsFetched).thenAccept(holdingsResponse -> {
       if (holdingsResponse.getStatusCode() != 200) {
         ServerErrorResponse.internalError(routingContext.response(),
           String.format("Holdings request (%s) failed %s: %s",
@@ -349,7 +353,7 @@ public class Items extends AbstractInventoryResource {
       instancesClient.getMany(instancesQuery, instanceIds.size(), 0,
         instancesFetched::complete);
 
-      instancesFetched.thenAccept(instancesResponse -> {
+      timings.stage("instances", instancesFetched).thenAccept(instancesResponse -> {
         if (instancesResponse.getStatusCode() != 200) {
           ServerErrorResponse.internalError(routingContext.response(),
             String.format("Instances request (%s) failed %s: %s",
@@ -429,12 +433,15 @@ public class Items extends AbstractInventoryResource {
             locationsClient.get(id, newFuture::complete);
           });
 
-        CompletableFuture<Void> allDoneFuture = allOf(allFutures);
+        CompletableFuture<Void> allDoneFuture = timings.stage("reference-records",
+          allOf(allFutures));
 
         allDoneFuture.thenAccept(v -> {
-          log.info("GET all items: all futures completed");
+          log.debug("GET all items: all futures completed");
 
           try {
+            RequestTimings.Stopwatch representation = timings.stage("representation");
+
             Map<String, JsonObject> foundMaterialTypes
               = allMaterialTypeFutures.stream()
               .map(CompletableFuture::join)
@@ -456,10 +463,13 @@ public class Items extends AbstractInventoryResource {
               .map(Response::getJson)
               .collect(Collectors.toMap(r -> r.getString("id"), r -> r));
 
-            JsonResponse.success(routingContext.response(),
-              new ItemRepresentation(RELATIVE_ITEMS_PATH)
-                .toJson(wrappedItems, holdings, instances, foundMaterialTypes,
-                  foundLoanTypes, foundLocations, context));
+            JsonObject representedItems = new ItemRepresentation(RELATIVE_ITEMS_PATH)
+              .toJson(wrappedItems, holdings, instances, foundMaterialTypes,
+                foundLoanTypes, foundLocations, context);
+
+            representation.stop();
+
+            JsonResponse.success(routingContext.response(), representedItems);
           } catch (Exception e) {
             ServerErrorResponse.internalError(routingContext.response(), e.toString());
           }
@@ -640,7 +650,8 @@ public class Items extends AbstractInventoryResource {
         CompletableFuture<Response> effectiveLocationFuture = getReferenceRecord(
           item.getEffectiveLocationId(), locationsClient, allFutures);
 
-        CompletableFuture<Void> allDoneFuture = allOf(allFutures);
+        CompletableFuture<Void> allDoneFuture = webContext.getTimings()
+          .stage("reference-records", allOf(allFutures));
 
         allDoneFuture.thenAccept(v -> {
           try {
@@ -0,0 +1,34 @@
+package org.folio.inventory.resources;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+
+/**
+ * Scrape endpoint for the metrics of the module, in the Prometheus text
+ * format. It is meant to be called directly rather than via Okapi, so does
+ * not require a tenant.
+ */
+public class MetricsApi {
+  public static final String METRICS_PATH = "/admin/metrics";
+
+  private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4";
+
+  private final MetricsRegistry registry;
+
+  public MetricsApi(MetricsRegistry registry) {
+    this.registry = registry;
+  }
+
+  public void register(Router router) {
+    router.get(METRICS_PATH).handler(this::scrape);
+  }
+
+  private void scrape(RoutingContext routingContext) {
+    routingContext.response()
+      .setStatusCode(200)
+      .putHeader(HttpHeaders.CONTENT_TYPE, PROMETHEUS_CONTENT_TYPE)
+      .end(registry.scrape());
+  }
+}
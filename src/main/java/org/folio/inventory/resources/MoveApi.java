@@ -1,12 +1,13 @@
 package org.folio.inventory.resources;
 
-import static java.util.stream.Collectors.toList;
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
 import static org.folio.inventory.support.JsonArrayHelper.toListOfStrings;
 import static org.folio.inventory.support.http.server.JsonResponse.success;
 import static org.folio.inventory.support.http.server.JsonResponse.unprocessableEntity;
 import static org.folio.inventory.validation.MoveValidator.holdingsMoveHasRequiredFields;
 import static org.folio.inventory.validation.MoveValidator.itemsMoveHasRequiredFields;
 
+import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -14,20 +15,17 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections15.ListUtils;
-import org.folio.HoldingsRecord;
 import org.folio.inventory.common.WebContext;
-import org.folio.inventory.domain.HoldingsRecordCollection;
-import org.folio.inventory.domain.items.Item;
-import org.folio.inventory.domain.items.ItemCollection;
+import org.folio.inventory.exceptions.ExternalResourceFetchException;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.storage.external.CollectionResourceClient;
 import org.folio.inventory.storage.external.CqlQuery;
 import org.folio.inventory.storage.external.MultipleRecordsFetchClient;
-import org.folio.inventory.support.ItemUtil;
+import org.folio.inventory.support.CompletableFutures;
 import org.folio.inventory.support.http.client.OkapiHttpClient;
+import org.folio.inventory.support.http.server.ClientErrorResponse;
 import org.folio.inventory.support.http.server.JsonResponse;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
 import org.folio.inventory.support.http.server.ValidationError;
@@ -35,11 +33,22 @@ import org.folio.inventory.support.http.server.ValidationError;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 
+/**
+ * Moves items to another holdings record, or holdings records to another
+ * instance, updating no more than a configured number of records at once.
+ *
+ * Moves of more records than a configured threshold are made as a job, the
+ * request is accepted straight away and the outcome is fetched from the
+ * job's status resource once it has finished.
+ */
 public class MoveApi extends AbstractInventoryResource {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
   public static final String TO_HOLDINGS_RECORD_ID = "toHoldingsRecordId";
   public static final String TO_INSTANCE_ID = "toInstanceId";
@@ -49,6 +58,18 @@ public class MoveApi extends AbstractInventoryResource {
   public static final String ITEMS_PROPERTY = "items";
   public static final String HOLDINGS_RECORDS_PROPERTY = "holdingsRecords";
   public static final String HOLDINGS_STORAGE = "/holdings-storage/holdings";
+  public static final String HOLDINGS_RECORD_ID_PROPERTY = "holdingsRecordId";
+  public static final String INSTANCE_ID_PROPERTY = "instanceId";
+  public static final String MOVE_JOBS_PATH = "/inventory/move/jobs";
+
+  public static final String UPDATES_IN_FLIGHT_PROPERTY = "org.folio.inventory.move.updates.in-flight";
+  public static final String ASYNC_THRESHOLD_PROPERTY = "org.folio.inventory.move.async.threshold";
+
+  private static final int DEFAULT_UPDATES_IN_FLIGHT = 10;
+  private static final int DEFAULT_ASYNC_THRESHOLD = 1000;
+
+  //Shared by all instances of the verticle, as a status request may be routed to any of them
+  private static final MoveJobs moveJobs = new MoveJobs();
 
   public MoveApi(final Storage storage, final HttpClient client) {
     super(storage, client);
@@ -59,9 +80,11 @@ public class MoveApi extends AbstractInventoryResource {
     router.post("/inventory/holdings*")
       .handler(BodyHandler.create());
     router.post("/inventory/items/move")
-      .handler(this::moveItems);
+      .handler(measured(this::moveItems));
     router.post("/inventory/holdings/move")
-      .handler(this::moveHoldings);
+      .handler(measured(this::moveHoldings));
+    router.get(MOVE_JOBS_PATH + "/:id")
+      .handler(measured(this::moveJobStatus));
   }
 
   private void moveItems(RoutingContext routingContext) {
@@ -80,23 +103,8 @@ public class MoveApi extends AbstractInventoryResource {
       .findById(toHoldingsRecordId)
       .thenAccept(holding -> {
         if (Objects.nonNull(holding)) {
-          try {
-            CollectionResourceClient itemsStorageClient = createItemStorageClient(createHttpClient(routingContext, context),
-                context);
-            MultipleRecordsFetchClient itemsFetchClient = createItemsFetchClient(itemsStorageClient);
-
-            itemsFetchClient.find(itemIdsToUpdate, this::fetchByIdCql)
-              .thenAccept(jsons -> {
-                List<Item> itemsToUpdate = updateHoldingsRecordIdForItems(toHoldingsRecordId, jsons);
-                updateItems(routingContext, context, itemIdsToUpdate, itemsToUpdate);
-              })
-              .exceptionally(e -> {
-                ServerErrorResponse.internalError(routingContext.response(), e);
-                return null;
-              });
-          } catch (Exception e) {
-            ServerErrorResponse.internalError(routingContext.response(), e);
-          }
+          move(routingContext, context, itemIdsToUpdate,
+            httpClient -> moveItemsTo(toHoldingsRecordId, itemIdsToUpdate, httpClient, context));
         } else {
           JsonResponse.unprocessableEntity(routingContext.response(),
               String.format("Holding with id=%s not found", toHoldingsRecordId));
@@ -123,71 +131,130 @@ public class MoveApi extends AbstractInventoryResource {
           JsonResponse.unprocessableEntity(routingContext.response(), String.format("Instance with id=%s not found", toInstanceId));
           return;
         }
-        try {
-          CollectionResourceClient holdingsStorageClient = createHoldingsStorageClient(createHttpClient(routingContext, context),
-              context);
-          MultipleRecordsFetchClient holdingsRecordFetchClient = createHoldingsRecordsFetchClient(holdingsStorageClient);
-
-          holdingsRecordFetchClient.find(holdingsRecordsIdsToUpdate, this::fetchByIdCql)
-            .thenAccept(jsons -> {
-              List<HoldingsRecord> holdingsRecordsToUpdate = updateInstanceIdForHoldings(toInstanceId, jsons);
-              updateHoldings(routingContext, context, holdingsRecordsIdsToUpdate, holdingsRecordsToUpdate);
-            })
-            .exceptionally(e -> {
-              ServerErrorResponse.internalError(routingContext.response(), e);
-              return null;
-            });
-        } catch (Exception e) {
-          ServerErrorResponse.internalError(routingContext.response(), e);
-        }
+        move(routingContext, context, holdingsRecordsIdsToUpdate,
+          httpClient -> moveHoldingsTo(toInstanceId, holdingsRecordsIdsToUpdate, httpClient, context));
       });
   }
 
-  private List<Item> updateHoldingsRecordIdForItems(String toHoldingsRecordId, List<JsonObject> jsons) {
-    return jsons.stream()
-      .map(ItemUtil::fromStoredItemRepresentation)
-      .map(item -> item.withHoldingId(toHoldingsRecordId))
-      .collect(toList());
+  private void moveJobStatus(RoutingContext routingContext) {
+    WebContext context = new WebContext(routingContext);
+
+    MoveJob job = moveJobs.find(context.getTenantId(), routingContext.request().getParam("id"));
+
+    if (job == null) {
+      ClientErrorResponse.notFound(routingContext.response());
+      return;
+    }
+
+    success(routingContext.response(), job.toJson());
   }
 
-  private void updateItems(RoutingContext routingContext, WebContext context, List<String> idsToUpdate, List<Item> itemsToUpdate) {
-    ItemCollection storageItemCollection = storage.getItemCollection(context);
+  /**
+   * Makes the move while the request is held open, or as a job when more
+   * records are to be moved than the threshold
+   */
+  private void move(RoutingContext routingContext, WebContext context, List<String> idsToUpdate, Move move) {
+    if (idsToUpdate.size() > asyncThreshold()) {
+      MoveJob job = moveJobs.start(context.getTenantId(), idsToUpdate);
+
+      try {
+        JsonResponse.accepted(routingContext.response(),
+          context.absoluteUrl(String.format("%s/%s", MOVE_JOBS_PATH, job.id)).toString(),
+          job.toJson());
+      } catch (MalformedURLException e) {
+        moveJobs.fail(job.id, e.getMessage());
+        ServerErrorResponse.internalError(routingContext.response(), e);
+        return;
+      }
+
+      runJob(job, context, move);
+      return;
+    }
 
-    List<CompletableFuture<Item>> updates = itemsToUpdate.stream()
-      .map(storageItemCollection::update)
-      .collect(Collectors.toList());
+    try {
+      move.apply(createHttpClient(routingContext, context))
+        .thenAccept(updatedIds -> respond(routingContext, idsToUpdate, updatedIds))
+        .exceptionally(e -> {
+          ServerErrorResponse.internalError(routingContext.response(), e);
+          return null;
+        });
+    } catch (Exception e) {
+      ServerErrorResponse.internalError(routingContext.response(), e);
+    }
+  }
 
-    CompletableFuture.allOf(updates.toArray(new CompletableFuture[0]))
-      .handle((vVoid, throwable) -> updates.stream()
-        .filter(future -> !future.isCompletedExceptionally())
-        .map(CompletableFuture::join)
-        .map(Item::getId)
-        .collect(toList()))
-      .thenAccept(updatedIds -> respond(routingContext, idsToUpdate, updatedIds));
+  private void runJob(MoveJob job, WebContext context, Move move) {
+    log.info(String.format("Moving %d records as job %s", job.requestedIds.size(), job.id));
+
+    try {
+      OkapiHttpClient httpClient = new OkapiHttpClient(client, context,
+        exception -> moveJobs.fail(job.id,
+          String.format("Failed to contact storage module: %s", exception.toString())));
+
+      move.apply(httpClient)
+        .whenComplete((updatedIds, error) -> {
+          if (error != null) {
+            log.error(String.format("Move job %s failed", job.id), error);
+            moveJobs.fail(job.id, error.getMessage());
+          } else {
+            log.info(String.format("Move job %s moved %d of %d records",
+              job.id, updatedIds.size(), job.requestedIds.size()));
+            moveJobs.complete(job.id, updatedIds);
+          }
+        });
+    } catch (Exception e) {
+      log.error(String.format("Move job %s failed", job.id), e);
+      moveJobs.fail(job.id, e.getMessage());
+    }
+  }
+
+  private CompletableFuture<List<String>> moveItemsTo(String toHoldingsRecordId, List<String> itemIdsToUpdate,
+      OkapiHttpClient httpClient, WebContext context) throws MalformedURLException {
+
+    CollectionResourceClient itemsStorageClient = createItemStorageClient(httpClient, context);
+
+    return createItemsFetchClient(itemsStorageClient).find(itemIdsToUpdate, this::fetchByIdCql)
+      .thenCompose(jsons -> replaceWithForeignKey(itemsStorageClient, jsons,
+        HOLDINGS_RECORD_ID_PROPERTY, toHoldingsRecordId));
+  }
+
+  private CompletableFuture<List<String>> moveHoldingsTo(String toInstanceId, List<String> holdingsRecordsIdsToUpdate,
+      OkapiHttpClient httpClient, WebContext context) throws MalformedURLException {
+
+    CollectionResourceClient holdingsStorageClient = createHoldingsStorageClient(httpClient, context);
+
+    return createHoldingsRecordsFetchClient(holdingsStorageClient).find(holdingsRecordsIdsToUpdate, this::fetchByIdCql)
+      .thenCompose(jsons -> replaceWithForeignKey(holdingsStorageClient, jsons,
+        INSTANCE_ID_PROPERTY, toInstanceId));
   }
 
-  private List<HoldingsRecord> updateInstanceIdForHoldings(String toInstanceId, List<JsonObject> jsons) {
-    return jsons.stream()
-      .map(json -> json.mapTo(HoldingsRecord.class))
-      .map(holding -> holding.withInstanceId(toInstanceId))
-      .collect(toList());
+  /**
+   * Replaces each stored record with only its foreign key changed, the rest
+   * of the stored representation is sent back as it was fetched rather than
+   * being decoded into a domain object and encoded again
+   *
+   * @return future completed with the ids of the records that were replaced
+   */
+  private CompletableFuture<List<String>> replaceWithForeignKey(CollectionResourceClient storageClient,
+      List<JsonObject> storedRecords, String foreignKeyProperty, String foreignKey) {
+
+    return CompletableFutures.inWaves(storedRecords, updatesInFlight(),
+      storedRecord -> replace(storageClient, storedRecord.put(foreignKeyProperty, foreignKey)));
   }
 
-  private void updateHoldings(RoutingContext routingContext, WebContext context, List<String> idsToUpdate,
-      List<HoldingsRecord> holdingsToUpdate) {
-    HoldingsRecordCollection storageHoldingsRecordsCollection = storage.getHoldingsRecordCollection(context);
+  private CompletableFuture<String> replace(CollectionResourceClient storageClient, JsonObject storedRecord) {
+    final CompletableFuture<String> replaced = new CompletableFuture<>();
+    final String id = storedRecord.getString("id");
 
-    List<CompletableFuture<HoldingsRecord>> updateFutures = holdingsToUpdate.stream()
-      .map(storageHoldingsRecordsCollection::update)
-      .collect(Collectors.toList());
+    storageClient.put(id, storedRecord, response -> {
+      if (response.getStatusCode() == 204) {
+        replaced.complete(id);
+      } else {
+        replaced.completeExceptionally(new ExternalResourceFetchException(response));
+      }
+    });
 
-    CompletableFuture.allOf(updateFutures.toArray(new CompletableFuture[0]))
-      .handle((vVoid, throwable) -> updateFutures.stream()
-        .filter(future -> !future.isCompletedExceptionally())
-        .map(CompletableFuture::join)
-        .map(HoldingsRecord::getId)
-        .collect(toList()))
-      .thenAccept(updatedIds -> respond(routingContext, idsToUpdate, updatedIds));
+    return replaced;
   }
 
   private void respond(RoutingContext routingContext, List<String> itemIdsToUpdate, List<String> updatedItemIds) {
@@ -248,4 +315,23 @@ public class MoveApi extends AbstractInventoryResource {
   private void successWithEmptyIds(HttpServerResponse response) {
     successWithIds(response, new ArrayList<>());
   }
+
+  /**
+   * Read for each move, so that it can be changed without a restart
+   */
+  private static int asyncThreshold() {
+    return Integer.getInteger(ASYNC_THRESHOLD_PROPERTY, DEFAULT_ASYNC_THRESHOLD);
+  }
+
+  private static int updatesInFlight() {
+    return Integer.getInteger(UPDATES_IN_FLIGHT_PROPERTY, DEFAULT_UPDATES_IN_FLIGHT);
+  }
+
+  @FunctionalInterface
+  private interface Move {
+    /**
+     * @return future completed with the ids of the records that were moved
+     */
+    CompletableFuture<List<String>> apply(OkapiHttpClient httpClient) throws MalformedURLException;
+  }
 }
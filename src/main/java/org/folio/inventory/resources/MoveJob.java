@@ -0,0 +1,107 @@
+package org.folio.inventory.resources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A move of items or holdings records too large to be made while the
+ * request is held open, it records which of the requested records were
+ * moved once the move has finished
+ */
+public class MoveJob {
+  public enum Status {
+    IN_PROGRESS("In Progress"), COMPLETED("Completed"), FAILED("Failed");
+
+    private final String printableDescription;
+
+    Status(String printableDescription) {
+      this.printableDescription = printableDescription;
+    }
+
+    @Override
+    public String toString() {
+      return printableDescription;
+    }
+  }
+
+  public final String id;
+  public final String tenantId;
+  public final Status status;
+  public final List<String> requestedIds;
+  public final List<String> movedIds;
+  public final String failure;
+  public final long requestedAt;
+  public final Long completedAt;
+
+  MoveJob(String id, String tenantId, List<String> requestedIds) {
+    this(id, tenantId, Status.IN_PROGRESS, requestedIds, Collections.emptyList(),
+      null, System.currentTimeMillis(), null);
+  }
+
+  private MoveJob(
+    String id,
+    String tenantId,
+    Status status,
+    List<String> requestedIds,
+    List<String> movedIds,
+    String failure,
+    long requestedAt,
+    Long completedAt) {
+
+    this.id = id;
+    this.tenantId = tenantId;
+    this.status = status;
+    this.requestedIds = requestedIds;
+    this.movedIds = movedIds;
+    this.failure = failure;
+    this.requestedAt = requestedAt;
+    this.completedAt = completedAt;
+  }
+
+  MoveJob complete(List<String> movedIds) {
+    return new MoveJob(id, tenantId, Status.COMPLETED, requestedIds,
+      new ArrayList<>(movedIds), null, requestedAt, System.currentTimeMillis());
+  }
+
+  MoveJob fail(String reason) {
+    return new MoveJob(id, tenantId, Status.FAILED, requestedIds,
+      movedIds, reason, requestedAt, System.currentTimeMillis());
+  }
+
+  boolean isFinished() {
+    return completedAt != null;
+  }
+
+  JsonObject toJson() {
+    JsonObject representation = new JsonObject()
+      .put("id", id)
+      .put("status", status.toString())
+      .put("totalRecords", requestedIds.size());
+
+    if (isFinished()) {
+      Set<String> moved = new HashSet<>(movedIds);
+      JsonArray nonUpdatedIds = new JsonArray();
+
+      requestedIds.stream()
+        .filter(requestedId -> !moved.contains(requestedId))
+        .forEach(nonUpdatedIds::add);
+
+      representation
+        .put("movedIds", new JsonArray(new ArrayList<>(movedIds)))
+        .put("nonUpdatedIds", nonUpdatedIds)
+        .put("elapsedMilliseconds", completedAt - requestedAt);
+    }
+
+    if (failure != null) {
+      representation.put("failure", failure);
+    }
+
+    return representation;
+  }
+}
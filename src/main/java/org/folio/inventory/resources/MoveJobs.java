@@ -0,0 +1,52 @@
+package org.folio.inventory.resources;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move jobs of all tenants, held in memory. Finished jobs are kept for an
+ * hour, so that their outcome can be fetched
+ */
+class MoveJobs {
+  private static final long RETAIN_FINISHED_MILLISECONDS = TimeUnit.HOURS.toMillis(1);
+
+  private final Map<String, MoveJob> jobs = new ConcurrentHashMap<>();
+
+  MoveJob start(String tenantId, List<String> requestedIds) {
+    removeExpired();
+
+    MoveJob job = new MoveJob(UUID.randomUUID().toString(), tenantId, requestedIds);
+
+    jobs.put(job.id, job);
+
+    return job;
+  }
+
+  void complete(String id, List<String> movedIds) {
+    jobs.computeIfPresent(id, (notUsed, job) -> job.isFinished() ? job : job.complete(movedIds));
+  }
+
+  void fail(String id, String reason) {
+    jobs.computeIfPresent(id, (notUsed, job) -> job.isFinished() ? job : job.fail(reason));
+  }
+
+  /**
+   * @return the job, or null when there is no job with that id for the tenant
+   */
+  MoveJob find(String tenantId, String id) {
+    MoveJob job = jobs.get(id);
+
+    return job != null && Objects.equals(job.tenantId, tenantId) ? job : null;
+  }
+
+  private void removeExpired() {
+    long now = System.currentTimeMillis();
+
+    jobs.values().removeIf(job -> job.isFinished()
+      && now - job.completedAt > RETAIN_FINISHED_MILLISECONDS);
+  }
+}
@@ -1,5 +1,7 @@
 package org.folio.inventory.resources;
 
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
+
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
@@ -22,7 +24,7 @@ public class TenantApi {
   private static final String OKAPI_TENANT_HEADER = "x-okapi-tenant";
 
   public void register(Router router) {
-    router.post(TENANT_API_PATH).handler(this::postTenant);
+    router.post(TENANT_API_PATH).handler(measured(this::postTenant));
   }
 
   private void postTenant(RoutingContext routingContext) {
@@ -1,5 +1,8 @@
 package org.folio.inventory.resources.ingest;
 
+import static org.folio.inventory.common.WebRequestEventLoop.measured;
+
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -11,9 +14,8 @@ import io.vertx.ext.web.handler.BodyHandler;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.inventory.common.Context;
 import org.folio.inventory.common.WebContext;
+import org.folio.inventory.domain.ingest.ChunkedIngestSender;
 import org.folio.inventory.domain.ingest.IngestMessages;
-import org.folio.inventory.parsing.ModsParser;
-import org.folio.inventory.parsing.UTF8LiteralCharacterEncoding;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.storage.external.CollectionResourceClient;
 import org.folio.inventory.storage.external.ReferenceRecord;
@@ -27,25 +29,42 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-public class ModsIngestion {
+/**
+ * Ingests uploaded MODS or binary MARC files, creating an instance, holding
+ * and item for each record
+ */
+public class FileIngestion {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
   private static final String RELATIVE_MODS_INGEST_PATH = "/inventory/ingest/mods";
+  private static final String RELATIVE_MARC_INGEST_PATH = "/inventory/ingest/marc";
 
   private final Storage storage;
 
   private final HttpClient client;
 
-  public ModsIngestion(final Storage storage, final HttpClient client) {
+  public FileIngestion(final Storage storage, final HttpClient client) {
     this.storage = storage;
     this.client = client;
   }
 
   public void register(Router router) {
-    router.post(RELATIVE_MODS_INGEST_PATH + "*").handler(BodyHandler.create());
-    router.post(RELATIVE_MODS_INGEST_PATH).handler(this::ingest);
-    router.get(RELATIVE_MODS_INGEST_PATH + "/status/:id").handler(this::status);
+    register(router, RELATIVE_MODS_INGEST_PATH, "MODS", ModsFileRecordSource::new);
+    register(router, RELATIVE_MARC_INGEST_PATH, "MARC", MarcFileRecordSource::new);
+  }
+
+  private void register(
+    Router router,
+    String path,
+    String format,
+    Function<String, FileRecordSource> sources) {
+
+    router.post(path + "*").handler(BodyHandler.create());
+    router.post(path).handler(measured(
+      routingContext -> ingest(routingContext, path, format, sources)));
+    router.get(path + "/status/:id").handler(measured(this::status));
   }
 
   //TODO: Will only work for single examples of each reference record
@@ -55,7 +74,12 @@ public class ModsIngestion {
   // books instance type
   // isbn identifier type
   // personal contributor type
-  private void ingest(RoutingContext routingContext) {
+  private void ingest(
+    RoutingContext routingContext,
+    String path,
+    String format,
+    Function<String, FileRecordSource> sources) {
+
     if(routingContext.fileUploads().size() > 1) {
       ClientErrorResponse.badRequest(routingContext.response(),
         "Cannot parse multiple files in a single request");
@@ -164,46 +188,95 @@ public class ModsIngestion {
           return;
         }
 
-        wrapWithExceptionHandler(routingContext,
-          getFileContents(routingContext.vertx().fileSystem(), uploadFileName))
-          .thenAccept(fileContents -> {
-            try {
-              List<JsonObject> records = new ModsParser(
-                new UTF8LiteralCharacterEncoding())
-                .parseRecords(fileContents);
-
-              storage.getIngestJobCollection(context)
-                .add(new IngestJob(IngestJobState.REQUESTED),
-                  success -> {
-                    IngestMessages.start(records,
-                      singleEntryMap(bookMaterialType),
-                      singleEntryMap(canCirculateLoanType),
-                      singleEntryMap(mainLibraryLocation),
-                      singleEntryMap(isbnIdentifierType),
-                      singleEntryMap(booksInstanceType),
-                      singleEntryMap(personalContributorNameType),
-                      success.getResult().id, context).send(routingContext.vertx());
-
-                    RedirectResponse.accepted(routingContext.response(),
-                      statusLocation(routingContext, success.getResult().id));
-                  },
-                  failure -> log.error("Creating Ingest Job failed")
-                );
-            } catch (Exception e) {
-              ServerErrorResponse.internalError(routingContext.response(),
-                String.format("Unable to parse MODS file:%s", e.toString()));
-            }
-          });
+        storage.getIngestJobCollection(context)
+          .add(new IngestJob(IngestJobState.REQUESTED),
+            success -> {
+              String jobId = success.getResult().id;
+
+              ingestFile(routingContext.vertx(), format,
+                sources.apply(uploadFileName), uploadFileName,
+                IngestMessages.referenceData(
+                  singleEntryMap(bookMaterialType),
+                  singleEntryMap(canCirculateLoanType),
+                  singleEntryMap(mainLibraryLocation),
+                  singleEntryMap(isbnIdentifierType),
+                  singleEntryMap(booksInstanceType),
+                  singleEntryMap(personalContributorNameType)),
+                jobId, context);
+
+              RedirectResponse.accepted(routingContext.response(),
+                statusLocation(routingContext, path, jobId));
+            },
+            failure -> log.error("Creating Ingest Job failed")
+          );
     });
   }
 
+  /**
+   * Streams the records of the uploaded file to the ingest processor, the
+   * file is removed once every record has been processed, and the job
+   * completed when the whole file could be read, failed otherwise
+   */
+  private void ingestFile(
+    Vertx vertx,
+    String format,
+    FileRecordSource source,
+    String uploadFileName,
+    JsonObject referenceData,
+    String jobId,
+    Context context) {
+
+    ChunkedIngestSender.fromSystemProperties(vertx)
+      .send(source, referenceData, jobId, context)
+      .setHandler(sent -> {
+        if(sent.failed()) {
+          log.error(String.format("Unable to parse %s file for ingest job %s: %s",
+            format, jobId, sent.cause().toString()));
+
+          IngestMessages.failed(jobId, sent.cause().toString(), context).send(vertx);
+        }
+        else {
+          IngestMessages.completed(jobId, sent.result(), context).send(vertx);
+        }
+
+        try {
+          source.close();
+        }
+        catch (Exception e) {
+          log.warn(String.format("Unable to close %s file %s", format, uploadFileName), e);
+        }
+
+        vertx.fileSystem().delete(uploadFileName, deleted -> {
+          if(deleted.failed()) {
+            log.warn(String.format("Unable to delete %s file %s", format, uploadFileName),
+              deleted.cause());
+          }
+        });
+      });
+  }
+
   private void status(RoutingContext routingContext) {
     Context context = new WebContext(routingContext);
 
     storage.getIngestJobCollection(context)
       .findById(routingContext.request().getParam("id"),
-        it -> JsonResponse.success(routingContext.response(),
-          new JsonObject().put("status", it.getResult().state.toString())),
+        it -> {
+          IngestJob job = it.getResult();
+
+          if(job == null) {
+            ClientErrorResponse.notFound(routingContext.response());
+            return;
+          }
+
+          JsonResponse.success(routingContext.response(), new JsonObject()
+            .put("status", job.state.toString())
+            .put("recordsReceived", job.recordsReceived)
+            .put("instancesCreated", job.instancesCreated)
+            .put("holdingsCreated", job.holdingsCreated)
+            .put("itemsCreated", job.itemsCreated)
+            .put("failures", job.failures)
+            .put("elapsedMilliseconds", job.elapsedMilliseconds()));
+        },
         FailureResponseConsumer.serverError(routingContext.response()));
   }
 
@@ -215,12 +288,16 @@ public class ModsIngestion {
     return map;
   }
 
-  private String statusLocation(RoutingContext routingContext, String jobId) {
+  private String statusLocation(
+    RoutingContext routingContext,
+    String path,
+    String jobId) {
+
     String scheme = routingContext.request().scheme();
     String host = routingContext.request().host();
 
     return String.format("%s://%s%s/status/%s",
-      scheme, host, RELATIVE_MODS_INGEST_PATH, jobId);
+      scheme, host, path, jobId);
   }
 
   private String uploadFileName(RoutingContext routingContext) {
@@ -267,27 +344,4 @@ public class ModsIngestion {
   private boolean anyNull(ReferenceRecord... records) {
     return Stream.of(records).anyMatch(Objects::isNull);
   }
-
-  private CompletableFuture<String> getFileContents(
-    io.vertx.core.file.FileSystem fileSystem, String filename) {
-
-    CompletableFuture<String> future = new CompletableFuture<>();
-
-    try {
-      fileSystem.readFile(filename,
-        result -> {
-          if(result.succeeded()) {
-            future.complete(result.result().toString());
-          }
-          else {
-            future.completeExceptionally(result.cause());
-          }
-      });
-    }
-    catch (Exception e) {
-      future.completeExceptionally(e);
-    }
-
-    return future;
-  }
 }
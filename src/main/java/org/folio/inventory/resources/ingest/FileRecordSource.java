@@ -0,0 +1,9 @@
+package org.folio.inventory.resources.ingest;
+
+import org.folio.inventory.domain.ingest.IngestRecordSource;
+
+/**
+ * Source of the records of an uploaded file, closed once the file has been ingested
+ */
+interface FileRecordSource extends IngestRecordSource, AutoCloseable {
+}
@@ -3,21 +3,90 @@ package org.folio.inventory.resources.ingest;
 public class IngestJob {
   public final String id;
   public final IngestJobState state;
+  public final int recordsReceived;
+  public final int instancesCreated;
+  public final int holdingsCreated;
+  public final int itemsCreated;
+  public final int failures;
+  public final long requestedAt;
+  public final Long completedAt;
 
   public IngestJob(String id, IngestJobState state) {
-    this.id = id;
-    this.state = state;
+    this(id, state, 0, 0, 0, 0, 0, System.currentTimeMillis(), null);
   }
 
   public IngestJob(IngestJobState state) {
     this(null, state);
   }
 
+  private IngestJob(
+    String id,
+    IngestJobState state,
+    int recordsReceived,
+    int instancesCreated,
+    int holdingsCreated,
+    int itemsCreated,
+    int failures,
+    long requestedAt,
+    Long completedAt) {
+
+    this.id = id;
+    this.state = state;
+    this.recordsReceived = recordsReceived;
+    this.instancesCreated = instancesCreated;
+    this.holdingsCreated = holdingsCreated;
+    this.itemsCreated = itemsCreated;
+    this.failures = failures;
+    this.requestedAt = requestedAt;
+    this.completedAt = completedAt;
+  }
+
   public IngestJob complete() {
-    return new IngestJob(this.id, IngestJobState.COMPLETED);
+    return new IngestJob(this.id, IngestJobState.COMPLETED, this.recordsReceived,
+      this.instancesCreated, this.holdingsCreated, this.itemsCreated,
+      this.failures, this.requestedAt, System.currentTimeMillis());
+  }
+
+  /**
+   * The job could not be finished, e.g. as the file could not be read,
+   * records already created are kept
+   */
+  public IngestJob fail() {
+    return new IngestJob(this.id, IngestJobState.FAILED, this.recordsReceived,
+      this.instancesCreated, this.holdingsCreated, this.itemsCreated,
+      this.failures, this.requestedAt, System.currentTimeMillis());
+  }
+
+  public IngestJob inProgress() {
+    if(this.state != IngestJobState.REQUESTED) {
+      return this;
+    }
+
+    return new IngestJob(this.id, IngestJobState.IN_PROGRESS, this.recordsReceived,
+      this.instancesCreated, this.holdingsCreated, this.itemsCreated,
+      this.failures, this.requestedAt, this.completedAt);
+  }
+
+  public IngestJob recordsReceived(int records) {
+    return new IngestJob(this.id, this.state, this.recordsReceived + records,
+      this.instancesCreated, this.holdingsCreated, this.itemsCreated,
+      this.failures, this.requestedAt, this.completedAt);
+  }
+
+  public IngestJob recordsProcessed(int instances, int holdings, int items, int failures) {
+    return new IngestJob(this.id, this.state, this.recordsReceived,
+      this.instancesCreated + instances, this.holdingsCreated + holdings,
+      this.itemsCreated + items, this.failures + failures, this.requestedAt,
+      this.completedAt);
+  }
+
+  public long elapsedMilliseconds() {
+    return (completedAt != null ? completedAt : System.currentTimeMillis()) - requestedAt;
   }
 
   public IngestJob copyWithNewId(String newId) {
-    return new IngestJob(newId, this.state);
+    return new IngestJob(newId, this.state, this.recordsReceived,
+      this.instancesCreated, this.holdingsCreated, this.itemsCreated,
+      this.failures, this.requestedAt, this.completedAt);
   }
 }
@@ -0,0 +1,83 @@
+package org.folio.inventory.resources.ingest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.parsing.MarcParser;
+import org.folio.inventory.parsing.MarcRecordReader;
+import org.folio.inventory.support.JsonArrayHelper;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the records of an uploaded binary MARC file as they are requested,
+ * converting each chunk with {@link MarcParser} into the shape of the records
+ * parsed from MODS, the file is only opened on the first read
+ */
+class MarcFileRecordSource implements FileRecordSource {
+  private static final String SOURCE = "Local: MARC";
+
+  private final String fileName;
+
+  private MarcParser parser;
+  private MarcRecordReader reader;
+
+  MarcFileRecordSource(String fileName) {
+    this.fileName = fileName;
+  }
+
+  @Override
+  public synchronized List<JsonObject> read(int maximumRecords) throws Exception {
+    if (reader == null) {
+      parser = new MarcParser();
+      reader = MarcRecordReader.open(Paths.get(fileName));
+    }
+
+    List<JsonObject> marcRecords = new ArrayList<>(maximumRecords);
+    JsonObject marcRecord;
+
+    while (marcRecords.size() < maximumRecords && (marcRecord = reader.next()) != null) {
+      marcRecords.add(marcRecord);
+    }
+
+    if (marcRecords.isEmpty()) {
+      return marcRecords;
+    }
+
+    return parser.marcJson2FolioJson(marcRecords).stream()
+      .map(MarcFileRecordSource::toIngestRecord)
+      .collect(Collectors.toList());
+  }
+
+  @Override
+  public synchronized void close() throws Exception {
+    if (reader != null) {
+      reader.close();
+    }
+  }
+
+  /**
+   * Only ISBNs are kept as identifiers, as every identifier of an ingested
+   * record is given the ISBN identifier type
+   */
+  private static JsonObject toIngestRecord(JsonObject converted) {
+    List<JsonObject> identifiers = JsonArrayHelper.toList(
+      converted.getJsonArray("identifiers")).stream()
+      .filter(identifier -> "ISBN".equals(identifier.getString("type")))
+      .map(identifier -> new JsonObject().put("value", identifier.getString("value")))
+      .collect(Collectors.toList());
+
+    List<JsonObject> contributors = JsonArrayHelper.toList(
+      converted.getJsonArray("contributors")).stream()
+      .map(contributor -> new JsonObject().put("name", contributor.getString("value")))
+      .collect(Collectors.toList());
+
+    return new JsonObject()
+      .put("title", converted.getString("title"))
+      .put("source", SOURCE)
+      .put("identifiers", new JsonArray(identifiers))
+      .put("contributors", new JsonArray(contributors));
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.inventory.resources.ingest;
+
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.parsing.ModsRecordReader;
+import org.folio.inventory.parsing.UTF8LiteralCharacterEncoding;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of an uploaded MODS file as they are requested,
+ * the file is only opened on the first read
+ */
+class ModsFileRecordSource implements FileRecordSource {
+  private final String fileName;
+
+  private InputStream file;
+  private ModsRecordReader reader;
+
+  ModsFileRecordSource(String fileName) {
+    this.fileName = fileName;
+  }
+
+  @Override
+  public synchronized List<JsonObject> read(int maximumRecords) throws Exception {
+    if (reader == null) {
+      file = new BufferedInputStream(new FileInputStream(fileName));
+      reader = new ModsRecordReader(file, new UTF8LiteralCharacterEncoding());
+    }
+
+    List<JsonObject> records = new ArrayList<>(maximumRecords);
+    JsonObject record;
+
+    while (records.size() < maximumRecords && (record = reader.next()) != null) {
+      records.add(record);
+    }
+
+    return records;
+  }
+
+  @Override
+  public synchronized void close() throws Exception {
+    try {
+      if (reader != null) {
+        reader.close();
+      }
+    }
+    finally {
+      if (file != null) {
+        file.close();
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.inventory.storage;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.folio.inventory.common.Context;
 import org.folio.inventory.domain.CollectionProvider;
@@ -35,17 +36,26 @@ public class Storage {
             "For external storage, location must be provided.");
         }
 
-        return new Storage(context -> new ExternalStorageCollections(vertx, location, client));
+        return new Storage(context -> new ExternalStorageCollections(vertx, location,
+          client, context.getTimings()));
 
       case "okapi":
         return new Storage(context ->
-          new ExternalStorageCollections(vertx, context.getOkapiLocation(), client));
+          new ExternalStorageCollections(vertx, context.getOkapiLocation(),
+            client, context.getTimings()));
 
       default:
         throw new IllegalArgumentException("Storage type must be one of [external, okapi]");
     }
   }
 
+  /**
+   * Storage which uses the one supplied at the time of each call
+   */
+  public static Storage delegatingTo(Supplier<Storage> storage) {
+    return new Storage(context -> storage.get().providerFactory.apply(context));
+  }
+
   public ItemCollection getItemCollection(Context context) {
     return providerFactory.apply(context).getItemCollection(
       context.getTenantId(), context.getToken());
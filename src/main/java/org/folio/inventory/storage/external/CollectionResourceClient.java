@@ -5,6 +5,8 @@ import java.util.function.Consumer;
 
 import org.folio.inventory.support.http.client.OkapiHttpClient;
 import org.folio.inventory.support.http.client.Response;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+import org.folio.inventory.support.metrics.UpstreamMetrics;
 
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpClientResponse;
@@ -13,12 +15,14 @@ public class CollectionResourceClient {
 
   private final OkapiHttpClient client;
   private final URL collectionRoot;
+  private final String collectionTemplate;
 
   public CollectionResourceClient(OkapiHttpClient client,
                                   URL collectionRoot) {
 
     this.client = client;
     this.collectionRoot = collectionRoot;
+    this.collectionTemplate = UpstreamMetrics.pathTemplate(collectionRoot.toString());
   }
 
   public void post(Object resourceRepresentation,
@@ -85,7 +89,8 @@ public class CollectionResourceClient {
     Consumer<Response> responseHandler) {
 
     return response ->
-      response.bodyHandler(buffer ->
-        responseHandler.accept(Response.from(response, buffer)));
+      response.bodyHandler(EventLoopMonitor.getDefault().measured(
+        EventLoopMonitor.STORAGE_RESPONSE, collectionTemplate,
+        buffer -> responseHandler.accept(Response.from(response, buffer))));
   }
 }
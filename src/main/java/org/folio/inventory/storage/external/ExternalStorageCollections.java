@@ -1,5 +1,6 @@
 package org.folio.inventory.storage.external;
 
+import org.folio.inventory.common.RequestTimings;
 import org.folio.inventory.domain.CollectionProvider;
 import org.folio.inventory.domain.HoldingCollection;
 import org.folio.inventory.domain.HoldingsRecordCollection;
@@ -16,36 +17,44 @@ public class ExternalStorageCollections implements CollectionProvider {
   private final Vertx vertx;
   private final String baseAddress;
   private final HttpClient client;
+  private final RequestTimings timings;
   private static final InMemoryIngestJobCollection ingestJobCollection = new InMemoryIngestJobCollection();
 
   public ExternalStorageCollections(Vertx vertx, String baseAddress, HttpClient client) {
+    this(vertx, baseAddress, client, RequestTimings.disabled());
+  }
+
+  public ExternalStorageCollections(Vertx vertx, String baseAddress,
+    HttpClient client, RequestTimings timings) {
+
     this.vertx = vertx;
     this.baseAddress = baseAddress;
     this.client = client;
+    this.timings = timings;
   }
 
   @Override
   public ItemCollection getItemCollection(String tenantId, String token) {
-    return new ExternalStorageModuleItemCollection(vertx, baseAddress,
-      tenantId, token, client);
+    return timed(new ExternalStorageModuleItemCollection(vertx, baseAddress,
+      tenantId, token, client));
   }
 
   @Override
   public HoldingCollection getHoldingCollection(String tenantId, String token) {
-    return new ExternalStorageModuleHoldingCollection(vertx, baseAddress,
-      tenantId, token, client);
+    return timed(new ExternalStorageModuleHoldingCollection(vertx, baseAddress,
+      tenantId, token, client));
   }
 
   @Override
   public HoldingsRecordCollection getHoldingsRecordCollection(String tenantId, String token) {
-    return new ExternalStorageModuleHoldingsRecordCollection(vertx, baseAddress,
-      tenantId, token, client);
+    return timed(new ExternalStorageModuleHoldingsRecordCollection(vertx, baseAddress,
+      tenantId, token, client));
   }
 
   @Override
   public InstanceCollection getInstanceCollection(String tenantId, String token) {
-    return new ExternalStorageModuleInstanceCollection(vertx, baseAddress,
-      tenantId, token, client);
+    return timed(new ExternalStorageModuleInstanceCollection(vertx, baseAddress,
+      tenantId, token, client));
   }
 
   @Override
@@ -56,7 +65,13 @@ public class ExternalStorageCollections implements CollectionProvider {
 
   @Override
   public UserCollection getUserCollection(String tenantId, String token) {
-    return new ExternalStorageModuleUserCollection(vertx, baseAddress,
-      tenantId, token, client);
+    return timed(new ExternalStorageModuleUserCollection(vertx, baseAddress,
+      tenantId, token, client));
+  }
+
+  private <C extends ExternalStorageModuleCollection<?>> C timed(C collection) {
+    collection.recordTimingsIn(timings);
+
+    return collection;
   }
 }
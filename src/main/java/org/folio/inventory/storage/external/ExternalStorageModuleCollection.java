@@ -2,6 +2,7 @@ package org.folio.inventory.storage.external;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
@@ -10,12 +11,15 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.inventory.common.RequestTimings;
 import org.folio.inventory.common.api.request.PagingParameters;
 import org.folio.inventory.common.domain.Failure;
 import org.folio.inventory.common.domain.MultipleRecords;
 import org.folio.inventory.common.domain.Success;
 import org.folio.inventory.support.JsonArrayHelper;
 import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.metrics.EventLoopMonitor;
+import org.folio.inventory.support.metrics.UpstreamMetrics;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
@@ -30,6 +34,9 @@ abstract class ExternalStorageModuleCollection<T> {
   private final String token;
   private final String collectionWrapperPropertyName;
   private final HttpClient client;
+  private final String storageTemplate;
+
+  private RequestTimings timings = RequestTimings.disabled();
 
   ExternalStorageModuleCollection(
     Vertx vertx,
@@ -45,6 +52,15 @@ abstract class ExternalStorageModuleCollection<T> {
     this.token = token;
     this.collectionWrapperPropertyName = collectionWrapperPropertyName;
     this.client = client;
+    this.storageTemplate = UpstreamMetrics.pathTemplate(storageAddress);
+  }
+
+  /**
+   * Records requests made by this collection in the timings of the request
+   * being handled, collections are created for each request
+   */
+  void recordTimingsIn(RequestTimings timings) {
+    this.timings = timings;
   }
 
   protected abstract JsonObject mapToRequest(T record);
@@ -56,7 +72,7 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Failure> failureCallback) {
 
     Handler<HttpClientResponse> onResponse = response ->
-      response.bodyHandler(buffer -> {
+      response.bodyHandler(measured(buffer -> {
         String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
@@ -68,7 +84,7 @@ abstract class ExternalStorageModuleCollection<T> {
         else {
           failureCallback.accept(new Failure(responseBody, statusCode));
         }
-    });
+    }));
 
     JsonObject toSend = mapToRequest(item);
 
@@ -86,7 +102,7 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Failure> failureCallback) {
 
     Handler<HttpClientResponse> onResponse =
-      response -> response.bodyHandler(buffer -> {
+      response -> response.bodyHandler(measured(buffer -> {
         String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
@@ -106,7 +122,7 @@ abstract class ExternalStorageModuleCollection<T> {
           default:
             failureCallback.accept(new Failure(responseBody, statusCode));
         }
-    });
+    }));
 
     HttpClientRequest request = createRequest(HttpMethod.GET,
       individualRecordLocation(id), onResponse, failureCallback);
@@ -245,7 +261,7 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Failure> failureCallback) {
 
     return response ->
-      response.bodyHandler(buffer -> {
+      response.bodyHandler(measured(buffer -> {
         String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
@@ -255,7 +271,16 @@ abstract class ExternalStorageModuleCollection<T> {
         else {
           failureCallback.accept(new Failure(responseBody, statusCode));
         }
-      });
+      }));
+  }
+
+  /**
+   * @return a handler for the body of a response, measured for how long it
+   * holds the event loop mapping the records and passing them on
+   */
+  protected Handler<Buffer> measured(Handler<Buffer> bodyHandler) {
+    return EventLoopMonitor.getDefault().measured(EventLoopMonitor.STORAGE_RESPONSE,
+      storageTemplate, bodyHandler);
   }
 
   protected HttpClientRequest createRequest(
@@ -265,7 +290,8 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Failure> failureCallback) {
 
     HttpClientRequest request = client
-      .requestAbs(method, location, onResponse);
+      .requestAbs(method, location, timings.upstream(method, location,
+        UpstreamMetrics.timed(method, location, onResponse)));
 
     registerExceptionHandler(request, failureCallback);
     addOkapiHeaders(request);
@@ -282,7 +308,7 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Failure> failureCallback) {
 
     return response ->
-      response.bodyHandler(buffer -> {
+      response.bodyHandler(measured(buffer -> {
         String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
@@ -304,7 +330,7 @@ abstract class ExternalStorageModuleCollection<T> {
         else {
           failureCallback.accept(new Failure(responseBody, statusCode));
         }
-      });
+      }));
   }
 
   void includeIfPresent(
@@ -207,7 +207,7 @@ class ExternalStorageModuleInstanceCollection
               Consumer<Success<BatchResult<Instance>>> resultCallback, Consumer<Failure> failureCallback) {
 
     Handler<HttpClientResponse> onResponse = response ->
-      response.bodyHandler(buffer -> {
+      response.bodyHandler(measured(buffer -> {
         String responseBody = buffer.getString(0, buffer.length());
 
         if (isBatchResponse(response)) {
@@ -227,7 +227,7 @@ class ExternalStorageModuleInstanceCollection
         else {
           failureCallback.accept(new Failure(responseBody, response.statusCode()));
         }
-      });
+      }));
 
     List<JsonObject> jsonList = items.stream()
       .map(this::mapToRequest)
@@ -8,11 +8,14 @@ import org.folio.inventory.domain.ingest.IngestJobCollection;
 import org.folio.inventory.resources.ingest.IngestJob;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 public class InMemoryIngestJobCollection implements IngestJobCollection {
-  private final List<IngestJob> items = new ArrayList<>();
+  private final ConcurrentMap<String, IngestJob> items = new ConcurrentHashMap<>();
 
   @Override
   public void empty(
@@ -33,7 +36,7 @@ public class InMemoryIngestJobCollection implements IngestJobCollection {
       item = item.copyWithNewId(UUID.randomUUID().toString());
     }
 
-    items.add(item);
+    items.put(item.id, item);
     resultCallback.accept(new Success<>(item));
   }
 
@@ -43,16 +46,7 @@ public class InMemoryIngestJobCollection implements IngestJobCollection {
     Consumer<Success<IngestJob>> resultCallback,
     Consumer<Failure> failureCallback) {
 
-    Optional<IngestJob> foundJob = items.stream()
-      .filter(it -> it.id.equals(id))
-      .findFirst();
-
-    if(foundJob.isPresent()) {
-      resultCallback.accept(new Success<>(foundJob.get()));
-    }
-    else {
-      resultCallback.accept(new Success<>(null));
-    }
+    resultCallback.accept(new Success<>(id != null ? items.get(id) : null));
   }
 
   @Override
@@ -61,14 +55,17 @@ public class InMemoryIngestJobCollection implements IngestJobCollection {
     Consumer<Success<MultipleRecords<IngestJob>>> resultCallback,
     Consumer<Failure> failureCallback) {
 
-    int totalRecords = items.size();
+    List<IngestJob> all = new ArrayList<>(items.values());
+
+    all.sort(Comparator.<IngestJob>comparingLong(it -> it.requestedAt)
+      .thenComparing(it -> it.id));
 
-    List<IngestJob> paged = items.stream()
+    List<IngestJob> paged = all.stream()
       .skip(pagingParameters.offset)
       .limit(pagingParameters.limit)
       .collect(Collectors.toList());
 
-    resultCallback.accept(new Success<>(new MultipleRecords<>(paged, totalRecords)));
+    resultCallback.accept(new Success<>(new MultipleRecords<>(paged, all.size())));
   }
 
   @Override
@@ -77,19 +74,36 @@ public class InMemoryIngestJobCollection implements IngestJobCollection {
     Consumer<Success<Void>> completionCallback,
     Consumer<Failure> failureCallback) {
 
-    items.removeIf(it -> it.id.equals(ingestJob.id));
-    items.add(ingestJob);
+    items.put(ingestJob.id, ingestJob);
 
     completionCallback.accept(new Success<>(null));
   }
 
+  @Override
+  public void change(
+    final String id,
+    UnaryOperator<IngestJob> change,
+    Consumer<Success<IngestJob>> resultCallback,
+    Consumer<Failure> failureCallback) {
+
+    IngestJob changed = items.computeIfPresent(id, (key, job) -> change.apply(job));
+
+    if(changed == null) {
+      failureCallback.accept(new Failure(
+        String.format("Ingest job %s not found", id), 404));
+      return;
+    }
+
+    resultCallback.accept(new Success<>(changed));
+  }
+
   @Override
   public void delete(
     final String id,
     Consumer<Success<Void>> completionCallback,
     Consumer<Failure> failureCallback) {
 
-    items.removeIf(it -> it.id.equals(id));
+    items.remove(id);
     completionCallback.accept(new Success<>(null));
   }
 }
@@ -1,6 +1,12 @@
 package org.folio.inventory.support;
 
+import static org.apache.commons.collections4.ListUtils.partition;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public final class CompletableFutures {
 
@@ -16,4 +22,52 @@ public final class CompletableFutures {
 
     return future;
   }
+
+  /**
+   * Applies an operation to each of the elements in waves, a wave is only
+   * started once all of the operations in the previous wave have completed.
+   *
+   * @param waveSize - maximum number of operations incomplete at once.
+   * @return future completed with the results of the operations that
+   * succeeded, those that failed are left out.
+   */
+  public static <T, R> CompletableFuture<List<R>> inWaves(
+    List<T> elements, int waveSize, Function<T, CompletableFuture<R>> operation) {
+
+    CompletableFuture<List<R>> allWaves = CompletableFuture.completedFuture(new ArrayList<>());
+
+    for (List<T> wave : partition(elements, Math.max(waveSize, 1))) {
+      allWaves = allWaves.thenCompose(results -> allSucceeded(wave, operation)
+        .thenApply(waveResults -> {
+          results.addAll(waveResults);
+          return results;
+        }));
+    }
+
+    return allWaves;
+  }
+
+  private static <T, R> CompletableFuture<List<R>> allSucceeded(
+    List<T> elements, Function<T, CompletableFuture<R>> operation) {
+
+    final List<CompletableFuture<R>> futures = elements.stream()
+      .map(element -> apply(operation, element))
+      .collect(Collectors.toList());
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+      .handle((notUsed, throwable) -> futures.stream()
+        .filter(future -> !future.isCompletedExceptionally())
+        .map(CompletableFuture::join)
+        .collect(Collectors.toList()));
+  }
+
+  private static <T, R> CompletableFuture<R> apply(
+    Function<T, CompletableFuture<R>> operation, T element) {
+
+    try {
+      return operation.apply(element);
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+  }
 }
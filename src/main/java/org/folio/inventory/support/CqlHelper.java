@@ -6,6 +6,7 @@ import io.vertx.core.logging.LoggerFactory;
 import java.io.UnsupportedEncodingException;
 import java.lang.invoke.MethodHandles;
 import java.net.URLEncoder;
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -59,6 +60,20 @@ public class CqlHelper {
     return "barcode==\"" + cqlMask(barcode) + "\"";
   }
 
+  /**
+   * Returns a CQL expression with an exact match for any of the barcodes.
+   * <p>
+   * barcodeIsAnyOf(["abc", "1-*"]) = "barcode==(\"abc\" or \"1-\*\")"
+   * @param barcodes  Strings to match
+   * @return CQL expression
+   */
+  public static String barcodeIsAnyOf(Collection<String> barcodes) {
+    return String.format("barcode==(%s)", barcodes.stream()
+      .map(barcode -> "\"" + cqlMask(barcode) + "\"")
+      .distinct()
+      .collect(Collectors.joining(" or ")));
+  }
+
   /**
    * Mask these special CQL characters by prepending a backslash: * ? ^ " \
    *
@@ -0,0 +1,26 @@
+package org.folio.inventory.support.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.inventory.DataImportHandler")
+@Label("Data Import Handler")
+@Description("A data-import event handler handling an event, until the future it returned completed")
+@Category({"FOLIO", "Inventory"})
+@Enabled(false)
+@StackTrace(false)
+class DataImportHandlerEvent extends Event {
+  @Label("Handler")
+  String handler;
+
+  @Label("Event Type")
+  String eventType;
+
+  @Label("Succeeded")
+  boolean succeeded;
+}
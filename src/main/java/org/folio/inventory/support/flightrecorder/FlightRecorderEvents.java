@@ -0,0 +1,112 @@
+package org.folio.inventory.support.flightrecorder;
+
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Java Flight Recorder events for the paths that dominate the time taken
+ * by inventory: requests to storage, the stages of building a response,
+ * data-import event handlers and ingest batches.
+ *
+ * Every event is disabled by default, so recording them needs a recording
+ * started with settings which enable them, such as the "jfr/inventory.jfc"
+ * settings bundled with the module, e.g.
+ * "-XX:StartFlightRecording=settings=/path/to/inventory.jfc,filename=inventory.jfr".
+ *
+ * When an event is not enabled, or the runtime has no flight recorder, the
+ * returned handle does nothing and no event is kept.
+ */
+public final class FlightRecorderEvents {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String EVENT_CLASS = "jdk.jfr.Event";
+  private static final String RECORDER_CLASS = "org.folio.inventory.support.flightrecorder.JfrRecorder";
+
+  private static final Recorder RECORDER = createRecorder();
+
+  private FlightRecorderEvents() { }
+
+  /**
+   * @return whether the runtime has a flight recorder to record events with
+   */
+  public static boolean isAvailable() {
+    return RECORDER != Recorder.NONE;
+  }
+
+  /**
+   * Starts recording a request made to storage, which ends when the
+   * status and headers of the response are received
+   */
+  public static StorageCall storageCall(HttpMethod method, String url) {
+    return RECORDER.storageCall(method, url);
+  }
+
+  /**
+   * Starts recording a stage of handling a request
+   */
+  public static Span stage(String name) {
+    return RECORDER.stage(name);
+  }
+
+  /**
+   * Starts recording a data-import event handler handling an event
+   */
+  public static HandlerExecution dataImportHandler(String handler, String eventType) {
+    return RECORDER.dataImportHandler(handler, eventType);
+  }
+
+  /**
+   * Starts recording the writing of a batch of ingested records
+   */
+  public static IngestBatch ingestBatch(String recordType, int records) {
+    return RECORDER.ingestBatch(recordType, records);
+  }
+
+  /**
+   * The events extend a class which is only present in runtimes with a
+   * flight recorder, so they are only loaded once it is known to be there
+   */
+  private static Recorder createRecorder() {
+    try {
+      Class.forName(EVENT_CLASS);
+
+      return (Recorder) Class.forName(RECORDER_CLASS).newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      log.info("Flight recorder is not available, inventory events will not be recorded");
+
+      return Recorder.NONE;
+    }
+  }
+
+  @FunctionalInterface
+  public interface StorageCall {
+    StorageCall NONE = response -> { };
+
+    void end(HttpClientResponse response);
+  }
+
+  @FunctionalInterface
+  public interface Span {
+    Span NONE = () -> { };
+
+    void end();
+  }
+
+  @FunctionalInterface
+  public interface HandlerExecution {
+    HandlerExecution NONE = succeeded -> { };
+
+    void end(boolean succeeded);
+  }
+
+  @FunctionalInterface
+  public interface IngestBatch {
+    IngestBatch NONE = created -> { };
+
+    void end(int created);
+  }
+}
@@ -0,0 +1,26 @@
+package org.folio.inventory.support.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.inventory.IngestBatch")
+@Label("Ingest Batch")
+@Description("Writing a batch of ingested records to storage")
+@Category({"FOLIO", "Inventory"})
+@Enabled(false)
+@StackTrace(false)
+class IngestBatchEvent extends Event {
+  @Label("Record Type")
+  String recordType;
+
+  @Label("Records")
+  int records;
+
+  @Label("Created")
+  int created;
+}
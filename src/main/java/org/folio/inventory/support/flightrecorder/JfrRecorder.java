@@ -0,0 +1,119 @@
+package org.folio.inventory.support.flightrecorder;
+
+import io.vertx.core.http.HttpMethod;
+import org.folio.inventory.support.metrics.UpstreamMetrics;
+
+/**
+ * Records events with the flight recorder. Each event is checked before
+ * it is started, so an event which is not enabled costs no more than
+ * creating (usually optimised away) and checking it.
+ */
+class JfrRecorder implements Recorder {
+  private static final String CONTENT_LENGTH = "Content-Length";
+
+  @Override
+  public FlightRecorderEvents.StorageCall storageCall(HttpMethod method, String url) {
+    StorageCallEvent event = new StorageCallEvent();
+
+    if (!event.isEnabled()) {
+      return FlightRecorderEvents.StorageCall.NONE;
+    }
+
+    event.begin();
+
+    return response -> {
+      event.end();
+
+      if (event.shouldCommit()) {
+        event.method = method.name();
+        event.path = UpstreamMetrics.pathTemplate(url);
+        event.status = response.statusCode();
+        event.bytes = contentLength(response.getHeader(CONTENT_LENGTH));
+        event.commit();
+      }
+    };
+  }
+
+  @Override
+  public FlightRecorderEvents.Span stage(String name) {
+    StageEvent event = new StageEvent();
+
+    if (!event.isEnabled()) {
+      return FlightRecorderEvents.Span.NONE;
+    }
+
+    event.begin();
+
+    return () -> {
+      event.end();
+
+      if (event.shouldCommit()) {
+        event.stage = name;
+        event.commit();
+      }
+    };
+  }
+
+  @Override
+  public FlightRecorderEvents.HandlerExecution dataImportHandler(
+    String handler,
+    String eventType) {
+
+    DataImportHandlerEvent event = new DataImportHandlerEvent();
+
+    if (!event.isEnabled()) {
+      return FlightRecorderEvents.HandlerExecution.NONE;
+    }
+
+    event.begin();
+
+    return succeeded -> {
+      event.end();
+
+      if (event.shouldCommit()) {
+        event.handler = handler;
+        event.eventType = eventType;
+        event.succeeded = succeeded;
+        event.commit();
+      }
+    };
+  }
+
+  @Override
+  public FlightRecorderEvents.IngestBatch ingestBatch(String recordType, int records) {
+    IngestBatchEvent event = new IngestBatchEvent();
+
+    if (!event.isEnabled()) {
+      return FlightRecorderEvents.IngestBatch.NONE;
+    }
+
+    event.begin();
+
+    return created -> {
+      event.end();
+
+      if (event.shouldCommit()) {
+        event.recordType = recordType;
+        event.records = records;
+        event.created = created;
+        event.commit();
+      }
+    };
+  }
+
+  /**
+   * @return the length of the response body, or -1 when it is not known
+   * up front, e.g. when the response is chunked
+   */
+  private static long contentLength(String header) {
+    if (header == null) {
+      return -1;
+    }
+
+    try {
+      return Long.parseLong(header.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package org.folio.inventory.support.flightrecorder;
+
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Starts the recording of events, the recorder used when there is no
+ * flight recorder records nothing
+ */
+interface Recorder {
+  Recorder NONE = new Recorder() { };
+
+  default FlightRecorderEvents.StorageCall storageCall(HttpMethod method, String url) {
+    return FlightRecorderEvents.StorageCall.NONE;
+  }
+
+  default FlightRecorderEvents.Span stage(String name) {
+    return FlightRecorderEvents.Span.NONE;
+  }
+
+  default FlightRecorderEvents.HandlerExecution dataImportHandler(
+    String handler,
+    String eventType) {
+
+    return FlightRecorderEvents.HandlerExecution.NONE;
+  }
+
+  default FlightRecorderEvents.IngestBatch ingestBatch(String recordType, int records) {
+    return FlightRecorderEvents.IngestBatch.NONE;
+  }
+}
@@ -0,0 +1,20 @@
+package org.folio.inventory.support.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.inventory.Stage")
+@Label("Request Stage")
+@Description("A stage of handling a request, e.g. fetching the holdings of items")
+@Category({"FOLIO", "Inventory"})
+@Enabled(false)
+@StackTrace(false)
+class StageEvent extends Event {
+  @Label("Stage")
+  String stage;
+}
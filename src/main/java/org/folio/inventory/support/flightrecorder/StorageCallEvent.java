@@ -0,0 +1,33 @@
+package org.folio.inventory.support.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.folio.inventory.StorageCall")
+@Label("Storage Call")
+@Description("A request made to a storage module, until its response headers were received")
+@Category({"FOLIO", "Inventory"})
+@Enabled(false)
+@StackTrace(false)
+class StorageCallEvent extends Event {
+  @Label("Method")
+  String method;
+
+  @Label("Path")
+  @Description("Path requested, with identifiers replaced by :id")
+  String path;
+
+  @Label("Status")
+  int status;
+
+  @Label("Response Size")
+  @Description("Content length of the response, -1 when not known")
+  @DataAmount
+  long bytes;
+}
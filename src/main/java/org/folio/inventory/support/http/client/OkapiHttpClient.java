@@ -5,12 +5,16 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.inventory.common.RequestTimings;
+import org.folio.inventory.common.Sampling;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.metrics.UpstreamMetrics;
 
 import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
@@ -20,6 +24,12 @@ import java.util.function.Consumer;
 public class OkapiHttpClient {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+  /**
+   * Fraction of POST and PUT request bodies to write to the log, none by
+   * default as batch requests can be megabytes in size
+   */
+  public static final String BODY_LOG_SAMPLE_RATE_PROPERTY = "org.folio.inventory.http-client.body-log.sample-rate";
+
   private static final String TENANT_HEADER = "X-Okapi-Tenant";
   private static final String TOKEN_HEADER = "X-Okapi-Token";
   private static final String OKAPI_URL_HEADER = "X-Okapi-Url";
@@ -33,6 +43,7 @@ public class OkapiHttpClient {
   private final String userId;
   private final String requestId;
   private final Consumer<Throwable> exceptionHandler;
+  private final RequestTimings timings;
 
   public OkapiHttpClient(HttpClient httpClient,
     WebContext context, Consumer<Throwable> exceptionHandler)
@@ -40,7 +51,7 @@ public class OkapiHttpClient {
 
     this(httpClient, new URL(context.getOkapiLocation()),
       context.getTenantId(), context.getToken(), context.getUserId(),
-      context.getRequestId(), exceptionHandler);
+      context.getRequestId(), exceptionHandler, context.getTimings());
   }
 
   /** HTTP client that calls via Okapi
@@ -61,6 +72,19 @@ public class OkapiHttpClient {
     String requestId,
     Consumer<Throwable> exceptionHandler) {
 
+    this(httpClient, okapiUrl, tenantId, token, userId, requestId,
+      exceptionHandler, RequestTimings.disabled());
+  }
+
+  private OkapiHttpClient(HttpClient httpClient,
+    URL okapiUrl,
+    String tenantId,
+    String token,
+    String userId,
+    String requestId,
+    Consumer<Throwable> exceptionHandler,
+    RequestTimings timings) {
+
     this.client = httpClient;
     this.okapiUrl = okapiUrl;
     this.tenantId = tenantId;
@@ -68,13 +92,15 @@ public class OkapiHttpClient {
     this.token = token;
     this.requestId = requestId;
     this.exceptionHandler = exceptionHandler;
+    this.timings = timings;
   }
 
   public void post(URL url,
                    Object body,
                    Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.postAbs(url.toString(), responseHandler);
+    HttpClientRequest request = client.postAbs(url.toString(),
+      timed(HttpMethod.POST, url.toString(), responseHandler));
 
     okapiHeaders(request);
     accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
@@ -89,8 +115,10 @@ public class OkapiHttpClient {
     if(body != null) {
       String encodedBody = Json.encodePrettily(body);
 
-      log.info(String.format("POST %s, Request: %s",
-        url.toString(), encodedBody));
+      if (Sampling.isSampled(BODY_LOG_SAMPLE_RATE_PROPERTY, 0)) {
+        log.info(String.format("POST %s, Request: %s",
+          url.toString(), encodedBody));
+      }
 
       request.end(encodedBody);
     }
@@ -110,7 +138,8 @@ public class OkapiHttpClient {
                   Object body,
                   Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.putAbs(url, responseHandler);
+    HttpClientRequest request = client.putAbs(url,
+      timed(HttpMethod.PUT, url, responseHandler));
 
     okapiHeaders(request);
     accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
@@ -118,7 +147,9 @@ public class OkapiHttpClient {
 
     String encodedBody = Json.encodePrettily(body);
 
-    log.info(String.format("PUT %s, Request: %s", url, encodedBody));
+    if (Sampling.isSampled(BODY_LOG_SAMPLE_RATE_PROPERTY, 0)) {
+      log.info(String.format("PUT %s, Request: %s", url, encodedBody));
+    }
 
     request.end(encodedBody);
   }
@@ -140,13 +171,16 @@ public class OkapiHttpClient {
 
   public void get(String url, Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.getAbs(url, responseHandler);
+    HttpClientRequest request = client.getAbs(url,
+      timed(HttpMethod.GET, url, responseHandler));
 
     accept(request, ContentType.APPLICATION_JSON);
 
     okapiHeaders(request);
 
-    log.info(String.format("GET %s", url));
+    if (log.isDebugEnabled()) {
+      log.debug(String.format("GET %s", url));
+    }
 
     request.end();
   }
@@ -158,7 +192,8 @@ public class OkapiHttpClient {
 
   public void delete(String url, Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.deleteAbs(url, responseHandler);
+    HttpClientRequest request = client.deleteAbs(url,
+      timed(HttpMethod.DELETE, url, responseHandler));
 
     accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
 
@@ -167,6 +202,15 @@ public class OkapiHttpClient {
     request.end();
   }
 
+  private Handler<HttpClientResponse> timed(
+    HttpMethod method,
+    String url,
+    Handler<HttpClientResponse> responseHandler) {
+
+    return timings.upstream(method, url,
+      UpstreamMetrics.timed(method, url, responseHandler));
+  }
+
   private void okapiHeaders(HttpClientRequest request) {
     if(StringUtils.isNotBlank(this.tenantId)) {
       request.headers().add(TENANT_HEADER, this.tenantId);
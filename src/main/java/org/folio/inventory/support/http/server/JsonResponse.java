@@ -24,6 +24,15 @@ public class JsonResponse {
     response(response, body, 201);
   }
 
+  public static void accepted(HttpServerResponse response,
+                              String location,
+                              JsonObject body) {
+
+    response.putHeader(HttpHeaders.LOCATION, location);
+
+    response(response, body, 202);
+  }
+
   public static void success(HttpServerResponse response,
                              JsonObject body) {
 
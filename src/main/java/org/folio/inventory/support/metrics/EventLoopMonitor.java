@@ -0,0 +1,338 @@
+package org.folio.inventory.support.metrics;
+
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures how long handlers hold the thread they run on, which for route
+ * handlers, data-import handlers and the handling of storage responses is
+ * an event loop thread, that cannot handle anything else in the meantime.
+ *
+ * Every invocation is recorded in a histogram by the kind and name of the
+ * handler. The slowest invocations over the threshold are kept, with stack
+ * samples of the thread taken while they were running, so the work which
+ * held the event loop can be found.
+ *
+ * Only the synchronous part of a handler is measured, any work it starts
+ * which completes later is measured by the handler of its outcome.
+ *
+ * The CPU time each invocation used can also be recorded, in a separate
+ * histogram, to tell handlers that do work apart from those that were
+ * waiting for a lock or were descheduled. It is off by default, as it
+ * costs two more system calls per invocation.
+ */
+public class EventLoopMonitor {
+  public static final String ENABLED_PROPERTY = "org.folio.inventory.event-loop.monitor.enabled";
+  public static final String THRESHOLD_PROPERTY = "org.folio.inventory.event-loop.slow-threshold.ms";
+  public static final String SLOWEST_KEPT_PROPERTY = "org.folio.inventory.event-loop.slowest-kept";
+  public static final String SAMPLE_INTERVAL_PROPERTY = "org.folio.inventory.event-loop.sample-interval.ms";
+  public static final String CPU_TIME_PROPERTY = "org.folio.inventory.event-loop.cpu-time.enabled";
+
+  public static final String HOLD = "inventory_event_loop_hold_seconds";
+  public static final String SLOW = "inventory_event_loop_slow_invocations_total";
+  public static final String CPU = "inventory_event_loop_cpu_seconds";
+
+  public static final String ROUTE = "route";
+  public static final String DATA_IMPORT_HANDLER = "data-import-handler";
+  public static final String STORAGE_RESPONSE = "storage-response";
+
+  private static final long DEFAULT_THRESHOLD_MILLISECONDS = 50;
+  private static final int DEFAULT_SLOWEST_KEPT = 20;
+  private static final long DEFAULT_SAMPLE_INTERVAL_MILLISECONDS = 10;
+
+  private static final int MAXIMUM_SAMPLES = 5;
+  private static final int MAXIMUM_SAMPLE_DEPTH = 40;
+
+  private static final List<String> LABELS = Arrays.asList("kind", "name");
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  private static final EventLoopMonitor DEFAULT = fromSystemProperties(MetricsRegistry.getDefault());
+
+  private final MetricsRegistry registry;
+  private final boolean enabled;
+  private final long thresholdNanos;
+  private final int slowestKept;
+  private final long sampleIntervalMilliseconds;
+  private final boolean cpuTime;
+
+  private final Set<Invocation> running = ConcurrentHashMap.newKeySet();
+  private final PriorityQueue<SlowInvocation> slowest = new PriorityQueue<>(
+    Comparator.comparingLong(invocation -> invocation.durationNanos));
+  private final AtomicBoolean samplerStarted = new AtomicBoolean(false);
+
+  public EventLoopMonitor(
+    MetricsRegistry registry,
+    boolean enabled,
+    long thresholdMilliseconds,
+    int slowestKept,
+    long sampleIntervalMilliseconds) {
+
+    this(registry, enabled, thresholdMilliseconds, slowestKept,
+      sampleIntervalMilliseconds, false);
+  }
+
+  public EventLoopMonitor(
+    MetricsRegistry registry,
+    boolean enabled,
+    long thresholdMilliseconds,
+    int slowestKept,
+    long sampleIntervalMilliseconds,
+    boolean cpuTime) {
+
+    this.registry = registry;
+    this.enabled = enabled;
+    this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMilliseconds);
+    this.slowestKept = slowestKept;
+    this.sampleIntervalMilliseconds = sampleIntervalMilliseconds;
+    this.cpuTime = cpuTime && THREADS.isCurrentThreadCpuTimeSupported();
+  }
+
+  public static EventLoopMonitor fromSystemProperties(MetricsRegistry registry) {
+    return new EventLoopMonitor(registry,
+      Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")),
+      Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MILLISECONDS),
+      Integer.getInteger(SLOWEST_KEPT_PROPERTY, DEFAULT_SLOWEST_KEPT),
+      Long.getLong(SAMPLE_INTERVAL_PROPERTY, DEFAULT_SAMPLE_INTERVAL_MILLISECONDS),
+      Boolean.parseBoolean(System.getProperty(CPU_TIME_PROPERTY, "false")));
+  }
+
+  public static EventLoopMonitor getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * @return a handler which measures how long the given handler holds the
+   * thread for each event
+   */
+  public <T> Handler<T> measured(String kind, String name, Handler<T> handler) {
+    if (!enabled) {
+      return handler;
+    }
+
+    return event -> measure(kind, name, () -> handler.handle(event));
+  }
+
+  /**
+   * Measures how long the work holds the thread
+   */
+  public void measure(String kind, String name, Runnable work) {
+    if (!enabled) {
+      work.run();
+      return;
+    }
+
+    startSampling();
+
+    Invocation invocation = new Invocation(kind, Thread.currentThread());
+    long cpuStartedNanos = cpuTime ? THREADS.getCurrentThreadCpuTime() : 0;
+
+    running.add(invocation);
+
+    try {
+      work.run();
+    } finally {
+      running.remove(invocation);
+
+      if (cpuTime) {
+        registry.histogram(CPU, "CPU time used by handlers on the thread they ran on",
+          LABELS, kind, name)
+          .observe(THREADS.getCurrentThreadCpuTime() - cpuStartedNanos);
+      }
+
+      completed(invocation, name, System.nanoTime() - invocation.startedNanos);
+    }
+  }
+
+  /**
+   * @return the slowest invocations kept, slowest first
+   */
+  public List<SlowInvocation> slowest() {
+    List<SlowInvocation> kept;
+
+    synchronized (slowest) {
+      kept = new ArrayList<>(slowest);
+    }
+
+    kept.sort(Comparator.comparingLong((SlowInvocation invocation) -> invocation.durationNanos)
+      .reversed());
+
+    return kept;
+  }
+
+  public JsonObject toJson() {
+    JsonArray invocations = new JsonArray();
+
+    slowest().forEach(invocation -> invocations.add(invocation.toJson()));
+
+    return new JsonObject()
+      .put("enabled", enabled)
+      .put("thresholdMilliseconds", TimeUnit.NANOSECONDS.toMillis(thresholdNanos))
+      .put("slowest", invocations);
+  }
+
+  /**
+   * Takes a stack sample of each thread held by an invocation for longer
+   * than the threshold, up to a few samples per invocation
+   */
+  void sample() {
+    long now = System.nanoTime();
+
+    for (Invocation invocation : running) {
+      if (now - invocation.startedNanos >= thresholdNanos) {
+        invocation.sample();
+      }
+    }
+  }
+
+  private void completed(Invocation invocation, String name, long durationNanos) {
+    registry.histogram(HOLD, "Time handlers held the thread they ran on",
+      LABELS, invocation.kind, name)
+      .observe(durationNanos);
+
+    if (durationNanos < thresholdNanos) {
+      return;
+    }
+
+    registry.counter(SLOW, "Handlers which held the thread they ran on for longer than the threshold",
+      LABELS, invocation.kind, name)
+      .increment();
+
+    SlowInvocation slow = new SlowInvocation(invocation.kind, name,
+      invocation.thread.getName(), invocation.startedAt, durationNanos,
+      invocation.samples());
+
+    synchronized (slowest) {
+      if (slowest.size() < slowestKept) {
+        slowest.add(slow);
+      } else if (!slowest.isEmpty() && slowest.peek().durationNanos < durationNanos) {
+        slowest.poll();
+        slowest.add(slow);
+      }
+    }
+  }
+
+  private void startSampling() {
+    if (sampleIntervalMilliseconds <= 0 || !samplerStarted.compareAndSet(false, true)) {
+      return;
+    }
+
+    ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "inventory-event-loop-sampler");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    sampler.scheduleAtFixedRate(this::sample, sampleIntervalMilliseconds,
+      sampleIntervalMilliseconds, TimeUnit.MILLISECONDS);
+  }
+
+  private static final class Invocation {
+    private final String kind;
+    private final Thread thread;
+    private final long startedAt = System.currentTimeMillis();
+    private final long startedNanos = System.nanoTime();
+    private final List<List<String>> samples = new ArrayList<>();
+
+    private Invocation(String kind, Thread thread) {
+      this.kind = kind;
+      this.thread = thread;
+    }
+
+    private void sample() {
+      synchronized (samples) {
+        if (samples.size() >= MAXIMUM_SAMPLES) {
+          return;
+        }
+      }
+
+      StackTraceElement[] stack = thread.getStackTrace();
+      List<String> frames = new ArrayList<>();
+
+      for (int index = 0; index < stack.length && index < MAXIMUM_SAMPLE_DEPTH; index++) {
+        frames.add(stack[index].toString());
+      }
+
+      synchronized (samples) {
+        samples.add(frames);
+      }
+    }
+
+    private List<List<String>> samples() {
+      synchronized (samples) {
+        return new ArrayList<>(samples);
+      }
+    }
+  }
+
+  public static final class SlowInvocation {
+    private final String kind;
+    private final String name;
+    private final String thread;
+    private final long startedAt;
+    private final long durationNanos;
+    private final List<List<String>> stackSamples;
+
+    private SlowInvocation(
+      String kind,
+      String name,
+      String thread,
+      long startedAt,
+      long durationNanos,
+      List<List<String>> stackSamples) {
+
+      this.kind = kind;
+      this.name = name;
+      this.thread = thread;
+      this.startedAt = startedAt;
+      this.durationNanos = durationNanos;
+      this.stackSamples = stackSamples;
+    }
+
+    public String getKind() {
+      return kind;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getDurationNanos() {
+      return durationNanos;
+    }
+
+    public List<List<String>> getStackSamples() {
+      return stackSamples;
+    }
+
+    public JsonObject toJson() {
+      JsonArray samples = new JsonArray();
+
+      stackSamples.forEach(frames -> samples.add(new JsonArray(new ArrayList<>(frames))));
+
+      return new JsonObject()
+        .put("kind", kind)
+        .put("name", name)
+        .put("thread", thread)
+        .put("startedAt", Instant.ofEpochMilli(startedAt).toString())
+        .put("durationMilliseconds", TimeUnit.NANOSECONDS.toMicros(durationNanos) / 1000.0)
+        .put("stackSamples", samples);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package org.folio.inventory.support.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed buckets, which can be observed concurrently
+ * without locking. Counts are kept per bucket and only made cumulative
+ * when they are read.
+ */
+public class Histogram {
+  static final double[] LATENCY_BUCKETS_SECONDS = {
+    0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+
+  private final double[] upperBounds;
+  private final LongAdder[] counts;
+  private final DoubleAdder sum = new DoubleAdder();
+
+  Histogram(double[] upperBounds) {
+    this.upperBounds = upperBounds;
+    //The last count is for observations above every upper bound
+    this.counts = new LongAdder[upperBounds.length + 1];
+
+    for (int index = 0; index < counts.length; index++) {
+      counts[index] = new LongAdder();
+    }
+  }
+
+  public void observe(long durationNanos) {
+    double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+
+    int bucket = 0;
+
+    while (bucket < upperBounds.length && seconds > upperBounds[bucket]) {
+      bucket++;
+    }
+
+    counts[bucket].increment();
+    sum.add(seconds);
+  }
+
+  double[] upperBounds() {
+    return upperBounds;
+  }
+
+  /**
+   * @return the number of observations less than or equal to each upper
+   * bound, followed by the total number of observations
+   */
+  long[] cumulativeCounts() {
+    long[] cumulative = new long[counts.length];
+    long total = 0;
+
+    for (int index = 0; index < counts.length; index++) {
+      total += counts[index].sum();
+      cumulative[index] = total;
+    }
+
+    return cumulative;
+  }
+
+  double sum() {
+    return sum.sum();
+  }
+}
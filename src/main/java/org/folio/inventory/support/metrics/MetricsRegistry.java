@@ -0,0 +1,210 @@
+package org.folio.inventory.support.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the metrics of the module, written in the Prometheus text
+ * exposition format when scraped.
+ *
+ * Metrics are grouped in families by name, each member of a family has a
+ * value for each of the label names of the family. Members are created the
+ * first time they are used, so the values of labels need to be drawn from
+ * a small set (route templates rather than paths, for example).
+ */
+public class MetricsRegistry {
+  private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+  private static final String COUNTER = "counter";
+  private static final String GAUGE = "gauge";
+  private static final String HISTOGRAM = "histogram";
+
+  private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+
+  /**
+   * @return the registry shared by every verticle instance in this class loader
+   */
+  public static MetricsRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * @return the latency histogram for the label values, with the default
+   * buckets, from 5 milliseconds to 10 seconds
+   */
+  public Histogram histogram(String name, String help,
+    List<String> labelNames, String... labelValues) {
+
+    return (Histogram) family(name, help, HISTOGRAM, labelNames)
+      .member(labelValues, values -> new Histogram(Histogram.LATENCY_BUCKETS_SECONDS));
+  }
+
+  public LongAdder counter(String name, String help,
+    List<String> labelNames, String... labelValues) {
+
+    return (LongAdder) family(name, help, COUNTER, labelNames)
+      .member(labelValues, values -> new LongAdder());
+  }
+
+  /**
+   * Registers a counter which is maintained elsewhere, the supplier is
+   * called each time the registry is scraped and replaces any previously
+   * registered for the name
+   */
+  public void counter(String name, String help, Supplier<Number> value) {
+    family(name, help, COUNTER, Collections.emptyList()).supplier = value;
+  }
+
+  /**
+   * Registers a gauge, the supplier is called each time the registry is
+   * scraped and replaces any previously registered for the name
+   */
+  public void gauge(String name, String help, Supplier<Number> value) {
+    family(name, help, GAUGE, Collections.emptyList()).supplier = value;
+  }
+
+  /**
+   * @return every metric in the Prometheus text format (version 0.0.4),
+   * ordered by name and label values
+   */
+  public String scrape() {
+    StringBuilder output = new StringBuilder();
+
+    new TreeMap<>(families).values().forEach(family -> family.write(output));
+
+    return output.toString();
+  }
+
+  private Family family(String name, String help, String type, List<String> labelNames) {
+    Family family = families.computeIfAbsent(name,
+      key -> new Family(name, help, type, labelNames));
+
+    if (!family.type.equals(type) || !family.labelNames.equals(labelNames)) {
+      throw new IllegalArgumentException(String.format(
+        "Metric %s is already registered as a %s with labels %s",
+        name, family.type, family.labelNames));
+    }
+
+    return family;
+  }
+
+  private static final class Family {
+    private final String name;
+    private final String help;
+    private final String type;
+    private final List<String> labelNames;
+    private final ConcurrentMap<List<String>, Object> members = new ConcurrentHashMap<>();
+
+    private volatile Supplier<Number> supplier;
+
+    private Family(String name, String help, String type, List<String> labelNames) {
+      this.name = name;
+      this.help = help;
+      this.type = type;
+      this.labelNames = new ArrayList<>(labelNames);
+    }
+
+    private Object member(String[] labelValues, Function<List<String>, Object> create) {
+      if (labelValues.length != labelNames.size()) {
+        throw new IllegalArgumentException(String.format(
+          "Metric %s requires values for labels %s", name, labelNames));
+      }
+
+      return members.computeIfAbsent(Arrays.asList(labelValues), create);
+    }
+
+    private void write(StringBuilder output) {
+      output.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+      output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+
+      Supplier<Number> currentSupplier = supplier;
+
+      if (currentSupplier != null) {
+        sample(output, name, "", currentSupplier.get().doubleValue());
+        return;
+      }
+
+      Map<String, Object> sorted = new TreeMap<>();
+
+      members.forEach((labelValues, member) -> sorted.put(labels(labelValues), member));
+
+      sorted.forEach((labels, member) -> {
+        if (member instanceof Histogram) {
+          writeHistogram(output, labels, (Histogram) member);
+        } else {
+          sample(output, name, braces(labels), ((LongAdder) member).sum());
+        }
+      });
+    }
+
+    private void writeHistogram(StringBuilder output, String labels, Histogram histogram) {
+      double[] upperBounds = histogram.upperBounds();
+      long[] counts = histogram.cumulativeCounts();
+      String separator = labels.isEmpty() ? "" : ",";
+
+      for (int index = 0; index < counts.length; index++) {
+        String upperBound = index < upperBounds.length
+          ? formatValue(upperBounds[index])
+          : "+Inf";
+
+        sample(output, name + "_bucket",
+          braces(labels + separator + "le=\"" + upperBound + "\""), counts[index]);
+      }
+
+      sample(output, name + "_sum", braces(labels), histogram.sum());
+      sample(output, name + "_count", braces(labels), counts[counts.length - 1]);
+    }
+
+    private String labels(List<String> labelValues) {
+      StringBuilder labels = new StringBuilder();
+
+      for (int index = 0; index < labelNames.size(); index++) {
+        if (index > 0) {
+          labels.append(',');
+        }
+
+        labels.append(labelNames.get(index))
+          .append("=\"")
+          .append(escapeLabelValue(labelValues.get(index)))
+          .append('"');
+      }
+
+      return labels.toString();
+    }
+  }
+
+  private static void sample(StringBuilder output, String name, String labels, double value) {
+    output.append(name).append(labels).append(' ').append(formatValue(value)).append('\n');
+  }
+
+  private static String braces(String labels) {
+    return labels.isEmpty() ? "" : "{" + labels + "}";
+  }
+
+  private static String formatValue(double value) {
+    return value == Math.rint(value) && !Double.isInfinite(value)
+      ? Long.toString((long) value)
+      : Double.toString(value);
+  }
+
+  private static String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+
+  private static String escapeLabelValue(String value) {
+    if (value == null) {
+      return "";
+    }
+
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,110 @@
+package org.folio.inventory.support.metrics;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import org.folio.inventory.support.flightrecorder.FlightRecorderEvents;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Timing of requests made to other modules, labelled by the template of
+ * the path requested, so that the time spent waiting for each storage
+ * dependency can be told apart.
+ *
+ * The time recorded is until the status and headers of the response are
+ * received, the body is consumed by the response handler. Each request is
+ * also recorded as a flight recorder event, when those are enabled.
+ */
+public class UpstreamMetrics {
+  public static final String REQUESTS = "inventory_upstream_requests_seconds";
+  public static final String RESPONSES = "inventory_upstream_responses_total";
+
+  private static final List<String> LATENCY_LABELS = Arrays.asList("method", "upstream");
+  private static final List<String> RESPONSE_LABELS = Arrays.asList("method", "upstream", "status");
+
+  private static final Pattern IDENTIFIER = Pattern.compile(
+    "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9]+");
+
+  private UpstreamMetrics() { }
+
+  /**
+   * @return a handler which records the time since it was created before
+   * passing the response on
+   */
+  public static Handler<HttpClientResponse> timed(
+    HttpMethod method,
+    String url,
+    Handler<HttpClientResponse> responseHandler) {
+
+    final long started = System.nanoTime();
+    final FlightRecorderEvents.StorageCall call = FlightRecorderEvents.storageCall(method, url);
+
+    return response -> {
+      record(MetricsRegistry.getDefault(), method, url, response.statusCode(),
+        System.nanoTime() - started);
+
+      call.end(response);
+
+      responseHandler.handle(response);
+    };
+  }
+
+  static void record(
+    MetricsRegistry registry,
+    HttpMethod method,
+    String url,
+    int statusCode,
+    long durationNanos) {
+
+    String template = pathTemplate(url);
+
+    registry.histogram(REQUESTS, "Time taken for requests to other modules",
+      LATENCY_LABELS, method.name(), template)
+      .observe(durationNanos);
+
+    registry.counter(RESPONSES, "Responses from other modules by status code",
+      RESPONSE_LABELS, method.name(), template, String.valueOf(statusCode))
+      .increment();
+  }
+
+  /**
+   * Reduces a URL to the template of its path, without the query and with
+   * any segment which is a UUID or a number replaced by ":id", for example
+   * "http://okapi:9130/item-storage/items/{uuid}?lang=en" becomes
+   * "/item-storage/items/:id"
+   */
+  public static String pathTemplate(String url) {
+    String path;
+
+    try {
+      path = new URI(url).getRawPath();
+    } catch (URISyntaxException e) {
+      int queryStart = url.indexOf('?');
+      path = queryStart < 0 ? url : url.substring(0, queryStart);
+    }
+
+    if (path == null || path.isEmpty()) {
+      return "/";
+    }
+
+    String[] segments = path.split("/", -1);
+    StringBuilder template = new StringBuilder(path.length());
+
+    for (int index = 0; index < segments.length; index++) {
+      if (index > 0) {
+        template.append('/');
+      }
+
+      template.append(IDENTIFIER.matcher(segments[index]).matches()
+        ? ":id"
+        : segments[index]);
+    }
+
+    return template.toString();
+  }
+}
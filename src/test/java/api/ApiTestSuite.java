@@ -29,6 +29,8 @@ import api.items.ItemApiExamples;
 import api.items.ItemApiTitleExamples;
 import api.items.MarkItemMissingApiTests;
 import api.items.MarkItemWithdrawnApiTests;
+import api.metrics.EventLoopApiExamples;
+import api.metrics.MetricsApiExamples;
 import api.support.ControlledVocabularyPreparation;
 import api.support.http.ResourceClient;
 import api.tenant.TenantApiExamples;
@@ -43,6 +45,7 @@ import support.fakes.FakeOkapi;
   ItemApiExamples.class,
   ItemApiTitleExamples.class,
   ModsIngestExamples.class,
+  MarcIngestExamples.class,
   IsbnUtilsApiExamples.class,
   ItemAllowedStatusesSchemaTest.class,
   TenantApiExamples.class,
@@ -53,7 +56,9 @@ import support.fakes.FakeOkapi;
   MarkItemWithdrawnApiTests.class,
   ItemApiMoveExamples.class,
   MarkItemMissingApiTests.class,
-  HoldingsApiMoveExamples.class
+  HoldingsApiMoveExamples.class,
+  MetricsApiExamples.class,
+  EventLoopApiExamples.class
 })
 public class ApiTestSuite {
   public static final int INVENTORY_VERTICLE_TEST_PORT = 9603;
@@ -8,6 +8,7 @@ import static api.support.InstanceSamples.taoOfPooh;
 import static api.support.InstanceSamples.temeraire;
 import static api.support.InstanceSamples.treasureIslandInstance;
 import static api.support.InstanceSamples.uprooted;
+import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.core.http.HttpMethod.PUT;
 import static java.util.Arrays.asList;
@@ -59,6 +60,7 @@ import com.github.jsonldjava.core.JsonLdProcessor;
 import api.support.ApiRoot;
 import api.support.ApiTests;
 import api.support.InstanceApiClient;
+import api.support.StorageCallBudget;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -67,6 +69,24 @@ import support.fakes.EndpointFailureDescriptor;
 public class InstancesApiExamples extends ApiTests {
 
   private static final InventoryConfiguration config = new InventoryConfigurationImpl();
+
+  /**
+   * The relationships and the preceding and succeeding titles of all of the
+   * instances fetched are each fetched in one request
+   */
+  private static final StorageCallBudget GET_INSTANCES_BUDGET = StorageCallBudget.atMost(3)
+    .andAtMost(1, GET, "/instance-storage/instances")
+    .andAtMost(1, GET, "/instance-storage/instance-relationships")
+    .andAtMost(1, GET, "/preceding-succeeding-titles");
+
+  private static final StorageCallBudget GET_INSTANCE_BUDGET = StorageCallBudget.atMost(3);
+
+  /**
+   * Creating or replacing an instance checks for existing relationships and
+   * preceding and succeeding titles, and replacing fetches the instance first
+   */
+  private static final StorageCallBudget CREATE_INSTANCE_BUDGET = StorageCallBudget.atMost(3);
+  private static final StorageCallBudget UPDATE_INSTANCE_BUDGET = StorageCallBudget.atMost(4);
   private final String tagNameOne = "important";
   private final String tagNameTwo = "very important";
 
@@ -101,23 +121,21 @@ public class InstancesApiExamples extends ApiTests {
         ))
       );
 
-    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    Response postResponse = CREATE_INSTANCE_BUDGET.during(() -> {
+      CompletableFuture<Response> postCompleted = new CompletableFuture<>();
 
-    okapiClient.post(ApiRoot.instances(),
-      newInstanceRequest, ResponseHandler.any(postCompleted));
+      okapiClient.post(ApiRoot.instances(),
+        newInstanceRequest, ResponseHandler.any(postCompleted));
 
-    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+      return postCompleted.get(5, TimeUnit.SECONDS);
+    });
 
     String location = postResponse.getLocation();
 
     assertThat(postResponse.getStatusCode(), is(201));
     assertThat(location, is(notNullValue()));
 
-    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
-
-    okapiClient.get(location, ResponseHandler.json(getCompleted));
-
-    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+    Response getResponse = GET_INSTANCE_BUDGET.during(() -> getInstances(location));
 
     assertThat(getResponse.getStatusCode(), is(200));
 
@@ -187,23 +205,21 @@ public class InstancesApiExamples extends ApiTests {
       .put("source", "Local")
       .put("instanceTypeId", ApiTestSuite.getTextInstanceType());
 
-    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    Response postResponse = CREATE_INSTANCE_BUDGET.during(() -> {
+      CompletableFuture<Response> postCompleted = new CompletableFuture<>();
 
-    okapiClient.post(ApiRoot.instances(),
-      newInstanceRequest, ResponseHandler.any(postCompleted));
+      okapiClient.post(ApiRoot.instances(),
+        newInstanceRequest, ResponseHandler.any(postCompleted));
 
-    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+      return postCompleted.get(5, TimeUnit.SECONDS);
+    });
 
     String location = postResponse.getLocation();
 
     assertThat(postResponse.getStatusCode(), is(201));
     assertThat(location, is(notNullValue()));
 
-    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
-
-    okapiClient.get(location, ResponseHandler.json(getCompleted));
-
-    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+    Response getResponse = GET_INSTANCE_BUDGET.during(() -> getInstances(location));
 
     assertThat(getResponse.getStatusCode(), is(200));
 
@@ -423,20 +439,19 @@ public class InstancesApiExamples extends ApiTests {
     URL instanceLocation = new URL(String.format("%s/%s", ApiRoot.instances(),
       newInstance.getString("id")));
 
-    CompletableFuture<Response> putCompleted = new CompletableFuture<>();
+    Response putResponse = UPDATE_INSTANCE_BUDGET.during(() -> {
+      CompletableFuture<Response> putCompleted = new CompletableFuture<>();
 
-    okapiClient.put(instanceLocation, updateInstanceRequest,
-      ResponseHandler.any(putCompleted));
+      okapiClient.put(instanceLocation, updateInstanceRequest,
+        ResponseHandler.any(putCompleted));
 
-    Response putResponse = putCompleted.get(5, TimeUnit.SECONDS);
+      return putCompleted.get(5, TimeUnit.SECONDS);
+    });
 
     assertThat(putResponse.getStatusCode(), is(204));
 
-    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
-
-    okapiClient.get(instanceLocation, ResponseHandler.json(getCompleted));
-
-    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+    Response getResponse = GET_INSTANCE_BUDGET.during(() ->
+      getInstances(instanceLocation.toString()));
 
     assertThat(getResponse.getStatusCode(), is(200));
 
@@ -711,11 +726,8 @@ public class InstancesApiExamples extends ApiTests {
     createInstance(nod(UUID.randomUUID()));
     createInstance(temeraire(UUID.randomUUID()));
 
-    CompletableFuture<Response> getAllCompleted = new CompletableFuture<>();
-
-    okapiClient.get(ApiRoot.instances(), ResponseHandler.json(getAllCompleted));
-
-    Response getAllResponse = getAllCompleted.get(5, TimeUnit.SECONDS);
+    Response getAllResponse = GET_INSTANCES_BUDGET.during(() ->
+      getInstances(ApiRoot.instances().toString()));
 
     assertThat(getAllResponse.getStatusCode(), is(200));
 
@@ -741,17 +753,11 @@ public class InstancesApiExamples extends ApiTests {
     createInstance(leviathanWakes(UUID.randomUUID()));
     createInstance(taoOfPooh(UUID.randomUUID()));
 
-    CompletableFuture<Response> firstPageGetCompleted = new CompletableFuture<>();
-    CompletableFuture<Response> secondPageGetCompleted = new CompletableFuture<>();
-
-    okapiClient.get(ApiRoot.instances("limit=3"),
-      ResponseHandler.json(firstPageGetCompleted));
-
-    okapiClient.get(ApiRoot.instances("limit=3&offset=3"),
-      ResponseHandler.json(secondPageGetCompleted));
+    Response firstPageResponse = GET_INSTANCES_BUDGET.during(() ->
+      getInstances(ApiRoot.instances("limit=3").toString()));
 
-    Response firstPageResponse = firstPageGetCompleted.get(5, TimeUnit.SECONDS);
-    Response secondPageResponse = secondPageGetCompleted.get(5, TimeUnit.SECONDS);
+    Response secondPageResponse = GET_INSTANCES_BUDGET.during(() ->
+      getInstances(ApiRoot.instances("limit=3&offset=3").toString()));
 
     assertThat(firstPageResponse.getStatusCode(), is(200));
     assertThat(secondPageResponse.getStatusCode(), is(200));
@@ -803,12 +809,8 @@ public class InstancesApiExamples extends ApiTests {
     createInstance(nod(UUID.randomUUID()));
     createInstance(uprooted(UUID.randomUUID()));
 
-    CompletableFuture<Response> searchGetCompleted = new CompletableFuture<>();
-
-    okapiClient.get(ApiRoot.instances("query=title=Small%20Angry*"),
-      ResponseHandler.json(searchGetCompleted));
-
-    Response searchGetResponse = searchGetCompleted.get(5, TimeUnit.SECONDS);
+    Response searchGetResponse = GET_INSTANCES_BUDGET.during(() ->
+      getInstances(ApiRoot.instances("query=title=Small%20Angry*").toString()));
 
     assertThat(searchGetResponse.getStatusCode(), is(200));
 
@@ -984,6 +986,18 @@ public class InstancesApiExamples extends ApiTests {
     return InstanceApiClient.createInstance(okapiClient, newInstanceRequest);
   }
 
+  private Response getInstances(String location)
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(location, ResponseHandler.json(getCompleted));
+
+    return getCompleted.get(5, TimeUnit.SECONDS);
+  }
+
   private void selfLinkShouldBeReachable(JsonObject instance)
     throws InterruptedException,
     ExecutionException,
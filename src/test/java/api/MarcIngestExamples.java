@@ -0,0 +1,165 @@
+package api;
+
+import api.support.ApiRoot;
+import api.support.ApiTests;
+import io.vertx.core.json.JsonObject;
+import org.apache.commons.lang3.StringUtils;
+import org.awaitility.Duration;
+import org.folio.inventory.support.JsonArrayHelper;
+import org.folio.inventory.support.http.client.Response;
+import org.folio.inventory.support.http.client.ResponseHandler;
+import org.junit.Test;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static api.ApiTestSuite.storageOkapiUrl;
+import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MarcIngestExamples extends ApiTests {
+  public MarcIngestExamples() throws MalformedURLException {
+    super();
+  }
+
+  @Test
+  public void canIngestBinaryMARCRecords()
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException,
+    MalformedURLException {
+
+    File marcFile = loadFileFromResource(
+      "marc/multiple-example-marc-records.mrc");
+
+    String statusLocation = given()
+      .header("X-Okapi-Url", storageOkapiUrl())
+      .header("X-Okapi-Tenant", ApiTestSuite.TENANT_ID)
+      .header("X-Okapi-Token", ApiTestSuite.TOKEN)
+      .multiPart("record", marcFile)
+      .when().post(getIngestUrl())
+      .then()
+      .statusCode(202)
+      .extract().header("location");
+
+    await()
+      .pollDelay(new Duration(1, TimeUnit.SECONDS))
+      .atMost(new Duration(10, TimeUnit.SECONDS))
+      .catchUncaughtExceptions()
+      .untilAsserted(() -> ingestJobHasState(statusLocation, "Completed"));
+
+    List<JsonObject> instances = instancesClient.getAll();
+    List<JsonObject> holdings = holdingsStorageClient.getAll();
+    List<JsonObject> items = itemsClient.getAll();
+
+    assertThat("Should have right number of instances", instances.size(), is(3));
+    assertThat("Should have right number of holdings", holdings.size(), is(3));
+    assertThat("Should have right number of items", items.size(), is(3));
+
+    expectedInstance(instances, "Moby Dick",
+      "Melville, Herman", "9780306406157");
+
+    expectedInstance(instances, "Les misérables",
+      "Hugo, Victor", "9781566199094");
+
+    expectedInstance(instances, "The Pickwick papers",
+      "Dickens, Charles", "9780141439518");
+
+    instances.forEach(instance -> assertThat("Each instance should have one holding",
+      holdings.stream()
+        .filter(holding -> StringUtils.equals(
+          holding.getString("instanceId"), instance.getString("id")))
+        .count(),
+      is(1L)));
+  }
+
+  @Test
+  public void jobFailsWhenFileIsTruncated()
+    throws MalformedURLException {
+
+    File marcFile = loadFileFromResource("marc/truncated-marc-records.mrc");
+
+    String statusLocation = given()
+      .header("X-Okapi-Url", storageOkapiUrl())
+      .header("X-Okapi-Tenant", ApiTestSuite.TENANT_ID)
+      .header("X-Okapi-Token", ApiTestSuite.TOKEN)
+      .multiPart("record", marcFile)
+      .when().post(getIngestUrl())
+      .then()
+      .statusCode(202)
+      .extract().header("location");
+
+    await()
+      .pollDelay(new Duration(1, TimeUnit.SECONDS))
+      .atMost(new Duration(10, TimeUnit.SECONDS))
+      .catchUncaughtExceptions()
+      .untilAsserted(() -> ingestJobHasState(statusLocation, "Failed"));
+  }
+
+  private void expectedInstance(
+    List<JsonObject> instances,
+    String title,
+    String contributor,
+    String isbn) {
+
+    Optional<JsonObject> possibleInstance = instances.stream()
+      .filter(instance -> StringUtils.equals(instance.getString("title"), title))
+      .findFirst();
+
+    assertThat(String.format("Should have an instance for %s (instances: %s)",
+      title, instances), possibleInstance.isPresent(), is(true));
+
+    JsonObject instance = possibleInstance.get();
+
+    assertThat(instance.getString("source"), is("Local: MARC"));
+
+    assertThat("instance has contributor",
+      JsonArrayHelper.toList(instance.getJsonArray("contributors")).stream()
+        .anyMatch(it -> StringUtils.equals(it.getString("name"), contributor)),
+      is(true));
+
+    assertThat("instance has ISBN",
+      JsonArrayHelper.toList(instance.getJsonArray("identifiers")).stream()
+        .anyMatch(it -> StringUtils.equals(it.getString("value"), isbn)
+          && StringUtils.equals(it.getString("identifierTypeId"),
+            ApiTestSuite.getIsbnIdentifierType())),
+      is(true));
+  }
+
+  private void ingestJobHasState(String statusLocation, String expectedState)
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(statusLocation, ResponseHandler.json(getCompleted));
+
+    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat("Should be able to get ingest job status",
+      getResponse.getStatusCode(), is(200));
+
+    assertThat(String.format("Ingest status should be %s", expectedState),
+      getResponse.getJson().getString("status"), is(expectedState));
+  }
+
+  private static URL getIngestUrl() throws MalformedURLException {
+    return new URL(String.format("%s/ingest/marc", ApiRoot.inventory()));
+  }
+
+  private File loadFileFromResource(String filename) {
+    ClassLoader classLoader = getClass().getClassLoader();
+
+    return new File(classLoader.getResource(filename).getFile());
+  }
+}
@@ -74,6 +74,8 @@ public class ModsIngestExamples extends ApiTests {
     assertThat("Should have right number of holdings", holdings.size(), is(9));
     assertThat("Should have right number of items", items.size(), is(9));
 
+    ingestJobReportsProgress(statusLocation, 9);
+
     expectedRelatedHoldingAndItem(instances, holdings, items,
       "California: its gold and its inhabitants",
       "Huntley, Henry Veel", "69228882");
@@ -113,6 +115,72 @@ public class ModsIngestExamples extends ApiTests {
     storedItemsDoNotHaveDerivedProperties();
   }
 
+  @Test
+  public void eachRecordHasItsOwnHoldingAndItemEvenWithSameTitle()
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException,
+    MalformedURLException {
+
+    File modsFile = loadFileFromResource(
+      "mods/duplicate-title-mods-records.xml");
+
+    String statusLocation = given()
+      .header("X-Okapi-Url", storageOkapiUrl())
+      .header("X-Okapi-Tenant", ApiTestSuite.TENANT_ID)
+      .header("X-Okapi-Token", ApiTestSuite.TOKEN)
+      .multiPart("record", modsFile)
+      .when().post(getIngestUrl())
+      .then()
+      .statusCode(202)
+      .extract().header("location");
+
+    await()
+      .pollDelay(new Duration(1, TimeUnit.SECONDS))
+      .atMost(new Duration(10, TimeUnit.SECONDS))
+      .catchUncaughtExceptions()
+      .untilAsserted(() -> ingestJobHasCompleted(statusLocation));
+
+    List<JsonObject> instances = instancesClient.getAll();
+    List<JsonObject> holdings = holdingsStorageClient.getAll();
+    List<JsonObject> items = itemsClient.getAll();
+
+    assertThat("Should have right number of instances", instances.size(), is(2));
+    assertThat("Should have right number of holdings", holdings.size(), is(2));
+    assertThat("Should have right number of items", items.size(), is(2));
+
+    instances.forEach(instance -> assertThat("Each instance should have one holding",
+      holdings.stream().filter(holdingForInstance(instance.getString("id"))).count(),
+      is(1L)));
+
+    holdings.forEach(holding -> assertThat("Each holding should have one item",
+      items.stream().filter(itemForHolding(holding.getString("id"))).count(),
+      is(1L)));
+  }
+
+  @Test
+  public void jobFailsWhenFileCannotBeRead()
+    throws MalformedURLException {
+
+    File modsFile = loadFileFromResource("mods/truncated-mods-records.xml");
+
+    String statusLocation = given()
+      .header("X-Okapi-Url", storageOkapiUrl())
+      .header("X-Okapi-Tenant", ApiTestSuite.TENANT_ID)
+      .header("X-Okapi-Token", ApiTestSuite.TOKEN)
+      .multiPart("record", modsFile)
+      .when().post(getIngestUrl())
+      .then()
+      .statusCode(202)
+      .extract().header("location");
+
+    await()
+      .pollDelay(new Duration(1, TimeUnit.SECONDS))
+      .atMost(new Duration(10, TimeUnit.SECONDS))
+      .catchUncaughtExceptions()
+      .untilAsserted(() -> ingestJobHasState(statusLocation, "Failed"));
+  }
+
   @Test
   public void willRefuseIngestForMultipleFiles()
     throws MalformedURLException {
@@ -205,6 +273,14 @@ public class ModsIngestExamples extends ApiTests {
     ExecutionException,
     TimeoutException {
 
+    ingestJobHasState(statusLocation, "Completed");
+  }
+
+  private void ingestJobHasState(String statusLocation, String expectedState)
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
     CompletableFuture<Response> getCompleted = new CompletableFuture<>();
 
     okapiClient.get(statusLocation, ResponseHandler.json(getCompleted));
@@ -214,8 +290,27 @@ public class ModsIngestExamples extends ApiTests {
     assertThat("Should be able to get ingest job status",
       getResponse.getStatusCode(), is(200));
 
-    assertThat("Ingest status should be completed",
-      getResponse.getJson().getString("status"), is("Completed"));
+    assertThat(String.format("Ingest status should be %s", expectedState),
+      getResponse.getJson().getString("status"), is(expectedState));
+  }
+
+  private void ingestJobReportsProgress(String statusLocation, int expectedRecords)
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(statusLocation, ResponseHandler.json(getCompleted));
+
+    JsonObject status = getCompleted.get(5, TimeUnit.SECONDS).getJson();
+
+    assertThat(status.getInteger("recordsReceived"), is(expectedRecords));
+    assertThat(status.getInteger("instancesCreated"), is(expectedRecords));
+    assertThat(status.getInteger("holdingsCreated"), is(expectedRecords));
+    assertThat(status.getInteger("itemsCreated"), is(expectedRecords));
+    assertThat(status.getInteger("failures"), is(0));
+    assertThat(status.getLong("elapsedMilliseconds"), is(greaterThan(0L)));
   }
 
   private void instancesHaveExpectedProperties(List<JsonObject> instances) {
@@ -10,6 +10,7 @@ import static api.support.InstanceSamples.girlOnTheTrain;
 import static api.support.InstanceSamples.nod;
 import static api.support.InstanceSamples.smallAngryPlanet;
 import static api.support.http.BusinessLogicInterfaceUrls.items;
+import static io.vertx.core.http.HttpMethod.GET;
 import static org.folio.inventory.domain.items.CirculationNote.DATE_KEY;
 import static org.folio.inventory.domain.items.CirculationNote.NOTE_KEY;
 import static org.folio.inventory.domain.items.CirculationNote.NOTE_TYPE_KEY;
@@ -45,6 +46,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.folio.inventory.common.WebRequestTimings;
 import org.folio.inventory.domain.items.Item;
 import org.folio.inventory.support.JsonArrayHelper;
 import org.folio.inventory.support.http.client.IndividualResource;
@@ -62,6 +64,7 @@ import api.ApiTestSuite;
 import api.support.ApiRoot;
 import api.support.ApiTests;
 import api.support.InstanceApiClient;
+import api.support.StorageCallBudget;
 import api.support.builders.HoldingRequestBuilder;
 import api.support.builders.ItemRequestBuilder;
 import io.vertx.core.json.JsonArray;
@@ -82,6 +85,33 @@ public class ItemApiExamples extends ApiTests {
   private static final String CALL_NUMBER_PREFIX = "callNumberPrefix";
   private static final String CALL_NUMBER_TYPE_ID = UUID.randomUUID().toString();
 
+  /**
+   * Representing an item needs its holdings record and instance, and at most
+   * one material type, two loan types and three locations
+   */
+  private static final int ITEM_REPRESENTATION_CALLS = 8;
+
+  private static final StorageCallBudget GET_ITEM_BUDGET =
+    StorageCallBudget.atMost(1 + ITEM_REPRESENTATION_CALLS);
+
+  /**
+   * Checking the barcode is unique, fetching the user for circulation notes
+   * and creating the item, before representing it. The fake item storage
+   * fetches the holdings record twice when creating an item, for the
+   * effective location and the effective call number.
+   */
+  private static final StorageCallBudget CREATE_ITEM_BUDGET =
+    StorageCallBudget.atMost(5 + ITEM_REPRESENTATION_CALLS);
+
+  /**
+   * Fetching the existing item, checking the barcode is unique, fetching the
+   * user for circulation notes and replacing the item. The fake item storage
+   * fetches the holdings record up to three times when replacing an item, as
+   * the status date is derived as well.
+   */
+  private static final StorageCallBudget UPDATE_ITEM_BUDGET =
+    StorageCallBudget.atMost(7);
+
   @Test
   public void canCreateAnItemWithoutIDAndHRID()
     throws InterruptedException,
@@ -263,6 +293,39 @@ public class ItemApiExamples extends ApiTests {
     assertThat(createdItem.containsKey("barcode"), is(false));
   }
 
+  @Test
+  public void fetchingItemsReportsStorageTimings()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    JsonObject createdInstance = createInstance(smallAngryPlanet(UUID.randomUUID()));
+
+    UUID holdingId = holdingsStorageClient.create(
+      new HoldingRequestBuilder()
+        .forInstance(UUID.fromString(createdInstance.getString("id"))))
+      .getId();
+
+    itemsClient.create(new ItemRequestBuilder()
+      .forHolding(holdingId)
+      .canCirculate());
+
+    CompletableFuture<String> serverTimingReceived = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.items(), response -> serverTimingReceived.complete(
+      response.getHeader(WebRequestTimings.SERVER_TIMING_HEADER)));
+
+    String serverTiming = serverTimingReceived.get(5, TimeUnit.SECONDS);
+
+    assertThat(serverTiming, containsString("upstream;desc=\"GET /item-storage/items\";dur="));
+    assertThat(serverTiming, containsString("holdings;dur="));
+    assertThat(serverTiming, containsString("instances;dur="));
+    assertThat(serverTiming, containsString("reference-records;dur="));
+    assertThat(serverTiming, containsString("representation;dur="));
+    assertThat(serverTiming, containsString("total;dur="));
+  }
+
   @Test
   public void cannotCreateItemWithoutMaterialType()
     throws InterruptedException,
@@ -337,12 +400,14 @@ public class ItemApiExamples extends ApiTests {
         .forInstance(UUID.fromString(createdInstance.getString("id"))))
       .getId();
 
-    IndividualResource postResponse = itemsClient.create(new ItemRequestBuilder()
-      .forHolding(holdingId)
-      .withBarcode("645398607547")
-      .withNoTemporaryLoanType());
+    IndividualResource postResponse = CREATE_ITEM_BUDGET.during(() ->
+      itemsClient.create(new ItemRequestBuilder()
+        .forHolding(holdingId)
+        .withBarcode("645398607547")
+        .withNoTemporaryLoanType()));
 
-    Response getResponse = itemsClient.getById(postResponse.getId());
+    Response getResponse = GET_ITEM_BUDGET.during(() ->
+      itemsClient.getById(postResponse.getId()));
 
     JsonObject createdItem = getResponse.getJson();
 
@@ -468,9 +533,13 @@ public class ItemApiExamples extends ApiTests {
       .put("copyNumber", "updatedCp")
       .put("tags", new JsonObject().put("tagList", new JsonArray().add("")));
 
-    itemsClient.replace(itemId, updateItemRequest);
+    Response putResponse = UPDATE_ITEM_BUDGET.during(() ->
+      itemsClient.attemptToReplace(itemId, updateItemRequest));
 
-    Response getResponse = itemsClient.getById(itemId);
+    assertThat(putResponse.getStatusCode(), is(204));
+
+    Response getResponse = GET_ITEM_BUDGET.during(() ->
+      itemsClient.getById(itemId));
 
     assertThat(getResponse.getStatusCode(), is(200));
     JsonObject updatedItem = getResponse.getJson();
@@ -690,17 +759,14 @@ public class ItemApiExamples extends ApiTests {
       .courseReserves()
       .withBarcode("943209584495"));
 
-    CompletableFuture<Response> firstPageGetCompleted = new CompletableFuture<>();
-    CompletableFuture<Response> secondPageGetCompleted = new CompletableFuture<>();
+    // Two material types, two loan types and the holdings temporary location
+    StorageCallBudget budget = getItemsBudget(5);
 
-    okapiClient.get(ApiRoot.items("limit=3"),
-      ResponseHandler.json(firstPageGetCompleted));
+    Response firstPageResponse = budget.during(() ->
+      getItems(ApiRoot.items("limit=3")));
 
-    okapiClient.get(ApiRoot.items("limit=3&offset=3"),
-      ResponseHandler.json(secondPageGetCompleted));
-
-    Response firstPageResponse = firstPageGetCompleted.get(5, TimeUnit.SECONDS);
-    Response secondPageResponse = secondPageGetCompleted.get(5, TimeUnit.SECONDS);
+    Response secondPageResponse = budget.during(() ->
+      getItems(ApiRoot.items("limit=3&offset=3")));
 
     assertThat(firstPageResponse.getStatusCode(), is(200));
     assertThat(secondPageResponse.getStatusCode(), is(200));
@@ -766,11 +832,9 @@ public class ItemApiExamples extends ApiTests {
       .temporarilyCourseReserves()
       .withBarcode("175848607547"));
 
-    CompletableFuture<Response> getAllCompleted = new CompletableFuture<>();
-
-    okapiClient.get(ApiRoot.items(), ResponseHandler.json(getAllCompleted));
-
-    Response getAllResponse = getAllCompleted.get(5, TimeUnit.SECONDS);
+    // One material type, two loan types and the holdings temporary location
+    Response getAllResponse = getItemsBudget(4).during(() ->
+      getItems(ApiRoot.items()));
 
     assertThat(getAllResponse.getStatusCode(), is(200));
 
@@ -805,6 +869,42 @@ public class ItemApiExamples extends ApiTests {
     items.forEach(ItemApiExamples::hasConsistentTemporaryLocation);
   }
 
+  @Test
+  public void fetchingAPageOfItemsDoesNotMakeStorageCallsForEachItem()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    for (int instance = 0; instance < 5; instance++) {
+      JsonObject createdInstance = createInstance(smallAngryPlanet(UUID.randomUUID()));
+
+      UUID holdingId = holdingsStorageClient.create(
+        new HoldingRequestBuilder()
+          .forInstance(UUID.fromString(createdInstance.getString("id"))))
+        .getId();
+
+      for (int item = 0; item < 4; item++) {
+        itemsClient.create(new ItemRequestBuilder()
+          .forHolding(holdingId)
+          .book()
+          .canCirculate()
+          .withNoBarcode());
+      }
+    }
+
+    // One material type, one loan type and the holdings temporary location
+    Response getAllResponse = getItemsBudget(3).during(() ->
+      getItems(ApiRoot.items("limit=100")));
+
+    assertThat(getAllResponse.getStatusCode(), is(200));
+    assertThat(getAllResponse.getJson().getJsonArray("items").size(), is(20));
+
+    JsonArrayHelper.toList(getAllResponse.getJson().getJsonArray("items"))
+      .forEach(item -> assertThat(item.getString("title"),
+        is("Long Way to a Small Angry Planet")));
+  }
+
   @Test
   public void pageParametersMustBeNumeric()
     throws InterruptedException,
@@ -1796,13 +1896,42 @@ public class ItemApiExamples extends ApiTests {
   }
 
   private JsonObject findItems(String searchQuery)
-    throws InterruptedException, TimeoutException, ExecutionException {
+    throws InterruptedException, TimeoutException, ExecutionException,
+    MalformedURLException {
+
+    // Each search finds one item, which refers to one material type, one
+    // loan type and at most two locations
+    return getItemsBudget(4).during(() -> {
+      CompletableFuture<Response> getCompletedFuture = new CompletableFuture<>();
+      okapiClient.get(items("?query=") + urlEncode(searchQuery),
+        ResponseHandler.json(getCompletedFuture));
+
+      return getCompletedFuture.get(5, TimeUnit.SECONDS);
+    }).getJson();
+  }
+
+  private Response getItems(URL location)
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException {
 
-    CompletableFuture<Response> getCompletedFuture = new CompletableFuture<>();
-    okapiClient.get(items("?query=") + urlEncode(searchQuery),
-      ResponseHandler.json(getCompletedFuture));
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(location, ResponseHandler.json(getCompleted));
+
+    return getCompleted.get(5, TimeUnit.SECONDS);
+  }
 
-    return getCompletedFuture.get(5, TimeUnit.SECONDS).getJson();
+  /**
+   * A page of items is fetched along with the holdings records and instances
+   * for all of them in one request each, and each distinct reference record
+   * once, however many items refer to it
+   */
+  private static StorageCallBudget getItemsBudget(int referenceRecords) {
+    return StorageCallBudget.atMost(3 + referenceRecords)
+      .andAtMost(1, GET, "/item-storage/items")
+      .andAtMost(1, GET, "/holdings-storage/holdings")
+      .andAtMost(1, GET, "/instance-storage/instances");
   }
 
   private void assertCallNumbers(JsonObject item) {
@@ -4,6 +4,8 @@ import static api.ApiTestSuite.ID_FOR_FAILURE;
 import static api.support.InstanceSamples.smallAngryPlanet;
 import static org.folio.inventory.support.http.ContentType.APPLICATION_JSON;
 import static org.hamcrest.CoreMatchers.is;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -18,7 +20,9 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.awaitility.Duration;
 import org.folio.inventory.domain.items.ItemStatusName;
+import org.folio.inventory.resources.MoveApi;
 import org.folio.inventory.support.http.client.IndividualResource;
 import org.folio.inventory.support.http.client.Response;
 import org.folio.inventory.support.http.client.ResponseHandler;
@@ -26,6 +30,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import api.ApiTestSuite;
 import api.support.ApiRoot;
 import api.support.ApiTests;
 import api.support.InstanceApiClient;
@@ -78,6 +83,42 @@ public class ItemApiMoveExamples extends ApiTests {
     Assert.assertEquals(newHoldingId.toString(), updatedItem2.getString(HOLDINGS_RECORD_ID));
   }
 
+  @Test
+  public void movingItemKeepsPropertiesNotModelledByInventory() throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
+
+    UUID instanceId = UUID.randomUUID();
+    InstanceApiClient.createInstance(okapiClient, smallAngryPlanet(instanceId));
+
+    final UUID existedHoldingId = createHoldingForInstance(instanceId);
+    final UUID newHoldingId = createHoldingForInstance(instanceId);
+
+    final String servicePointId = UUID.randomUUID().toString();
+
+    // Item storage knows of the in transit destination, inventory's item does not
+    final IndividualResource storedItem = itemsStorageClient.create(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("status", new JsonObject().put("name", ItemStatusName.IN_TRANSIT.value()))
+      .put(HOLDINGS_RECORD_ID, existedHoldingId.toString())
+      .put("materialTypeId", ApiTestSuite.getBookMaterialType())
+      .put("permanentLoanTypeId", ApiTestSuite.getCanCirculateLoanType())
+      .put("inTransitDestinationServicePointId", servicePointId));
+
+    JsonObject itemsMoveRequestBody = new ItemsMoveRequestBuilder(newHoldingId,
+      new JsonArray(Collections.singletonList(storedItem.getId()))).create();
+
+    Response postItemsMoveResponse = moveItems(itemsMoveRequestBody);
+
+    assertThat(postItemsMoveResponse.getStatusCode(), is(200));
+    assertThat(postItemsMoveResponse.getJson().getJsonArray("nonUpdatedIds").size(), is(0));
+
+    JsonObject movedItem = itemsStorageClient.getById(storedItem.getId()).getJson();
+
+    assertThat(movedItem.getString(HOLDINGS_RECORD_ID), is(newHoldingId.toString()));
+    assertThat(movedItem.getString("inTransitDestinationServicePointId"), is(servicePointId));
+    assertThat(movedItem.getJsonObject("status").getString("name"),
+      is(ItemStatusName.IN_TRANSIT.value()));
+  }
+
   @Test
   public void shouldReportErrorsWhenOnlySomeRequestedItemsCouldNotBeMoved() throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
 
@@ -228,6 +269,78 @@ public class ItemApiMoveExamples extends ApiTests {
     assertThat(existedHoldingId.toString(), equalTo(updatedItem2.getString(HOLDINGS_RECORD_ID)));
   }
 
+  @Test
+  public void largeMovesAreMadeAsJob() throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
+
+    UUID instanceId = UUID.randomUUID();
+    InstanceApiClient.createInstance(okapiClient, smallAngryPlanet(instanceId));
+
+    final UUID existedHoldingId = createHoldingForInstance(instanceId);
+    final UUID newHoldingId = createHoldingForInstance(instanceId);
+
+    final IndividualResource createItem1 = itemsClient.create(new ItemRequestBuilder().forHolding(existedHoldingId)
+      .withBarcode("645398607547")
+      .withStatus(ItemStatusName.AVAILABLE.value()));
+
+    final IndividualResource createItem2 = itemsClient.create(new ItemRequestBuilder().forHolding(existedHoldingId)
+      .withBarcode("645398607546")
+      .withStatus(ItemStatusName.AVAILABLE.value()));
+
+    final UUID nonExistedItemId = UUID.randomUUID();
+
+    JsonObject itemsMoveRequestBody = new ItemsMoveRequestBuilder(newHoldingId,
+      new JsonArray(Arrays.asList(createItem1.getId(), createItem2.getId(), nonExistedItemId))).create();
+
+    Response postItemsMoveResponse;
+
+    System.setProperty(MoveApi.ASYNC_THRESHOLD_PROPERTY, "2");
+
+    try {
+      postItemsMoveResponse = moveItems(itemsMoveRequestBody);
+    } finally {
+      System.clearProperty(MoveApi.ASYNC_THRESHOLD_PROPERTY);
+    }
+
+    assertThat(postItemsMoveResponse.getStatusCode(), is(202));
+    assertThat(postItemsMoveResponse.getJson().getInteger("totalRecords"), is(3));
+
+    String statusLocation = postItemsMoveResponse.getLocation();
+
+    await()
+      .atMost(new Duration(10, TimeUnit.SECONDS))
+      .catchUncaughtExceptions()
+      .untilAsserted(() -> assertThat(getMoveJob(statusLocation).getJson().getString("status"),
+        is("Completed")));
+
+    JsonObject moveJob = getMoveJob(statusLocation).getJson();
+
+    assertThat(moveJob.getJsonArray("movedIds").getList(),
+      containsInAnyOrder(createItem1.getId().toString(), createItem2.getId().toString()));
+
+    assertThat(moveJob.getJsonArray("nonUpdatedIds").getList(),
+      containsInAnyOrder(nonExistedItemId.toString()));
+
+    assertThat(itemsClient.getById(createItem1.getId()).getJson().getString(HOLDINGS_RECORD_ID),
+      equalTo(newHoldingId.toString()));
+    assertThat(itemsClient.getById(createItem2.getId()).getJson().getString(HOLDINGS_RECORD_ID),
+      equalTo(newHoldingId.toString()));
+  }
+
+  @Test
+  public void cannotGetUnknownMoveJob() throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.moveJob(UUID.randomUUID().toString()), ResponseHandler.any(getCompleted));
+
+    assertThat(getCompleted.get(5, TimeUnit.SECONDS).getStatusCode(), is(404));
+  }
+
+  private Response getMoveJob(String statusLocation) throws InterruptedException, ExecutionException, TimeoutException {
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    okapiClient.get(statusLocation, ResponseHandler.any(getCompleted));
+    return getCompleted.get(5, TimeUnit.SECONDS);
+  }
+
   private Response moveItems(JsonObject itemsMoveRequestBody) throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
     CompletableFuture<Response> postItemsMoveCompleted = new CompletableFuture<>();
     okapiClient.post(ApiRoot.moveItems(), itemsMoveRequestBody, ResponseHandler.any(postItemsMoveCompleted));
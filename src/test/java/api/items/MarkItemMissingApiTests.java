@@ -22,14 +22,24 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import api.support.ApiTests;
+import api.support.StorageCallBudget;
 import api.support.builders.HoldingRequestBuilder;
 import api.support.builders.ItemRequestBuilder;
 import api.support.dto.Request;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
+import lombok.SneakyThrows;
 
 @RunWith(JUnitParamsRunner.class)
 public class MarkItemMissingApiTests extends ApiTests {
+  /**
+   * Four calls to move the item, and any request being fulfilled for it,
+   * into the missing status, three more made by the fake item storage to
+   * derive the replaced item's effective location, call number and status
+   * date from its holdings record, and eight to represent the updated item
+   */
+  private static final StorageCallBudget MARK_MISSING_BUDGET = StorageCallBudget.atMost(15);
+
   private IndividualResource holdingsRecord;
 
   @Before
@@ -152,8 +162,9 @@ public class MarkItemMissingApiTests extends ApiTests {
       hasStatus(requestStatus));
   }
 
+  @SneakyThrows
   private Response markItemMissing(IndividualResource item) {
-    return markMissingFixture.markMissing(item);
+    return MARK_MISSING_BUDGET.during(() -> markMissingFixture.markMissing(item));
   }
 
   private IndividualResource createRequest(UUID itemId, String status, DateTime expireDateTime)
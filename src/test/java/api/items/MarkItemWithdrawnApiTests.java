@@ -20,6 +20,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import api.support.ApiTests;
+import api.support.StorageCallBudget;
 import api.support.builders.HoldingRequestBuilder;
 import api.support.builders.ItemRequestBuilder;
 import api.support.dto.Request;
@@ -29,6 +30,15 @@ import lombok.SneakyThrows;
 
 @RunWith(JUnitParamsRunner.class)
 public class MarkItemWithdrawnApiTests extends ApiTests {
+  /**
+   * Fetching the item and any request being fulfilled for it, reopening
+   * that request and replacing the item, before representing the item with
+   * its holdings record, instance and at most six reference records. The
+   * fake item storage looks up the holdings record up to three times while
+   * replacing the item, to derive its effective values.
+   */
+  private static final StorageCallBudget MARK_WITHDRAWN_BUDGET = StorageCallBudget.atMost(15);
+
   private IndividualResource holdingsRecord;
 
   @Before
@@ -164,8 +174,9 @@ public class MarkItemWithdrawnApiTests extends ApiTests {
     assertThat(itemsClient.getById(createdItem.getId()).getJson(), isMissing());
   }
 
+  @SneakyThrows
   private Response markItemWithdrawn(IndividualResource item) {
-    return markWithdrawnFixture.markWithdrawn(item);
+    return MARK_WITHDRAWN_BUDGET.during(() -> markWithdrawnFixture.markWithdrawn(item));
   }
 
   @SneakyThrows
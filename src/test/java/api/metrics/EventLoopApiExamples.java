@@ -0,0 +1,72 @@
+package api.metrics;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.net.MalformedURLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.inventory.support.http.client.Response;
+import org.folio.inventory.support.http.client.ResponseHandler;
+import org.junit.Test;
+
+import api.support.ApiRoot;
+import api.support.ApiTests;
+import io.vertx.core.json.JsonObject;
+
+public class EventLoopApiExamples extends ApiTests {
+
+  public EventLoopApiExamples() throws MalformedURLException {
+    super();
+  }
+
+  @Test
+  public void routeHandlersAndStorageResponsesAreMeasured()
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    okapiClient.get(ApiRoot.items(), ResponseHandler.json(getCompleted));
+
+    assertThat(getCompleted.get(5, TimeUnit.SECONDS).getStatusCode(), is(200));
+
+    CompletableFuture<Response> scrapeCompleted = new CompletableFuture<>();
+    okapiClient.get(ApiRoot.metrics(), ResponseHandler.text(scrapeCompleted));
+
+    String scraped = scrapeCompleted.get(5, TimeUnit.SECONDS).getBody();
+
+    assertThat(scraped, containsString(
+      "inventory_event_loop_hold_seconds_count{kind=\"route\",name=\"GET /inventory/items\"}"));
+
+    assertThat(scraped, containsString(
+      "inventory_event_loop_hold_seconds_count{kind=\"storage-response\",name=\"/item-storage/items\"}"));
+  }
+
+  @Test
+  public void slowestInvocationsCanBeReported()
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    okapiClient.get(ApiRoot.eventLoop(), ResponseHandler.json(getCompleted));
+
+    Response response = getCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getStatusCode(), is(200));
+
+    JsonObject report = response.getJson();
+
+    assertThat(report.getBoolean("enabled"), is(true));
+    assertThat(report.getLong("thresholdMilliseconds"), is(notNullValue()));
+    assertThat(report.getJsonArray("slowest"), is(notNullValue()));
+  }
+}
@@ -0,0 +1,80 @@
+package api.metrics;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.MalformedURLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.inventory.support.http.client.Response;
+import org.folio.inventory.support.http.client.ResponseHandler;
+import org.junit.Test;
+
+import api.ApiTestSuite;
+import api.support.ApiRoot;
+import api.support.ApiTests;
+
+public class MetricsApiExamples extends ApiTests {
+
+  public MetricsApiExamples() throws MalformedURLException {
+    super();
+  }
+
+  @Test
+  public void requestsAreMeasuredByRouteAndTenant()
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    okapiClient.get(ApiRoot.items(), ResponseHandler.json(getCompleted));
+
+    assertThat(getCompleted.get(5, TimeUnit.SECONDS).getStatusCode(), is(200));
+
+    Response scrapeResponse = scrape();
+
+    assertThat(scrapeResponse.getStatusCode(), is(200));
+    assertThat(scrapeResponse.getContentType(), containsString("text/plain"));
+
+    assertThat(scrapeResponse.getBody(), containsString(String.format(
+      "inventory_http_server_requests_seconds_count{method=\"GET\",route=\"/inventory/items\",tenant=\"%s\"}",
+      ApiTestSuite.TENANT_ID)));
+
+    assertThat(scrapeResponse.getBody(), containsString(String.format(
+      "inventory_http_server_responses_total{method=\"GET\",route=\"/inventory/items\",tenant=\"%s\",status=\"200\"}",
+      ApiTestSuite.TENANT_ID)));
+  }
+
+  @Test
+  public void requestsToStorageAreMeasuredByPathTemplate()
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    okapiClient.get(ApiRoot.items(), ResponseHandler.json(getCompleted));
+
+    getCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(scrape().getBody(), containsString(
+      "inventory_upstream_requests_seconds_count{method=\"GET\",upstream=\"/item-storage/items\"}"));
+  }
+
+  private Response scrape()
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    CompletableFuture<Response> scrapeCompleted = new CompletableFuture<>();
+    okapiClient.get(ApiRoot.metrics(), ResponseHandler.text(scrapeCompleted));
+
+    return scrapeCompleted.get(5, TimeUnit.SECONDS);
+  }
+}
@@ -49,6 +49,12 @@ public class ApiRoot {
     return new URL(String.format("%s/holdings/move", inventory()));
   }
 
+  public static URL moveJob(String id)
+    throws MalformedURLException {
+
+    return new URL(String.format("%s/move/jobs/%s", inventory(), id));
+  }
+
   public static URL items(String query)
     throws MalformedURLException {
 
@@ -78,6 +84,14 @@ public class ApiRoot {
     return new URL(String.format("%s/inventory/config/instances/blocked-fields", ApiTestSuite.apiRoot()));
   }
 
+  public static URL metrics() throws MalformedURLException {
+    return new URL(String.format("%s/admin/metrics", ApiTestSuite.apiRoot()));
+  }
+
+  public static URL eventLoop() throws MalformedURLException {
+    return new URL(String.format("%s/admin/event-loop", ApiTestSuite.apiRoot()));
+  }
+
   public static URL tenant()
     throws MalformedURLException {
     return new URL(String.format("%s/_/tenant", ApiTestSuite.apiRoot()));
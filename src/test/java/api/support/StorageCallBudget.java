@@ -0,0 +1,98 @@
+package api.support;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.net.MalformedURLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import io.vertx.core.http.HttpMethod;
+import support.fakes.FakeOkapi;
+import support.fakes.StorageCalls;
+
+/**
+ * The most requests a single request to inventory is expected to make to
+ * the fake storage modules, e.g. fetching a page of items
+ *
+ * <pre>
+ * StorageCallBudget.atMost(6)
+ *   .andAtMost(1, HttpMethod.GET, "/holdings-storage/holdings")
+ *   .during(() -&gt; getItems("limit=100"));
+ * </pre>
+ *
+ * fails when a change fetches the holdings for each item separately,
+ * rather than in one query.
+ *
+ * The requests are counted from when the request to inventory is made until
+ * its response is received, so examples using a budget must not make other
+ * requests at the same time.
+ */
+public class StorageCallBudget {
+  private final long total;
+  private final Map<String, Long> endpoints;
+
+  private StorageCallBudget(long total, Map<String, Long> endpoints) {
+    this.total = total;
+    this.endpoints = endpoints;
+  }
+
+  public static StorageCallBudget atMost(long calls) {
+    return new StorageCallBudget(calls, Collections.emptyMap());
+  }
+
+  /**
+   * @param path the path of the endpoint, with record ids as ":id",
+   * e.g. "/material-types/:id"
+   */
+  public StorageCallBudget andAtMost(long calls, HttpMethod method, String path) {
+    Map<String, Long> limitedEndpoints = new LinkedHashMap<>(endpoints);
+
+    limitedEndpoints.put(StorageCalls.endpoint(method, path), calls);
+
+    return new StorageCallBudget(total, limitedEndpoints);
+  }
+
+  public <T> T during(Request<T> request)
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    StorageCalls storageCalls = FakeOkapi.getStorageCalls();
+
+    storageCalls.reset();
+
+    T result = request.make();
+
+    Map<String, Long> calls = storageCalls.snapshot();
+    List<String> requests = storageCalls.requests();
+
+    assertThat(describe("Storage calls", requests), storageCalls.total(),
+      lessThanOrEqualTo(total));
+
+    endpoints.forEach((endpoint, limit) ->
+      assertThat(describe(String.format("Calls to %s", endpoint), requests),
+        calls.getOrDefault(endpoint, 0L), lessThanOrEqualTo(limit)));
+
+    return result;
+  }
+
+  private static String describe(String calls, List<String> requests) {
+    return String.format("%s made, requests received:%n%s", calls,
+      String.join(System.lineSeparator(), requests));
+  }
+
+  @FunctionalInterface
+  public interface Request<T> {
+    T make()
+      throws MalformedURLException,
+      InterruptedException,
+      ExecutionException,
+      TimeoutException;
+  }
+}
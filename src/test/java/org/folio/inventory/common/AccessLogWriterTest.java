@@ -0,0 +1,77 @@
+package org.folio.inventory.common;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class AccessLogWriterTest {
+
+  @Test
+  public void entriesAreWrittenAsKeyValuePairs() throws InterruptedException {
+    List<String> lines = new CopyOnWriteArrayList<>();
+    CountDownLatch written = new CountDownLatch(1);
+
+    AccessLogWriter writer = new AccessLogWriter(10, line -> {
+      lines.add(line);
+      written.countDown();
+    });
+
+    writer.write(new AccessLogWriter.Entry("GET", "/inventory/items", 200,
+      TimeUnit.MICROSECONDS.toNanos(12345), "diku", "123456/inventory", -1, 2048));
+
+    assertTrue(written.await(5, TimeUnit.SECONDS));
+
+    assertThat(lines.get(0), is("method=GET path=/inventory/items status=200"
+      + " duration_ms=12.3 tenant=diku request_id=123456/inventory"
+      + " bytes_received=- bytes_sent=2048"));
+  }
+
+  @Test
+  public void entriesAreDroppedWhenQueueIsFull() throws InterruptedException {
+    List<String> lines = new CopyOnWriteArrayList<>();
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    CountDownLatch allWritten = new CountDownLatch(3);
+
+    AccessLogWriter writer = new AccessLogWriter(1, line -> {
+      blocked.countDown();
+      awaitQuietly(released);
+      lines.add(line);
+      allWritten.countDown();
+    });
+
+    //The first entry is taken by the writer, which then waits
+    assertThat(writer.write(entry("/first")), is(true));
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+    assertThat(writer.write(entry("/second")), is(true));
+    assertThat(writer.write(entry("/third")), is(false));
+
+    released.countDown();
+
+    assertTrue(allWritten.await(5, TimeUnit.SECONDS));
+
+    assertTrue(lines.get(0), lines.get(0).contains("path=/first"));
+    assertThat(lines.get(1), is("access log full, 1 entries dropped"));
+    assertTrue(lines.get(2), lines.get(2).contains("path=/second"));
+  }
+
+  private static AccessLogWriter.Entry entry(String path) {
+    return new AccessLogWriter.Entry("GET", path, 200, 0, null, null, -1, 0);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.inventory.common;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RequestTimingsTest {
+
+  @Test
+  public void stagesAreReportedInOrderTheyEnded() {
+    RequestTimings timings = RequestTimings.start();
+
+    RequestTimings.Stopwatch holdings = timings.stage("holdings");
+    RequestTimings.Stopwatch instances = timings.stage("instances");
+
+    instances.stop();
+    holdings.stop();
+
+    String header = timings.toServerTiming();
+
+    assertTrue(header, header.matches(
+      "instances;dur=[0-9.]+, holdings;dur=[0-9.]+, total;dur=[0-9.]+"));
+  }
+
+  @Test
+  public void stageOfFutureEndsWhenFutureCompletes() {
+    RequestTimings timings = RequestTimings.start();
+    CompletableFuture<String> fetched = new CompletableFuture<>();
+
+    timings.stage("reference-records", fetched);
+
+    assertThat(timings.toJson().getJsonArray("stages").size(), is(0));
+
+    fetched.complete("done");
+
+    JsonObject stage = timings.toJson().getJsonArray("stages").getJsonObject(0);
+
+    assertThat(stage.getString("name"), is("reference-records"));
+    assertTrue(stage.getDouble("duration") >= 0);
+  }
+
+  @Test
+  public void upstreamRequestsAreDescribedByPathTemplate() {
+    RequestTimings timings = RequestTimings.start();
+    CompletableFuture<Object> handled = new CompletableFuture<>();
+
+    timings.upstream(HttpMethod.GET,
+      "http://okapi:9130/item-storage/items/fa45a95b-38a3-430b-8f34-548ca005a176",
+      handled::complete).handle(null);
+
+    assertThat(handled.isDone(), is(true));
+
+    String header = timings.toServerTiming();
+
+    assertTrue(header, header.startsWith(
+      "upstream;desc=\"GET /item-storage/items/:id\";dur="));
+  }
+
+  @Test
+  public void upstreamRequestsWithSamePathTemplateAreReportedTogether() {
+    RequestTimings timings = RequestTimings.start();
+
+    for (int request = 0; request < 50; request++) {
+      timings.upstream(HttpMethod.GET,
+        "http://okapi:9130/holdings-storage/holdings/" + UUID.randomUUID(),
+        response -> { }).handle(null);
+    }
+
+    timings.upstream(HttpMethod.GET, "http://okapi:9130/instance-storage/instances?query=id==1",
+      response -> { }).handle(null);
+
+    String header = timings.toServerTiming();
+
+    assertTrue(header, header.matches(
+      "upstream;desc=\"GET /holdings-storage/holdings/:id \\(50 calls\\)\";dur=[0-9.]+, "
+        + "upstream;desc=\"GET /instance-storage/instances\";dur=[0-9.]+, total;dur=[0-9.]+"));
+  }
+
+  @Test
+  public void disabledTimingsRecordNothing() {
+    RequestTimings timings = RequestTimings.disabled();
+
+    timings.stage("holdings").stop();
+    timings.stage("instances", CompletableFuture.completedFuture(null));
+
+    assertThat(timings.toJson().getJsonArray("stages").size(), is(0));
+  }
+}
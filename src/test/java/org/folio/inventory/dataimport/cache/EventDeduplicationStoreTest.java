@@ -0,0 +1,46 @@
+package org.folio.inventory.dataimport.cache;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class EventDeduplicationStoreTest {
+
+  private final EventDeduplicationStore store = new EventDeduplicationStore(100, 60);
+
+  @Test
+  public void shouldAcceptEventOnlyOnce() {
+    String eventKey = EventDeduplicationStore.eventKey("diku", Buffer.buffer("compressed-payload"));
+
+    assertThat(store.accept(eventKey), is(true));
+    assertThat(store.accept(eventKey), is(false));
+  }
+
+  @Test
+  public void shouldAcceptReleasedEventAgain() {
+    String eventKey = EventDeduplicationStore.eventKey("diku", Buffer.buffer("compressed-payload"));
+
+    store.accept(eventKey);
+    store.release(eventKey);
+
+    assertThat(store.accept(eventKey), is(true));
+  }
+
+  @Test
+  public void shouldDistinguishEventsByTenantAndPayload() {
+    assertThat(EventDeduplicationStore.eventKey("diku", Buffer.buffer("payload")),
+      is(not(EventDeduplicationStore.eventKey("other", Buffer.buffer("payload")))));
+
+    assertThat(EventDeduplicationStore.eventKey("diku", Buffer.buffer("payload")),
+      is(not(EventDeduplicationStore.eventKey("diku", Buffer.buffer("another payload")))));
+  }
+
+  @Test
+  public void shouldTolerateMissingPayload() {
+    assertThat(EventDeduplicationStore.eventKey("diku", null),
+      is(EventDeduplicationStore.eventKey("diku", Buffer.buffer())));
+  }
+}
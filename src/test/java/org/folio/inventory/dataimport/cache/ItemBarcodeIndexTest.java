@@ -0,0 +1,183 @@
+package org.folio.inventory.dataimport.cache;
+
+import io.vertx.core.Future;
+import org.folio.DataImportEventPayload;
+import org.folio.inventory.common.api.request.PagingParameters;
+import org.folio.inventory.common.domain.MultipleRecords;
+import org.folio.inventory.common.domain.Success;
+import org.folio.inventory.domain.items.Item;
+import org.folio.inventory.domain.items.ItemCollection;
+import org.folio.inventory.domain.items.Status;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.folio.inventory.domain.items.ItemStatusName.AVAILABLE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ItemBarcodeIndexTest {
+
+  private final ItemBarcodeIndex index = new ItemBarcodeIndex(50, 60);
+  private final ItemCollection itemCollection = Mockito.mock(ItemCollection.class);
+  private final List<Consumer<Success<MultipleRecords<Item>>>> pendingLookups = new ArrayList<>();
+
+  private DataImportEventPayload eventPayload;
+
+  @Before
+  public void setUp() throws UnsupportedEncodingException {
+    eventPayload = new DataImportEventPayload()
+      .withJobExecutionId(UUID.randomUUID().toString())
+      .withTenant("diku");
+
+    doAnswer(invocationOnMock -> {
+      pendingLookups.add(invocationOnMock.getArgument(2));
+      return null;
+    }).when(itemCollection).findByCql(anyString(), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+  }
+
+  @Test
+  public void shouldReserveBarcodeNotUsedInStorage() {
+    Future<Boolean> reserved = index.reserve(eventPayload, "645398607547", itemCollection);
+
+    respondWith();
+
+    assertThat(reserved.result(), is(true));
+  }
+
+  @Test
+  public void shouldRejectBarcodeUsedInStorage() {
+    Future<Boolean> reserved = index.reserve(eventPayload, "645398607547", itemCollection);
+
+    respondWith(itemWithBarcode("645398607547"));
+
+    assertThat(reserved.result(), is(false));
+  }
+
+  @Test
+  public void shouldRejectDuplicateBarcodeWithinJobWithoutQueryingStorageAgain() throws UnsupportedEncodingException {
+    Future<Boolean> first = index.reserve(eventPayload, "645398607547", itemCollection);
+    respondWith();
+
+    Future<Boolean> second = index.reserve(eventPayload, "645398607547", itemCollection);
+
+    assertThat(first.result(), is(true));
+    assertThat(second.result(), is(false));
+    verify(itemCollection, times(1)).findByCql(anyString(), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+  }
+
+  @Test
+  public void shouldRejectBarcodeDifferingOnlyInCaseFromOneReservedWithinJob() throws UnsupportedEncodingException {
+    Future<Boolean> first = index.reserve(eventPayload, "abc-645398", itemCollection);
+    respondWith();
+
+    Future<Boolean> second = index.reserve(eventPayload, "ABC-645398", itemCollection);
+
+    assertThat(first.result(), is(true));
+    assertThat(second.result(), is(false));
+    verify(itemCollection, times(1)).findByCql(anyString(), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+  }
+
+  @Test
+  public void shouldLookUpBarcodesDifferingOnlyInCaseOnce() throws UnsupportedEncodingException {
+    Future<Boolean> first = index.reserve(eventPayload, "1", itemCollection);
+    Future<Boolean> lowerCase = index.reserve(eventPayload, "abc-645398", itemCollection);
+    Future<Boolean> upperCase = index.reserve(eventPayload, "ABC-645398", itemCollection);
+
+    respondWith();
+    respondWith();
+
+    verify(itemCollection).findByCql(eq("barcode==(\"abc-645398\")"), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+    assertThat(first.result(), is(true));
+    assertThat(lowerCase.result(), is(true));
+    assertThat(upperCase.result(), is(false));
+  }
+
+  @Test
+  public void shouldCombineLookupsRequestedWhileAnotherIsInFlight() throws UnsupportedEncodingException {
+    Future<Boolean> first = index.reserve(eventPayload, "1", itemCollection);
+    Future<Boolean> second = index.reserve(eventPayload, "2", itemCollection);
+    Future<Boolean> third = index.reserve(eventPayload, "3", itemCollection);
+    Future<Boolean> duplicate = index.reserve(eventPayload, "3", itemCollection);
+
+    respondWith();
+    respondWith(itemWithBarcode("2"));
+
+    verify(itemCollection).findByCql(eq("barcode==(\"1\")"), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+    verify(itemCollection).findByCql(eq("barcode==(\"2\" or \"3\")"), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+    assertThat(first.result(), is(true));
+    assertThat(second.result(), is(false));
+    assertThat(third.result(), is(true));
+    assertThat(duplicate.result(), is(false));
+  }
+
+  @Test
+  public void shouldLookUpAgainWhenDuplicateBarcodesFillThePage() {
+    Future<Boolean> first = index.reserve(eventPayload, "1", itemCollection);
+    respondWith();
+
+    Future<Boolean> second = index.reserve(eventPayload, "2", itemCollection);
+    Future<Boolean> third = index.reserve(eventPayload, "3", itemCollection);
+
+    respondWithPageOf(3, itemWithBarcode("2"), itemWithBarcode("2"));
+
+    verify(itemCollection).findByCql(eq("barcode==(\"2\" or \"3\")"),
+      argThat(paging -> paging.limit == 3), any(Consumer.class), any(Consumer.class));
+
+    respondWith(itemWithBarcode("2"), itemWithBarcode("2"), itemWithBarcode("3"));
+
+    assertThat(first.result(), is(true));
+    assertThat(second.result(), is(false));
+    assertThat(third.result(), is(false));
+  }
+
+  @Test
+  public void shouldAllowReservingReleasedBarcodeAgain() {
+    index.reserve(eventPayload, "645398607547", itemCollection);
+    respondWith();
+
+    index.release(eventPayload, "645398607547");
+
+    Future<Boolean> reserved = index.reserve(eventPayload, "645398607547", itemCollection);
+    respondWith();
+
+    assertThat(reserved.result(), is(true));
+  }
+
+  @Test
+  public void shouldAcceptItemsWithoutBarcode() {
+    assertThat(index.reserve(eventPayload, null, itemCollection).result(), is(true));
+    assertThat(index.reserve(eventPayload, null, itemCollection).result(), is(true));
+    assertThat(pendingLookups.isEmpty(), is(true));
+  }
+
+  private void respondWith(Item... items) {
+    respondWithPageOf(items.length, items);
+  }
+
+  private void respondWithPageOf(int totalRecords, Item... items) {
+    List<Item> found = new ArrayList<>();
+    Collections.addAll(found, items);
+
+    pendingLookups.remove(0).accept(new Success<>(new MultipleRecords<>(found, totalRecords)));
+  }
+
+  private static Item itemWithBarcode(String barcode) {
+    return new Item(null, null, new Status(AVAILABLE), null, null, null)
+      .withBarcode(barcode);
+  }
+}
@@ -0,0 +1,148 @@
+package org.folio.inventory.dataimport.cache;
+
+import org.folio.DataImportEventPayload;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+import org.folio.processing.matching.loader.LoadResult;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.folio.rest.jaxrs.model.EntityType.HOLDINGS;
+import static org.folio.rest.jaxrs.model.EntityType.INSTANCE;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MatchResultCacheTest {
+
+  private static final String CQL = "hrid == \"in00000001\"";
+
+  private final MatchResultCache cache = new MatchResultCache(100, 60);
+
+  @Test
+  public void shouldReturnCachedResultForSameJobAndQuery() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{\"id\":\"1\"}"));
+
+    LoadResult cached = cache.get(eventPayload, INSTANCE, CQL);
+
+    assertThat(cached, is(notNullValue()));
+    assertThat(cached.getValue(), is("{\"id\":\"1\"}"));
+    assertThat(cache.stats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void shouldCacheNotMatchedResults() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult(null));
+
+    LoadResult cached = cache.get(eventPayload, INSTANCE, CQL);
+
+    assertThat(cached, is(notNullValue()));
+    assertThat(cached.getValue(), is(nullValue()));
+  }
+
+  @Test
+  public void shouldShareEntriesForQueriesDifferingOnlyInWhiteSpace() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{}"));
+
+    assertThat(cache.get(eventPayload, INSTANCE, "  hrid   ==  \"in00000001\" "), is(notNullValue()));
+    assertThat(cache.get(eventPayload, INSTANCE, "hrid == \"in00000001 \""), is(nullValue()));
+  }
+
+  @Test
+  public void shouldNotShareEntriesBetweenJobs() {
+    cache.lookUp(eventPayload(UUID.randomUUID().toString()), INSTANCE, CQL).put(loadResult("{}"));
+
+    assertThat(cache.get(eventPayload(UUID.randomUUID().toString()), INSTANCE, CQL), is(nullValue()));
+    assertThat(cache.stats().missCount(), is(1L));
+  }
+
+  @Test
+  public void shouldNotCacheEventsWithoutJobExecutionId() {
+    DataImportEventPayload eventPayload = eventPayload(null);
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{}"));
+
+    assertThat(cache.get(eventPayload, INSTANCE, CQL), is(nullValue()));
+    assertThat(cache.size(), is(0L));
+  }
+
+  @Test
+  public void shouldDropOnlyEntriesOfInvalidatedEntityType() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{}"));
+    cache.lookUp(eventPayload, HOLDINGS, CQL).put(loadResult("{}"));
+
+    cache.invalidate(eventPayload, INSTANCE);
+
+    assertThat(cache.get(eventPayload, INSTANCE, CQL), is(nullValue()));
+    assertThat(cache.get(eventPayload, HOLDINGS, CQL), is(notNullValue()));
+  }
+
+  @Test
+  public void shouldCacheResultsAgainAfterInvalidation() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+    DataImportEventPayload otherJobEventPayload = eventPayload(UUID.randomUUID().toString());
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{\"id\":\"1\"}"));
+    cache.lookUp(otherJobEventPayload, INSTANCE, CQL).put(loadResult("{}"));
+
+    cache.invalidate(eventPayload, INSTANCE);
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{\"id\":\"2\"}"));
+
+    assertThat(cache.get(eventPayload, INSTANCE, CQL).getValue(), is("{\"id\":\"2\"}"));
+    assertThat(cache.get(otherJobEventPayload, INSTANCE, CQL), is(notNullValue()));
+  }
+
+  @Test
+  public void shouldNotCacheResultOfQuerySentBeforeInvalidation() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+
+    MatchResultCache.Lookup lookup = cache.lookUp(eventPayload, INSTANCE, CQL);
+
+    assertThat(lookup.cachedResult(), is(nullValue()));
+
+    cache.invalidate(eventPayload, INSTANCE);
+    lookup.put(loadResult(null));
+
+    assertThat(cache.get(eventPayload, INSTANCE, CQL), is(nullValue()));
+  }
+
+  @Test
+  public void shouldExposeStatisticsAsMetrics() {
+    DataImportEventPayload eventPayload = eventPayload(UUID.randomUUID().toString());
+    MetricsRegistry registry = new MetricsRegistry();
+
+    cache.registerMetrics(registry);
+
+    cache.lookUp(eventPayload, INSTANCE, CQL).put(loadResult("{}"));
+    cache.get(eventPayload, INSTANCE, CQL);
+    cache.get(eventPayload, HOLDINGS, CQL);
+
+    String scraped = registry.scrape();
+
+    assertThat(scraped, containsString("inventory_match_result_cache_hits_total 1\n"));
+    assertThat(scraped, containsString("inventory_match_result_cache_misses_total 1\n"));
+    assertThat(scraped, containsString("inventory_match_result_cache_size 1\n"));
+  }
+
+  private static DataImportEventPayload eventPayload(String jobExecutionId) {
+    return new DataImportEventPayload()
+      .withJobExecutionId(jobExecutionId)
+      .withTenant("diku");
+  }
+
+  private static LoadResult loadResult(String value) {
+    LoadResult loadResult = new LoadResult();
+    loadResult.setValue(value);
+    return loadResult;
+  }
+}
@@ -0,0 +1,55 @@
+package org.folio.inventory.dataimport.util;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.folio.DataImportEventPayload;
+import org.folio.processing.events.utils.ZIPArchiver;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.UUID;
+
+import static org.folio.DataImportEventTypes.DI_SRS_MARC_BIB_RECORD_CREATED;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CompressedPayloadDecoderTest {
+
+  @Test
+  public void shouldDecodeZippedEventPayload() throws IOException {
+    String jobExecutionId = UUID.randomUUID().toString();
+    HashMap<String, String> context = new HashMap<>();
+    context.put("MARC_BIBLIOGRAPHIC", "{\"id\":\"b8e0a1b5-bd8b-4c16-a4d5-2a8ab3b1c5f0\"}");
+
+    DataImportEventPayload payload = new DataImportEventPayload()
+      .withEventType(DI_SRS_MARC_BIB_RECORD_CREATED.value())
+      .withJobExecutionId(jobExecutionId)
+      .withTenant("diku")
+      .withContext(context);
+
+    DataImportEventPayload decoded = CompressedPayloadDecoder.decode(
+      zipped(JsonObject.mapFrom(payload).encode()), DataImportEventPayload.class);
+
+    assertThat(decoded.getEventType(), is(DI_SRS_MARC_BIB_RECORD_CREATED.value()));
+    assertThat(decoded.getJobExecutionId(), is(jobExecutionId));
+    assertThat(decoded.getContext(), is(context));
+  }
+
+  @Test
+  public void shouldDecodeZippedMap() throws IOException {
+    HashMap decoded = CompressedPayloadDecoder.decode(
+      zipped(new JsonObject().put("MARC", "{}").encode()), HashMap.class);
+
+    assertThat(decoded.get("MARC"), is("{}"));
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldFailOnEmptyBody() throws IOException {
+    CompressedPayloadDecoder.decode(Buffer.buffer(), HashMap.class);
+  }
+
+  private static Buffer zipped(String payload) throws IOException {
+    return Buffer.buffer(ZIPArchiver.zip(payload));
+  }
+}
@@ -0,0 +1,164 @@
+package org.folio.inventory.domain.ingest;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.folio.inventory.common.Context;
+import org.folio.inventory.domain.Messages;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.when;
+
+@RunWith(VertxUnitRunner.class)
+public class ChunkedIngestSenderTest {
+
+  private final Context context = Mockito.mock(Context.class);
+
+  private Vertx vertx;
+  private MessageConsumer<JsonObject> processor;
+
+  private final AtomicInteger chunksInFlight = new AtomicInteger();
+  private final AtomicInteger mostChunksInFlight = new AtomicInteger();
+  private final List<String> receivedTitles = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+
+    when(context.getTenantId()).thenReturn("test_tenant");
+    when(context.getToken()).thenReturn("token");
+    when(context.getOkapiLocation()).thenReturn("http://localhost:9130");
+
+    processor = vertx.eventBus().consumer(Messages.START_INGEST.Address, message -> {
+      mostChunksInFlight.accumulateAndGet(chunksInFlight.incrementAndGet(), Math::max);
+
+      message.body().getJsonArray("records")
+        .forEach(record -> receivedTitles.add(((JsonObject) record).getString("title")));
+
+      vertx.setTimer(20, timerId -> {
+        chunksInFlight.decrementAndGet();
+        message.reply(new JsonObject());
+      });
+    });
+  }
+
+  @After
+  public void tearDown(TestContext testContext) {
+    processor.unregister();
+    vertx.close(testContext.asyncAssertSuccess());
+  }
+
+  @Test
+  public void shouldSendAllRecordsInChunksWithBoundedConcurrency(TestContext testContext) {
+    Async async = testContext.async();
+
+    new ChunkedIngestSender(vertx, 3, 2, 5000)
+      .send(recordSource(10), new JsonObject(), "job-id", context)
+      .setHandler(testContext.asyncAssertSuccess(recordsNotProcessed -> {
+        testContext.assertEquals(0, recordsNotProcessed);
+        testContext.assertEquals(10, receivedTitles.size());
+        testContext.assertEquals(0, chunksInFlight.get());
+        testContext.assertTrue(mostChunksInFlight.get() <= 2);
+        async.complete();
+      }));
+  }
+
+  @Test
+  public void shouldCompleteWhenThereAreNoRecords(TestContext testContext) {
+    Async async = testContext.async();
+
+    new ChunkedIngestSender(vertx, 3, 2, 5000)
+      .send(recordSource(0), new JsonObject(), "job-id", context)
+      .setHandler(testContext.asyncAssertSuccess(v -> {
+        testContext.assertTrue(receivedTitles.isEmpty());
+        async.complete();
+      }));
+  }
+
+  @Test
+  public void shouldCountRecordsOfFailedChunksAsNotProcessed(TestContext testContext) {
+    Async async = testContext.async();
+
+    processor.unregister();
+    processor = vertx.eventBus().consumer(Messages.START_INGEST.Address, message -> {
+      if (firstTitle(message.body()).equals("Title 4")) {
+        message.fail(500, "Creating instances failed");
+      }
+      else {
+        message.reply(new JsonObject());
+      }
+    });
+
+    new ChunkedIngestSender(vertx, 3, 2, 5000)
+      .send(recordSource(10), new JsonObject(), "job-id", context)
+      .setHandler(testContext.asyncAssertSuccess(recordsNotProcessed -> {
+        testContext.assertEquals(3, recordsNotProcessed);
+        async.complete();
+      }));
+  }
+
+  @Test
+  public void shouldCountRecordsOfChunksNotRepliedToInTimeAsNotProcessed(TestContext testContext) {
+    Async async = testContext.async();
+
+    processor.unregister();
+    processor = vertx.eventBus().consumer(Messages.START_INGEST.Address, message -> {
+      if (!firstTitle(message.body()).equals("Title 10")) {
+        message.reply(new JsonObject());
+      }
+    });
+
+    new ChunkedIngestSender(vertx, 3, 2, 100)
+      .send(recordSource(10), new JsonObject(), "job-id", context)
+      .setHandler(testContext.asyncAssertSuccess(recordsNotProcessed -> {
+        testContext.assertEquals(1, recordsNotProcessed);
+        async.complete();
+      }));
+  }
+
+  @Test
+  public void shouldFailWhenRecordsCannotBeRead(TestContext testContext) {
+    Async async = testContext.async();
+
+    IngestRecordSource failingSource = maximumRecords -> {
+      throw new IllegalStateException("Unexpected end of file");
+    };
+
+    new ChunkedIngestSender(vertx, 3, 2, 5000)
+      .send(failingSource, new JsonObject(), "job-id", context)
+      .setHandler(testContext.asyncAssertFailure(cause -> {
+        testContext.assertEquals("Unexpected end of file", cause.getMessage());
+        async.complete();
+      }));
+  }
+
+  private static String firstTitle(JsonObject chunk) {
+    return chunk.getJsonArray("records").getJsonObject(0).getString("title");
+  }
+
+  private static IngestRecordSource recordSource(int numberOfRecords) {
+    AtomicInteger read = new AtomicInteger();
+
+    return maximumRecords -> {
+      List<JsonObject> records = new ArrayList<>();
+
+      while (records.size() < maximumRecords && read.get() < numberOfRecords) {
+        records.add(new JsonObject().put("title", "Title " + read.incrementAndGet()));
+      }
+
+      return records;
+    };
+  }
+}
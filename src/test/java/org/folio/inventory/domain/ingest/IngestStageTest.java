@@ -0,0 +1,83 @@
+package org.folio.inventory.domain.ingest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class IngestStageTest {
+
+  private final List<List<Integer>> batches = new ArrayList<>();
+  private final List<CompletableFuture<List<Integer>>> pendingWrites = new ArrayList<>();
+
+  @Test
+  public void shouldWriteRecordsInBatchesWithBoundedConcurrency() {
+    CompletableFuture<IngestStage.Result<Integer>> completed =
+      new IngestStage<Integer>("numbers", 3, 2).run(numbers(10), this::write);
+
+    assertThat(pendingWrites.size(), is(2));
+
+    completeNextWrite();
+    assertThat(pendingWrites.size(), is(2));
+
+    completeNextWrite();
+    completeNextWrite();
+    completeNextWrite();
+
+    assertThat(batches, is(Arrays.asList(
+      Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6),
+      Arrays.asList(7, 8, 9), Collections.singletonList(10))));
+
+    assertThat(completed.isDone(), is(true));
+    assertThat(completed.join().created.size(), is(10));
+    assertThat(completed.join().failed, is(0));
+  }
+
+  @Test
+  public void shouldCountRecordsNotCreatedAsFailed() {
+    CompletableFuture<IngestStage.Result<Integer>> completed =
+      new IngestStage<Integer>("numbers", 3, 2).run(numbers(5), this::write);
+
+    pendingWrites.remove(0).complete(Collections.singletonList(1));
+    pendingWrites.remove(0).completeExceptionally(new IllegalStateException("Storage unavailable"));
+
+    assertThat(completed.join().created, is(Collections.singletonList(1)));
+    assertThat(completed.join().failed, is(4));
+  }
+
+  @Test
+  public void shouldCompleteWhenThereAreNoRecords() {
+    CompletableFuture<IngestStage.Result<Integer>> completed =
+      new IngestStage<Integer>("numbers", 3, 2).run(numbers(0), this::write);
+
+    assertThat(completed.isDone(), is(true));
+    assertThat(batches.isEmpty(), is(true));
+  }
+
+  private CompletableFuture<List<Integer>> write(List<Integer> batch) {
+    CompletableFuture<List<Integer>> written = new CompletableFuture<>();
+
+    batches.add(new ArrayList<>(batch));
+    pendingWrites.add(written);
+
+    return written;
+  }
+
+  private void completeNextWrite() {
+    CompletableFuture<List<Integer>> write = pendingWrites.remove(0);
+
+    write.complete(batches.get(batches.size() - pendingWrites.size() - 1));
+  }
+
+  private static List<Integer> numbers(int count) {
+    return IntStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+  }
+}
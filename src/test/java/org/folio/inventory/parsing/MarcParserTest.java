@@ -1,12 +1,16 @@
 package org.folio.inventory.parsing;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.folio.inventory.exceptions.InvalidMarcJsonException;
 import org.folio.inventory.support.JsonHelper;
 import org.junit.Test;
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
 
 // TODO: Extend test data file (or even create multiple)
 // TODO: Check if sample data fully represent (all cases of) a true Marc JSON
@@ -39,6 +43,42 @@ public class MarcParserTest {
     marcParser.marcJson2FolioJson(jh.getJsonFileAsJsonObject("/marc/test-entry_06.json"));
   }
 
+  @Test
+  public void marcJson2FolioJsonForManyRecords() throws IOException, InvalidMarcJsonException {
+    JsonHelper jh = new JsonHelper();
+    List<JsonObject> inputs = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      inputs.add(jh.getJsonFileAsJsonObject("/marc/test-input_01a.json"));
+      inputs.add(jh.getJsonFileAsJsonObject(String.format("/marc/test-entry_0%d.json", i % 6 + 1)));
+    }
+    List<JsonObject> actual = marcParser.marcJson2FolioJson(inputs);
+    assertEquals(inputs.size(), actual.size());
+    for (int i = 0; i < inputs.size(); i++) {
+      assertEquals(marcParser.marcJson2FolioJson(inputs.get(i)).toString(),
+        actual.get(i).toString());
+    }
+  }
+
+  @Test
+  public void marcJson2FolioJsonIgnoresUnconfiguredFields() throws InvalidMarcJsonException {
+    JsonObject actual = marcParser.marcJson2FolioJson(new JsonObject()
+      .put("fields", new JsonArray()
+        .add(new JsonObject().put("999", new JsonObject().put("subfields",
+          new JsonArray().add(new JsonObject().put("a", "ignored")))))
+        .add(new JsonObject().put("LDR", "ignored"))));
+    assertEquals("", actual.getString("title"));
+    assertTrue(actual.getJsonArray("identifiers").isEmpty());
+  }
+
+  @Test(expected = InvalidMarcJsonException.class)
+  public void validateManyRecordsWithAnyInvalid() throws IOException, InvalidMarcJsonException {
+    JsonHelper jh = new JsonHelper();
+    List<JsonObject> inputs = new ArrayList<>();
+    inputs.add(jh.getJsonFileAsJsonObject("/marc/test-input_01a.json"));
+    inputs.add(jh.getJsonFileAsJsonObject("/marc/has-no-fields.json"));
+    marcParser.marcJson2FolioJson(inputs);
+  }
+
   @Test(expected = InvalidMarcJsonException.class)
   public void validateJsonWithoutFieldsKey() throws IOException, InvalidMarcJsonException {
     JsonObject jo = new JsonHelper().getJsonFileAsJsonObject("/marc/has-no-fields.json");
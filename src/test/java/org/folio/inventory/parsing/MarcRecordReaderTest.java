@@ -0,0 +1,190 @@
+package org.folio.inventory.parsing;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.inventory.exceptions.InvalidMarcRecordException;
+import org.folio.inventory.support.JsonHelper;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MarcRecordReaderTest {
+
+  @Test
+  public void recordsAreConvertedTheSameAsMarcJson() throws Exception {
+    JsonHelper jh = new JsonHelper();
+    JsonObject marcJson = jh.getJsonFileAsJsonObject("/marc/test-input_01a.json");
+
+    MarcRecordReader reader = new MarcRecordReader(ByteBuffer.wrap(
+      concatenate(encode(marcJson, ' '), encode(marcJson, ' '))));
+
+    MarcParser marcParser = new MarcParser();
+    JsonObject expected = jh.getJsonFileAsJsonObject("/marc/test-output_01a.json");
+
+    assertEquals(expected.toString(), marcParser.marcJson2FolioJson(reader.next()).toString());
+    assertEquals(expected.toString(), marcParser.marcJson2FolioJson(reader.next()).toString());
+    assertNull(reader.next());
+  }
+
+  @Test
+  public void fieldsHaveIndicatorsAndSubfields() throws Exception {
+    JsonObject marcJson = new JsonObject().put("fields", new JsonArray()
+      .add(new JsonObject().put("001", "in00000001"))
+      .add(new JsonObject().put("245", new JsonObject()
+        .put("ind1", "1")
+        .put("ind2", "0")
+        .put("subfields", new JsonArray()
+          .add(new JsonObject().put("a", "Café society"))
+          .add(new JsonObject().put("c", ""))))));
+
+    JsonObject record = new MarcRecordReader(ByteBuffer.wrap(encode(marcJson, 'a'))).next();
+
+    assertEquals(24, record.getString("leader").length());
+    assertEquals("in00000001", record.getJsonArray("fields").getJsonObject(0).getString("001"));
+
+    JsonObject title = record.getJsonArray("fields").getJsonObject(1).getJsonObject("245");
+
+    assertEquals("1", title.getString("ind1"));
+    assertEquals("0", title.getString("ind2"));
+    assertEquals("Café society", title.getJsonArray("subfields").getJsonObject(0).getString("a"));
+    assertEquals("", title.getJsonArray("subfields").getJsonObject(1).getString("c"));
+  }
+
+  @Test
+  public void fileIsReadAcrossMappedWindows() throws Exception {
+    JsonObject marcJson = new JsonHelper().getJsonFileAsJsonObject("/marc/test-input_01a.json");
+    byte[] encoded = encode(marcJson, ' ');
+    int records = 500;
+
+    Path file = Files.createTempFile("records", ".mrc");
+
+    try {
+      ByteArrayOutputStream contents = new ByteArrayOutputStream();
+
+      for (int index = 0; index < records; index++) {
+        contents.write(encoded);
+        contents.write('\n');
+      }
+
+      Files.write(file, contents.toByteArray());
+
+      int read = 0;
+
+      try (MarcRecordReader reader = MarcRecordReader.open(file, 1, StandardCharsets.ISO_8859_1)) {
+        JsonObject record;
+
+        while ((record = reader.next()) != null) {
+          assertEquals(marcJson.getJsonArray("fields").size(),
+            record.getJsonArray("fields").size());
+
+          read++;
+        }
+      }
+
+      assertEquals(records, read);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void recordsAreConvertedInBatches() throws Exception {
+    JsonObject marcJson = new JsonHelper().getJsonFileAsJsonObject("/marc/test-input_01a.json");
+    byte[] encoded = encode(marcJson, ' ');
+
+    List<Integer> batchSizes = new ArrayList<>();
+
+    int converted = new MarcParser().marc21ToFolioJson(
+      new MarcRecordReader(ByteBuffer.wrap(concatenate(encoded, encoded, encoded))),
+      2, batch -> batchSizes.add(batch.size()));
+
+    assertEquals(3, converted);
+    assertEquals(Arrays.asList(2, 1), batchSizes);
+  }
+
+  @Test(expected = InvalidMarcRecordException.class)
+  public void truncatedRecordIsInvalid() throws Exception {
+    JsonObject marcJson = new JsonHelper().getJsonFileAsJsonObject("/marc/test-input_01a.json");
+    byte[] encoded = encode(marcJson, ' ');
+
+    new MarcRecordReader(ByteBuffer.wrap(Arrays.copyOf(encoded, encoded.length - 10))).next();
+  }
+
+  @Test(expected = InvalidMarcRecordException.class)
+  public void recordWithoutLengthIsInvalid() throws Exception {
+    byte[] notMarc = "this is not a MARC record at all".getBytes(StandardCharsets.US_ASCII);
+
+    new MarcRecordReader(ByteBuffer.wrap(notMarc)).next();
+  }
+
+  /**
+   * Encodes a MARC JSON record as ISO 2709, with a field length of four
+   * digits and a starting position of five digits in the directory
+   */
+  private static byte[] encode(JsonObject marcJson, char codingScheme) throws IOException {
+    ByteArrayOutputStream directory = new ByteArrayOutputStream();
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+    for (Object entry : marcJson.getJsonArray("fields")) {
+      JsonObject field = (JsonObject) entry;
+      String tag = field.fieldNames().iterator().next();
+      int start = data.size();
+
+      if (field.getValue(tag) instanceof String) {
+        data.write(field.getString(tag).getBytes(StandardCharsets.UTF_8));
+      } else {
+        JsonObject dataField = field.getJsonObject(tag);
+
+        data.write(dataField.getString("ind1", " ").charAt(0));
+        data.write(dataField.getString("ind2", " ").charAt(0));
+
+        for (Object subfieldEntry : dataField.getJsonArray("subfields")) {
+          Map.Entry<String, Object> subfield = ((JsonObject) subfieldEntry)
+            .getMap().entrySet().iterator().next();
+
+          data.write(0x1F);
+          data.write(subfield.getKey().charAt(0));
+          data.write(subfield.getValue().toString().getBytes(StandardCharsets.UTF_8));
+        }
+      }
+
+      data.write(0x1E);
+
+      directory.write(String.format("%s%04d%05d", tag, data.size() - start, start)
+        .getBytes(StandardCharsets.US_ASCII));
+    }
+
+    directory.write(0x1E);
+    data.write(0x1D);
+
+    int baseAddress = 24 + directory.size();
+    int recordLength = baseAddress + data.size();
+
+    String leader = String.format("%05dnam %c22%05d   4500", recordLength, codingScheme, baseAddress);
+
+    return concatenate(leader.getBytes(StandardCharsets.US_ASCII),
+      directory.toByteArray(), data.toByteArray());
+  }
+
+  private static byte[] concatenate(byte[]... parts) {
+    ByteArrayOutputStream joined = new ByteArrayOutputStream();
+
+    for (byte[] part : parts) {
+      joined.write(part, 0, part.length);
+    }
+
+    return joined.toByteArray();
+  }
+}
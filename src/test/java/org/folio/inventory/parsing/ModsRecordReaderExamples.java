@@ -0,0 +1,102 @@
+package org.folio.inventory.parsing;
+
+import com.google.common.io.CharStreams;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.xpath.XPathExpressionException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ModsRecordReaderExamples {
+
+  @Test
+  public void streamedRecordsAreTheSameAsParsedFromDocument()
+    throws ParserConfigurationException,
+    SAXException,
+    XPathExpressionException,
+    IOException,
+    XMLStreamException {
+
+    streamedRecordsAreTheSameAsParsedFromDocument("/mods/multiple-example-mods-records.xml");
+    streamedRecordsAreTheSameAsParsedFromDocument("/mods/no-identifier-source-or-type.xml");
+  }
+
+  @Test
+  public void recordsAreReadOneAtATime() throws XMLStreamException, IOException {
+    try (InputStream xml = getClass().getResourceAsStream("/mods/no-identifier-source-or-type.xml")) {
+      ModsRecordReader reader = new ModsRecordReader(xml, new UTF8LiteralCharacterEncoding());
+
+      JsonObject firstRecord = reader.next();
+
+      assertThat(firstRecord.getJsonArray("identifiers").getJsonObject(0)
+        .getString("value"), is("no-source"));
+
+      JsonObject secondRecord = reader.next();
+
+      assertThat(secondRecord.getJsonArray("identifiers").getJsonObject(0)
+        .getString("value"), is("no-type"));
+
+      assertThat(reader.next(), is(nullValue()));
+
+      reader.close();
+    }
+  }
+
+  @Test
+  public void onlyRecordsDirectlyWithinRecordsElementAreRead() throws XMLStreamException {
+    String xml = "<mods_records>"
+      + "<mods><titleInfo><title>First</title></titleInfo></mods>"
+      + "<other><mods><titleInfo><title>Nested</title></titleInfo></mods></other>"
+      + "<mods><titleInfo><title>Second</title></titleInfo></mods>"
+      + "</mods_records>";
+
+    List<JsonObject> records = new ArrayList<>();
+
+    int parsed = new ModsParser(new UTF8LiteralCharacterEncoding())
+      .parseRecords(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), records::add);
+
+    assertThat(parsed, is(2));
+    assertThat(records.get(0).getString("title"), is("First"));
+    assertThat(records.get(1).getString("title"), is("Second"));
+    assertThat(records.get(1).getString("barcode"), is(""));
+  }
+
+  private void streamedRecordsAreTheSameAsParsedFromDocument(String resource)
+    throws ParserConfigurationException,
+    SAXException,
+    XPathExpressionException,
+    IOException,
+    XMLStreamException {
+
+    String modsXml;
+
+    try (final Reader reader = new InputStreamReader(this.getClass()
+      .getResourceAsStream(resource), "UTF-8")) {
+      modsXml = CharStreams.toString(reader);
+    }
+
+    ModsParser parser = new ModsParser(new UTF8LiteralCharacterEncoding());
+
+    List<JsonObject> parsedRecords = parser.parseRecords(modsXml);
+    List<JsonObject> streamedRecords = new ArrayList<>();
+
+    parser.parseRecords(new ByteArrayInputStream(
+      modsXml.getBytes(StandardCharsets.UTF_8)), streamedRecords::add);
+
+    assertThat(streamedRecords, is(parsedRecords));
+  }
+}
@@ -2,6 +2,8 @@ package org.folio.inventory.parsing;
 
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.Assert.assertThat;
 import static org.hamcrest.CoreMatchers.*;
 
@@ -22,6 +24,78 @@ public class UTF8LiteralCharacterEncodingExamples {
       "\\xC3\\xA9", "\u00E9");
   }
 
+  @Test
+  public void everyNonASCIICharacterIsDecoded() {
+    for (int codePoint = 0x80; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+      if (Character.isSurrogate((char) codePoint) && codePoint <= 0xFFFF) {
+        continue;
+      }
+
+      String character = new String(Character.toChars(codePoint));
+
+      assertThat(encoding.decode("a" + escape(character, "0123456789ABCDEF") + "b"),
+        is("a" + character + "b"));
+
+      assertThat(encoding.decode(escape(character, "0123456789abcdef")), is(character));
+    }
+  }
+
+  @Test
+  public void adjacentSequencesAreDecoded() {
+    assertThat(encoding.decode("\\xC3\\xA9\\xE2\\x80\\x99\\xF0\\x9F\\x93\\x9A"),
+      is("\u00E9\u2019\uD83D\uDCDA"));
+  }
+
+  @Test
+  public void textWithoutEscapesIsNotCopied() {
+    String input = "Grammaire compar\u00E9e du grec et du latin";
+
+    assertThat(encoding.decode(input), is(sameInstance(input)));
+  }
+
+  @Test
+  public void textWithOnlyInvalidEscapesIsNotCopied() {
+    String input = "C:\\x20 and \\xZZ";
+
+    assertThat(encoding.decode(input), is(sameInstance(input)));
+  }
+
+  @Test
+  public void malformedSequencesAreLeftAsTheyAre() {
+    //ASCII
+    assertThat(encoding.decode("\\x41"), is("\\x41"));
+    //Continuation byte without a lead byte
+    assertThat(encoding.decode("\\xA9"), is("\\xA9"));
+    //Truncated sequences
+    assertThat(encoding.decode("\\xC3"), is("\\xC3"));
+    assertThat(encoding.decode("\\xE2\\x80"), is("\\xE2\\x80"));
+    assertThat(encoding.decode("\\xE2\\x80 \\xC3\\xA9"), is("\\xE2\\x80 \u00E9"));
+    assertThat(encoding.decode("\\xC3\\xA"), is("\\xC3\\xA"));
+    assertThat(encoding.decode("\\x"), is("\\x"));
+    //Overlong encodings
+    assertThat(encoding.decode("\\xC0\\x80"), is("\\xC0\\x80"));
+    assertThat(encoding.decode("\\xE0\\x80\\x80"), is("\\xE0\\x80\\x80"));
+    assertThat(encoding.decode("\\xF0\\x80\\x80\\x80"), is("\\xF0\\x80\\x80\\x80"));
+    //Surrogates
+    assertThat(encoding.decode("\\xED\\xA0\\x80"), is("\\xED\\xA0\\x80"));
+    //Beyond the last code point
+    assertThat(encoding.decode("\\xF4\\x90\\x80\\x80"), is("\\xF4\\x90\\x80\\x80"));
+    //Not hexadecimal
+    assertThat(encoding.decode("\\xC3\\xG9"), is("\\xC3\\xG9"));
+  }
+
+  private static String escape(String character, String hexDigits) {
+    StringBuilder escaped = new StringBuilder();
+
+    for (byte b : character.getBytes(StandardCharsets.UTF_8)) {
+      escaped.append("\\x")
+        .append(hexDigits.charAt((b >> 4) & 0xF))
+        .append(hexDigits.charAt(b & 0xF));
+    }
+
+    return escaped.toString();
+  }
+
   private void testDecoding(
     String input,
     String toReplace,
@@ -3,6 +3,11 @@ package org.folio.inventory.parsing.config;
 import org.folio.inventory.exceptions.InvalidMarcConfigException;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 public class MarcConfigTest {
 
   @Test(expected = InvalidMarcConfigException.class)
@@ -35,4 +40,24 @@ public class MarcConfigTest {
     new MarcConfig(
       "/config/marc-config-valid.json");
   }
+
+  @Test
+  public void compilesFieldMappingsByTag() throws Exception {
+    CompiledMarcConfig compiled = new MarcConfig().getCompiled();
+
+    assertEquals("title", compiled.getInstanceFields().get(0).getName());
+    assertFalse(compiled.getInstanceFields().get(0).isRepeatable());
+
+    CompiledMarcConfig.FieldMapping isbn = compiled.mappingFor("020");
+    assertEquals("identifiers", isbn.getInstanceField().getName());
+    assertTrue(isbn.getInstanceField().isRepeatable());
+    assertFalse(isbn.isControlField());
+    assertEquals("ISBN", isbn.getIdentifierType());
+
+    assertTrue(compiled.mappingFor("001").isControlField());
+    assertNull(compiled.mappingFor("245").getIdentifierType());
+    assertNull(compiled.mappingFor("999"));
+    assertNull(compiled.mappingFor("LDR"));
+    assertNull(compiled.mappingFor("24"));
+  }
 }
@@ -5,7 +5,7 @@ import io.vertx.core.Future;
 import io.vertx.core.http.HttpServer;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
-import org.folio.inventory.common.WebRequestDiagnostics;
+import org.folio.inventory.common.WebRequestAccessLog;
 import org.folio.inventory.support.http.server.ClientErrorResponse;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
 
@@ -41,7 +41,7 @@ public class FailureInventoryStorageModule extends AbstractVerticle {
         }
       });
 
-    router.route().handler(WebRequestDiagnostics::outputDiagnostics);
+    router.route().handler(WebRequestAccessLog::logAccess);
 
     router.route("/server-error/item-storage/items/*").handler(this::serverError);
     router.route("/server-error/instance-storage/instances/*").handler(this::serverError);
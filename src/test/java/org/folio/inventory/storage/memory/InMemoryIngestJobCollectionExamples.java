@@ -1,6 +1,7 @@
 package org.folio.inventory.storage.memory;
 
 import org.folio.inventory.common.api.request.PagingParameters;
+import org.folio.inventory.common.domain.Failure;
 import org.folio.inventory.common.domain.MultipleRecords;
 import org.folio.inventory.common.domain.Success;
 import org.folio.inventory.resources.ingest.IngestJob;
@@ -9,6 +10,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
@@ -140,4 +142,80 @@ public class InMemoryIngestJobCollectionExamples {
     assertThat(allJobs.size(), is(1));
     assertThat(allJobs.stream().findFirst().get().id, is(added.id));
   }
+
+  @Test
+  public void progressIsAccumulatedByChanges()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    CompletableFuture<IngestJob> addFuture = new CompletableFuture<>();
+
+    collection.add(new IngestJob(IngestJobState.REQUESTED),
+      succeed(addFuture), fail(addFuture));
+
+    IngestJob added = getOnCompletion(addFuture);
+
+    CompletableFuture<IngestJob> firstChangeFuture = new CompletableFuture<>();
+
+    collection.change(added.id,
+      job -> job.inProgress().recordsReceived(5).recordsProcessed(5, 5, 4, 1),
+      succeed(firstChangeFuture), fail(firstChangeFuture));
+
+    waitForCompletion(firstChangeFuture);
+
+    CompletableFuture<IngestJob> secondChangeFuture = new CompletableFuture<>();
+
+    collection.change(added.id,
+      job -> job.recordsReceived(3).recordsProcessed(3, 3, 3, 0),
+      succeed(secondChangeFuture), fail(secondChangeFuture));
+
+    IngestJob changed = getOnCompletion(secondChangeFuture);
+
+    assertThat(changed.state, is(IngestJobState.IN_PROGRESS));
+    assertThat(changed.recordsReceived, is(8));
+    assertThat(changed.instancesCreated, is(8));
+    assertThat(changed.holdingsCreated, is(8));
+    assertThat(changed.itemsCreated, is(7));
+    assertThat(changed.failures, is(1));
+  }
+
+  @Test
+  public void failedJobKeepsProgress()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    CompletableFuture<IngestJob> addFuture = new CompletableFuture<>();
+
+    collection.add(new IngestJob(IngestJobState.REQUESTED),
+      succeed(addFuture), fail(addFuture));
+
+    IngestJob added = getOnCompletion(addFuture);
+
+    CompletableFuture<IngestJob> changeFuture = new CompletableFuture<>();
+
+    collection.change(added.id,
+      job -> job.inProgress().recordsReceived(5).recordsProcessed(5, 5, 5, 0).fail(),
+      succeed(changeFuture), fail(changeFuture));
+
+    IngestJob changed = getOnCompletion(changeFuture);
+
+    assertThat(changed.state, is(IngestJobState.FAILED));
+    assertThat(changed.recordsReceived, is(5));
+    assertThat(changed.itemsCreated, is(5));
+    assertThat(changed.completedAt, is(notNullValue()));
+  }
+
+  @Test
+  public void changingUnknownJobFails()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    CompletableFuture<Failure> changeFuture = new CompletableFuture<>();
+
+    collection.change(UUID.randomUUID().toString(), IngestJob::complete,
+      success -> changeFuture.completeExceptionally(
+        new AssertionError("Should not change unknown job")),
+      changeFuture::complete);
+
+    Failure failure = getOnCompletion(changeFuture);
+
+    assertThat(failure.getStatusCode(), is(404));
+  }
 }
@@ -0,0 +1,66 @@
+package org.folio.inventory.support;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class CompletableFuturesTest {
+
+  @Test
+  public void noMoreThanWaveSizeOperationsAreIncompleteAtOnce() throws Exception {
+    List<CompletableFuture<Integer>> incomplete = new ArrayList<>();
+    List<Integer> elements = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    CompletableFuture<List<Integer>> all = CompletableFutures.inWaves(elements, 4,
+      element -> {
+        CompletableFuture<Integer> operation = new CompletableFuture<>();
+        incomplete.add(operation);
+        return operation;
+      });
+
+    assertThat(incomplete.size(), is(4));
+
+    completeAll(incomplete, 0, 4);
+    assertThat(incomplete.size(), is(8));
+
+    completeAll(incomplete, 4, 8);
+    assertThat(incomplete.size(), is(10));
+
+    completeAll(incomplete, 8, 10);
+
+    assertThat(all.get(1, TimeUnit.SECONDS), is(elements));
+  }
+
+  @Test
+  public void failedOperationsAreLeftOut() throws Exception {
+    CompletableFuture<List<Integer>> all = CompletableFutures.inWaves(
+      Arrays.asList(1, 2, 3, 4, 5), 2,
+      element -> {
+        if (element == 2) {
+          return CompletableFutures.failedFuture(new Exception("failed"));
+        }
+        if (element == 4) {
+          throw new IllegalStateException("failed");
+        }
+        return CompletableFuture.completedFuture(element * 10);
+      });
+
+    assertThat(all.get(1, TimeUnit.SECONDS), containsInAnyOrder(10, 30, 50));
+  }
+
+  private static void completeAll(List<CompletableFuture<Integer>> operations, int from, int to) {
+    for (int index = from; index < to; index++) {
+      operations.get(index).complete(index);
+    }
+  }
+}
@@ -47,4 +47,11 @@ public class CqlHelperTest {
   public void barcode(String barcode, String cql) {
     assertThat(CqlHelper.barcodeIs(barcode), is(cql));
   }
+
+  @Test
+  public void barcodeIsAnyOf() {
+    assertThat(CqlHelper.barcodeIsAnyOf(Arrays.asList("abc")), is("barcode==(\"abc\")"));
+    assertThat(CqlHelper.barcodeIsAnyOf(Arrays.asList("abc", "1-*", "abc")),
+      is("barcode==(\"abc\" or \"1-\\*\")"));
+  }
 }
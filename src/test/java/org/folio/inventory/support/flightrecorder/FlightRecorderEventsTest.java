@@ -0,0 +1,78 @@
+package org.folio.inventory.support.flightrecorder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class FlightRecorderEventsTest {
+
+  @Before
+  public void runtimeHasFlightRecorder() {
+    assumeTrue(FlightRecorderEvents.isAvailable());
+  }
+
+  @Test
+  public void eventsAreDisabledByDefault() {
+    assertThat(FlightRecorderEvents.stage("holdings"),
+      is(sameInstance(FlightRecorderEvents.Span.NONE)));
+
+    assertThat(FlightRecorderEvents.ingestBatch("items", 100),
+      is(sameInstance(FlightRecorderEvents.IngestBatch.NONE)));
+  }
+
+  @Test
+  public void stageIsRecordedWhenEnabled() throws IOException {
+    List<RecordedEvent> events = record("org.folio.inventory.Stage",
+      () -> FlightRecorderEvents.stage("holdings").end());
+
+    assertThat(events.size(), is(1));
+    assertThat(events.get(0).getString("stage"), is("holdings"));
+  }
+
+  @Test
+  public void ingestBatchIsRecordedWhenEnabled() throws IOException {
+    List<RecordedEvent> events = record("org.folio.inventory.IngestBatch",
+      () -> FlightRecorderEvents.ingestBatch("items", 100).end(98));
+
+    assertThat(events.size(), is(1));
+    assertThat(events.get(0).getString("recordType"), is("items"));
+    assertThat(events.get(0).getInt("records"), is(100));
+    assertThat(events.get(0).getInt("created"), is(98));
+  }
+
+  private static List<RecordedEvent> record(String eventName, Runnable action)
+    throws IOException {
+
+    Path file = Files.createTempFile("inventory", ".jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(eventName).withThreshold(Duration.ZERO);
+      recording.start();
+
+      action.run();
+
+      recording.stop();
+      recording.dump(file);
+
+      return RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals(eventName))
+        .collect(Collectors.toList());
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package org.folio.inventory.support.metrics;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class EventLoopMonitorTest {
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  @Test
+  public void everyInvocationIsMeasured() {
+    EventLoopMonitor monitor = new EventLoopMonitor(registry, true, 1000, 10, 0);
+
+    monitor.measure(EventLoopMonitor.ROUTE, "GET /inventory/items", () -> { });
+    monitor.measured(EventLoopMonitor.STORAGE_RESPONSE, "/item-storage/items",
+      event -> { }).handle("response");
+
+    assertThat(registry.scrape(), containsString(
+      "inventory_event_loop_hold_seconds_count{kind=\"route\",name=\"GET /inventory/items\"} 1\n"));
+    assertThat(registry.scrape(), containsString(
+      "inventory_event_loop_hold_seconds_count{kind=\"storage-response\",name=\"/item-storage/items\"} 1\n"));
+
+    assertThat(monitor.slowest().size(), is(0));
+  }
+
+  @Test
+  public void slowInvocationsAreKeptWithStackSamples() {
+    EventLoopMonitor monitor = new EventLoopMonitor(registry, true, 0, 10, 0);
+
+    monitor.measure(EventLoopMonitor.DATA_IMPORT_HANDLER, "CreateItemEventHandler",
+      monitor::sample);
+
+    List<EventLoopMonitor.SlowInvocation> slowest = monitor.slowest();
+
+    assertThat(slowest.size(), is(1));
+    assertThat(slowest.get(0).getName(), is("CreateItemEventHandler"));
+    assertThat(slowest.get(0).getStackSamples().size(), is(1));
+
+    assertTrue(slowest.get(0).getStackSamples().get(0).stream()
+      .anyMatch(frame -> frame.contains("slowInvocationsAreKeptWithStackSamples")));
+
+    assertThat(registry.scrape(), containsString(
+      "inventory_event_loop_slow_invocations_total{kind=\"data-import-handler\",name=\"CreateItemEventHandler\"} 1\n"));
+  }
+
+  @Test
+  public void onlyTheSlowestInvocationsAreKept() {
+    EventLoopMonitor monitor = new EventLoopMonitor(registry, true, 0, 2, 0);
+
+    monitor.measure(EventLoopMonitor.ROUTE, "fast", () -> sleep(1));
+    monitor.measure(EventLoopMonitor.ROUTE, "slowest", () -> sleep(30));
+    monitor.measure(EventLoopMonitor.ROUTE, "slow", () -> sleep(15));
+
+    List<String> kept = monitor.slowest().stream()
+      .map(EventLoopMonitor.SlowInvocation::getName)
+      .collect(Collectors.toList());
+
+    assertThat(kept.toString(), is("[slowest, slow]"));
+  }
+
+  @Test
+  public void cpuTimeIsRecordedWhenEnabled() {
+    EventLoopMonitor monitor = new EventLoopMonitor(registry, true, 1000, 10, 0, true);
+
+    monitor.measure(EventLoopMonitor.DATA_IMPORT_HANDLER, "CreateItemEventHandler", () -> { });
+
+    assertThat(registry.scrape(), containsString(
+      "inventory_event_loop_cpu_seconds_count{kind=\"data-import-handler\",name=\"CreateItemEventHandler\"} 1\n"));
+  }
+
+  @Test
+  public void cpuTimeIsNotRecordedByDefault() {
+    EventLoopMonitor monitor = new EventLoopMonitor(registry, true, 1000, 10, 0);
+
+    monitor.measure(EventLoopMonitor.DATA_IMPORT_HANDLER, "CreateItemEventHandler", () -> { });
+
+    assertThat(registry.scrape(), not(containsString("inventory_event_loop_cpu_seconds")));
+  }
+
+  @Test
+  public void disabledMonitorMeasuresNothing() {
+    EventLoopMonitor monitor = new EventLoopMonitor(registry, false, 0, 10, 0);
+
+    monitor.measure(EventLoopMonitor.ROUTE, "GET /inventory/items", () -> { });
+
+    assertThat(monitor.slowest().size(), is(0));
+    assertThat(registry.scrape(), is(""));
+  }
+
+  private static void sleep(long milliseconds) {
+    try {
+      Thread.sleep(milliseconds);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.folio.inventory.support.metrics;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MetricsRegistryTest {
+  private static final List<String> LABELS = Arrays.asList("method", "route");
+
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  @Test
+  public void histogramBucketsAreCumulative() {
+    Histogram histogram = registry.histogram("requests_seconds", "Requests",
+      LABELS, "GET", "/inventory/items/:id");
+
+    histogram.observe(TimeUnit.MILLISECONDS.toNanos(3));
+    histogram.observe(TimeUnit.MILLISECONDS.toNanos(40));
+    histogram.observe(TimeUnit.SECONDS.toNanos(20));
+
+    String scraped = registry.scrape();
+
+    assertThat(scraped, containsString("# TYPE requests_seconds histogram\n"));
+    assertThat(scraped, containsString(
+      "requests_seconds_bucket{method=\"GET\",route=\"/inventory/items/:id\",le=\"0.005\"} 1\n"));
+    assertThat(scraped, containsString(
+      "requests_seconds_bucket{method=\"GET\",route=\"/inventory/items/:id\",le=\"0.05\"} 2\n"));
+    assertThat(scraped, containsString(
+      "requests_seconds_bucket{method=\"GET\",route=\"/inventory/items/:id\",le=\"10\"} 2\n"));
+    assertThat(scraped, containsString(
+      "requests_seconds_bucket{method=\"GET\",route=\"/inventory/items/:id\",le=\"+Inf\"} 3\n"));
+    assertThat(scraped, containsString(
+      "requests_seconds_count{method=\"GET\",route=\"/inventory/items/:id\"} 3\n"));
+    assertThat(scraped, containsString(
+      "requests_seconds_sum{method=\"GET\",route=\"/inventory/items/:id\"} 20.043"));
+  }
+
+  @Test
+  public void sameLabelValuesShareMetric() {
+    registry.counter("responses_total", "Responses", LABELS, "GET", "/a").increment();
+    registry.counter("responses_total", "Responses", LABELS, "GET", "/a").increment();
+    registry.counter("responses_total", "Responses", LABELS, "POST", "/a").increment();
+
+    String scraped = registry.scrape();
+
+    assertThat(scraped, containsString("responses_total{method=\"GET\",route=\"/a\"} 2\n"));
+    assertThat(scraped, containsString("responses_total{method=\"POST\",route=\"/a\"} 1\n"));
+  }
+
+  @Test
+  public void suppliedValuesAreReadWhenScraped() {
+    long[] size = { 5 };
+
+    registry.gauge("cache_size", "Size", () -> size[0]);
+
+    assertThat(registry.scrape(), containsString("cache_size 5\n"));
+
+    size[0] = 7;
+
+    assertThat(registry.scrape(), containsString("cache_size 7\n"));
+  }
+
+  @Test
+  public void labelValuesAreEscaped() {
+    registry.counter("responses_total", "Responses", LABELS, "GET", "/a\"b\\c")
+      .increment();
+
+    assertThat(registry.scrape(),
+      containsString("responses_total{method=\"GET\",route=\"/a\\\"b\\\\c\"} 1\n"));
+  }
+
+  @Test
+  public void familiesAreWrittenInOrderOfName() {
+    registry.gauge("b_metric", "B", () -> 1);
+    registry.gauge("a_metric", "A", () -> 1);
+
+    String scraped = registry.scrape();
+
+    assertThat(scraped.indexOf("a_metric") < scraped.indexOf("b_metric"), is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nameCannotBeReusedForDifferentType() {
+    registry.counter("requests", "Requests", Collections.emptyList()).increment();
+
+    registry.histogram("requests", "Requests", Collections.emptyList());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void valueIsRequiredForEveryLabel() {
+    registry.counter("requests", "Requests", LABELS, "GET");
+  }
+}
@@ -0,0 +1,42 @@
+package org.folio.inventory.support.metrics;
+
+import io.vertx.core.http.HttpMethod;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class UpstreamMetricsTest {
+  private final MetricsRegistry registry = new MetricsRegistry();
+
+  @Test
+  public void pathsAreReducedToTemplates() {
+    assertThat(UpstreamMetrics.pathTemplate(
+      "http://okapi:9130/item-storage/items/fa45a95b-38a3-430b-8f34-548ca005a176"),
+      is("/item-storage/items/:id"));
+
+    assertThat(UpstreamMetrics.pathTemplate(
+      "http://okapi:9130/holdings-storage/holdings?query=id%3D%3D1&limit=10"),
+      is("/holdings-storage/holdings"));
+
+    assertThat(UpstreamMetrics.pathTemplate("http://localhost:9493/instance-storage/instances/1234/source-record"),
+      is("/instance-storage/instances/:id/source-record"));
+  }
+
+  @Test
+  public void callsAreRecordedByTemplate() {
+    UpstreamMetrics.record(registry, HttpMethod.GET,
+      "http://okapi:9130/item-storage/items/fa45a95b-38a3-430b-8f34-548ca005a176",
+      200, TimeUnit.MILLISECONDS.toNanos(20));
+
+    String scraped = registry.scrape();
+
+    assertThat(scraped, containsString(
+      "inventory_upstream_responses_total{method=\"GET\",upstream=\"/item-storage/items/:id\",status=\"200\"} 1\n"));
+    assertThat(scraped, not(containsString("fa45a95b")));
+  }
+}
@@ -0,0 +1,65 @@
+package support.fakes;
+
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Latency and failures to emulate for every request to a fake storage
+ * module, for as long as they are set. When a method is given, only
+ * requests with that method are affected.
+ */
+public class EndpointConditions {
+  private HttpMethod method;
+  private long latencyMilliseconds;
+  private long latencyJitterMilliseconds;
+  private double failureRate;
+  private int failureStatusCode = 500;
+
+  public HttpMethod getMethod() {
+    return method;
+  }
+
+  public EndpointConditions setMethod(HttpMethod method) {
+    this.method = method;
+    return this;
+  }
+
+  public long getLatencyMilliseconds() {
+    return latencyMilliseconds;
+  }
+
+  public EndpointConditions setLatencyMilliseconds(long latencyMilliseconds) {
+    this.latencyMilliseconds = latencyMilliseconds;
+    return this;
+  }
+
+  public long getLatencyJitterMilliseconds() {
+    return latencyJitterMilliseconds;
+  }
+
+  public EndpointConditions setLatencyJitterMilliseconds(long latencyJitterMilliseconds) {
+    this.latencyJitterMilliseconds = latencyJitterMilliseconds;
+    return this;
+  }
+
+  public double getFailureRate() {
+    return failureRate;
+  }
+
+  public EndpointConditions setFailureRate(double failureRate) {
+    this.failureRate = failureRate;
+    return this;
+  }
+
+  public int getFailureStatusCode() {
+    return failureStatusCode;
+  }
+
+  public EndpointConditions setFailureStatusCode(int failureStatusCode) {
+    this.failureStatusCode = failureStatusCode;
+    return this;
+  }
+
+  boolean appliesTo(HttpMethod requestMethod) {
+    return method == null || method.equals(requestMethod);
+  }
+}
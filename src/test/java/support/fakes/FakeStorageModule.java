@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -33,6 +34,8 @@ import io.vertx.ext.web.handler.BodyHandler;
 import support.fakes.processors.RecordPreProcessor;
 
 class FakeStorageModule extends AbstractVerticle {
+  private static final boolean QUIET = Boolean.getBoolean(FakeOkapi.QUIET_PROPERTY);
+
   private final String rootPath;
   private final String collectionPropertyName;
   private final boolean hasCollectionDelete;
@@ -43,6 +46,7 @@ class FakeStorageModule extends AbstractVerticle {
   private final Map<String, Supplier<Object>> defaultProperties;
   private final List<RecordPreProcessor> recordPreProcessors;
   private EndpointFailureDescriptor endpointFailureDescriptor = null;
+  private EndpointConditions endpointConditions = null;
 
   FakeStorageModule(
     String rootPath,
@@ -77,11 +81,15 @@ class FakeStorageModule extends AbstractVerticle {
     String pathTree = rootPath + "/*";
 
     router.route(pathTree).handler(this::emulateFailureIfNeeded);
+    router.route(pathTree).handler(this::emulateConditionsIfNeeded);
     router.route(pathTree).handler(this::checkTokenHeader);
 
     router.post(pathTree).handler(BodyHandler.create());
     router.put(pathTree).handler(BodyHandler.create());
 
+    router.post(rootPath + "/emulate-conditions").handler(this::emulateConditions);
+    router.delete(rootPath + "/emulate-conditions").handler(this::clearConditions);
+
     router.post(rootPath).handler(this::checkRequiredProperties);
     router.post(rootPath).handler(this::checkUniqueProperties);
     router.post(rootPath).handler(this::create);
@@ -123,6 +131,49 @@ class FakeStorageModule extends AbstractVerticle {
       .method());
   }
 
+  private void emulateConditionsIfNeeded(RoutingContext routingContext) {
+    final EndpointConditions conditions = endpointConditions;
+
+    if (conditions == null
+      || routingContext.request().uri().contains("/emulate-")
+      || !conditions.appliesTo(routingContext.request().method())) {
+
+      routingContext.next();
+      return;
+    }
+
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    final long latency = conditions.getLatencyMilliseconds()
+      + (conditions.getLatencyJitterMilliseconds() > 0
+        ? random.nextLong(conditions.getLatencyJitterMilliseconds() + 1)
+        : 0);
+
+    final boolean fail = random.nextDouble() < conditions.getFailureRate();
+
+    final Runnable continuation = () -> {
+      routingContext.request().resume();
+
+      if (fail) {
+        routingContext.response()
+          .setStatusCode(conditions.getFailureStatusCode())
+          .putHeader(HttpHeaders.CONTENT_TYPE, "text/plain")
+          .end("Emulated failure");
+      } else {
+        routingContext.next();
+      }
+    };
+
+    // Runs before the body handler, so the body must not be read while waiting
+    routingContext.request().pause();
+
+    if (latency > 0) {
+      routingContext.vertx().setTimer(latency, timerId -> continuation.run());
+    } else {
+      continuation.run();
+    }
+  }
+
   void registerBatch(Router router, String batchPath) {
     String pathTree = batchPath + "/*";
 
@@ -145,7 +196,7 @@ class FakeStorageModule extends AbstractVerticle {
 
       lastCreate = lastCreate.thenCompose(prev -> createElement(context, element));
 
-      System.out.println(
+      log(() ->
         String.format("Created %s resource: %s", recordTypeName, id));
     }
 
@@ -169,7 +220,7 @@ class FakeStorageModule extends AbstractVerticle {
     String id = body.getString("id");
 
     createElement(context, body).thenAccept(notUsed -> {
-      System.out.println(
+      log(() ->
         String.format("Created %s resource: %s", recordTypeName, id));
 
       JsonResponse.created(routingContext.response(), body);
@@ -203,13 +254,13 @@ class FakeStorageModule extends AbstractVerticle {
       if (ID_FOR_FAILURE.toString().equals(id)) {
         ServerErrorResponse.internalError(routingContext.response(), "Test Internal Server Error");
       } else if (resourcesForTenant.containsKey(id)) {
-        System.out.println(
+        log(() ->
           String.format("Replaced %s resource: %s", recordTypeName, id));
 
         resourcesForTenant.replace(id, body);
         SuccessResponse.noContent(routingContext.response());
       } else {
-        System.out.println(
+        log(() ->
           String.format("Created %s resource: %s", recordTypeName, id));
 
         resourcesForTenant.put(id, body);
@@ -228,14 +279,14 @@ class FakeStorageModule extends AbstractVerticle {
     if(resourcesForTenant.containsKey(id)) {
       final JsonObject resourceRepresentation = resourcesForTenant.get(id);
 
-      System.out.println(
+      log(() ->
         String.format("Found %s resource: %s", recordTypeName,
           resourceRepresentation.encodePrettily()));
 
       JsonResponse.success(routingContext.response(), resourceRepresentation);
     }
     else {
-      System.out.println(
+      log(() ->
         String.format("Failed to find %s resource: %s", recordTypeName, id));
 
       ClientErrorResponse.notFound(routingContext.response());
@@ -249,7 +300,7 @@ class FakeStorageModule extends AbstractVerticle {
     Integer offset = context.getIntegerParameter("offset", 0);
     String query = context.getStringParameter("query", null);
 
-    System.out.println(String.format("Handling %s", routingContext.request().uri()));
+    log(() -> String.format("Handling %s", routingContext.request().uri()));
 
     Map<String, JsonObject> resourcesForTenant = getResourcesForTenant(context);
 
@@ -266,7 +317,7 @@ class FakeStorageModule extends AbstractVerticle {
     result.put(collectionPropertyName, new JsonArray(pagedItems));
     result.put("totalRecords", filteredItems.size());
 
-    System.out.println(
+    log(() ->
       String.format("Found %s resources: %s", recordTypeName,
         result.encodePrettily()));
 
@@ -425,6 +476,25 @@ class FakeStorageModule extends AbstractVerticle {
     return lastPreProcess;
   }
 
+  private void emulateConditions(RoutingContext routingContext) {
+    endpointConditions = routingContext.getBodyAsJson()
+      .mapTo(EndpointConditions.class);
+
+    routingContext.response().setStatusCode(201).end();
+  }
+
+  private void clearConditions(RoutingContext routingContext) {
+    endpointConditions = null;
+
+    SuccessResponse.noContent(routingContext.response());
+  }
+
+  private static void log(Supplier<String> message) {
+    if (!QUIET) {
+      System.out.println(message.get());
+    }
+  }
+
   private void emulateFailure(RoutingContext routingContext) {
     endpointFailureDescriptor = routingContext.getBodyAsJson()
       .mapTo(EndpointFailureDescriptor.class);
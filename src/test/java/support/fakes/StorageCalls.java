@@ -0,0 +1,81 @@
+package support.fakes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Counts the requests received by the fake modules, by method and path,
+ * with record ids in the path replaced by ":id", e.g.
+ * "GET /item-storage/items/:id"
+ *
+ * The first requests since the last reset are also kept as they were
+ * received, including the query, so that a test can show which requests
+ * were made, without a long running load test holding on to every one
+ */
+public class StorageCalls {
+  private static final Pattern ID_SEGMENT = Pattern.compile(
+    "/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+  private static final int MAXIMUM_KEPT_REQUESTS = 500;
+
+  private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+  private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger keptRequests = new AtomicInteger();
+
+  void record(HttpMethod method, String path, String query) {
+    calls.computeIfAbsent(endpoint(method, path), key -> new LongAdder())
+      .increment();
+
+    if (keptRequests.incrementAndGet() <= MAXIMUM_KEPT_REQUESTS) {
+      requests.add(query == null
+        ? String.format("%s %s", method, path)
+        : String.format("%s %s?%s", method, path, query));
+    }
+  }
+
+  /**
+   * @return the number of requests received for each endpoint since the
+   * last reset, ordered by endpoint
+   */
+  public Map<String, Long> snapshot() {
+    Map<String, Long> counts = new TreeMap<>();
+
+    calls.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+
+    return counts;
+  }
+
+  /**
+   * @return the first requests received since the last reset, in the order
+   * they were received, e.g. "GET /item-storage/items?limit=10&offset=0"
+   */
+  public List<String> requests() {
+    return new ArrayList<>(requests);
+  }
+
+  public long total() {
+    return calls.values().stream()
+      .mapToLong(LongAdder::sum)
+      .sum();
+  }
+
+  public void reset() {
+    calls.clear();
+    requests.clear();
+    keptRequests.set(0);
+  }
+
+  public static String endpoint(HttpMethod method, String path) {
+    return method + " " + ID_SEGMENT.matcher(path).replaceAll("/:id");
+  }
+}
@@ -0,0 +1,116 @@
+package support.load;
+
+import static api.ApiTestSuite.TENANT_ID;
+import static api.ApiTestSuite.TOKEN;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.folio.ActionProfile;
+import org.folio.JobProfile;
+import org.folio.MappingProfile;
+import org.folio.inventory.TestUtil;
+import org.folio.processing.events.utils.ZIPArchiver;
+import org.folio.rest.jaxrs.model.EntityType;
+import org.folio.rest.jaxrs.model.MappingDetail;
+import org.folio.rest.jaxrs.model.MappingRule;
+import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import support.fakes.FakeOkapi;
+
+/**
+ * Events of a MARC bibliographic record having been created, as delivered
+ * to inventory for a job which creates an instance from each record.
+ *
+ * Every event is of a different record in a different job, as redelivered
+ * events are skipped.
+ */
+class DataImportEvents {
+  private static final String RECORD_PATH = "src/test/resources/handlers/record.json";
+  private static final String MAPPING_RULES_PATH = "src/test/resources/handlers/rules.json";
+
+  private final JsonObject record;
+  private final String mappingRules;
+  private final JsonObject profileSnapshot;
+
+  DataImportEvents(String instanceTypeId) throws IOException {
+    record = new JsonObject(TestUtil.readFileFromPath(RECORD_PATH));
+
+    JsonObject parsedRecord = record.getJsonObject("parsedRecord");
+
+    parsedRecord.put("content", parsedRecord.getJsonObject("content").encode());
+
+    mappingRules = TestUtil.readFileFromPath(MAPPING_RULES_PATH);
+    profileSnapshot = JsonObject.mapFrom(createInstanceJob(instanceTypeId));
+  }
+
+  Buffer next() {
+    JsonObject eventRecord = record.copy()
+      .put("id", UUID.randomUUID().toString())
+      .put("matchedId", UUID.randomUUID().toString());
+
+    JsonObject event = new JsonObject()
+      .put("eventType", "DI_SRS_MARC_BIB_RECORD_CREATED")
+      .put("jobExecutionId", UUID.randomUUID().toString())
+      .put("okapiUrl", FakeOkapi.getAddress())
+      .put("tenant", TENANT_ID)
+      .put("token", TOKEN)
+      .put("context", new JsonObject()
+        .put(EntityType.MARC_BIBLIOGRAPHIC.value(), eventRecord.encode())
+        .put("MAPPING_RULES", mappingRules)
+        .put("MAPPING_PARAMS", "{}"))
+      .put("profileSnapshot", profileSnapshot);
+
+    try {
+      return Buffer.buffer(ZIPArchiver.zip(event.encode()));
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not compress data-import event", e);
+    }
+  }
+
+  private static ProfileSnapshotWrapper createInstanceJob(String instanceTypeId) {
+    String jobProfileId = UUID.randomUUID().toString();
+    String actionProfileId = UUID.randomUUID().toString();
+    String mappingProfileId = UUID.randomUUID().toString();
+
+    return new ProfileSnapshotWrapper()
+      .withId(UUID.randomUUID().toString())
+      .withProfileId(jobProfileId)
+      .withContentType(ProfileSnapshotWrapper.ContentType.JOB_PROFILE)
+      .withContent(new JobProfile()
+        .withId(jobProfileId)
+        .withName("Load test: create instances")
+        .withDataType(JobProfile.DataType.MARC))
+      .withChildSnapshotWrappers(Collections.singletonList(new ProfileSnapshotWrapper()
+        .withId(UUID.randomUUID().toString())
+        .withProfileId(actionProfileId)
+        .withContentType(ProfileSnapshotWrapper.ContentType.ACTION_PROFILE)
+        .withOrder(0)
+        .withContent(new ActionProfile()
+          .withId(actionProfileId)
+          .withName("Create instance")
+          .withAction(ActionProfile.Action.CREATE)
+          .withFolioRecord(ActionProfile.FolioRecord.INSTANCE))
+        .withChildSnapshotWrappers(Collections.singletonList(new ProfileSnapshotWrapper()
+          .withId(UUID.randomUUID().toString())
+          .withProfileId(mappingProfileId)
+          .withContentType(ProfileSnapshotWrapper.ContentType.MAPPING_PROFILE)
+          .withOrder(0)
+          .withContent(new MappingProfile()
+            .withId(mappingProfileId)
+            .withName("Instance from MARC")
+            .withIncomingRecordType(EntityType.MARC_BIBLIOGRAPHIC)
+            .withExistingRecordType(EntityType.INSTANCE)
+            .withMappingDetails(new MappingDetail()
+              .withName("instance")
+              .withRecordType(EntityType.INSTANCE)
+              .withMappingFields(Collections.singletonList(new MappingRule()
+                .withName("instance.instanceTypeId")
+                .withPath("instance.instanceTypeId")
+                .withEnabled("true")
+                .withValue("\"" + instanceTypeId + "\"")))))))));
+  }
+}
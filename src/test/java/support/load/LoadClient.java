@@ -0,0 +1,86 @@
+package support.load;
+
+import static api.ApiTestSuite.TENANT_ID;
+import static api.ApiTestSuite.TOKEN;
+import static api.ApiTestSuite.USER_ID;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.http.client.Response;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import support.fakes.FakeOkapi;
+
+/**
+ * Makes requests to a module on behalf of the test tenant, with Okapi
+ * pointing to the fake modules, without logging them
+ */
+class LoadClient {
+  private final HttpClient client;
+  private final String root;
+  private final long timeoutMilliseconds;
+
+  LoadClient(HttpClient client, String root, int timeoutSeconds) {
+    this.client = client;
+    this.root = root;
+    this.timeoutMilliseconds = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+  }
+
+  CompletableFuture<Response> get(String path) {
+    return request(HttpMethod.GET, path, null);
+  }
+
+  CompletableFuture<Response> post(String path, JsonObject body) {
+    return request(HttpMethod.POST, path, Buffer.buffer(body.encode()));
+  }
+
+  CompletableFuture<Response> post(String path, Buffer body) {
+    return request(HttpMethod.POST, path, body);
+  }
+
+  CompletableFuture<Response> put(String path, JsonObject body) {
+    return request(HttpMethod.PUT, path, Buffer.buffer(body.encode()));
+  }
+
+  CompletableFuture<Response> delete(String path) {
+    return request(HttpMethod.DELETE, path, null);
+  }
+
+  private CompletableFuture<Response> request(
+    HttpMethod method,
+    String path,
+    Buffer body) {
+
+    CompletableFuture<Response> completed = new CompletableFuture<>();
+
+    HttpClientRequest request = client.requestAbs(method, root + path,
+      response -> {
+        response.exceptionHandler(completed::completeExceptionally);
+        response.bodyHandler(buffer ->
+          completed.complete(Response.from(response, buffer)));
+      });
+
+    request
+      .putHeader("X-Okapi-Url", FakeOkapi.getAddress())
+      .putHeader("X-Okapi-Tenant", TENANT_ID)
+      .putHeader("X-Okapi-Token", TOKEN)
+      .putHeader("X-Okapi-User-Id", USER_ID)
+      .putHeader("Accept", ContentType.APPLICATION_JSON + ", " + ContentType.TEXT_PLAIN)
+      .setTimeout(timeoutMilliseconds)
+      .exceptionHandler(completed::completeExceptionally);
+
+    if (body != null) {
+      request.putHeader("Content-Type", ContentType.APPLICATION_JSON).end(body);
+    } else {
+      request.end();
+    }
+
+    return completed;
+  }
+}
@@ -0,0 +1,365 @@
+package support.load;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.folio.inventory.InventoryVerticle;
+import org.folio.inventory.common.VertxAssistant;
+import org.folio.inventory.support.http.client.Response;
+
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import support.fakes.EndpointConditions;
+import support.fakes.FakeOkapi;
+import support.fakes.StorageCalls;
+
+/**
+ * Runs inventory against the fake storage modules and drives a mix of
+ * requests to it at a steady rate, with the latency and failures given
+ * for each storage module.
+ *
+ * Before the load, each operation is made once on its own, to count the
+ * requests it makes to storage, including those made after responding,
+ * e.g. for data-import events. The latency of each request is measured
+ * from when it was due to be made, so that a slow response delaying the
+ * requests after it is not hidden.
+ *
+ * Reports throughput, latency percentiles and status codes by operation,
+ * and the requests received by storage, to the console and as JSON.
+ *
+ * Run with:
+ *   mvn -Pload-test test-compile exec:exec [-Dload.rate=100 ...]
+ *
+ * See {@link LoadTestOptions} for the options.
+ */
+public class LoadTest {
+  private static final long QUIESCENCE_MILLISECONDS = 250;
+  private static final long QUIESCENCE_LIMIT_SECONDS = 30;
+
+  private final LoadTestOptions options;
+  private final VertxAssistant vertxAssistant = new VertxAssistant();
+  private final StorageCalls storageCalls = FakeOkapi.getStorageCalls();
+
+  private LoadClient storage;
+  private LoadClient inventory;
+  private SeededRecords records;
+  private DataImportEvents events;
+
+  private LoadTest(LoadTestOptions options) {
+    this.options = options;
+  }
+
+  public static void main(String[] arguments) {
+    System.setProperty(FakeOkapi.QUIET_PROPERTY, "true");
+
+    LoadTest loadTest = new LoadTest(LoadTestOptions.fromSystemProperties());
+    int exitCode = 0;
+
+    try {
+      loadTest.run();
+    } catch (Exception e) {
+      e.printStackTrace();
+      exitCode = 1;
+    } finally {
+      loadTest.vertxAssistant.stop();
+    }
+
+    System.exit(exitCode);
+  }
+
+  private void run() throws Exception {
+    start();
+
+    Map<Operation, Map<String, Long>> callsPerRequest = countCallsPerRequest();
+
+    applyConditions();
+
+    if (options.warmUpSeconds > 0) {
+      System.out.println(String.format("Warming up for %d seconds", options.warmUpSeconds));
+      drive(options.warmUpSeconds, new Random(options.seed + 1));
+    }
+
+    awaitQuiescence();
+    storageCalls.reset();
+
+    System.out.println(String.format("Running %d requests per second for %d seconds",
+      options.rate, options.durationSeconds));
+
+    long started = System.nanoTime();
+
+    Map<Operation, OperationStatistics> statistics =
+      drive(options.durationSeconds, new Random(options.seed));
+
+    long durationNanos = System.nanoTime() - started;
+
+    awaitQuiescence();
+
+    JsonObject report = report(statistics, durationNanos, callsPerRequest,
+      storageCalls.snapshot());
+
+    print(report);
+    write(report);
+  }
+
+  private void start() throws Exception {
+    vertxAssistant.start();
+
+    deploy(FakeOkapi.class.getName(), new HashMap<>());
+
+    HttpClient client = vertxAssistant.createUsingVertx(vertx ->
+      vertx.createHttpClient(new HttpClientOptions()
+        .setMaxPoolSize(options.connections)
+        .setKeepAlive(true)));
+
+    storage = new LoadClient(client, FakeOkapi.getAddress(),
+      options.timeoutSeconds);
+
+    System.out.println(String.format("Seeding %d instances with %d items each",
+      options.instances, options.itemsPerInstance));
+
+    records = SeededRecords.seed(storage, options.instances, options.itemsPerInstance);
+    events = new DataImportEvents(records.getInstanceTypeId());
+
+    Map<String, Object> config = new HashMap<>();
+
+    config.put("port", options.port);
+    config.put("storage.type", "okapi");
+    config.put("storage.location", "");
+
+    deploy(InventoryVerticle.class.getName(), config);
+
+    inventory = new LoadClient(client,
+      String.format("http://localhost:%d", options.port), options.timeoutSeconds);
+  }
+
+  private void deploy(String verticle, Map<String, Object> config) throws Exception {
+    CompletableFuture<String> deployed = new CompletableFuture<>();
+
+    vertxAssistant.deployVerticle(verticle, config, deployed);
+
+    deployed.get(20, TimeUnit.SECONDS);
+  }
+
+  private Map<Operation, Map<String, Long>> countCallsPerRequest() throws Exception {
+    Random random = new Random(options.seed);
+    Map<Operation, Map<String, Long>> callsPerRequest = new EnumMap<>(Operation.class);
+
+    for (Operation operation : options.mix.keySet()) {
+      awaitQuiescence();
+      storageCalls.reset();
+
+      Response response = operation.execute(inventory, records, events, random)
+        .get(options.timeoutSeconds, TimeUnit.SECONDS);
+
+      if (response.getStatusCode() >= 400) {
+        System.out.println(String.format("%s failed with %d: %s",
+          operation.getName(), response.getStatusCode(), response.getBody()));
+      }
+
+      awaitQuiescence();
+
+      callsPerRequest.put(operation, storageCalls.snapshot());
+    }
+
+    return callsPerRequest;
+  }
+
+  private void applyConditions() throws Exception {
+    for (Map.Entry<String, EndpointConditions> conditions : options.conditions.entrySet()) {
+      Response response = storage.post(conditions.getKey() + "/emulate-conditions",
+        JsonObject.mapFrom(conditions.getValue()))
+        .get(options.timeoutSeconds, TimeUnit.SECONDS);
+
+      if (response.getStatusCode() != 201) {
+        throw new IllegalArgumentException(String.format(
+          "Could not emulate conditions for %s: %d", conditions.getKey(),
+          response.getStatusCode()));
+      }
+    }
+  }
+
+  /**
+   * Makes requests at the given rate, choosing each operation at random
+   * in proportion to its weight in the mix, and waits for the responses
+   */
+  private Map<Operation, OperationStatistics> drive(int seconds, Random random)
+    throws Exception {
+
+    Map<Operation, OperationStatistics> statistics = new EnumMap<>(Operation.class);
+    List<Operation> choices = new ArrayList<>();
+
+    options.mix.forEach((operation, weight) -> {
+      statistics.put(operation, new OperationStatistics());
+
+      for (int count = 0; count < weight; count++) {
+        choices.add(operation);
+      }
+    });
+
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+    long requests = (long) options.rate * seconds;
+    List<CompletableFuture<Void>> outstanding = new ArrayList<>();
+    long start = System.nanoTime();
+
+    for (long index = 0; index < requests; index++) {
+      long due = start + index * intervalNanos;
+
+      for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+        LockSupport.parkNanos(wait);
+      }
+
+      Operation operation = choices.get(random.nextInt(choices.size()));
+      OperationStatistics operationStatistics = statistics.get(operation);
+
+      outstanding.add(execute(operation, random).handle((response, error) -> {
+        long latency = System.nanoTime() - due;
+
+        if (error != null) {
+          operationStatistics.errored(latency);
+        } else {
+          operationStatistics.responded(latency, response.getStatusCode());
+        }
+
+        return null;
+      }));
+    }
+
+    CompletableFuture.allOf(outstanding.toArray(new CompletableFuture[0]))
+      .get(options.timeoutSeconds * 2L, TimeUnit.SECONDS);
+
+    return statistics;
+  }
+
+  private CompletableFuture<Response> execute(Operation operation, Random random) {
+    try {
+      return operation.execute(inventory, records, events, random);
+    } catch (Exception e) {
+      CompletableFuture<Response> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+
+  /**
+   * Waits until storage has not received any requests for a while, so
+   * that work continuing after a response is over
+   */
+  private void awaitQuiescence() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(QUIESCENCE_LIMIT_SECONDS);
+    long previousTotal = -1;
+
+    while (System.nanoTime() < deadline) {
+      long total = storageCalls.total();
+
+      if (total == previousTotal) {
+        return;
+      }
+
+      previousTotal = total;
+      Thread.sleep(QUIESCENCE_MILLISECONDS);
+    }
+  }
+
+  private JsonObject report(
+    Map<Operation, OperationStatistics> statistics,
+    long durationNanos,
+    Map<Operation, Map<String, Long>> callsPerRequest,
+    Map<String, Long> storageCallsDuringLoad) {
+
+    JsonObject mix = new JsonObject();
+    JsonObject conditions = new JsonObject();
+    JsonObject operations = new JsonObject();
+    JsonObject upstreamCalls = new JsonObject();
+
+    options.mix.forEach((operation, weight) -> mix.put(operation.getName(), weight));
+
+    options.conditions.forEach((rootPath, endpointConditions) ->
+      conditions.put(rootPath, JsonObject.mapFrom(endpointConditions)));
+
+    statistics.forEach((operation, operationStatistics) -> {
+      JsonObject calls = new JsonObject();
+
+      callsPerRequest.getOrDefault(operation, new HashMap<>()).forEach(calls::put);
+
+      operations.put(operation.getName(), operationStatistics.toJson(durationNanos)
+        .put("upstreamCallsPerRequest", calls));
+    });
+
+    storageCallsDuringLoad.forEach(upstreamCalls::put);
+
+    return new JsonObject()
+      .put("options", new JsonObject()
+        .put("rate", options.rate)
+        .put("warmUpSeconds", options.warmUpSeconds)
+        .put("durationSeconds", options.durationSeconds)
+        .put("instances", options.instances)
+        .put("itemsPerInstance", options.itemsPerInstance)
+        .put("seed", options.seed)
+        .put("mix", mix)
+        .put("conditions", conditions))
+      .put("elapsedSeconds", durationNanos / (double) TimeUnit.SECONDS.toNanos(1))
+      .put("operations", operations)
+      .put("upstreamCalls", upstreamCalls)
+      .put("upstreamCallsTotal", storageCallsDuringLoad.values().stream()
+        .mapToLong(Long::longValue).sum());
+  }
+
+  private static void print(JsonObject report) {
+    System.out.println(String.format("%-14s %9s %7s %7s %9s %9s %9s %9s %9s %9s",
+      "operation", "requests", "failed", "errors", "req/s",
+      "p50 ms", "p90 ms", "p99 ms", "max ms", "upstream"));
+
+    JsonObject operations = report.getJsonObject("operations");
+
+    operations.fieldNames().forEach(name -> {
+      JsonObject operation = operations.getJsonObject(name);
+      JsonObject percentiles = operation.getJsonObject("percentileMilliseconds");
+
+      long upstream = operation.getJsonObject("upstreamCallsPerRequest").stream()
+        .mapToLong(entry -> ((Number) entry.getValue()).longValue())
+        .sum();
+
+      System.out.println(String.format("%-14s %9d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9d",
+        name,
+        operation.getInteger("requests"),
+        operation.getInteger("failed"),
+        operation.getInteger("errors"),
+        operation.getDouble("throughputPerSecond"),
+        percentiles.getDouble("p50"),
+        percentiles.getDouble("p90"),
+        percentiles.getDouble("p99"),
+        operation.getDouble("maximumMilliseconds"),
+        upstream));
+    });
+
+    System.out.println(String.format("Storage received %d requests",
+      report.getLong("upstreamCallsTotal")));
+
+    report.getJsonObject("upstreamCalls").forEach(entry ->
+      System.out.println(String.format("  %8d %s", ((Number) entry.getValue()).longValue(),
+        entry.getKey())));
+  }
+
+  private void write(JsonObject report) throws Exception {
+    File result = new File(options.result);
+
+    if (result.getParentFile() != null) {
+      result.getParentFile().mkdirs();
+    }
+
+    Files.write(result.toPath(), report.encodePrettily().getBytes(StandardCharsets.UTF_8));
+
+    System.out.println(String.format("Results written to %s", result.getPath()));
+  }
+}
@@ -0,0 +1,167 @@
+package support.load;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.vertx.core.http.HttpMethod;
+import support.fakes.EndpointConditions;
+
+/**
+ * Options for a load test, taken from system properties, e.g.
+ *
+ * -Dload.rate=100 -Dload.duration=120
+ * -Dload.mix=get-item=60,put-item=20,data-import=20
+ * -Dload.conditions=/item-storage/items=latency:20,jitter:10,failure:0.01
+ *
+ * Conditions are given per storage module root path, separated by ";",
+ * each with any of: latency and jitter in milliseconds, failure rate,
+ * status of the failures and method they apply to.
+ */
+class LoadTestOptions {
+  static final String PREFIX = "load.";
+
+  private static final String DEFAULT_MIX = "get-instance=30,get-instances=10,"
+    + "get-item=30,get-items=10,post-instance=5,put-item=10,data-import=5";
+
+  final int port;
+  final int instances;
+  final int itemsPerInstance;
+  final int rate;
+  final int warmUpSeconds;
+  final int durationSeconds;
+  final int timeoutSeconds;
+  final int connections;
+  final long seed;
+  final Map<Operation, Integer> mix;
+  final Map<String, EndpointConditions> conditions;
+  final String result;
+
+  private LoadTestOptions(
+    int port,
+    int instances,
+    int itemsPerInstance,
+    int rate,
+    int warmUpSeconds,
+    int durationSeconds,
+    int timeoutSeconds,
+    int connections,
+    long seed,
+    Map<Operation, Integer> mix,
+    Map<String, EndpointConditions> conditions,
+    String result) {
+
+    this.port = port;
+    this.instances = instances;
+    this.itemsPerInstance = itemsPerInstance;
+    this.rate = rate;
+    this.warmUpSeconds = warmUpSeconds;
+    this.durationSeconds = durationSeconds;
+    this.timeoutSeconds = timeoutSeconds;
+    this.connections = connections;
+    this.seed = seed;
+    this.mix = mix;
+    this.conditions = conditions;
+    this.result = result;
+  }
+
+  static LoadTestOptions fromSystemProperties() {
+    return new LoadTestOptions(
+      Integer.getInteger(PREFIX + "port", 9703),
+      Integer.getInteger(PREFIX + "instances", 1000),
+      Integer.getInteger(PREFIX + "items-per-instance", 2),
+      Integer.getInteger(PREFIX + "rate", 50),
+      Integer.getInteger(PREFIX + "warm-up", 10),
+      Integer.getInteger(PREFIX + "duration", 60),
+      Integer.getInteger(PREFIX + "timeout", 10),
+      Integer.getInteger(PREFIX + "connections", 50),
+      Long.getLong(PREFIX + "seed", 1),
+      parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+      parseConditions(System.getProperty(PREFIX + "conditions", "")),
+      System.getProperty(PREFIX + "result", "target/load-test-result.json"));
+  }
+
+  static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+    for (String entry : mix.split(",")) {
+      if (entry.trim().isEmpty()) {
+        continue;
+      }
+
+      String[] nameAndWeight = entry.trim().split("=");
+
+      if (nameAndWeight.length != 2) {
+        throw new IllegalArgumentException(
+          String.format("Operation mix entry \"%s\" is not name=weight", entry));
+      }
+
+      int weight = Integer.parseInt(nameAndWeight[1].trim());
+
+      if (weight > 0) {
+        weights.put(Operation.named(nameAndWeight[0].trim()), weight);
+      }
+    }
+
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Operation mix has no operations");
+    }
+
+    return weights;
+  }
+
+  static Map<String, EndpointConditions> parseConditions(String conditions) {
+    Map<String, EndpointConditions> byRootPath = new LinkedHashMap<>();
+
+    for (String entry : conditions.split(";")) {
+      if (entry.trim().isEmpty()) {
+        continue;
+      }
+
+      int separator = entry.indexOf('=');
+
+      if (separator < 0) {
+        throw new IllegalArgumentException(
+          String.format("Conditions \"%s\" are not path=conditions", entry));
+      }
+
+      EndpointConditions endpointConditions = new EndpointConditions();
+
+      for (String condition : entry.substring(separator + 1).split(",")) {
+        String[] nameAndValue = condition.trim().split(":");
+
+        if (nameAndValue.length != 2) {
+          throw new IllegalArgumentException(
+            String.format("Condition \"%s\" is not name:value", condition));
+        }
+
+        String value = nameAndValue[1].trim();
+
+        switch (nameAndValue[0].trim()) {
+          case "latency":
+            endpointConditions.setLatencyMilliseconds(Long.parseLong(value));
+            break;
+          case "jitter":
+            endpointConditions.setLatencyJitterMilliseconds(Long.parseLong(value));
+            break;
+          case "failure":
+            endpointConditions.setFailureRate(Double.parseDouble(value));
+            break;
+          case "status":
+            endpointConditions.setFailureStatusCode(Integer.parseInt(value));
+            break;
+          case "method":
+            endpointConditions.setMethod(HttpMethod.valueOf(value.toUpperCase()));
+            break;
+          default:
+            throw new IllegalArgumentException(
+              String.format("Unknown condition \"%s\"", nameAndValue[0]));
+        }
+      }
+
+      byRootPath.put(entry.substring(0, separator).trim(), endpointConditions);
+    }
+
+    return byRootPath;
+  }
+}
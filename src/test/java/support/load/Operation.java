@@ -0,0 +1,103 @@
+package support.load;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.inventory.support.http.client.Response;
+
+/**
+ * Requests made to inventory during a load test, which refer to the
+ * seeded records
+ */
+enum Operation {
+  GET_INSTANCE("get-instance") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      return inventory.get("/inventory/instances/" + records.randomInstanceId(random));
+    }
+  },
+  GET_INSTANCES("get-instances") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      return inventory.get(String.format("/inventory/instances?limit=%d&offset=%d",
+        PAGE_SIZE, randomOffset(records.instanceCount(), random)));
+    }
+  },
+  GET_ITEM("get-item") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      return inventory.get("/inventory/items/" + records.itemId(records.randomItem(random)));
+    }
+  },
+  GET_ITEMS("get-items") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      return inventory.get(String.format("/inventory/items?limit=%d&offset=%d",
+        PAGE_SIZE, randomOffset(records.itemCount(), random)));
+    }
+  },
+  POST_INSTANCE("post-instance") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      return inventory.post("/inventory/instances", records.newInstance());
+    }
+  },
+  PUT_ITEM("put-item") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      int item = records.randomItem(random);
+
+      return inventory.put("/inventory/items/" + records.itemId(item),
+        records.itemUpdate(item));
+    }
+  },
+  DATA_IMPORT("data-import") {
+    @Override
+    CompletableFuture<Response> execute(LoadClient inventory, SeededRecords records,
+      DataImportEvents events, Random random) {
+
+      return inventory.post("/inventory/handlers/data-import", events.next());
+    }
+  };
+
+  private static final int PAGE_SIZE = 20;
+
+  private final String name;
+
+  Operation(String name) {
+    this.name = name;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  abstract CompletableFuture<Response> execute(LoadClient inventory,
+    SeededRecords records, DataImportEvents events, Random random);
+
+  static Operation named(String name) {
+    for (Operation operation : values()) {
+      if (operation.name.equals(name)) {
+        return operation;
+      }
+    }
+
+    throw new IllegalArgumentException(String.format("Unknown operation \"%s\"", name));
+  }
+
+  private static int randomOffset(int records, Random random) {
+    return random.nextInt(Math.max(1, records - PAGE_SIZE));
+  }
+}
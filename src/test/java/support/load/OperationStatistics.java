@@ -0,0 +1,106 @@
+package support.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Latencies and outcomes of the requests made for one operation
+ */
+class OperationStatistics {
+  private static final double[] PERCENTILES = { 50, 90, 95, 99, 99.9 };
+
+  private final Map<Integer, Integer> statusCodes = new TreeMap<>();
+  private long[] latencies = new long[1024];
+  private int count;
+  private int failed;
+  private int errors;
+
+  /**
+   * @param latencyNanos time from when the request was due to be made,
+   * until the response was received
+   */
+  synchronized void responded(long latencyNanos, int statusCode) {
+    add(latencyNanos);
+
+    statusCodes.merge(statusCode, 1, Integer::sum);
+
+    if (statusCode >= 400) {
+      failed++;
+    }
+  }
+
+  /**
+   * Records a request which did not get a response, e.g. timed out
+   */
+  synchronized void errored(long latencyNanos) {
+    add(latencyNanos);
+
+    errors++;
+  }
+
+  synchronized int getCount() {
+    return count;
+  }
+
+  synchronized JsonObject toJson(long durationNanos) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+
+    Arrays.sort(sorted);
+
+    JsonObject percentiles = new JsonObject();
+
+    for (double percentile : PERCENTILES) {
+      percentiles.put(label(percentile), milliseconds(percentile(sorted, percentile)));
+    }
+
+    JsonObject statuses = new JsonObject();
+
+    statusCodes.forEach((statusCode, responses) ->
+      statuses.put(String.valueOf(statusCode), responses));
+
+    return new JsonObject()
+      .put("requests", count)
+      .put("failed", failed)
+      .put("errors", errors)
+      .put("throughputPerSecond", count / (durationNanos / (double) TimeUnit.SECONDS.toNanos(1)))
+      .put("meanMilliseconds", count == 0 ? 0 : milliseconds(Arrays.stream(sorted).sum() / count))
+      .put("maximumMilliseconds", count == 0 ? 0 : milliseconds(sorted[count - 1]))
+      .put("percentileMilliseconds", percentiles)
+      .put("statusCodes", statuses);
+  }
+
+  private void add(long latencyNanos) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+
+    latencies[count++] = latencyNanos;
+  }
+
+  /**
+   * @return the nearest rank percentile of the sorted values
+   */
+  static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+
+    return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+  }
+
+  private static String label(double percentile) {
+    return percentile == Math.rint(percentile)
+      ? "p" + (long) percentile
+      : "p" + percentile;
+  }
+
+  private static double milliseconds(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0;
+  }
+}
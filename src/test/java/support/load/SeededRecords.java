@@ -0,0 +1,226 @@
+package support.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.folio.inventory.support.http.client.Response;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Reference records, instances, holdings and items created in the fake
+ * storage modules before a load test, which the operations refer to
+ */
+class SeededRecords {
+  private static final int BATCH_SIZE = 100;
+  private static final int CONCURRENT_REQUESTS = 50;
+
+  private final String instanceTypeId;
+  private final String contributorNameTypeId;
+  private final String materialTypeId;
+  private final String loanTypeId;
+  private final String locationId;
+
+  private final List<String> instanceIds = new ArrayList<>();
+  private final List<String> itemIds = new ArrayList<>();
+  private final List<String> itemHoldingsRecordIds = new ArrayList<>();
+
+  private SeededRecords(
+    String instanceTypeId,
+    String contributorNameTypeId,
+    String materialTypeId,
+    String loanTypeId,
+    String locationId) {
+
+    this.instanceTypeId = instanceTypeId;
+    this.contributorNameTypeId = contributorNameTypeId;
+    this.materialTypeId = materialTypeId;
+    this.loanTypeId = loanTypeId;
+    this.locationId = locationId;
+  }
+
+  static SeededRecords seed(
+    LoadClient storage,
+    int instances,
+    int itemsPerInstance)
+    throws Exception {
+
+    String institutionId = create(storage, "/location-units/institutions",
+      new JsonObject().put("name", "Load Test University").put("code", "LTU"));
+
+    String campusId = create(storage, "/location-units/campuses",
+      new JsonObject().put("name", "Main Campus").put("code", "MC")
+        .put("institutionId", institutionId));
+
+    String libraryId = create(storage, "/location-units/libraries",
+      new JsonObject().put("name", "Main Library").put("code", "ML")
+        .put("campusId", campusId));
+
+    SeededRecords records = new SeededRecords(
+      create(storage, "/instance-types", new JsonObject()
+        .put("name", "text").put("code", "txt").put("source", "rdacontent")),
+      create(storage, "/contributor-name-types", new JsonObject()
+        .put("name", "Personal name")),
+      create(storage, "/material-types", new JsonObject().put("name", "book")),
+      create(storage, "/loan-types", new JsonObject().put("name", "Can circulate")),
+      create(storage, "/locations", new JsonObject()
+        .put("name", "Stacks").put("code", "LTU/MC/ML/S")
+        .put("institutionId", institutionId)
+        .put("campusId", campusId)
+        .put("libraryId", libraryId)
+        .put("primaryServicePoint", UUID.randomUUID().toString())));
+
+    records.seedInstances(storage, instances);
+    records.seedHoldingsAndItems(storage, itemsPerInstance);
+
+    return records;
+  }
+
+  int instanceCount() {
+    return instanceIds.size();
+  }
+
+  int itemCount() {
+    return itemIds.size();
+  }
+
+  String randomInstanceId(Random random) {
+    return instanceIds.get(random.nextInt(instanceIds.size()));
+  }
+
+  int randomItem(Random random) {
+    return random.nextInt(itemIds.size());
+  }
+
+  String itemId(int index) {
+    return itemIds.get(index);
+  }
+
+  String getInstanceTypeId() {
+    return instanceTypeId;
+  }
+
+  /**
+   * @return a new instance, as sent to inventory
+   */
+  JsonObject newInstance() {
+    return instance(UUID.randomUUID().toString(), "Load test instance");
+  }
+
+  /**
+   * @return the item at the index, as sent to inventory to replace it
+   */
+  JsonObject itemUpdate(int index) {
+    return new JsonObject()
+      .put("id", itemIds.get(index))
+      .put("holdingsRecordId", itemHoldingsRecordIds.get(index))
+      .put("barcode", "lt" + index)
+      .put("status", new JsonObject().put("name", "Available"))
+      .put("materialType", new JsonObject().put("id", materialTypeId))
+      .put("permanentLoanType", new JsonObject().put("id", loanTypeId))
+      .put("copyNumber", String.valueOf(System.nanoTime()));
+  }
+
+  private void seedInstances(LoadClient storage, int count) throws Exception {
+    for (int start = 0; start < count; start += BATCH_SIZE) {
+      JsonArray batch = new JsonArray();
+
+      for (int index = start; index < Math.min(count, start + BATCH_SIZE); index++) {
+        String id = UUID.randomUUID().toString();
+
+        instanceIds.add(id);
+        batch.add(instance(id, "Seeded instance " + index).put("source", "FOLIO"));
+      }
+
+      created(storage.post("/instance-storage/batch/instances",
+        new JsonObject().put("instances", batch)));
+    }
+  }
+
+  private void seedHoldingsAndItems(LoadClient storage, int itemsPerInstance)
+    throws Exception {
+
+    List<String> holdingsRecordIds = new ArrayList<>();
+
+    inParallel(instanceIds.size(), index -> {
+      String id = UUID.randomUUID().toString();
+
+      holdingsRecordIds.add(id);
+
+      return storage.post("/holdings-storage/holdings", new JsonObject()
+        .put("id", id)
+        .put("instanceId", instanceIds.get(index))
+        .put("permanentLocationId", locationId));
+    });
+
+    for (String holdingsRecordId : holdingsRecordIds) {
+      for (int copy = 0; copy < itemsPerInstance; copy++) {
+        itemIds.add(UUID.randomUUID().toString());
+        itemHoldingsRecordIds.add(holdingsRecordId);
+      }
+    }
+
+    inParallel(itemIds.size(), index -> storage.post("/item-storage/items",
+      new JsonObject()
+        .put("id", itemIds.get(index))
+        .put("holdingsRecordId", itemHoldingsRecordIds.get(index))
+        .put("barcode", "lt" + index)
+        .put("status", new JsonObject().put("name", "Available"))
+        .put("materialTypeId", materialTypeId)
+        .put("permanentLoanTypeId", loanTypeId)));
+  }
+
+  private JsonObject instance(String id, String title) {
+    return new JsonObject()
+      .put("id", id)
+      .put("title", title)
+      .put("source", "Load test")
+      .put("instanceTypeId", instanceTypeId)
+      .put("contributors", new JsonArray().add(new JsonObject()
+        .put("name", "Contributor, Load Test")
+        .put("contributorNameTypeId", contributorNameTypeId)));
+  }
+
+  private static void inParallel(
+    int count,
+    IntFunction<CompletableFuture<Response>> request)
+    throws Exception {
+
+    for (int start = 0; start < count; start += CONCURRENT_REQUESTS) {
+      List<CompletableFuture<Response>> requests = new ArrayList<>();
+
+      for (int index = start; index < Math.min(count, start + CONCURRENT_REQUESTS); index++) {
+        requests.add(request.apply(index));
+      }
+
+      for (CompletableFuture<Response> response : requests) {
+        created(response);
+      }
+    }
+  }
+
+  private static String create(LoadClient storage, String path, JsonObject record)
+    throws Exception {
+
+    return created(storage.post(path, record)).getJson().getString("id");
+  }
+
+  private static Response created(CompletableFuture<Response> request)
+    throws Exception {
+
+    Response response = request.get(30, TimeUnit.SECONDS);
+
+    if (response.getStatusCode() != 201) {
+      throw new IllegalStateException(String.format(
+        "Seeding failed: %s %s", response.getStatusCode(), response.getBody()));
+    }
+
+    return response;
+  }
+}